@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum RefreshStrategyConfiguration {
+
+	/**
+	 * Do not refresh the index after writes:
+	 * changes will become visible to searches after the next periodic refresh on the Elasticsearch cluster.
+	 */
+	NONE("none"),
+
+	/**
+	 * Send write requests with {@code refresh=wait_for}:
+	 * requests complete when the next periodic refresh on the Elasticsearch cluster made changes visible.
+	 * Such writes are bulked separately from writes using other strategies,
+	 * so that the latter do not wait for a refresh.
+	 */
+	WAIT_FOR("wait_for"),
+
+	/**
+	 * Send a single, explicit {@code _refresh} request for the touched indexes
+	 * after each batch of writes.
+	 */
+	FORCE("force");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private RefreshStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static RefreshStrategyConfiguration fromExternalRepresentation(String refreshStrategy) {
+		if ( NONE.externalRepresentation.equals( refreshStrategy ) ) {
+			return NONE;
+		}
+		else if ( WAIT_FOR.externalRepresentation.equals( refreshStrategy ) ) {
+			return WAIT_FOR;
+		}
+		else if ( FORCE.externalRepresentation.equals( refreshStrategy ) ) {
+			return FORCE;
+		}
+		else {
+			throw log.unknownRefreshStrategyConfiguration( refreshStrategy );
+		}
+	}
+}
@@ -41,12 +41,34 @@ private SearchBackendElasticsearchSettings() {
 
 	public static final String DISCOVERY_SCHEME = "discovery.default_scheme";
 
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	public static final String LOG_JSON_PRETTY_PRINTING = "log.json_pretty_printing";
 
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy_strategy";
 
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	public static final String BULK_MAX_SIZE = "bulk.max_size";
+
+	public static final String BULK_MAX_BYTES = "bulk.max_bytes";
+
+	public static final String REFRESH_STRATEGY = "refresh_strategy";
+
+	public static final String INDEXING_QUEUE_COUNT = "indexing.queue_count";
+
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
+	/**
+	 * The default timeout of queries, in milliseconds, or {@code 0} for no timeout.
+	 * <p>
+	 * Queries exceeding this timeout fail with a {@link org.hibernate.search.util.SearchTimeoutException}.
+	 * The timeout can be overridden for each query,
+	 * see {@link org.hibernate.search.engine.search.SearchQuery#failAfter(long, java.util.concurrent.TimeUnit)}
+	 * and {@link org.hibernate.search.engine.search.SearchQuery#truncateAfter(long, java.util.concurrent.TimeUnit)}.
+	 */
+	public static final String QUERY_TIMEOUT = "query_timeout";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -64,7 +86,14 @@ private Defaults() {
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final String DISCOVERY_SCHEME = "http";
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+		public static final int BULK_MAX_SIZE = 250;
+		public static final int BULK_MAX_BYTES = 10 * 1024 * 1024;
+		public static final RefreshStrategyConfiguration REFRESH_STRATEGY = RefreshStrategyConfiguration.FORCE;
+		public static final int INDEXING_QUEUE_COUNT = 10;
+		public static final int SCROLL_TIMEOUT = 60;
+		public static final int QUERY_TIMEOUT = 0;
 	}
 }
@@ -10,6 +10,7 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -27,10 +28,12 @@
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.Executors;
 import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Response;
@@ -57,15 +60,18 @@ public class DefaultElasticsearchClient implements ElasticsearchClientImplemento
 	private final int requestTimeoutValue;
 	private final TimeUnit requestTimeoutUnit;
 
+	private final boolean compressionEnabled;
+
 	private volatile GsonProvider gsonProvider;
 
 	public DefaultElasticsearchClient(RestClient restClient, Sniffer sniffer, int requestTimeoutValue, TimeUnit requestTimeoutUnit,
-			GsonProvider initialGsonProvider) {
+			boolean compressionEnabled, GsonProvider initialGsonProvider) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = Executors.newScheduledThreadPool( "Elasticsearch request timeout executor" );
 		this.requestTimeoutValue = requestTimeoutValue;
 		this.requestTimeoutUnit = requestTimeoutUnit;
+		this.compressionEnabled = compressionEnabled;
 		this.gsonProvider = initialGsonProvider;
 	}
 
@@ -85,6 +91,17 @@ public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest requ
 		return result;
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchRequest request, ElasticsearchResponseBodyParser<T> bodyParser) {
+		if ( requestLog.isTraceEnabled() ) {
+			// Response bodies must be logged: parse them as trees, then stream from these trees
+			return submit( request ).thenApply( response -> parseSuccessfulBody( request, response, bodyParser ) );
+		}
+		long startTime = System.nanoTime();
+		return Futures.create( () -> send( request ) )
+				.thenApply( response -> streamResponse( request, startTime, response, bodyParser ) );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> clientClass) {
@@ -96,7 +113,7 @@ public <T> T unwrap(Class<T> clientClass) {
 
 	private CompletableFuture<Response> send(ElasticsearchRequest request) {
 		Gson gson = gsonProvider.getGson();
-		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request );
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request, compressionEnabled );
 		CompletableFuture<Response> completableFuture = new CompletableFuture<>();
 		restClient.performRequestAsync(
 				request.getMethod(),
@@ -131,13 +148,18 @@ public void onFailure(Exception exception) {
 		 * In any case, the RestClient doesn't return the Future<?> from Apache HTTP client,
 		 * so we can't do much until this changes.
 		 */
+		long timeoutNanos = requestTimeoutUnit.toNanos( requestTimeoutValue );
+		if ( request.getTimeoutValue() != null ) {
+			// Per-request timeouts can only shorten the default timeout
+			timeoutNanos = Math.min( timeoutNanos, request.getTimeoutUnit().toNanos( request.getTimeoutValue() ) );
+		}
 		ScheduledFuture<?> timeout = timeoutExecutorService.schedule(
 				() -> {
 					if ( !completableFuture.isDone() ) {
 						completableFuture.completeExceptionally( new TimeoutException() );
 					}
 				},
-				requestTimeoutValue, requestTimeoutUnit
+				timeoutNanos, TimeUnit.NANOSECONDS
 				);
 		completableFuture.thenRun( () -> timeout.cancel( false ) );
 
@@ -160,6 +182,62 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
+	private <T> T streamResponse(ElasticsearchRequest request, long startTime, Response response,
+			ElasticsearchResponseBodyParser<T> bodyParser) {
+		int statusCode = response.getStatusLine().getStatusCode();
+		String statusMessage = response.getStatusLine().getReasonPhrase();
+		if ( !ElasticsearchClientUtils.isSuccessCode( statusCode ) ) {
+			// Error responses are small: parse them as trees so that they can be reported
+			ElasticsearchResponse errorResponse = convertResponse( request, response );
+			if ( requestLog.isDebugEnabled() ) {
+				log( request, startTime, errorResponse );
+			}
+			throw requestFailed( request, errorResponse );
+		}
+
+		HttpEntity entity = response.getEntity();
+		if ( entity == null ) {
+			throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, null );
+		}
+		T result;
+		try ( InputStream inputStream = ElasticsearchClientUtils.getContent( entity );
+				JsonReader reader = new JsonReader( new InputStreamReader( inputStream, getCharset( entity ) ) ) ) {
+			result = bodyParser.parse( reader );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, e );
+		}
+
+		if ( requestLog.isDebugEnabled() ) {
+			long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(), executionTimeMs,
+					statusCode, statusMessage );
+		}
+		return result;
+	}
+
+	private <T> T parseSuccessfulBody(ElasticsearchRequest request, ElasticsearchResponse response,
+			ElasticsearchResponseBodyParser<T> bodyParser) {
+		if ( !ElasticsearchClientUtils.isSuccessCode( response.getStatusCode() ) ) {
+			throw requestFailed( request, response );
+		}
+		Gson gson = gsonProvider.getGson();
+		try ( JsonReader reader = new JsonReader( new StringReader( gson.toJson( response.getBody() ) ) ) ) {
+			return bodyParser.parse( reader );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+	}
+
+	private SearchException requestFailed(ElasticsearchRequest request, ElasticsearchResponse response) {
+		return log.elasticsearchRequestFailed(
+				request.toString(),
+				JsonLogHelper.get().toString( response.getBody() ),
+				null
+		);
+	}
+
 	private JsonObject parseBody(Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
@@ -168,7 +246,7 @@ private JsonObject parseBody(Response response) throws IOException {
 
 		Gson gson = gsonProvider.getGson();
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = ElasticsearchClientUtils.getContent( entity );
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
 			return gson.fromJson( reader, JsonObject.class );
 		}
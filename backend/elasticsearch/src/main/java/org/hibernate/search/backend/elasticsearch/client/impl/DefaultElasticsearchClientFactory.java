@@ -17,13 +17,17 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.impl.common.SearchThreadFactory;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.sniff.ElasticsearchHostsSniffer;
 import org.elasticsearch.client.sniff.HostsSniffer;
 import org.elasticsearch.client.sniff.Sniffer;
@@ -99,6 +103,16 @@ public class DefaultElasticsearchClientFactory implements ElasticsearchClientFac
 					.withDefault( SearchBackendElasticsearchSettings.Defaults.DISCOVERY_SCHEME )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
+	private static final Header[] ACCEPT_GZIP_ENCODING = new Header[] {
+			new BasicHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" )
+	};
+
 	/* TODO ElasticsearchHttpClientConfigurer
 	private ServiceManager serviceManager;
 
@@ -117,17 +131,25 @@ public void stop() {
 	public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
 			GsonProvider initialGsonProvider) {
 		int requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
+		boolean compressionEnabled = COMPRESSION_ENABLED.get( propertySource );
 
-		RestClient restClient = createClient( propertySource, requestTimeoutMs );
+		RestClient restClient = createClient( propertySource, requestTimeoutMs, compressionEnabled );
 		Sniffer sniffer = createSniffer( restClient, propertySource );
 
-		return new DefaultElasticsearchClient( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS, initialGsonProvider );
+		return new DefaultElasticsearchClient( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS,
+				compressionEnabled, initialGsonProvider );
 	}
 
-	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis) {
+	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis,
+			boolean compressionEnabled) {
 		ServerUris hosts = ServerUris.fromStrings( HOST.get( propertySource ) );
 
-		return RestClient.builder( hosts.asHostsArray() )
+		RestClientBuilder builder = RestClient.builder( hosts.asHostsArray() );
+		if ( compressionEnabled ) {
+			// Responses are decompressed on the fly when parsed, see ElasticsearchClientUtils.getContent
+			builder.setDefaultHeaders( ACCEPT_GZIP_ENCODING );
+		}
+		return builder
 				/*
 				 * Note: this timeout is currently only used on retries,
 				 * but should we start using the synchronous methods of RestClient,
@@ -23,6 +23,16 @@ public interface ElasticsearchClient extends Closeable {
 	 */
 	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request);
 
+	/**
+	 * @param request A request to execute asynchronously
+	 * @param bodyParser A parser for the body of the response, used if the response is successful.
+	 * @param <T> The result type.
+	 * @return The future that will ultimately hold the parsed body of the response
+	 * (or throw an exception if an error occurred, if the request timed out,
+	 * or if the response status code indicates a failure).
+	 */
+	<T> CompletableFuture<T> submit(ElasticsearchRequest request, ElasticsearchResponseBodyParser<T> bodyParser);
+
 	/**
 	 * Unwrap the client to some implementation-specific type.
 	 *
@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 
 /**
@@ -25,12 +29,26 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) {
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip) {
 		final List<JsonObject> bodyParts = request.getBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, gzip );
+	}
+
+	/**
+	 * @param entity A response entity.
+	 * @return The content of the entity, decompressed on the fly if necessary.
+	 * @throws IOException If the content cannot be retrieved.
+	 */
+	public static InputStream getContent(HttpEntity entity) throws IOException {
+		InputStream content = entity.getContent();
+		Header contentEncoding = entity.getContentEncoding();
+		if ( contentEncoding != null && "gzip".equalsIgnoreCase( contentEncoding.getValue() ) ) {
+			return new GZIPInputStream( content );
+		}
+		return content;
 	}
 
 }
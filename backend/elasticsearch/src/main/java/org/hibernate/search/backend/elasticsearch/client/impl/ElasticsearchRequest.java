@@ -11,6 +11,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 
@@ -45,12 +46,16 @@ public static Builder head() {
 	private final String path;
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.timeoutValue = builder.timeoutValue;
+		this.timeoutUnit = builder.timeoutUnit;
 	}
 
 	public String getMethod() {
@@ -69,6 +74,18 @@ public List<JsonObject> getBodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The timeout of this request, to be expressed in {@link #getTimeoutUnit()},
+	 * or {@code null} to use the default request timeout of the client.
+	 */
+	public Long getTimeoutValue() {
+		return timeoutValue;
+	}
+
+	public TimeUnit getTimeoutUnit() {
+		return timeoutUnit;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
@@ -88,6 +105,8 @@ public static final class Builder {
 
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
 
 		private Builder(String method) {
 			super();
@@ -142,6 +161,17 @@ public Builder body(JsonObject object) {
 			return this;
 		}
 
+		/**
+		 * @param value The timeout of the request, after which the client stops waiting for a response.
+		 * @param unit The unit of {@code value}.
+		 * @return This builder.
+		 */
+		public Builder timeout(long value, TimeUnit unit) {
+			this.timeoutValue = value;
+			this.timeoutUnit = unit;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Parses the body of a successful response as a stream of JSON tokens,
+ * so that large responses can be consumed without building a JSON tree first.
+ *
+ * @param <T> The result type.
+ */
+@FunctionalInterface
+public interface ElasticsearchResponseBodyParser<T> {
+
+	/**
+	 * @param reader A reader positioned at the beginning of the response body.
+	 * @return The result of parsing the body.
+	 * @throws IOException If reading the body fails, or if the body is not well-formed JSON.
+	 */
+	T parse(JsonReader reader) throws IOException;
+
+}
@@ -16,6 +16,10 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.hibernate.search.util.AssertionFailure;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,12 +30,27 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the content can be compressed using the gzip format:
+ * encoded bytes then go through a {@link Deflater} before being stored in buffer pages,
+ * and {@link #finish()} must be called once all the content has been written.
+ * A writer is single-use: once finished, it does not accept content anymore,
+ * and a new writer must be created in order to produce the same content again.
  *
  * @author Sanne Grinovero
  * @author Yoann Rodiere
  */
 class ProgressiveCharBufferWriter extends Writer {
 
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
 	private final CharsetEncoder charsetEncoder;
 
 	/**
@@ -71,10 +90,46 @@ class ProgressiveCharBufferWriter extends Writer {
 	 */
 	private boolean flowControlPushingBack = false;
 
+	/**
+	 * The compressor, or null if compression is disabled.
+	 */
+	private final Deflater deflater;
+
+	/**
+	 * A buffer for encoded, but not yet compressed bytes.
+	 * Only used if compression is enabled.
+	 */
+	private final ByteBuffer uncompressedBuffer;
+
+	/**
+	 * The checksum of uncompressed bytes, for the gzip trailer.
+	 * Only used if compression is enabled.
+	 */
+	private final CRC32 uncompressedChecksum;
+
+	private boolean finished = false;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		if ( gzip ) {
+			// Raw deflate: we write the gzip header and trailer ourselves
+			this.deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+			this.uncompressedBuffer = ByteBuffer.allocate( pageSize );
+			this.uncompressedChecksum = new CRC32();
+			this.currentPage = ByteBuffer.allocate( pageSize );
+			this.currentPage.put( GZIP_HEADER );
+		}
+		else {
+			this.deflater = null;
+			this.uncompressedBuffer = null;
+			this.uncompressedChecksum = null;
+		}
 	}
 
 	/**
@@ -126,9 +181,39 @@ public void flush() throws IOException {
 		// don't flush byte buffers to output as we want to control that flushing independently.
 	}
 
+	/**
+	 * Flush the char buffer, and if compression is enabled,
+	 * write the end of the compressed content to the byte buffer.
+	 * <p>
+	 * Must be called once all the content has been written,
+	 * before the last call to {@link #flushToOutput()}.
+	 * Calling this method multiple times has no additional effect.
+	 * <p>
+	 * Native resources of the compressor are only released by {@link #close()}.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( deflater == null || finished ) {
+			return;
+		}
+		finished = true;
+		compressUncompressedBuffer();
+		deflater.finish();
+		while ( !deflater.finished() ) {
+			deflateToPage();
+		}
+		writeIntLittleEndian( (int) uncompressedChecksum.getValue() );
+		writeIntLittleEndian( (int) deflater.getBytesRead() );
+	}
+
 	@Override
 	public void close() throws IOException {
-		// Nothing to do
+		if ( deflater != null ) {
+			// Release the native resources of the deflater
+			deflater.end();
+		}
 	}
 
 	/**
@@ -194,6 +279,10 @@ public int byteBufferContentSize() {
 	}
 
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( deflater != null ) {
+			writeToCompressedByteBuffer( input );
+			return;
+		}
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -203,17 +292,7 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				onCurrentPageFull();
 			}
 			else {
 				//Encoding exception
@@ -223,6 +302,80 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void writeToCompressedByteBuffer(CharBuffer input) throws IOException {
+		if ( finished ) {
+			throw new AssertionFailure( "Attempt to write to a finished gzip writer" );
+		}
+		while ( true ) {
+			CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+			if ( coderResult.equals( CoderResult.UNDERFLOW ) ) {
+				/*
+				 * Compress right away, so that byteBufferContentSize()
+				 * reflects all the content written so far, at least once finished.
+				 */
+				compressUncompressedBuffer();
+				return;
+			}
+			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
+				compressUncompressedBuffer();
+			}
+			else {
+				//Encoding exception
+				coderResult.throwException();
+				return; //Unreachable
+			}
+		}
+	}
+
+	private void compressUncompressedBuffer() throws IOException {
+		if ( uncompressedBuffer.position() == 0 ) {
+			return;
+		}
+		uncompressedChecksum.update( uncompressedBuffer.array(), 0, uncompressedBuffer.position() );
+		deflater.setInput( uncompressedBuffer.array(), 0, uncompressedBuffer.position() );
+		while ( !deflater.needsInput() ) {
+			deflateToPage();
+		}
+		uncompressedBuffer.clear();
+	}
+
+	private void deflateToPage() throws IOException {
+		if ( currentPage == null ) {
+			currentPage = ByteBuffer.allocate( pageSize );
+		}
+		int written = deflater.deflate( currentPage.array(), currentPage.position(), currentPage.remaining() );
+		currentPage.position( currentPage.position() + written );
+		if ( !currentPage.hasRemaining() ) {
+			onCurrentPageFull();
+		}
+	}
+
+	private void writeIntLittleEndian(int value) throws IOException {
+		for ( int i = 0; i < 4; i++ ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			currentPage.put( (byte) ( value >>> ( 8 * i ) ) );
+			if ( !currentPage.hasRemaining() ) {
+				onCurrentPageFull();
+			}
+		}
+	}
+
+	private void onCurrentPageFull() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Estimates the size of the compact JSON representation of a {@link JsonElement},
+ * without actually serializing it.
+ * <p>
+ * The estimate ignores escaping and assumes one byte per character,
+ * which is good enough to bound the size of requests.
+ */
+public final class JsonSizeEstimator {
+
+	private JsonSizeEstimator() {
+		// Private constructor, do not use.
+	}
+
+	public static long estimate(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			JsonObject object = element.getAsJsonObject();
+			long size = 2; // {}
+			for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+				// "key": value,
+				size += entry.getKey().length() + 4 + estimate( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			long size = 2; // []
+			for ( JsonElement item : array ) {
+				size += estimate( item ) + 1;
+			}
+			return size;
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return primitive.getAsString().length() + 2;
+			}
+			else if ( primitive.isBoolean() ) {
+				return 5;
+			}
+			else {
+				return primitive.getAsString().length();
+			}
+		}
+	}
+
+}
@@ -66,10 +66,61 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendElasticsearchSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final ConfigurationProperty<Integer> BULK_MAX_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.BULK_MAX_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.BULK_MAX_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_MAX_BYTES =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.BULK_MAX_BYTES )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.BULK_MAX_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_COUNT =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_QUEUE_COUNT )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_QUEUE_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.QUERY_TIMEOUT )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.QUERY_TIMEOUT )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		EventContext backendContext = EventContexts.fromBackendName( name );
 
+		int indexingQueueCount = getStrictlyPositive(
+				SearchBackendElasticsearchSettings.INDEXING_QUEUE_COUNT, INDEXING_QUEUE_COUNT,
+				backendContext, propertySource
+		);
+		int bulkMaxSize = getStrictlyPositive(
+				SearchBackendElasticsearchSettings.BULK_MAX_SIZE, BULK_MAX_SIZE,
+				backendContext, propertySource
+		);
+		int bulkMaxBytes = getStrictlyPositive(
+				SearchBackendElasticsearchSettings.BULK_MAX_BYTES, BULK_MAX_BYTES,
+				backendContext, propertySource
+		);
+		int scrollTimeout = getStrictlyPositive(
+				SearchBackendElasticsearchSettings.SCROLL_TIMEOUT, SCROLL_TIMEOUT,
+				backendContext, propertySource
+		);
+		int queryTimeout = getPositiveOrZero(
+				SearchBackendElasticsearchSettings.QUERY_TIMEOUT, QUERY_TIMEOUT,
+				backendContext, propertySource
+		);
+
 		ElasticsearchClientFactory clientFactory = new DefaultElasticsearchClientFactory();
 
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
@@ -91,7 +142,11 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			return new ElasticsearchBackendImpl(
 					client, name, workFactory,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					indexingQueueCount,
+					bulkMaxSize, bulkMaxBytes,
+					scrollTimeout,
+					queryTimeout
 			);
 		}
 		catch (RuntimeException e) {
@@ -150,4 +205,22 @@ private ElasticsearchAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(Ev
 			throw log.unableToApplyAnalysisConfiguration( e.getMessage(), backendContext, e );
 		}
 	}
+
+	private static int getStrictlyPositive(String propertyKey, ConfigurationProperty<Integer> property,
+			EventContext backendContext, ConfigurationPropertySource propertySource) {
+		int value = property.get( propertySource );
+		if ( value <= 0 ) {
+			throw log.invalidNonPositiveConfigurationValue( propertyKey, value, backendContext );
+		}
+		return value;
+	}
+
+	private static int getPositiveOrZero(String propertyKey, ConfigurationProperty<Integer> property,
+			EventContext backendContext, ConfigurationPropertySource propertySource) {
+		int value = property.get( propertySource );
+		if ( value < 0 ) {
+			throw log.invalidNegativeConfigurationValue( propertyKey, value, backendContext );
+		}
+		return value;
+	}
 }
@@ -24,8 +24,9 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.BatchingElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ParallelElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -65,17 +66,27 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 
 	ElasticsearchBackendImpl(ElasticsearchClient client, String name, ElasticsearchWorkFactory workFactory,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			int indexingQueueCount, int maxBulkSize, int maxBulkBytes,
+			int scrollTimeout, int queryTimeout) {
 		this.client = client;
 		this.name = name;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.streamOrchestrator = new StubElasticsearchWorkOrchestrator( client );
-		this.queryOrchestrator = new StubElasticsearchWorkOrchestrator( client );
+		/*
+		 * Stream works (index initialization, mass indexing) are not bound to a given index
+		 * and may be submitted in large numbers: batch them in bulks, like work plans.
+		 */
+		this.streamOrchestrator = new BatchingElasticsearchWorkOrchestrator(
+				"Elasticsearch stream work orchestrator - " + name,
+				client, workFactory, indexingQueueCount, maxBulkSize, maxBulkBytes
+		);
+		this.queryOrchestrator = new ParallelElasticsearchWorkOrchestrator( client );
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
-				eventContext, client, workFactory, multiTenancyStrategy, streamOrchestrator
+				eventContext, client, workFactory, multiTenancyStrategy, streamOrchestrator,
+				indexingQueueCount, maxBulkSize, maxBulkBytes
 		);
 		this.searchContext = new SearchBackendContext(
 				eventContext, workFactory,
@@ -89,7 +100,8 @@ public String apply(String elasticsearchIndexName) {
 						return result;
 					}
 				},
-				multiTenancyStrategy, queryOrchestrator
+				multiTenancyStrategy, queryOrchestrator,
+				scrollTimeout, queryTimeout
 		);
 	}
 
@@ -141,7 +153,8 @@ public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManage
 		return new ElasticsearchIndexManagerBuilder(
 				indexingContext, searchContext,
 				hibernateSearchIndexName, elasticsearchIndexName,
-				indexSchemaRootNodeBuilder, settingsBuilder
+				indexSchemaRootNodeBuilder, settingsBuilder,
+				propertySource
 		);
 	}
 
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+import com.google.gson.JsonObject;
+
+/**
+ * An executor streaming additions to the stream orchestrator, which groups them in bulks.
+ * <p>
+ * Additions never trigger a refresh: refreshing is expected to happen through {@link ElasticsearchIndexWorkExecutor#flush()}.
+ */
+class ElasticsearchIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> {
+
+	private final ElasticsearchWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final URLEncodedString indexName;
+	private final URLEncodedString typeName;
+	private final String tenantId;
+
+	ElasticsearchIndexDocumentWorkExecutor(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			ElasticsearchWorkOrchestrator orchestrator,
+			URLEncodedString indexName, URLEncodedString typeName,
+			SessionContext sessionContext) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.orchestrator = orchestrator;
+		this.indexName = indexName;
+		this.typeName = typeName;
+		this.tenantId = sessionContext.getTenantIdentifier();
+	}
+
+	@Override
+	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<ElasticsearchDocumentObjectBuilder> documentContributor) {
+		String id = referenceProvider.getIdentifier();
+		String elasticsearchId = multiTenancyStrategy.toElasticsearchId( tenantId, id );
+		String routingKey = referenceProvider.getRoutingKey();
+
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder();
+		documentContributor.contribute( builder );
+		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
+
+		return orchestrator.submit(
+				factory.add( indexName, typeName, elasticsearchId, routingKey, document, RefreshStrategyConfiguration.NONE )
+		);
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.ElasticsearchIndexSettingsBuilder;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
@@ -14,12 +16,20 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 
 /**
  * @author Yoann Rodiere
  */
 public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> {
 
+	private static final ConfigurationProperty<RefreshStrategyConfiguration> REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.REFRESH_STRATEGY )
+					.as( RefreshStrategyConfiguration.class, RefreshStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.REFRESH_STRATEGY )
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
@@ -27,12 +37,14 @@ public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<Ela
 	private final String elasticsearchIndexName;
 	private final ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
 	private final ElasticsearchIndexSettingsBuilder settingsBuilder;
+	private final ConfigurationPropertySource propertySource;
 
 	public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String hibernateSearchIndexName, String elasticsearchIndexName,
 			ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
-			ElasticsearchIndexSettingsBuilder settingsBuilder) {
+			ElasticsearchIndexSettingsBuilder settingsBuilder,
+			ConfigurationPropertySource propertySource) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
@@ -40,6 +52,7 @@ public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendCo
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
 		this.settingsBuilder = settingsBuilder;
+		this.propertySource = propertySource;
 	}
 
 	@Override
@@ -71,7 +84,8 @@ public ElasticsearchIndexManagerImpl build() {
 		return new ElasticsearchIndexManagerImpl(
 				indexingBackendContext, searchBackendContext,
 				hibernateSearchIndexName, encodedElasticsearchIndexName,
-				encodedTypeName, model
+				encodedTypeName, model,
+				REFRESH_STRATEGY.get( propertySource )
 		);
 	}
 
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
@@ -15,7 +16,10 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -40,19 +44,21 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 	private final URLEncodedString elasticsearchIndexName;
 	private final URLEncodedString typeName;
 	private final ElasticsearchIndexModel model;
+	private final RefreshStrategyConfiguration refreshStrategy;
 
 	private final ElasticsearchWorkOrchestrator workPlanOrchestrator;
 
 	ElasticsearchIndexManagerImpl(IndexingBackendContext indexingBackendContext, SearchBackendContext searchBackendContext,
 			String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
-			ElasticsearchIndexModel model) {
+			ElasticsearchIndexModel model, RefreshStrategyConfiguration refreshStrategy) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.hibernateSearchIndexName = hibernateSearchIndexName;
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.typeName = typeName;
 		this.model = model;
-		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator();
+		this.refreshStrategy = refreshStrategy;
+		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator( hibernateSearchIndexName );
 	}
 
 	@Override
@@ -67,7 +73,27 @@ public ElasticsearchIndexModel getModel() {
 
 	@Override
 	public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionContext sessionContext) {
-		return indexingBackendContext.createWorkPlan( workPlanOrchestrator, elasticsearchIndexName, typeName, sessionContext );
+		return createWorkPlan( sessionContext, DocumentRefreshStrategy.DEFAULT );
+	}
+
+	@Override
+	public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionContext sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
+		return indexingBackendContext.createWorkPlan(
+				workPlanOrchestrator, elasticsearchIndexName, typeName,
+				resolveRefreshStrategy( refreshStrategy ), sessionContext
+		);
+	}
+
+	@Override
+	public IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
+			SessionContext sessionContext) {
+		return indexingBackendContext.createDocumentWorkExecutor( elasticsearchIndexName, typeName, sessionContext );
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor() {
+		return indexingBackendContext.createWorkExecutor( elasticsearchIndexName );
 	}
 
 	@Override
@@ -112,6 +138,18 @@ clazz, ElasticsearchIndexManager.class, getBackendAndIndexEventContext()
 		);
 	}
 
+	private RefreshStrategyConfiguration resolveRefreshStrategy(DocumentRefreshStrategy refreshStrategy) {
+		switch ( refreshStrategy ) {
+			case NONE:
+				return RefreshStrategyConfiguration.NONE;
+			case FORCE:
+				return RefreshStrategyConfiguration.FORCE;
+			case DEFAULT:
+			default:
+				return this.refreshStrategy;
+		}
+	}
+
 	private EventContext getBackendAndIndexEventContext() {
 		return indexingBackendContext.getEventContext().append(
 				EventContexts.fromIndexName( hibernateSearchIndexName )
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.util.EventContext;
+
+import com.google.gson.JsonObject;
+
+class ElasticsearchIndexWorkExecutor implements IndexWorkExecutor {
+
+	private final ElasticsearchWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final URLEncodedString indexName;
+	private final EventContext eventContext;
+
+	ElasticsearchIndexWorkExecutor(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			ElasticsearchWorkOrchestrator orchestrator,
+			URLEncodedString indexName, EventContext eventContext) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.orchestrator = orchestrator;
+		this.indexName = indexName;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public CompletableFuture<?> purge(String tenantId) {
+		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
+
+		JsonObject matchAll = new JsonObject();
+		matchAll.add( "match_all", new JsonObject() );
+		JsonObject payload = new JsonObject();
+		payload.add( "query", multiTenancyStrategy.decorateJsonQuery( matchAll, tenantId ) );
+
+		return orchestrator.submit( factory.deleteByQuery( indexName, payload ) );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize() {
+		return orchestrator.submit( factory.optimize( indexName ) );
+	}
+
+	@Override
+	public CompletableFuture<?> flush() {
+		// The flush work refreshes the index, too
+		return orchestrator.submit( factory.flush( indexName ) );
+	}
+}
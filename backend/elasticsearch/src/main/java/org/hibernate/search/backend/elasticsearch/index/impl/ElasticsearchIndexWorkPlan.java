@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
@@ -34,6 +35,7 @@ public class ElasticsearchIndexWorkPlan implements IndexWorkPlan<ElasticsearchDo
 	private final ElasticsearchWorkOrchestrator orchestrator;
 	private final URLEncodedString indexName;
 	private final URLEncodedString typeName;
+	private final RefreshStrategyConfiguration refreshStrategy;
 	private final String tenantId;
 
 	private final List<ElasticsearchWork<?>> works = new ArrayList<>();
@@ -41,12 +43,14 @@ public class ElasticsearchIndexWorkPlan implements IndexWorkPlan<ElasticsearchDo
 	ElasticsearchIndexWorkPlan(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator,
 			URLEncodedString indexName, URLEncodedString typeName,
+			RefreshStrategyConfiguration refreshStrategy,
 			SessionContext sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexName = indexName;
 		this.typeName = typeName;
+		this.refreshStrategy = refreshStrategy;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
 
@@ -61,7 +65,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, typeName, elasticsearchId, routingKey, document ) );
+		collect( factory.add( indexName, typeName, elasticsearchId, routingKey, document, refreshStrategy ) );
 	}
 
 	@Override
@@ -75,7 +79,7 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, typeName, elasticsearchId, routingKey, document ) );
+		collect( factory.update( indexName, typeName, elasticsearchId, routingKey, document, refreshStrategy ) );
 	}
 
 	@Override
@@ -83,7 +87,7 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String elasticsearchId = multiTenancyStrategy.toElasticsearchId( tenantId, referenceProvider.getIdentifier() );
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, typeName, elasticsearchId, routingKey ) );
+		collect( factory.delete( indexName, typeName, elasticsearchId, routingKey, refreshStrategy ) );
 	}
 
 	@Override
@@ -9,15 +9,18 @@
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.BatchingElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.EventContext;
@@ -31,16 +34,24 @@ public class IndexingBackendContext {
 
 	private final ElasticsearchWorkOrchestrator streamOrchestrator;
 
+	private final int queueCount;
+	private final int maxBulkSize;
+	private final int maxBulkBytes;
+
 	public IndexingBackendContext(EventContext eventContext,
 			ElasticsearchClient client,
 			ElasticsearchWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator streamOrchestrator) {
+			ElasticsearchWorkOrchestrator streamOrchestrator,
+			int queueCount, int maxBulkSize, int maxBulkBytes) {
 		this.eventContext = eventContext;
 		this.client = client;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.streamOrchestrator = streamOrchestrator;
+		this.queueCount = queueCount;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
 	}
 
 	@Override
@@ -62,17 +73,35 @@ CompletableFuture<?> initializeIndex(URLEncodedString indexName, URLEncodedStrin
 		return streamOrchestrator.submit( Arrays.asList( dropWork, createWork ) );
 	}
 
-	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator() {
-		return new StubElasticsearchWorkOrchestrator( client );
+	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator(String indexName) {
+		return new BatchingElasticsearchWorkOrchestrator(
+				"Elasticsearch work orchestrator - " + indexName,
+				client, workFactory, queueCount, maxBulkSize, maxBulkBytes
+		);
 	}
 
 	IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
 			ElasticsearchWorkOrchestrator orchestrator,
 			URLEncodedString indexName, URLEncodedString typeName,
+			RefreshStrategyConfiguration refreshStrategy,
 			SessionContext sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new ElasticsearchIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
+				indexName, typeName, refreshStrategy, sessionContext );
+	}
+
+	IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
+			URLEncodedString indexName, URLEncodedString typeName,
+			SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new ElasticsearchIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, streamOrchestrator,
 				indexName, typeName, sessionContext );
 	}
+
+	IndexWorkExecutor createWorkExecutor(URLEncodedString indexName) {
+		return new ElasticsearchIndexWorkExecutor( workFactory, multiTenancyStrategy, streamOrchestrator,
+				indexName, eventContext );
+	}
 }
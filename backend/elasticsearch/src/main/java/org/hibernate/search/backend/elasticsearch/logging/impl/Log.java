@@ -7,6 +7,7 @@
 
 package org.hibernate.search.backend.elasticsearch.logging.impl;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 
@@ -18,6 +19,7 @@
 import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.SearchTimeoutException;
 import org.hibernate.search.util.impl.common.MessageConstants;
 import org.hibernate.search.util.impl.common.logging.ClassFormatter;
 
@@ -56,6 +58,14 @@ public interface Log extends BasicLogger {
 	// -----------------------------------
 	int ID_OFFSET_2 = MessageConstants.BACKEND_ES_ID_RANGE_MIN;
 
+	@Message(id = ID_OFFSET_2 + 7,
+			value = "Elasticsearch request failed.\n Request: %1$s\n Response: %2$s")
+	SearchException elasticsearchRequestFailed(String request, String response, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 8,
+			value = "Elasticsearch bulked request failed.\n Request metadata: %1$s\n Response: %2$s")
+	SearchException elasticsearchBulkedRequestFailed(String requestMetadata, String response, @Cause Exception cause);
+
 	@Message(id = ID_OFFSET_2 + 55,
 			value = "Multiple tokenizer definitions with the same name: '%1$s'. The tokenizer names must be unique.")
 	SearchException tokenizerNamingConflict(String remoteName);
@@ -285,4 +295,20 @@ SearchException indexManagerUnwrappingWithUnknownType(@FormatWith(ClassFormatter
 	@Message(id = ID_OFFSET_3 + 37,
 			value = "Multiple parameters with the same name: '%1$s'. Can't assign both value '%2$s' and '%3$s'" )
 	SearchException analysisComponentParameterConflict(String name, JsonElement value1, JsonElement value2);
+
+	@Message(id = ID_OFFSET_3 + 38,
+			value = "Unknown refresh strategy '%1$s'.")
+	SearchException unknownRefreshStrategyConfiguration(String refreshStrategy);
+
+	@Message(id = ID_OFFSET_3 + 39,
+			value = "The query '%1$s' exceeded the timeout of %2$s.")
+	SearchTimeoutException queryTimedOut(String query, Duration timeout, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 40,
+			value = "Invalid value for '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidNonPositiveConfigurationValue(String propertyKey, int value, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 41,
+			value = "Invalid value for '%1$s': '%2$s'. The value must be positive or zero.")
+	SearchException invalidNegativeConfigurationValue(String propertyKey, int value, @Param EventContext context);
 }
@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.util.impl.common.Executors;
+
+/**
+ * An orchestrator that spreads works over multiple queues executing in parallel,
+ * each queue executing its works serially and grouping consecutive bulkable works into {@code _bulk} requests.
+ * <p>
+ * Works affecting a given document (same identifier and routing key) are always assigned to the same queue,
+ * so they are executed in the order they were submitted.
+ * Works that do not affect a single document (e.g. purges or flushes) act as barriers:
+ * they are executed only once all the works submitted before them have been executed (and refreshed, if necessary),
+ * and works submitted after them are executed only once they have been executed.
+ * <p>
+ * Within each queue, works are executed in batches: while a batch is being executed,
+ * works submitted by other threads (e.g. other work plans) accumulate,
+ * and are executed as part of the next batch.
+ * Each bulk is bounded both by the number of works and by the (estimated) size of its payload.
+ * <p>
+ * Works requiring an explicit refresh ({@link RefreshStrategyConfiguration#FORCE}) are considered complete
+ * only after a single {@code _refresh} request, sent at the end of the batch for all the indexes they touched.
+ * <p>
+ * Failures are reported on the future of each work individually:
+ * a failing work does not prevent the execution of the following works.
+ */
+public class BatchingElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private final String name;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	private final ElasticsearchWorkExecutionContext context;
+	private final ExecutorService executor;
+	private final List<BatchingElasticsearchWorkQueue> queues;
+
+	public BatchingElasticsearchWorkOrchestrator(String name, ElasticsearchClient client,
+			ElasticsearchWorkFactory workFactory, int queueCount, int maxBulkSize, long maxBulkBytes) {
+		this.name = name;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		/*
+		 * A single thread is enough to build requests for all queues:
+		 * queues do not block while waiting for responses.
+		 */
+		this.executor = Executors.newFixedThreadPool( 1, name );
+		this.context = new StubElasticsearchWorkExecutionContext( client );
+		List<BatchingElasticsearchWorkQueue> queueList = new ArrayList<>( queueCount );
+		for ( int i = 0; i < queueCount; i++ ) {
+			queueList.add( new BatchingElasticsearchWorkQueue( context, workFactory, executor, maxBulkSize, maxBulkBytes ) );
+		}
+		this.queues = Collections.unmodifiableList( queueList );
+	}
+
+	@Override
+	public void close() {
+		try {
+			// Let the works that were already submitted complete
+			for ( BatchingElasticsearchWorkQueue queue : queues ) {
+				queue.awaitCompletion();
+			}
+			executor.shutdown();
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			return;
+		}
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/*
+	 * Submissions are synchronized so that barriers are enqueued in the same order in every queue:
+	 * otherwise two barriers could each wait for the other in a different queue.
+	 * Enqueuing does not execute anything, so this lock is never held for long.
+	 */
+	@Override
+	public synchronized <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		ElasticsearchWorkExecution<T> execution = new ElasticsearchWorkExecution<>( work );
+		if ( execution.isBarrier() ) {
+			enqueueBarrier( execution );
+		}
+		else {
+			queues.get( getQueueIndex( execution ) ).enqueue( Collections.singletonList( execution ) );
+		}
+		return execution.future;
+	}
+
+	@Override
+	public synchronized CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		List<List<ElasticsearchWorkExecution<?>>> executionsPerQueue = new ArrayList<>( queues.size() );
+		for ( int i = 0; i < queues.size(); i++ ) {
+			executionsPerQueue.add( new ArrayList<>() );
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[works.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			ElasticsearchWorkExecution<?> execution = new ElasticsearchWorkExecution<>( works.get( i ) );
+			if ( execution.isBarrier() ) {
+				enqueue( executionsPerQueue );
+				enqueueBarrier( execution );
+			}
+			else {
+				executionsPerQueue.get( getQueueIndex( execution ) ).add( execution );
+			}
+			futures[i] = execution.future;
+		}
+		enqueue( executionsPerQueue );
+		return CompletableFuture.allOf( futures );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "name=" ).append( name )
+				.append( ", queueCount=" ).append( queues.size() )
+				.append( ", maxBulkSize=" ).append( maxBulkSize )
+				.append( ", maxBulkBytes=" ).append( maxBulkBytes )
+				.append( "]" )
+				.toString();
+	}
+
+	private void enqueue(List<List<ElasticsearchWorkExecution<?>>> executionsPerQueue) {
+		for ( int i = 0; i < queues.size(); i++ ) {
+			List<ElasticsearchWorkExecution<?>> executions = executionsPerQueue.get( i );
+			if ( !executions.isEmpty() ) {
+				queues.get( i ).enqueue( new ArrayList<>( executions ) );
+				executions.clear();
+			}
+		}
+	}
+
+	/*
+	 * Blocks every queue once it has executed the works submitted before the barrier,
+	 * executes the barrier once all queues are blocked, then releases the queues.
+	 */
+	private void enqueueBarrier(ElasticsearchWorkExecution<?> barrier) {
+		CompletableFuture<Void> release = new CompletableFuture<>();
+		CompletableFuture<?>[] arrivals = new CompletableFuture<?>[queues.size()];
+		for ( int i = 0; i < queues.size(); i++ ) {
+			CompletableFuture<Void> arrival = new CompletableFuture<>();
+			arrivals[i] = arrival;
+			queues.get( i ).enqueue( Collections.singletonList( new ElasticsearchWorkExecution<>(
+					ignoredContext -> {
+						arrival.complete( null );
+						return release;
+					}
+			) ) );
+		}
+		CompletableFuture.allOf( arrivals )
+				.thenComposeAsync( ignored -> barrier.execute( context ), executor )
+				// barrier.execute() never fails: errors are reported through the barrier's own future
+				.whenComplete( (result, throwable) -> release.complete( null ) );
+	}
+
+	private int getQueueIndex(ElasticsearchWorkExecution<?> execution) {
+		return Math.floorMod( execution.getDocumentHash(), queues.size() );
+	}
+
+}
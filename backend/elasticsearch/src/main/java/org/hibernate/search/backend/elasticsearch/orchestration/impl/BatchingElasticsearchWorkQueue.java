@@ -0,0 +1,198 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A queue executing works serially, in the order they were submitted,
+ * grouping consecutive bulkable works into {@code _bulk} requests.
+ * <p>
+ * Bulks are split whenever the maximum number of works or bytes per bulk is reached,
+ * and whenever the refresh strategy changes from or to {@code wait_for},
+ * so that works never wait for a refresh they did not ask for.
+ * <p>
+ * Works are executed in batches: while a batch is being executed,
+ * newly submitted works accumulate, and are executed as part of the next batch.
+ * Building requests is done in the given executor,
+ * but waiting for responses does not block any thread.
+ */
+class BatchingElasticsearchWorkQueue {
+
+	private final ElasticsearchWorkExecutionContext context;
+	private final ElasticsearchWorkFactory workFactory;
+	private final Executor executor;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	// Protected by synchronization on this
+	private List<ElasticsearchWorkExecution<?>> pendingExecutions = new ArrayList<>();
+	private boolean processing = false;
+
+	BatchingElasticsearchWorkQueue(ElasticsearchWorkExecutionContext context, ElasticsearchWorkFactory workFactory,
+			Executor executor, int maxBulkSize, long maxBulkBytes) {
+		this.context = context;
+		this.workFactory = workFactory;
+		this.executor = executor;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	synchronized void enqueue(List<ElasticsearchWorkExecution<?>> executions) {
+		pendingExecutions.addAll( executions );
+		if ( !processing ) {
+			processing = true;
+			executor.execute( this::processNextBatch );
+		}
+	}
+
+	/**
+	 * Blocks until all the works submitted to this queue have been executed.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 */
+	synchronized void awaitCompletion() throws InterruptedException {
+		while ( processing ) {
+			wait();
+		}
+	}
+
+	private void processNextBatch() {
+		List<ElasticsearchWorkExecution<?>> batch;
+		synchronized (this) {
+			if ( pendingExecutions.isEmpty() ) {
+				processing = false;
+				notifyAll();
+				return;
+			}
+			batch = pendingExecutions;
+			pendingExecutions = new ArrayList<>();
+		}
+
+		CompletableFuture<?> batchFuture;
+		try {
+			batchFuture = executeBatch( batch );
+		}
+		catch (RuntimeException e) {
+			for ( ElasticsearchWorkExecution<?> execution : batch ) {
+				execution.future.completeExceptionally( e );
+			}
+			batchFuture = CompletableFuture.completedFuture( null );
+		}
+		batchFuture.whenComplete( (result, throwable) -> executor.execute( this::processNextBatch ) );
+	}
+
+	/**
+	 * @param batch The works to execute, in order.
+	 * @return A future that will be completed when all the given works have been executed.
+	 * This future never fails: errors are reported through each work's own future.
+	 */
+	private CompletableFuture<?> executeBatch(List<ElasticsearchWorkExecution<?>> batch) {
+		CompletableFuture<?> sequence = CompletableFuture.completedFuture( null );
+		List<ElasticsearchWorkExecution<?>> bulk = new ArrayList<>();
+		long bulkBytes = 0L;
+		int refreshStart = 0;
+		for ( int i = 0; i < batch.size(); i++ ) {
+			ElasticsearchWorkExecution<?> execution = batch.get( i );
+			if ( execution.bulkableWork == null ) {
+				sequence = addBulk( sequence, bulk );
+				bulk = new ArrayList<>();
+				bulkBytes = 0L;
+				// Non-bulkable works must see the effects of the works submitted before them
+				sequence = addRefresh( sequence, batch.subList( refreshStart, i ) );
+				refreshStart = i + 1;
+				sequence = addSingle( sequence, execution );
+				continue;
+			}
+
+			long executionBytes = execution.estimateBulkableActionSize();
+			if ( !bulk.isEmpty() && ( bulk.size() >= maxBulkSize || bulkBytes + executionBytes > maxBulkBytes
+					// The refresh parameter applies to the whole bulk: don't make other works wait for a refresh
+					|| bulk.get( 0 ).isWaitForRefresh() != execution.isWaitForRefresh() ) ) {
+				sequence = addBulk( sequence, bulk );
+				bulk = new ArrayList<>();
+				bulkBytes = 0L;
+			}
+			bulk.add( execution );
+			bulkBytes += executionBytes;
+		}
+		sequence = addBulk( sequence, bulk );
+		return addRefresh( sequence, batch.subList( refreshStart, batch.size() ) );
+	}
+
+	private CompletableFuture<?> addSingle(CompletableFuture<?> sequence, ElasticsearchWorkExecution<?> execution) {
+		return sequence.thenCompose( ignored -> execution.execute( context ) );
+	}
+
+	private CompletableFuture<?> addBulk(CompletableFuture<?> sequence, List<ElasticsearchWorkExecution<?>> bulk) {
+		if ( bulk.isEmpty() ) {
+			return sequence;
+		}
+		else if ( bulk.size() == 1 ) {
+			// No need for a bulk request
+			return addSingle( sequence, bulk.get( 0 ) );
+		}
+
+		List<BulkableElasticsearchWork<?>> works = new ArrayList<>( bulk.size() );
+		for ( ElasticsearchWorkExecution<?> execution : bulk ) {
+			works.add( execution.bulkableWork );
+		}
+		ElasticsearchWork<BulkResult> bulkWork = workFactory.bulk( works );
+
+		return sequence.thenCompose( ignored -> Futures.create( () -> bulkWork.execute( context ) )
+				.handle( Futures.handler( (result, throwable) -> {
+					for ( int i = 0; i < bulk.size(); i++ ) {
+						ElasticsearchWorkExecution<?> execution = bulk.get( i );
+						if ( throwable != null ) {
+							execution.executionFuture.completeExceptionally( throwable );
+						}
+						else {
+							execution.complete( result, i, context );
+						}
+					}
+					return null;
+				} ) ) );
+	}
+
+	private CompletableFuture<?> addRefresh(CompletableFuture<?> sequence, List<ElasticsearchWorkExecution<?>> batch) {
+		Set<URLEncodedString> indexNames = new LinkedHashSet<>();
+		List<ElasticsearchWorkExecution<?>> executionsToRefresh = new ArrayList<>();
+		for ( ElasticsearchWorkExecution<?> execution : batch ) {
+			if ( execution.isRefreshRequired() ) {
+				indexNames.add( execution.bulkableWork.getIndexName() );
+				executionsToRefresh.add( execution );
+			}
+		}
+		if ( indexNames.isEmpty() ) {
+			return sequence;
+		}
+
+		ElasticsearchWork<?> refreshWork = workFactory.refresh( indexNames );
+
+		return sequence.thenCompose( ignored -> Futures.create( () -> refreshWork.execute( context ) )
+				.handle( Futures.handler( (result, throwable) -> {
+					for ( ElasticsearchWorkExecution<?> execution : executionsToRefresh ) {
+						execution.completeAfterRefresh( throwable );
+					}
+					return null;
+				} ) ) );
+	}
+
+}
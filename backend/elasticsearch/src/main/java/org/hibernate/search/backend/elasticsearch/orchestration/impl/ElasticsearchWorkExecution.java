@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonSizeEstimator;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A work submitted to an orchestrator, along with the future reporting its result to the submitter.
+ *
+ * @param <T> The result type of the work.
+ */
+final class ElasticsearchWorkExecution<T> {
+
+	final ElasticsearchWork<T> work;
+	final BulkableElasticsearchWork<T> bulkableWork;
+	final CompletableFuture<T> future = new CompletableFuture<>();
+	/*
+	 * Completed when the work itself has been executed.
+	 * Same as future, except for works that require a refresh after execution.
+	 */
+	final CompletableFuture<T> executionFuture;
+
+	@SuppressWarnings("unchecked") // A BulkableElasticsearchWork<?> implementing ElasticsearchWork<T> is a BulkableElasticsearchWork<T>
+	ElasticsearchWorkExecution(ElasticsearchWork<T> work) {
+		this.work = work;
+		this.bulkableWork = work instanceof BulkableElasticsearchWork ? (BulkableElasticsearchWork<T>) work : null;
+		this.executionFuture = isRefreshRequired() ? new CompletableFuture<>() : future;
+	}
+
+	boolean isRefreshRequired() {
+		return bulkableWork != null && RefreshStrategyConfiguration.FORCE.equals( bulkableWork.getRefreshStrategy() );
+	}
+
+	/**
+	 * @return {@code true} if the request executing this work must wait for a refresh before returning.
+	 * When bulked, such a wait applies to the whole bulk:
+	 * such works must not be bulked with works that do not require it.
+	 */
+	boolean isWaitForRefresh() {
+		return bulkableWork != null && RefreshStrategyConfiguration.WAIT_FOR.equals( bulkableWork.getRefreshStrategy() );
+	}
+
+	/**
+	 * @return {@code true} if this work does not affect a single document (e.g. a purge or a flush),
+	 * and must thus be ordered relative to every other work.
+	 */
+	boolean isBarrier() {
+		return bulkableWork == null;
+	}
+
+	/**
+	 * @return A hash of the document affected by this work,
+	 * so that works affecting the same document always get the same hash.
+	 * Must not be called on {@link #isBarrier() barriers}.
+	 */
+	int getDocumentHash() {
+		return Objects.hash( bulkableWork.getDocumentId(), bulkableWork.getRoutingKey() );
+	}
+
+	long estimateBulkableActionSize() {
+		// Each line of the bulk payload is followed by a line feed
+		return JsonSizeEstimator.estimate( bulkableWork.getBulkableActionMetadata() ) + 1
+				+ ( bulkableWork.getBulkableActionBody() == null
+						? 0L : JsonSizeEstimator.estimate( bulkableWork.getBulkableActionBody() ) + 1 );
+	}
+
+	/**
+	 * @param context The execution context.
+	 * @return A future that will be completed when this work has been executed.
+	 * This future never fails: errors are reported through {@link #executionFuture}.
+	 */
+	CompletableFuture<?> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> work.execute( context ) )
+				.whenComplete( Futures.copyHandler( executionFuture ) )
+				.exceptionally( ignored -> null );
+	}
+
+	void complete(BulkResult result, int index, ElasticsearchWorkExecutionContext context) {
+		try {
+			executionFuture.complete( result.extract( context, bulkableWork, index ) );
+		}
+		catch (RuntimeException e) {
+			executionFuture.completeExceptionally( e );
+		}
+	}
+
+	void completeAfterRefresh(Throwable refreshThrowable) {
+		executionFuture.whenComplete( (result, throwable) -> {
+			if ( throwable != null ) {
+				future.completeExceptionally( throwable );
+			}
+			else if ( refreshThrowable != null ) {
+				future.completeExceptionally( refreshThrowable );
+			}
+			else {
+				future.complete( result );
+			}
+		} );
+	}
+}
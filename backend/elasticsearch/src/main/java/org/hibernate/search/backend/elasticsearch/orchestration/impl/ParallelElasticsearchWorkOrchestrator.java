@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * An orchestrator that executes works as soon as they are submitted, without any ordering guarantee,
+ * so that independent works (e.g. search queries) can use as many connections as the client allows.
+ */
+public class ParallelElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private final StubElasticsearchWorkExecutionContext context;
+
+	private final Set<CompletableFuture<?>> inFlightFutures = ConcurrentHashMap.newKeySet();
+
+	public ParallelElasticsearchWorkOrchestrator(ElasticsearchClient client) {
+		this.context = new StubElasticsearchWorkExecutionContext( client );
+	}
+
+	@Override
+	public void close() {
+		CompletableFuture.allOf( inFlightFutures.toArray( new CompletableFuture<?>[0] ) )
+				// Ignore errors: error handling is the client's responsibility.
+				.exceptionally( ignored -> null )
+				.join();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		CompletableFuture<T> future = Futures.create( () -> work.execute( context ) );
+		track( future );
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[works.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = submit( works.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	private void track(CompletableFuture<?> future) {
+		inFlightFutures.add( future );
+		future.whenComplete( (result, throwable) -> inFlightFutures.remove( future ) );
+	}
+
+}
@@ -32,7 +32,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(DocumentReferenceHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(DocumentReferenceHitCollector collector, JsonObject hit) {
 		collector.collectReference( helper.extractDocumentReference( hit ) );
 	}
 
@@ -6,8 +6,15 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
@@ -15,6 +22,10 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonObject;
 
@@ -24,26 +35,35 @@
  */
 public class ElasticsearchSearchQuery<T> implements SearchQuery<T> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final Set<URLEncodedString> indexNames;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final SearchResultExtractor<T> searchResultExtractor;
+	private final String scrollTimeout;
 
 	private Long firstResultIndex;
 	private Long maxResultsCount;
+	private long timeout;
+	private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
+	private boolean truncateAfterTimeout = false;
 
 	public ElasticsearchSearchQuery(ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			Set<URLEncodedString> indexNames, Set<String> routingKeys,
-			JsonObject payload, SearchResultExtractor<T> searchResultExtractor) {
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			String scrollTimeout, int defaultTimeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.indexNames = indexNames;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.timeout = defaultTimeout;
 	}
 
 	@Override
@@ -56,6 +76,16 @@ public void setMaxResults(Long maxResultsCount) {
 		this.maxResultsCount = maxResultsCount;
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, false );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, true );
+	}
+
 	@Override
 	public String getQueryString() {
 		return payload.toString();
@@ -68,11 +98,55 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
+		return executeAsync().join();
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync() {
 		ElasticsearchWork<SearchResult<T>> work = workFactory.search(
 				indexNames, routingKeys,
 				payload, searchResultExtractor,
-				firstResultIndex, maxResultsCount );
-		return queryOrchestrator.submit( work ).join();
+				firstResultIndex, maxResultsCount,
+				timeout, timeUnit, truncateAfterTimeout );
+		CompletableFuture<SearchResult<T>> future = queryOrchestrator.submit( work );
+		if ( timeout == 0L || truncateAfterTimeout ) {
+			return future;
+		}
+		return future.handle( Futures.handler( (result, throwable) -> {
+			if ( throwable instanceof TimeoutException ) {
+				throw log.queryTimedOut( getQueryString(), getTimeout(), (TimeoutException) throwable );
+			}
+			else if ( throwable != null ) {
+				throw new CompletionException( throwable );
+			}
+			else if ( result.isTimedOut() ) {
+				throw log.queryTimedOut( getQueryString(), getTimeout(), null );
+			}
+			return result;
+		} ) );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		return new ElasticsearchSearchScroll<>(
+				workFactory, queryOrchestrator,
+				indexNames, routingKeys,
+				payload, searchResultExtractor,
+				firstResultIndex, maxResultsCount,
+				chunkSize, scrollTimeout );
+	}
+
+	private void setTimeout(long timeout, TimeUnit timeUnit, boolean truncateAfterTimeout) {
+		Contracts.assertPositiveOrZero( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.truncateAfterTimeout = truncateAfterTimeout;
+	}
+
+	private Duration getTimeout() {
+		return Duration.ofNanos( timeUnit.toNanos( timeout ) );
 	}
 
 }
@@ -0,0 +1,154 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll retrieving chunks of hits using the Elasticsearch scroll API.
+ * <p>
+ * The scroll API does not support offsets, so hits before the first result index
+ * are retrieved but discarded before hit extraction (and thus before any entity loading).
+ * Likewise, hits beyond the max results count are discarded.
+ */
+class ElasticsearchSearchScroll<T> implements SearchScroll<T> {
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private static final JsonObjectAccessor HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).asObject();
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			HITS_ACCESSOR.property( "hits" ).asArray();
+
+	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).asLong();
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final SearchResultExtractor<T> searchResultExtractor;
+	private final long firstResultIndex;
+	private final Long maxResultsCount;
+	private final int chunkSize;
+	private final String scrollTimeout;
+
+	private String scrollId;
+	private boolean exhausted = false;
+	private long totalHitCount = 0L;
+	private long skippedHitCount = 0L;
+	private long returnedHitCount = 0L;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkFactory workFactory, ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			Long firstResultIndex, Long maxResultsCount,
+			int chunkSize, String scrollTimeout) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex;
+		this.maxResultsCount = maxResultsCount;
+		this.chunkSize = chunkSize;
+		this.scrollTimeout = scrollTimeout;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		while ( !exhausted ) {
+			JsonObject responseBody = fetchNextChunk();
+			scrollId = SCROLL_ID_ACCESSOR.get( responseBody ).orElse( scrollId );
+			totalHitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+
+			JsonArray hits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+			if ( hits.size() == 0 ) {
+				exhausted = true;
+			}
+
+			JsonArray retainedHits = new JsonArray();
+			for ( JsonElement hit : hits ) {
+				if ( skippedHitCount < firstResultIndex ) {
+					++skippedHitCount;
+				}
+				else if ( maxResultsCount == null || returnedHitCount < maxResultsCount ) {
+					retainedHits.add( hit );
+					++returnedHitCount;
+				}
+			}
+			if ( maxResultsCount != null && returnedHitCount >= maxResultsCount ) {
+				exhausted = true;
+			}
+
+			if ( retainedHits.size() > 0 ) {
+				HITS_HITS_ACCESSOR.set( responseBody, retainedHits );
+				return searchResultExtractor.extract( responseBody );
+			}
+			// Else all hits in this chunk were skipped: fetch the next one
+		}
+		return createEmptyResult( totalHitCount );
+	}
+
+	@Override
+	public void close() {
+		if ( scrollId != null ) {
+			queryOrchestrator.submit( workFactory.clearScroll( scrollId ) ).join();
+			scrollId = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + payload + ", chunkSize=" + chunkSize + "]";
+	}
+
+	private JsonObject fetchNextChunk() {
+		ElasticsearchWork<JsonObject> work;
+		if ( scrollId == null ) {
+			work = workFactory.scrollStart( indexNames, routingKeys, payload, chunkSize, scrollTimeout );
+		}
+		else {
+			work = workFactory.scroll( scrollId, scrollTimeout );
+		}
+		return queryOrchestrator.submit( work ).join();
+	}
+
+	private static <T> SearchResult<T> createEmptyResult(long hitCount) {
+		return new SearchResult<T>() {
+			@Override
+			public long getHitCount() {
+				return hitCount;
+			}
+
+			@Override
+			public List<T> getHits() {
+				return Collections.emptyList();
+			}
+		};
+	}
+}
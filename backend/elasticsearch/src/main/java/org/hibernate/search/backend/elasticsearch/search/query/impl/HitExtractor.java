@@ -19,9 +19,9 @@
 	 * Perform hit extraction
 	 *
 	 * @param collector The hit collector, which will receive the result of the extraction.
-	 * @param responseBody The full body of the response.
 	 * @param hit The part of the response body relevant to the hit to extract.
+	 * When the response is streamed, {@code _source} properties that were not requested may be missing.
 	 */
-	void extract(C collector, JsonObject responseBody, JsonObject hit);
+	void extract(C collector, JsonObject hit);
 
 }
@@ -25,6 +25,8 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final String scrollTimeout;
+	private final int queryTimeout;
 
 	private final DocumentReferenceHitExtractor documentReferenceHitExtractor;
 	private final ObjectHitExtractor objectHitExtractor;
@@ -34,11 +36,16 @@ public SearchBackendContext(EventContext eventContext,
 			ElasticsearchWorkFactory workFactory,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator orchestrator) {
+			ElasticsearchWorkOrchestrator orchestrator,
+			int scrollTimeout,
+			int queryTimeout) {
 		this.eventContext = eventContext;
 		this.workFactory = workFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		// Elasticsearch expects a time unit
+		this.scrollTimeout = scrollTimeout + "s";
+		this.queryTimeout = queryTimeout;
 
 		DocumentReferenceExtractorHelper documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
@@ -76,7 +83,7 @@ <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
 			HitAggregator<C, List<T>> hitAggregator) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new SearchQueryBuilderImpl<>(
-				workFactory, orchestrator, multiTenancyStrategy,
+				workFactory, orchestrator, multiTenancyStrategy, scrollTimeout, queryTimeout,
 				indexNames, sessionContext, hitExtractor, hitAggregator
 		);
 	}
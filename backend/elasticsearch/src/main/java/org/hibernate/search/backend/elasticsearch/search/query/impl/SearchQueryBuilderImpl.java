@@ -6,11 +6,15 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
@@ -23,14 +27,19 @@
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 class SearchQueryBuilderImpl<C, T>
 		implements SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> {
 
+	private static final JsonArrayAccessor REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asArray();
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final String scrollTimeout;
+	private final int queryTimeout;
 
 	private final Set<URLEncodedString> indexNames;
 	private final String tenantId;
@@ -44,6 +53,8 @@
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			MultiTenancyStrategy multiTenancyStrategy,
+			String scrollTimeout,
+			int queryTimeout,
 			Set<URLEncodedString> indexNames,
 			SessionContext sessionContext,
 			HitExtractor<? super C> hitExtractor,
@@ -51,6 +62,8 @@
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
+		this.queryTimeout = queryTimeout;
 
 		this.indexNames = indexNames;
 		this.tenantId = sessionContext.getTenantIdentifier();
@@ -87,16 +100,31 @@ private SearchQuery<T> build() {
 		hitExtractor.contributeRequest( payload );
 
 		SearchResultExtractor<T> searchResultExtractor =
-				new SearchResultExtractorImpl<>( hitExtractor, hitAggregator );
+				new SearchResultExtractorImpl<>( hitExtractor, hitAggregator, getRequestedSourcePaths( payload ) );
 
 		return new ElasticsearchSearchQuery<>(
 				workFactory, queryOrchestrator,
 				indexNames, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				scrollTimeout, queryTimeout
 		);
 	}
 
+	private static Set<String> getRequestedSourcePaths(JsonObject payload) {
+		Optional<JsonArray> requestedSource = REQUEST_SOURCE_ACCESSOR.get( payload );
+		if ( !requestedSource.isPresent() ) {
+			// No hit extractor needs the source: don't let Elasticsearch send it
+			payload.addProperty( "_source", false );
+			return Collections.emptySet();
+		}
+		Set<String> result = new HashSet<>();
+		for ( JsonElement path : requestedSource.get() ) {
+			result.add( path.getAsString() );
+		}
+		return result;
+	}
+
 	private JsonObject getJsonQuery() {
 		return multiTenancyStrategy.decorateJsonQuery( elementCollector.toJsonPredicate(), tenantId );
 	}
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
@@ -18,7 +21,22 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Extracts search results from {@code _search} responses.
+ * <p>
+ * Streamed responses are consumed hit by hit:
+ * each hit is turned into a small JSON tree and passed to the hit extractor,
+ * skipping the {@code _source} properties that were not requested
+ * (or the whole {@code _source} if no property was requested),
+ * so that the full response is never held in memory.
+ *
+ * @param <C> The type of hit collector.
+ * @param <T> The type of hits in the result.
+ */
 public class SearchResultExtractorImpl<C, T> implements SearchResultExtractor<T> {
 
 	private static final JsonObjectAccessor HITS_ACCESSOR =
@@ -30,19 +48,43 @@
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).asLong();
 
+	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
+			JsonAccessor.root().property( "timed_out" ).asBoolean();
+
+	private static final String TIMED_OUT_PROPERTY = "timed_out";
+	private static final String HITS_PROPERTY = "hits";
+	private static final String TOTAL_PROPERTY = "total";
+	private static final String SOURCE_PROPERTY = "_source";
+
+	private static final JsonParser JSON_PARSER = new JsonParser();
+
+	// The number of hits returned by Elasticsearch when no size is given
+	private static final long DEFAULT_SIZE = 10L;
+	// The default value of the "index.max_result_window" setting
+	private static final long MAX_RESULT_WINDOW = 10_000L;
+
 	private final HitExtractor<? super C> hitExtractor;
 	private final HitAggregator<C, List<T>> hitAggregator;
+	private final Set<String> retainedSourceProperties;
 
+	/**
+	 * @param hitExtractor The hit extractor.
+	 * @param hitAggregator The hit aggregator.
+	 * @param requestedSourcePaths The absolute paths of the {@code _source} fields requested by the hit extractor.
+	 */
 	public SearchResultExtractorImpl(
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			HitAggregator<C, List<T>> hitAggregator,
+			Set<String> requestedSourcePaths) {
 		this.hitExtractor = hitExtractor;
 		this.hitAggregator = hitAggregator;
+		this.retainedSourceProperties = toRetainedSourceProperties( requestedSourcePaths );
 	}
 
 	@Override
 	public SearchResult<T> extract(JsonObject responseBody) {
 		Long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).orElse( false );
 
 		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
 
@@ -51,9 +93,63 @@ public SearchResult<T> extract(JsonObject responseBody) {
 		for ( JsonElement hit : jsonHits ) {
 			JsonObject hitObject = hit.getAsJsonObject();
 			C hitCollector = hitAggregator.nextCollector();
-			hitExtractor.extract( hitCollector, responseBody, hitObject );
+			hitExtractor.extract( hitCollector, hitObject );
+		}
+
+		return createResult( hitCount, timedOut );
+	}
+
+	@Override
+	public SearchResult<T> extract(JsonReader reader, Long offset, Long limit) throws IOException {
+		long hitCount = 0L;
+		boolean timedOut = false;
+		boolean initialized = false;
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String topLevelName = reader.nextName();
+			if ( TIMED_OUT_PROPERTY.equals( topLevelName ) && reader.peek() == JsonToken.BOOLEAN ) {
+				timedOut = reader.nextBoolean();
+				continue;
+			}
+			if ( !HITS_PROPERTY.equals( topLevelName ) || reader.peek() != JsonToken.BEGIN_OBJECT ) {
+				reader.skipValue();
+				continue;
+			}
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( TOTAL_PROPERTY.equals( name ) && reader.peek() == JsonToken.NUMBER ) {
+					hitCount = reader.nextLong();
+				}
+				else if ( HITS_PROPERTY.equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+					// Elasticsearch writes the total hit count before the hits
+					hitAggregator.init( getExpectedHitCount( hitCount, offset, limit ) );
+					initialized = true;
+					reader.beginArray();
+					while ( reader.hasNext() ) {
+						JsonObject hitObject = readHit( reader );
+						C hitCollector = hitAggregator.nextCollector();
+						hitExtractor.extract( hitCollector, hitObject );
+					}
+					reader.endArray();
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
 		}
+		reader.endObject();
 
+		if ( !initialized ) {
+			hitAggregator.init( 0 );
+		}
+
+		return createResult( hitCount, timedOut );
+	}
+
+	private SearchResult<T> createResult(long hitCount, boolean timedOut) {
 		final List<T> finalHits = Collections.unmodifiableList( hitAggregator.build() );
 		return new SearchResult<T>() {
 			@Override
@@ -65,7 +161,76 @@ public long getHitCount() {
 			public List<T> getHits() {
 				return finalHits;
 			}
+
+			@Override
+			public boolean isTimedOut() {
+				return timedOut;
+			}
 		};
 	}
 
+	private JsonObject readHit(JsonReader reader) throws IOException {
+		JsonObject hitObject = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( !SOURCE_PROPERTY.equals( name ) ) {
+				hitObject.add( name, JSON_PARSER.parse( reader ) );
+			}
+			else if ( retainedSourceProperties.isEmpty() || reader.peek() != JsonToken.BEGIN_OBJECT ) {
+				reader.skipValue();
+			}
+			else {
+				hitObject.add( name, readSource( reader ) );
+			}
+		}
+		reader.endObject();
+		return hitObject;
+	}
+
+	private JsonObject readSource(JsonReader reader) throws IOException {
+		JsonObject sourceObject = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( retainedSourceProperties.contains( name ) ) {
+				sourceObject.add( name, JSON_PARSER.parse( reader ) );
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return sourceObject;
+	}
+
+	/*
+	 * The total hit count may be much larger than the number of returned hits:
+	 * without a limit, Elasticsearch only returns its default page of hits.
+	 * Elasticsearch also refuses by default to return hits beyond its maximum result window,
+	 * so we never presize beyond that.
+	 */
+	private static int getExpectedHitCount(long hitCount, Long offset, Long limit) {
+		long expectedHitCount = hitCount - ( offset == null ? 0L : offset );
+		expectedHitCount = Math.min( expectedHitCount, limit == null ? DEFAULT_SIZE : limit );
+		return (int) Math.max( 0L, Math.min( expectedHitCount, MAX_RESULT_WINDOW ) );
+	}
+
+	/*
+	 * A requested path such as "a.b.c" may be returned either as a nested "a" object
+	 * or as a top-level "a.b.c" property, so we retain every prefix of the requested paths.
+	 */
+	private static Set<String> toRetainedSourceProperties(Set<String> requestedSourcePaths) {
+		Set<String> result = new HashSet<>();
+		for ( String path : requestedSourcePaths ) {
+			int dotIndex = path.indexOf( '.' );
+			while ( dotIndex >= 0 ) {
+				result.add( path.substring( 0, dotIndex ) );
+				dotIndex = path.indexOf( '.', dotIndex + 1 );
+			}
+			result.add( path );
+		}
+		return result;
+	}
+
 }
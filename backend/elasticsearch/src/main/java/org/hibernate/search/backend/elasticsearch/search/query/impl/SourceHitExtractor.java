@@ -52,7 +52,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(ProjectionHitCollector collector, JsonObject hit) {
 		JsonElement fieldValue = hitFieldValueAccessor.get( hit ).orElse( null );
 		collector.collectProjection( converter.convertFromProjection( fieldValue ) );
 	}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonLogHelper;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * The result of a {@code _bulk} request, allowing to extract the result of each bulked work.
+ */
+public class BulkResult {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final JsonArray items;
+
+	BulkResult(JsonArray items) {
+		this.items = items;
+	}
+
+	/**
+	 * @param context The execution context.
+	 * @param work A work that was part of the bulk.
+	 * @param index The index of {@code work} in the bulk.
+	 * @param <T> The result type of {@code work}.
+	 * @return The result of {@code work}.
+	 * @throws org.hibernate.search.util.SearchException If the bulk response reports a failure for {@code work}.
+	 */
+	public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableElasticsearchWork<T> work, int index) {
+		if ( index >= items.size() ) {
+			throw log.elasticsearchBulkedRequestFailed(
+					JsonLogHelper.get().toString( work.getBulkableActionMetadata() ),
+					null, null
+			);
+		}
+		JsonObject item = items.get( index ).getAsJsonObject();
+		return work.handleBulkResult( context, item );
+	}
+
+}
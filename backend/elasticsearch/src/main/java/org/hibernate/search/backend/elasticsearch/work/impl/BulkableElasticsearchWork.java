@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A work that can be executed either on its own, or as part of a bulk request.
+ *
+ * @param <T> The result type.
+ */
+public interface BulkableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	/**
+	 * @return The name of the index affected by this work.
+	 */
+	URLEncodedString getIndexName();
+
+	/**
+	 * @return The identifier of the document affected by this work.
+	 */
+	String getDocumentId();
+
+	/**
+	 * @return The routing key of the document affected by this work, or {@code null}.
+	 */
+	String getRoutingKey();
+
+	/**
+	 * @return How the index should be refreshed after this work is executed.
+	 */
+	RefreshStrategyConfiguration getRefreshStrategy();
+
+	/**
+	 * @return The action metadata line for this work in a {@code _bulk} request,
+	 * e.g. <code>{ "index": { "_index": ..., "_id": ... } }</code>.
+	 */
+	JsonObject getBulkableActionMetadata();
+
+	/**
+	 * @return The source line for this work in a {@code _bulk} request,
+	 * or {@code null} if the action doesn't have one (e.g. deletions).
+	 */
+	JsonObject getBulkableActionBody();
+
+	/**
+	 * @param context The execution context.
+	 * @param bulkResponseItem The item of the {@code _bulk} response matching this work.
+	 * @return The result of this work.
+	 * @throws org.hibernate.search.util.SearchException If the item reports a failure.
+	 */
+	T handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem);
+
+}
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
@@ -26,18 +29,34 @@ public interface ElasticsearchWorkFactory {
 	ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedString typeName, RootTypeMapping mapping,
 			IndexSettings settings);
 
-	ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document,
+			RefreshStrategyConfiguration refreshStrategy);
 
-	ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document,
+			RefreshStrategyConfiguration refreshStrategy);
 
-	ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey);
+	BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey,
+			RefreshStrategyConfiguration refreshStrategy);
+
+	ElasticsearchWork<?> deleteByQuery(URLEncodedString indexName, JsonObject payload);
+
+	ElasticsearchWork<BulkResult> bulk(List<? extends BulkableElasticsearchWork<?>> works);
 
 	ElasticsearchWork<?> flush(URLEncodedString indexName);
 
+	ElasticsearchWork<?> refresh(Set<URLEncodedString> indexNames);
+
 	ElasticsearchWork<?> optimize(URLEncodedString indexName);
 
 	<T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
 			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
-			Long offset, Long limit);
+			Long offset, Long limit, long timeout, TimeUnit timeUnit, boolean truncateAfterTimeout);
+
+	ElasticsearchWork<JsonObject> scrollStart(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, int chunkSize, String scrollTimeout);
+
+	ElasticsearchWork<JsonObject> scroll(String scrollId, String scrollTimeout);
+
+	ElasticsearchWork<?> clearScroll(String scrollId);
 
 }
@@ -6,12 +6,27 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.engine.search.SearchResult;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface SearchResultExtractor<T> {
 
 	SearchResult<T> extract(JsonObject responseBody);
 
+	/**
+	 * Extract the result from a streamed {@code _search} response body, hit by hit,
+	 * without building a JSON tree for the whole response.
+	 *
+	 * @param reader A reader positioned at the beginning of the response body.
+	 * @param offset The offset of the first requested hit, or {@code null}.
+	 * @param limit The maximum number of requested hits, or {@code null}.
+	 * @return The search result.
+	 * @throws IOException If reading the response body fails.
+	 */
+	SearchResult<T> extract(JsonReader reader, Long offset, Long limit) throws IOException;
+
 }
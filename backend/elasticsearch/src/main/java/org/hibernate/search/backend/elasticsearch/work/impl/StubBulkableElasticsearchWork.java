@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonLogHelper;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class StubBulkableElasticsearchWork extends StubElasticsearchWork<Void>
+		implements BulkableElasticsearchWork<Void> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<Integer> STATUS_ACCESSOR = JsonAccessor.root().property( "status" ).asInteger();
+
+	private final ElasticsearchRequest request;
+
+	private final URLEncodedString indexName;
+
+	private final String documentId;
+
+	private final String routingKey;
+
+	private final RefreshStrategyConfiguration refreshStrategy;
+
+	private final JsonObject bulkableActionMetadata;
+
+	private final JsonObject bulkableActionBody;
+
+	private final Set<Integer> ignoredErrorStatuses;
+
+	public StubBulkableElasticsearchWork(ElasticsearchRequest request,
+			URLEncodedString indexName, String documentId, String routingKey,
+			RefreshStrategyConfiguration refreshStrategy,
+			JsonObject bulkableActionMetadata, JsonObject bulkableActionBody,
+			Set<Integer> ignoredErrorStatuses) {
+		super( request );
+		this.request = request;
+		this.indexName = indexName;
+		this.documentId = documentId;
+		this.routingKey = routingKey;
+		this.refreshStrategy = refreshStrategy;
+		this.bulkableActionMetadata = bulkableActionMetadata;
+		this.bulkableActionBody = bulkableActionBody;
+		this.ignoredErrorStatuses = ignoredErrorStatuses;
+	}
+
+	@Override
+	public URLEncodedString getIndexName() {
+		return indexName;
+	}
+
+	@Override
+	public String getDocumentId() {
+		return documentId;
+	}
+
+	@Override
+	public String getRoutingKey() {
+		return routingKey;
+	}
+
+	@Override
+	public RefreshStrategyConfiguration getRefreshStrategy() {
+		return refreshStrategy;
+	}
+
+	@Override
+	public JsonObject getBulkableActionMetadata() {
+		return bulkableActionMetadata;
+	}
+
+	@Override
+	public JsonObject getBulkableActionBody() {
+		return bulkableActionBody;
+	}
+
+	@Override
+	public CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context) {
+		// Check the status just as when the work is bulked, so that failures don't depend on bulking
+		return context.getClient().submit( request ).thenApply( this::handleResponse );
+	}
+
+	@Override
+	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
+		/*
+		 * Items are formatted as { "<action>": { "status": ..., "error": ... } },
+		 * we're only interested in the content of the single property.
+		 */
+		JsonObject actionResult = null;
+		for ( Map.Entry<String, JsonElement> entry : bulkResponseItem.entrySet() ) {
+			actionResult = entry.getValue().getAsJsonObject();
+		}
+		int status = actionResult == null ? -1 : STATUS_ACCESSOR.get( actionResult ).orElse( -1 );
+		if ( !ElasticsearchClientUtils.isSuccessCode( status ) && !ignoredErrorStatuses.contains( status ) ) {
+			JsonLogHelper logHelper = JsonLogHelper.get();
+			throw log.elasticsearchBulkedRequestFailed(
+					logHelper.toString( bulkableActionMetadata ),
+					logHelper.toString( bulkResponseItem ),
+					null
+			);
+		}
+		return null;
+	}
+
+	private Void handleResponse(ElasticsearchResponse response) {
+		int status = response.getStatusCode();
+		if ( !ElasticsearchClientUtils.isSuccessCode( status ) && !ignoredErrorStatuses.contains( status ) ) {
+			throw log.elasticsearchRequestFailed(
+					request.toString(),
+					JsonLogHelper.get().toString( response.getBody() ),
+					null
+			);
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonLogHelper;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonArray;
+
+public class StubElasticsearchBulkWork implements ElasticsearchWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<JsonArray> ITEMS_ACCESSOR = JsonAccessor.root().property( "items" ).asArray();
+
+	private final ElasticsearchRequest request;
+
+	public StubElasticsearchBulkWork(ElasticsearchRequest request) {
+		this.request = request;
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		return context.getClient().submit( request ).thenApply( this::toResult );
+	}
+
+	private BulkResult toResult(ElasticsearchResponse response) {
+		if ( !ElasticsearchClientUtils.isSuccessCode( response.getStatusCode() ) ) {
+			throw log.elasticsearchRequestFailed(
+					request.toString(),
+					JsonLogHelper.get().toString( response.getBody() ),
+					null
+			);
+		}
+		return new BulkResult( ITEMS_ACCESSOR.get( response.getBody() ).orElseGet( JsonArray::new ) );
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyParser;
+
+/**
+ * A work whose response body is parsed as a stream of JSON tokens,
+ * instead of being turned into a JSON tree first.
+ * <p>
+ * Useful for works whose responses can be large, such as searches.
+ * Failures are reported as exceptions.
+ *
+ * @param <T> The result type.
+ */
+public class StubElasticsearchStreamingWork<T> implements ElasticsearchWork<T> {
+
+	private final ElasticsearchRequest request;
+
+	private final ElasticsearchResponseBodyParser<T> bodyParser;
+
+	public StubElasticsearchStreamingWork(ElasticsearchRequest request, ElasticsearchResponseBodyParser<T> bodyParser) {
+		this.request = request;
+		this.bodyParser = bodyParser;
+	}
+
+	@Override
+	public CompletableFuture<T> execute(ElasticsearchWorkExecutionContext context) {
+		return context.getClient().submit( request, bodyParser );
+	}
+
+}
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
@@ -16,8 +20,10 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.GsonProvider;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.util.AssertionFailure;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 
@@ -59,47 +65,61 @@ public ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedSt
 	}
 
 	@Override
-	public ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
-			String id, String routingKey, JsonObject document) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
-				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
-		}
-		return new StubElasticsearchWork<>( builder.build() );
+	public BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document, RefreshStrategyConfiguration refreshStrategy) {
+		return createDocumentWork( ElasticsearchRequest.put().body( document ), "index",
+				indexName, typeName, id, routingKey, document, refreshStrategy, Collections.emptySet() );
 	}
 
 	@Override
-	public ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
-			String id, String routingKey, JsonObject document) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
+	public BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document, RefreshStrategyConfiguration refreshStrategy) {
+		// Updates replace the whole document
+		return createDocumentWork( ElasticsearchRequest.put().body( document ), "index",
+				indexName, typeName, id, routingKey, document, refreshStrategy, Collections.emptySet() );
+	}
+
+	@Override
+	public BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, RefreshStrategyConfiguration refreshStrategy) {
+		// Deleting a document that doesn't exist is not an error
+		return createDocumentWork( ElasticsearchRequest.delete(), "delete",
+				indexName, typeName, id, routingKey, null, refreshStrategy, Collections.singleton( 404 ) );
+	}
+
+	@Override
+	public ElasticsearchWork<?> deleteByQuery(URLEncodedString indexName, JsonObject payload) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
 				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
-		}
+				.pathComponent( Paths._DELETE_BY_QUERY )
+				// Documents indexed concurrently must not abort the deletion
+				.param( "conflicts", "proceed" )
+				.param( "refresh", true )
+				.body( payload );
 		return new StubElasticsearchWork<>( builder.build() );
 	}
 
 	@Override
-	public ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
-			String id, String routingKey) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
-				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
+	public ElasticsearchWork<BulkResult> bulk(List<? extends BulkableElasticsearchWork<?>> works) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK );
+		boolean waitForRefresh = false;
+		for ( BulkableElasticsearchWork<?> work : works ) {
+			waitForRefresh = waitForRefresh || RefreshStrategyConfiguration.WAIT_FOR.equals( work.getRefreshStrategy() );
+			builder.body( work.getBulkableActionMetadata() );
+			JsonObject actionBody = work.getBulkableActionBody();
+			if ( actionBody != null ) {
+				builder.body( actionBody );
+			}
 		}
-		return new StubElasticsearchWork<>( builder.build() );
+		if ( waitForRefresh ) {
+			/*
+			 * Applies to the whole bulk: callers are expected not to mix
+			 * works waiting for a refresh with works that don't.
+			 */
+			builder.param( "refresh", "wait_for" );
+		}
+		return new StubElasticsearchBulkWork( builder.build() );
 	}
 
 	@Override
@@ -116,6 +136,14 @@ public ElasticsearchWork<?> flush(URLEncodedString indexName) {
 					.thenCompose( ignored -> refreshWork.execute( context ) );
 	}
 
+	@Override
+	public ElasticsearchWork<?> refresh(Set<URLEncodedString> indexNames) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._REFRESH );
+		return new StubElasticsearchWork<>( builder.build() );
+	}
+
 	@Override
 	public ElasticsearchWork<?> optimize(URLEncodedString indexName) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
@@ -127,7 +155,7 @@ public ElasticsearchWork<?> optimize(URLEncodedString indexName) {
 	@Override
 	public <T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
 			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
-			Long offset, Long limit) {
+			Long offset, Long limit, long timeout, TimeUnit timeUnit, boolean truncateAfterTimeout) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
 				.multiValuedPathComponent( indexNames )
 				.pathComponent( Paths._SEARCH )
@@ -144,14 +172,114 @@ public <T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> index
 			builder.param( "_routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
 		}
 
-		/* TODO scroll
-		if ( scrollSize != null && scrollTimeout != null ) {
-			builder.param( "size", scrollSize );
-			builder.param( "scroll", scrollTimeout );
+		if ( timeout > 0L ) {
+			// Elasticsearch stops collecting hits after this timeout and reports it in the response
+			builder.param( "timeout", toElasticsearchTimeValue( timeout, timeUnit ) );
+			if ( !truncateAfterTimeout ) {
+				// Partial results are useless: stop waiting for them
+				builder.timeout( timeout, timeUnit );
+			}
 		}
-		*/
 
-		return new StubElasticsearchWork<>( builder.build(), searchResultExtractor::extract );
+		return new StubElasticsearchStreamingWork<>( builder.build(),
+				reader -> searchResultExtractor.extract( reader, offset, limit ) );
+	}
+
+	@Override
+	public ElasticsearchWork<JsonObject> scrollStart(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, int chunkSize, String scrollTimeout) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._SEARCH )
+				.body( payload )
+				.param( "size", chunkSize )
+				.param( "scroll", scrollTimeout );
+
+		if ( !routingKeys.isEmpty() ) {
+			builder.param( "_routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
+		}
+
+		return new StubElasticsearchScrollWork( builder.build() );
+	}
+
+	@Override
+	public ElasticsearchWork<JsonObject> scroll(String scrollId, String scrollTimeout) {
+		JsonObject payload = new JsonObject();
+		payload.addProperty( "scroll_id", scrollId );
+		payload.addProperty( "scroll", scrollTimeout );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( payload );
+		return new StubElasticsearchScrollWork( builder.build() );
+	}
+
+	@Override
+	public ElasticsearchWork<?> clearScroll(String scrollId) {
+		JsonArray scrollIds = new JsonArray();
+		scrollIds.add( scrollId );
+		JsonObject payload = new JsonObject();
+		payload.add( "scroll_id", scrollIds );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( payload );
+		return new StubElasticsearchWork<>( builder.build() );
+	}
+
+	private static BulkableElasticsearchWork<?> createDocumentWork(ElasticsearchRequest.Builder builder,
+			String actionName, URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document, RefreshStrategyConfiguration refreshStrategy,
+			Set<Integer> ignoredErrorStatuses) {
+		builder.pathComponent( indexName )
+				.pathComponent( typeName )
+				.pathComponent( URLEncodedString.fromString( id ) );
+		if ( RefreshStrategyConfiguration.WAIT_FOR.equals( refreshStrategy ) ) {
+			builder.param( "refresh", "wait_for" );
+		}
+		if ( routingKey != null ) {
+			builder.param( "_routing", routingKey );
+		}
+		JsonObject metadata = createBulkableActionMetadata( actionName, indexName, typeName, id, routingKey );
+		return new StubBulkableElasticsearchWork(
+				builder.build(), indexName, id, routingKey, refreshStrategy,
+				metadata, document, ignoredErrorStatuses
+		);
+	}
+
+	private static JsonObject createBulkableActionMetadata(String actionName,
+			URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey) {
+		JsonObject actionContent = new JsonObject();
+		actionContent.addProperty( "_index", indexName.original );
+		actionContent.addProperty( "_type", typeName.original );
+		actionContent.addProperty( "_id", id );
+		if ( routingKey != null ) {
+			actionContent.addProperty( "_routing", routingKey );
+		}
+		JsonObject metadata = new JsonObject();
+		metadata.add( actionName, actionContent );
+		return metadata;
+	}
+
+	private static String toElasticsearchTimeValue(long value, TimeUnit unit) {
+		switch ( unit ) {
+			case NANOSECONDS:
+				return value + "nanos";
+			case MICROSECONDS:
+				return value + "micros";
+			case MILLISECONDS:
+				return value + "ms";
+			case SECONDS:
+				return value + "s";
+			case MINUTES:
+				return value + "m";
+			case HOURS:
+				return value + "h";
+			case DAYS:
+				return value + "d";
+			default:
+				throw new AssertionFailure( "Unexpected time unit: " + unit );
+		}
 	}
 
 }
@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * Checks request timeouts against a server that accepts connections but never responds.
+ */
+public class DefaultElasticsearchClientTest {
+
+	private static final long TIMEOUT_MS = 10_000L;
+
+	private ServerSocket unresponsiveServer;
+	private ElasticsearchClientImplementor client;
+
+	@Before
+	public void startServer() throws IOException {
+		unresponsiveServer = new ServerSocket( 0, 50, InetAddress.getLoopbackAddress() );
+	}
+
+	@After
+	public void close() throws IOException {
+		if ( client != null ) {
+			client.close();
+		}
+		unresponsiveServer.close();
+	}
+
+	@Test
+	public void requestTimeout_shorterThanDefault() {
+		createClient( 60_000 );
+		ElasticsearchRequest request = ElasticsearchRequest.get()
+				.pathComponent( URLEncodedString.fromString( "_search" ) )
+				.timeout( 200L, TimeUnit.MILLISECONDS )
+				.build();
+
+		// The per-request timeout applies instead of the default one
+		expectTimeout( request );
+	}
+
+	@Test
+	public void requestTimeout_longerThanDefault() {
+		createClient( 200 );
+		ElasticsearchRequest request = ElasticsearchRequest.get()
+				.pathComponent( URLEncodedString.fromString( "_search" ) )
+				.timeout( 60L, TimeUnit.SECONDS )
+				.build();
+
+		// Per-request timeouts can only shorten the default timeout
+		expectTimeout( request );
+	}
+
+	private void createClient(int requestTimeoutMs) {
+		Properties properties = new Properties();
+		properties.setProperty( SearchBackendElasticsearchSettings.HOST,
+				"http://localhost:" + unresponsiveServer.getLocalPort() );
+		properties.setProperty( SearchBackendElasticsearchSettings.REQUEST_TIMEOUT, String.valueOf( requestTimeoutMs ) );
+		client = new DefaultElasticsearchClientFactory().create(
+				ConfigurationPropertySource.fromProperties( properties ),
+				DefaultGsonProvider.create( GsonBuilder::new, false )
+		);
+	}
+
+	private void expectTimeout(ElasticsearchRequest request) {
+		long start = System.nanoTime();
+		CompletableFuture<ElasticsearchResponse> future = client.submit( request );
+
+		Assertions.assertThatThrownBy( future::join )
+				.hasCauseInstanceOf( TimeoutException.class );
+		Assertions.assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) )
+				.as( "Time to timeout (ms)" )
+				.isLessThan( TIMEOUT_MS );
+	}
+}
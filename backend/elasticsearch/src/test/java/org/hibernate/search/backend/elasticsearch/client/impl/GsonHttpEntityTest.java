@@ -0,0 +1,208 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private static final int UNLIMITED = Integer.MAX_VALUE;
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void gzip_smallBody() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 1 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		byte[] produced = produceContent( entity, UNLIMITED );
+
+		// The content fits in a single page: its length is known in advance
+		Assertions.assertThat( entity.getContentLength() ).isEqualTo( produced.length );
+		Assertions.assertThat( gunzip( produced ) ).isEqualTo( toExpectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void gzip_multiPageBody() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 2000 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		byte[] produced = produceContent( entity, UNLIMITED );
+
+		Assertions.assertThat( produced.length ).isGreaterThan( 1024 );
+		// The deflater may buffer enough content for the length to be known in advance, or not
+		Assertions.assertThat( entity.getContentLength() ).isIn( -1L, (long) produced.length );
+		Assertions.assertThat( gunzip( produced ) ).isEqualTo( toExpectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void gzip_flowControlPushback() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 2000 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		// The encoder only accepts a few bytes each time content is produced
+		byte[] produced = produceContent( entity, 100 );
+
+		Assertions.assertThat( gunzip( produced ) ).isEqualTo( toExpectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void gzip_produceTwice() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 2000 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		byte[] first = produceContent( entity, UNLIMITED );
+		// Retries produce the content again, using the same entity
+		byte[] second = produceContent( entity, 100 );
+
+		Assertions.assertThat( gunzip( first ) ).isEqualTo( toExpectedContent( bodyParts ) );
+		Assertions.assertThat( second ).isEqualTo( first );
+	}
+
+	@Test
+	public void gzip_produceTwice_smallBody() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 1 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		byte[] first = produceContent( entity, UNLIMITED );
+		byte[] second = produceContent( entity, UNLIMITED );
+
+		Assertions.assertThat( second ).isEqualTo( first );
+		Assertions.assertThat( second.length ).isEqualTo( entity.getContentLength() );
+	}
+
+	@Test
+	public void gzip_retryAfterPartialProduction() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 2000 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		// Start producing content, then give up as a failing request would
+		StubContentEncoder interruptedEncoder = new StubContentEncoder();
+		interruptedEncoder.budget = 100;
+		entity.produceContent( interruptedEncoder, null );
+		Assertions.assertThat( interruptedEncoder.isCompleted() ).isFalse();
+		entity.close();
+
+		byte[] produced = produceContent( entity, UNLIMITED );
+
+		Assertions.assertThat( gunzip( produced ) ).isEqualTo( toExpectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void gzip_writeTo() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 2000 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, true );
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		entity.writeTo( outputStream );
+
+		Assertions.assertThat( gunzip( outputStream.toByteArray() ) ).isEqualTo( toExpectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void noGzip_produceTwice() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 2000 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, false );
+
+		byte[] first = produceContent( entity, 100 );
+		byte[] second = produceContent( entity, UNLIMITED );
+
+		Assertions.assertThat( new String( first, StandardCharsets.UTF_8 ) ).isEqualTo( toExpectedContent( bodyParts ) );
+		Assertions.assertThat( second ).isEqualTo( first );
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity, int budgetPerCall) throws IOException {
+		StubContentEncoder encoder = new StubContentEncoder();
+		int calls = 0;
+		while ( !encoder.isCompleted() ) {
+			Assertions.assertThat( ++calls ).as( "Number of calls to produceContent" ).isLessThan( 100_000 );
+			encoder.budget = budgetPerCall;
+			entity.produceContent( encoder, null );
+		}
+		return encoder.content.toByteArray();
+	}
+
+	private static List<JsonObject> bodyParts(int count) {
+		List<JsonObject> result = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			JsonObject bodyPart = new JsonObject();
+			bodyPart.addProperty( "id", i );
+			// Some content that does not compress too well, so that compressed content spans multiple pages
+			bodyPart.addProperty( "text", Integer.toHexString( ( i * 0x9E3779B9 ) ^ ( i >>> 3 ) ) + " é中" );
+			result.add( bodyPart );
+		}
+		return Collections.unmodifiableList( result );
+	}
+
+	private String toExpectedContent(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			builder.append( gson.toJson( bodyPart ) ).append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) != -1 ) {
+				result.write( buffer, 0, read );
+			}
+		}
+		return new String( result.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * An encoder accepting a limited amount of bytes between each call to produceContent,
+	 * so as to simulate flow control pushing back.
+	 */
+	private static class StubContentEncoder implements ContentEncoder {
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int budget;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) {
+			Assertions.assertThat( completed ).as( "Write after completion" ).isFalse();
+			int toWrite = Math.min( budget, src.remaining() );
+			for ( int i = 0; i < toWrite; i++ ) {
+				content.write( src.get() );
+			}
+			budget -= toWrite;
+			return toWrite;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+}
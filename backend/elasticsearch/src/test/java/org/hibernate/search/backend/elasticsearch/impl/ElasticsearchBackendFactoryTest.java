@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.impl;
+
+import java.util.Properties;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+/**
+ * Checks that invalid configuration values are reported when the backend is created,
+ * before any connection to the Elasticsearch cluster is attempted.
+ */
+public class ElasticsearchBackendFactoryTest {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+
+	@Test
+	public void invalidIndexingQueueCount() {
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.INDEXING_QUEUE_COUNT, "0" );
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.INDEXING_QUEUE_COUNT, "-1" );
+	}
+
+	@Test
+	public void invalidBulkMaxSize() {
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.BULK_MAX_SIZE, "0" );
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.BULK_MAX_SIZE, "-1" );
+	}
+
+	@Test
+	public void invalidBulkMaxBytes() {
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.BULK_MAX_BYTES, "0" );
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.BULK_MAX_BYTES, "-1" );
+	}
+
+	@Test
+	public void invalidScrollTimeout() {
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.SCROLL_TIMEOUT, "0" );
+		expectInvalidStrictlyPositiveValue( SearchBackendElasticsearchSettings.SCROLL_TIMEOUT, "-1" );
+	}
+
+	@Test
+	public void invalidQueryTimeout() {
+		String propertyKey = SearchBackendElasticsearchSettings.QUERY_TIMEOUT;
+		SubTest.expectException(
+				"Negative query timeout",
+				() -> create( propertyKey, "-1" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for '" + propertyKey + "': '-1'" )
+				.hasMessageContaining( "The value must be positive or zero" )
+				.hasMessageContaining( BACKEND_NAME );
+	}
+
+	private void expectInvalidStrictlyPositiveValue(String propertyKey, String value) {
+		SubTest.expectException(
+				"Invalid value '" + value + "' for '" + propertyKey + "'",
+				() -> create( propertyKey, value )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for '" + propertyKey + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be strictly positive" )
+				.hasMessageContaining( BACKEND_NAME );
+	}
+
+	private void create(String propertyKey, String value) {
+		Properties properties = new Properties();
+		properties.setProperty( propertyKey, value );
+		new ElasticsearchBackendFactory().create(
+				BACKEND_NAME, null, ConfigurationPropertySource.fromProperties( properties )
+		);
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.elasticsearch.testutil.StubElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.GsonBuilder;
+
+public class ElasticsearchIndexManagerRefreshStrategyTest {
+
+	private final StubElasticsearchClient client = new StubElasticsearchClient();
+
+	private ElasticsearchIndexManagerImpl indexManager;
+	private int nextId = 1;
+
+	@After
+	public void close() {
+		if ( indexManager != null ) {
+			indexManager.close();
+		}
+	}
+
+	@Test
+	public void index_none() throws InterruptedException {
+		setup( RefreshStrategyConfiguration.NONE );
+
+		CompletableFuture<?> future = executeWorkPlan( DocumentRefreshStrategy.DEFAULT );
+
+		expectBulk( null );
+		future.join();
+		client.assertNoRequest();
+	}
+
+	@Test
+	public void index_waitFor() throws InterruptedException {
+		setup( RefreshStrategyConfiguration.WAIT_FOR );
+
+		CompletableFuture<?> future = executeWorkPlan( DocumentRefreshStrategy.DEFAULT );
+
+		expectBulk( "wait_for" );
+		future.join();
+		client.assertNoRequest();
+	}
+
+	@Test
+	public void index_force() throws InterruptedException {
+		setup( RefreshStrategyConfiguration.FORCE );
+
+		CompletableFuture<?> future = executeWorkPlan( DocumentRefreshStrategy.DEFAULT );
+
+		expectBulk( null );
+		expectRefresh( future );
+	}
+
+	@Test
+	public void workPlan_none() throws InterruptedException {
+		setup( RefreshStrategyConfiguration.WAIT_FOR );
+
+		CompletableFuture<?> future = executeWorkPlan( DocumentRefreshStrategy.NONE );
+
+		// The work plan strategy overrides the index strategy
+		expectBulk( null );
+		future.join();
+		client.assertNoRequest();
+	}
+
+	@Test
+	public void workPlan_force() throws InterruptedException {
+		setup( RefreshStrategyConfiguration.WAIT_FOR );
+
+		CompletableFuture<?> future = executeWorkPlan( DocumentRefreshStrategy.FORCE );
+
+		expectBulk( null );
+		expectRefresh( future );
+	}
+
+	@Test
+	public void workPlan_mixed() throws InterruptedException {
+		setup( RefreshStrategyConfiguration.WAIT_FOR );
+
+		CompletableFuture<?> waitForFuture = executeWorkPlan( DocumentRefreshStrategy.DEFAULT );
+		CompletableFuture<?> noneFuture = executeWorkPlan( DocumentRefreshStrategy.NONE );
+
+		// Whether the work plans end up in the same batch or not, they must not share a bulk
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( "/_bulk" );
+		Assertions.assertThat( request.getRequest().getParameters() ).containsEntry( "refresh", "wait_for" );
+		Assertions.assertThat( request.getRequest().getBodyParts() ).hasSize( 4 );
+		request.respondOk();
+		waitForFuture.join();
+
+		request = client.nextRequest().assertPath( "/_bulk" );
+		Assertions.assertThat( request.getRequest().getParameters() ).doesNotContainKey( "refresh" );
+		Assertions.assertThat( request.getRequest().getBodyParts() ).hasSize( 4 );
+		request.respondOk();
+		noneFuture.join();
+		client.assertNoRequest();
+	}
+
+	private void setup(RefreshStrategyConfiguration indexRefreshStrategy) {
+		StubElasticsearchWorkFactory workFactory =
+				new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) );
+		IndexingBackendContext indexingBackendContext = new IndexingBackendContext(
+				EventContexts.fromBackendName( "testBackend" ), client, workFactory,
+				new NoMultiTenancyStrategyImpl(), null,
+				1, 100, 1024 * 1024
+		);
+		indexManager = new ElasticsearchIndexManagerImpl( indexingBackendContext, null,
+				"indexName", URLEncodedString.fromString( "indexname" ), URLEncodedString.fromString( "typename" ),
+				null, indexRefreshStrategy );
+	}
+
+	/**
+	 * Executes a work plan adding two documents, so that they end up in a bulk.
+	 */
+	private CompletableFuture<?> executeWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		IndexWorkPlan<ElasticsearchDocumentObjectBuilder> workPlan =
+				indexManager.createWorkPlan( () -> null, refreshStrategy );
+		for ( int i = 0; i < 2; i++ ) {
+			workPlan.add( reference( String.valueOf( nextId++ ) ), document -> { } );
+		}
+		return workPlan.execute();
+	}
+
+	private void expectBulk(String expectedRefreshParameter) throws InterruptedException {
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( "/_bulk" );
+		Assertions.assertThat( request.getRequest().getParameters().get( "refresh" ) )
+				.isEqualTo( expectedRefreshParameter );
+		request.respondOk();
+	}
+
+	private void expectRefresh(CompletableFuture<?> future) throws InterruptedException {
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( "/indexname/_refresh" );
+		// The work plan is not complete until the refresh is
+		Assertions.assertThat( future ).isNotDone();
+		request.respondOk();
+		future.join();
+		client.assertNoRequest();
+	}
+
+	private static DocumentReferenceProvider reference(String id) {
+		return new DocumentReferenceProvider() {
+			@Override
+			public String getIdentifier() {
+				return id;
+			}
+
+			@Override
+			public String getRoutingKey() {
+				return null;
+			}
+		};
+	}
+}
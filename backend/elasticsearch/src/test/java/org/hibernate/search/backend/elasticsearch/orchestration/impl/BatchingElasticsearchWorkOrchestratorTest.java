@@ -0,0 +1,132 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.testutil.StubElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+public class BatchingElasticsearchWorkOrchestratorTest {
+
+	private static final URLEncodedString INDEX_NAME = URLEncodedString.fromString( "indexname" );
+	private static final URLEncodedString TYPE_NAME = URLEncodedString.fromString( "typename" );
+
+	private final StubElasticsearchClient client = new StubElasticsearchClient();
+	private final ElasticsearchWorkFactory workFactory =
+			new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) );
+	private final BatchingElasticsearchWorkOrchestrator orchestrator = new BatchingElasticsearchWorkOrchestrator(
+			"test orchestrator", client, workFactory, 4, 100, 1024 * 1024
+	);
+
+	@After
+	public void close() {
+		orchestrator.close();
+	}
+
+	@Test
+	public void addThenFlush() throws InterruptedException {
+		CompletableFuture<?> addFuture = orchestrator.submit( add( "1", RefreshStrategyConfiguration.FORCE ) );
+		CompletableFuture<?> flushFuture = orchestrator.submit( workFactory.flush( INDEX_NAME ) );
+
+		StubElasticsearchClient.PendingRequest addRequest = client.nextRequest().assertPath( "/indexname/typename/1" );
+		// The flush must wait for the add to be executed...
+		client.assertNoRequest();
+		addRequest.respondOk();
+
+		// ... and refreshed
+		StubElasticsearchClient.PendingRequest refreshRequest = client.nextRequest().assertPath( "/indexname/_refresh" );
+		client.assertNoRequest();
+		refreshRequest.respondOk();
+		addFuture.join();
+
+		client.nextRequest().assertPath( "/indexname/_flush" ).respondOk();
+		client.nextRequest().assertPath( "/indexname/_refresh" ).respondOk();
+		flushFuture.join();
+	}
+
+	@Test
+	public void purgeThenAdd() throws InterruptedException {
+		// Use multiple documents, so that they are spread over multiple queues
+		CompletableFuture<?> purgeFuture = orchestrator.submit( purge() );
+		CompletableFuture<?> addFuture = orchestrator.submit( Arrays.asList(
+				add( "1", RefreshStrategyConfiguration.NONE ),
+				add( "2", RefreshStrategyConfiguration.NONE ),
+				add( "3", RefreshStrategyConfiguration.NONE ),
+				add( "4", RefreshStrategyConfiguration.NONE )
+		) );
+
+		StubElasticsearchClient.PendingRequest purgeRequest =
+				client.nextRequest().assertPath( "/indexname/_delete_by_query" );
+		// The adds must not be executed before the purge, or the purge would delete them
+		client.assertNoRequest();
+		purgeRequest.respondOk();
+		purgeFuture.join();
+
+		// Depending on how documents are spread over queues, adds may be bulked
+		while ( !addFuture.isDone() ) {
+			client.nextRequest().respondOk();
+		}
+		addFuture.join();
+	}
+
+	@Test
+	public void workPlanWithPurge() throws InterruptedException {
+		CompletableFuture<?> future = orchestrator.submit( Arrays.asList(
+				add( "1", RefreshStrategyConfiguration.NONE ),
+				purge(),
+				add( "2", RefreshStrategyConfiguration.NONE )
+		) );
+
+		client.nextRequest().assertPath( "/indexname/typename/1" ).respondOk();
+		client.nextRequest().assertPath( "/indexname/_delete_by_query" ).respondOk();
+		client.nextRequest().assertPath( "/indexname/typename/2" ).respondOk();
+		future.join();
+	}
+
+	@Test
+	public void failingBarrier() throws InterruptedException {
+		CompletableFuture<?> purgeFuture = orchestrator.submit( purge() );
+		CompletableFuture<?> addFuture = orchestrator.submit( add( "1", RefreshStrategyConfiguration.NONE ) );
+
+		client.nextRequest().assertPath( "/indexname/_delete_by_query" )
+				.fail( new IllegalStateException( "Simulated failure" ) );
+		Assertions.assertThatThrownBy( purgeFuture::join ).hasRootCauseInstanceOf( IllegalStateException.class );
+
+		// Following works must still be executed
+		client.nextRequest().assertPath( "/indexname/typename/1" ).respondOk();
+		addFuture.join();
+	}
+
+	private ElasticsearchWork<?> add(String id, RefreshStrategyConfiguration refreshStrategy) {
+		JsonObject document = new JsonObject();
+		document.addProperty( "field", "value" + id );
+		return workFactory.add( INDEX_NAME, TYPE_NAME, id, null, document, refreshStrategy );
+	}
+
+	private ElasticsearchWork<?> purge() {
+		JsonObject matchAll = new JsonObject();
+		matchAll.add( "match_all", new JsonObject() );
+		JsonObject payload = new JsonObject();
+		payload.add( "query", matchAll );
+		return workFactory.deleteByQuery( INDEX_NAME, payload );
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.testutil.StubElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.common.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+public class BatchingElasticsearchWorkQueueTest {
+
+	private static final URLEncodedString INDEX_NAME = URLEncodedString.fromString( "indexname" );
+	private static final URLEncodedString TYPE_NAME = URLEncodedString.fromString( "typename" );
+
+	private final StubElasticsearchClient client = new StubElasticsearchClient();
+	private final ElasticsearchWorkFactory workFactory =
+			new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) );
+	private final ExecutorService executor = Executors.newFixedThreadPool( 1, "test queue" );
+
+	@After
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void bulk_partialFailure() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions( add( "1" ), add( "2" ), delete( "3" ) );
+		queue.enqueue( executions );
+
+		client.nextRequest().assertPath( "/_bulk" )
+				.respond( 200, bulkResponse(
+						StubElasticsearchClient.bulkItem( "index", 201 ),
+						StubElasticsearchClient.bulkItem( "index", 500 ),
+						StubElasticsearchClient.bulkItem( "delete", 200 )
+				) );
+
+		// The failing item only fails its own work
+		executions.get( 0 ).future.join();
+		Assertions.assertThatThrownBy( executions.get( 1 ).future::join )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch bulked request failed" )
+				.hasMessageContaining( "\"_id\": \"2\"" );
+		executions.get( 2 ).future.join();
+	}
+
+	@Test
+	public void bulk_ignoredErrorStatus() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions( add( "1" ), delete( "2" ) );
+		queue.enqueue( executions );
+
+		// Deleting a document that does not exist is not an error
+		client.nextRequest().assertPath( "/_bulk" )
+				.respond( 200, bulkResponse(
+						StubElasticsearchClient.bulkItem( "index", 200 ),
+						StubElasticsearchClient.bulkItem( "delete", 404 )
+				) );
+
+		executions.get( 0 ).future.join();
+		executions.get( 1 ).future.join();
+	}
+
+	@Test
+	public void bulk_missingItem() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions( add( "1" ), add( "2" ), add( "3" ) );
+		queue.enqueue( executions );
+
+		client.nextRequest().assertPath( "/_bulk" )
+				.respond( 200, bulkResponse(
+						StubElasticsearchClient.bulkItem( "index", 200 ),
+						StubElasticsearchClient.bulkItem( "index", 200 )
+				) );
+
+		executions.get( 0 ).future.join();
+		executions.get( 1 ).future.join();
+		Assertions.assertThatThrownBy( executions.get( 2 ).future::join )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch bulked request failed" );
+	}
+
+	@Test
+	public void bulk_requestFailure() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions( add( "1" ), add( "2" ) );
+		queue.enqueue( executions );
+
+		client.nextRequest().assertPath( "/_bulk" ).respond( 500, new JsonObject() );
+
+		for ( ElasticsearchWorkExecution<?> execution : executions ) {
+			Assertions.assertThatThrownBy( execution.future::join )
+					.hasCauseInstanceOf( SearchException.class )
+					.hasMessageContaining( "Elasticsearch request failed" );
+		}
+
+		// The queue must still execute the following works
+		ElasticsearchWorkExecution<?> nextExecution = new ElasticsearchWorkExecution<>( add( "3" ) );
+		queue.enqueue( Arrays.asList( nextExecution ) );
+		client.nextRequest().assertPath( "/indexname/typename/3" ).respondOk();
+		nextExecution.future.join();
+	}
+
+	@Test
+	public void single_failure() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions( add( "1" ) );
+		queue.enqueue( executions );
+
+		// A work that is not bulked must fail just as it would in a bulk
+		client.nextRequest().assertPath( "/indexname/typename/1" )
+				.respond( 400, new JsonObject() );
+
+		Assertions.assertThatThrownBy( executions.get( 0 ).future::join )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch request failed" )
+				.hasMessageContaining( "/indexname/typename/1" );
+	}
+
+	@Test
+	public void single_ignoredErrorStatus() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions( delete( "1" ) );
+		queue.enqueue( executions );
+
+		client.nextRequest().assertPath( "/indexname/typename/1" )
+				.respond( 404, new JsonObject() );
+
+		executions.get( 0 ).future.join();
+	}
+
+	@Test
+	public void maxBulkSize() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 2, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions =
+				executions( add( "1" ), add( "2" ), add( "3" ), add( "4" ), add( "5" ) );
+		queue.enqueue( executions );
+
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "1", "2" );
+		// Bulks are executed sequentially
+		client.assertNoRequest();
+		request.respondOk();
+
+		request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "3", "4" );
+		request.respondOk();
+
+		// A single work is not worth a bulk
+		client.nextRequest().assertPath( "/indexname/typename/5" ).respondOk();
+
+		for ( ElasticsearchWorkExecution<?> execution : executions ) {
+			execution.future.join();
+		}
+	}
+
+	@Test
+	public void maxBulkBytes() throws InterruptedException {
+		List<ElasticsearchWorkExecution<?>> executions =
+				executions( add( "1" ), add( "2" ), add( "3" ), add( "4" ) );
+		// Documents have the same size: leave room for two of them, but not three
+		long executionBytes = executions.get( 0 ).estimateBulkableActionSize();
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, executionBytes * 2 + executionBytes / 2 );
+		queue.enqueue( executions );
+
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "1", "2" );
+		request.respondOk();
+
+		request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "3", "4" );
+		request.respondOk();
+
+		for ( ElasticsearchWorkExecution<?> execution : executions ) {
+			execution.future.join();
+		}
+	}
+
+	@Test
+	public void maxBulkBytes_largeWork() throws InterruptedException {
+		List<ElasticsearchWorkExecution<?>> executions = executions( add( "1" ), add( "2" ) );
+		// Works larger than the limit are still executed, on their own
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, 1L );
+		queue.enqueue( executions );
+
+		client.nextRequest().assertPath( "/indexname/typename/1" ).respondOk();
+		client.nextRequest().assertPath( "/indexname/typename/2" ).respondOk();
+
+		for ( ElasticsearchWorkExecution<?> execution : executions ) {
+			execution.future.join();
+		}
+	}
+
+	@Test
+	public void refreshStrategy() throws InterruptedException {
+		BatchingElasticsearchWorkQueue queue = createQueue( 100, Long.MAX_VALUE );
+		List<ElasticsearchWorkExecution<?>> executions = executions(
+				add( "1", RefreshStrategyConfiguration.NONE ), add( "2", RefreshStrategyConfiguration.NONE ),
+				add( "3", RefreshStrategyConfiguration.WAIT_FOR ), add( "4", RefreshStrategyConfiguration.WAIT_FOR ),
+				add( "5", RefreshStrategyConfiguration.FORCE ), add( "6", RefreshStrategyConfiguration.NONE )
+		);
+		queue.enqueue( executions );
+
+		// Works that don't wait for a refresh must not be bulked with works that do
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "1", "2" );
+		Assertions.assertThat( request.getRequest().getParameters() ).doesNotContainKey( "refresh" );
+		request.respondOk();
+
+		request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "3", "4" );
+		Assertions.assertThat( request.getRequest().getParameters() ).containsEntry( "refresh", "wait_for" );
+		request.respondOk();
+
+		// Forced refreshes are executed separately, after the bulk
+		request = client.nextRequest().assertPath( "/_bulk" );
+		assertBulkedDocumentIds( request, "5", "6" );
+		Assertions.assertThat( request.getRequest().getParameters() ).doesNotContainKey( "refresh" );
+		request.respondOk();
+
+		request = client.nextRequest().assertPath( "/indexname/_refresh" );
+		executions.get( 5 ).future.join();
+		Assertions.assertThat( executions.get( 4 ).future ).isNotDone();
+		request.respondOk();
+
+		for ( ElasticsearchWorkExecution<?> execution : executions ) {
+			execution.future.join();
+		}
+	}
+
+	private BatchingElasticsearchWorkQueue createQueue(int maxBulkSize, long maxBulkBytes) {
+		return new BatchingElasticsearchWorkQueue( new StubElasticsearchWorkExecutionContext( client ), workFactory,
+				executor, maxBulkSize, maxBulkBytes );
+	}
+
+	private static List<ElasticsearchWorkExecution<?>> executions(ElasticsearchWork<?>... works) {
+		List<ElasticsearchWorkExecution<?>> result = new ArrayList<>();
+		for ( ElasticsearchWork<?> work : works ) {
+			result.add( new ElasticsearchWorkExecution<>( work ) );
+		}
+		return result;
+	}
+
+	private ElasticsearchWork<?> add(String id) {
+		return add( id, RefreshStrategyConfiguration.NONE );
+	}
+
+	private ElasticsearchWork<?> add(String id, RefreshStrategyConfiguration refreshStrategy) {
+		JsonObject document = new JsonObject();
+		document.addProperty( "field", "value" + id );
+		return workFactory.add( INDEX_NAME, TYPE_NAME, id, null, document, refreshStrategy );
+	}
+
+	private ElasticsearchWork<?> delete(String id) {
+		return workFactory.delete( INDEX_NAME, TYPE_NAME, id, null, RefreshStrategyConfiguration.NONE );
+	}
+
+	private static JsonObject bulkResponse(JsonObject... items) {
+		JsonArray itemArray = new JsonArray();
+		for ( JsonObject item : items ) {
+			itemArray.add( item );
+		}
+		JsonObject body = new JsonObject();
+		body.add( "items", itemArray );
+		return body;
+	}
+
+	private static void assertBulkedDocumentIds(StubElasticsearchClient.PendingRequest request, String... expectedIds) {
+		List<String> ids = new ArrayList<>();
+		for ( JsonObject bodyPart : request.getRequest().getBodyParts() ) {
+			JsonObject action = bodyPart.getAsJsonObject( "index" );
+			if ( action != null && action.has( "_id" ) ) {
+				ids.add( action.get( "_id" ).getAsString() );
+			}
+		}
+		Assertions.assertThat( ids ).containsExactly( expectedIds );
+	}
+}
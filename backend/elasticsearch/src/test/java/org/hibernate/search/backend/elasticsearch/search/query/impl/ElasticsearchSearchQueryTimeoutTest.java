@@ -0,0 +1,220 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.testutil.StubElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.util.SearchTimeoutException;
+
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchSearchQueryTimeoutTest {
+
+	private static final String SEARCH_PATH = "/indexname/_search";
+
+	private final StubElasticsearchClient client = new StubElasticsearchClient();
+
+	@Test
+	public void noTimeout() throws InterruptedException {
+		CompletableFuture<SearchResult<String>> future = createQuery( 0 ).executeAsync();
+
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( SEARCH_PATH );
+		Assertions.assertThat( request.getRequest().getParameters() ).doesNotContainKey( "timeout" );
+		Assertions.assertThat( request.getRequest().getTimeoutValue() ).isNull();
+		request.respond( 200, response( false ) );
+
+		Assertions.assertThat( future.join().getHits() ).containsExactly( "1" );
+	}
+
+	@Test
+	public void defaultTimeout() throws InterruptedException {
+		CompletableFuture<SearchResult<String>> future = createQuery( 500 ).executeAsync();
+
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( SEARCH_PATH );
+		assertTimeout( request.getRequest(), "500ms", 500L, TimeUnit.MILLISECONDS );
+		request.respond( 200, response( false ) );
+
+		Assertions.assertThat( future.join().isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void failAfter_timedOut() throws InterruptedException {
+		ElasticsearchSearchQuery<String> query = createQuery( 500 );
+		// Overrides the default timeout
+		query.failAfter( 2L, TimeUnit.SECONDS );
+		CompletableFuture<SearchResult<String>> future = query.executeAsync();
+
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( SEARCH_PATH );
+		assertTimeout( request.getRequest(), "2s", 2L, TimeUnit.SECONDS );
+		// Elasticsearch returns partial results, flagged as timed out
+		request.respond( 200, response( true ) );
+
+		Assertions.assertThatThrownBy( future::join )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "exceeded the timeout of PT2S" );
+	}
+
+	@Test
+	public void failAfter_clientTimeout() throws InterruptedException {
+		ElasticsearchSearchQuery<String> query = createQuery( 0 );
+		query.failAfter( 100L, TimeUnit.MILLISECONDS );
+		CompletableFuture<SearchResult<String>> future = query.executeAsync();
+
+		// The client stops waiting for the response after the timeout
+		client.nextRequest().assertPath( SEARCH_PATH ).fail( new TimeoutException() );
+
+		Assertions.assertThatThrownBy( future::join )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "exceeded the timeout of PT0.1S" );
+	}
+
+	@Test
+	public void failAfter_otherFailure() throws InterruptedException {
+		ElasticsearchSearchQuery<String> query = createQuery( 0 );
+		query.failAfter( 100L, TimeUnit.MILLISECONDS );
+		CompletableFuture<SearchResult<String>> future = query.executeAsync();
+
+		IllegalStateException failure = new IllegalStateException( "Some failure" );
+		client.nextRequest().assertPath( SEARCH_PATH ).fail( failure );
+
+		Assertions.assertThatThrownBy( future::join )
+				.isInstanceOf( CompletionException.class )
+				.hasCause( failure );
+	}
+
+	@Test
+	public void truncateAfter() throws InterruptedException {
+		ElasticsearchSearchQuery<String> query = createQuery( 0 );
+		query.truncateAfter( 100L, TimeUnit.MILLISECONDS );
+		CompletableFuture<SearchResult<String>> future = query.executeAsync();
+
+		StubElasticsearchClient.PendingRequest request = client.nextRequest().assertPath( SEARCH_PATH );
+		Assertions.assertThat( request.getRequest().getParameters() ).containsEntry( "timeout", "100ms" );
+		// Partial results are expected: the client must wait for them
+		Assertions.assertThat( request.getRequest().getTimeoutValue() ).isNull();
+		request.respond( 200, response( true ) );
+
+		SearchResult<String> result = future.join();
+		Assertions.assertThat( result.isTimedOut() ).isTrue();
+		Assertions.assertThat( result.getHits() ).containsExactly( "1" );
+	}
+
+	@Test
+	public void invalidTimeout() {
+		ElasticsearchSearchQuery<String> query = createQuery( 0 );
+
+		Assertions.assertThatThrownBy( () -> query.failAfter( -1L, TimeUnit.MILLISECONDS ) )
+				.isInstanceOf( IllegalArgumentException.class );
+		Assertions.assertThatThrownBy( () -> query.truncateAfter( 1L, null ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	private ElasticsearchSearchQuery<String> createQuery(int defaultTimeout) {
+		return new ElasticsearchSearchQuery<>(
+				new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) ),
+				new DirectOrchestrator(),
+				Collections.singleton( URLEncodedString.fromString( "indexname" ) ), Collections.emptySet(),
+				new JsonObject(),
+				new SearchResultExtractorImpl<>( new IdHitExtractor(), new ListHitAggregator(), Collections.emptySet() ),
+				"60s", defaultTimeout
+		);
+	}
+
+	private static void assertTimeout(ElasticsearchRequest request, String expectedParameter,
+			long expectedClientTimeout, TimeUnit expectedClientTimeoutUnit) {
+		Assertions.assertThat( request.getParameters() ).containsEntry( "timeout", expectedParameter );
+		Assertions.assertThat( request.getTimeoutValue() ).isEqualTo( expectedClientTimeout );
+		Assertions.assertThat( request.getTimeoutUnit() ).isEqualTo( expectedClientTimeoutUnit );
+	}
+
+	private static JsonObject response(boolean timedOut) {
+		JsonObject hit = new JsonObject();
+		hit.addProperty( "_index", "indexname" );
+		hit.addProperty( "_type", "typename" );
+		hit.addProperty( "_id", "1" );
+		JsonArray hitsArray = new JsonArray();
+		hitsArray.add( hit );
+		JsonObject hits = new JsonObject();
+		hits.addProperty( "total", 1L );
+		hits.add( "hits", hitsArray );
+		JsonObject response = new JsonObject();
+		response.addProperty( "took", 1 );
+		response.addProperty( "timed_out", timedOut );
+		response.add( "hits", hits );
+		return response;
+	}
+
+	/**
+	 * An orchestrator executing works immediately, in the calling thread.
+	 */
+	private class DirectOrchestrator implements ElasticsearchWorkOrchestrator {
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+			return work.execute( new StubElasticsearchWorkExecutionContext( client ) );
+		}
+
+		@Override
+		public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static class IdHitExtractor implements HitExtractor<List<String>> {
+		@Override
+		public void contributeRequest(JsonObject requestBody) {
+			// Nothing to do
+		}
+
+		@Override
+		public void extract(List<String> collector, JsonObject hit) {
+			collector.add( hit.get( "_id" ).getAsString() );
+		}
+	}
+
+	private static class ListHitAggregator implements HitAggregator<List<String>, List<String>> {
+		private List<String> hits;
+
+		@Override
+		public void init(int expectedHitCount) {
+			this.hits = new ArrayList<>();
+		}
+
+		@Override
+		public List<String> nextCollector() {
+			return hits;
+		}
+
+		@Override
+		public List<String> build() {
+			return hits;
+		}
+	}
+}
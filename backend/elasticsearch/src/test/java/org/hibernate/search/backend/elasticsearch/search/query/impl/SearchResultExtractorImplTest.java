@@ -0,0 +1,192 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+public class SearchResultExtractorImplTest {
+
+	private static final JsonParser JSON_PARSER = new JsonParser();
+
+	private final RecordingHitAggregator hitAggregator = new RecordingHitAggregator();
+
+	@Test
+	public void noLimit() throws IOException {
+		SearchResult<JsonObject> result = extract( Collections.emptySet(), response( 80_000_000L, 3 ), null, null );
+
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 80_000_000L );
+		Assertions.assertThat( result.getHits() ).hasSize( 3 );
+		// Elasticsearch returns 10 hits by default: the total hit count must not be used for presizing
+		Assertions.assertThat( hitAggregator.expectedHitCount ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void offsetAndLimit() throws IOException {
+		SearchResult<JsonObject> result = extract( Collections.emptySet(), response( 100L, 5 ), 95L, 10L );
+
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 100L );
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		Assertions.assertThat( hitAggregator.expectedHitCount ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void offsetBeyondHitCount() throws IOException {
+		SearchResult<JsonObject> result = extract( Collections.emptySet(), response( 100L, 0 ), 200L, 10L );
+
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 100L );
+		Assertions.assertThat( result.getHits() ).isEmpty();
+		Assertions.assertThat( hitAggregator.expectedHitCount ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void hugeLimit() throws IOException {
+		extract( Collections.emptySet(), response( 80_000_000L, 3 ), null, Long.MAX_VALUE );
+
+		Assertions.assertThat( hitAggregator.expectedHitCount ).isEqualTo( 10_000 );
+	}
+
+	@Test
+	public void noHits() throws IOException {
+		SearchResult<JsonObject> result = extract( Collections.emptySet(), "{\"took\":1,\"timed_out\":false}", null, null );
+
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 0L );
+		Assertions.assertThat( result.getHits() ).isEmpty();
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void timedOut() throws IOException {
+		JsonObject response = JSON_PARSER.parse( response( 100L, 2 ) ).getAsJsonObject();
+		response.addProperty( "timed_out", true );
+
+		Assertions.assertThat( extract( Collections.emptySet(), response.toString(), null, null ).isTimedOut() ).isTrue();
+	}
+
+	@Test
+	public void source_noneRequested() throws IOException {
+		SearchResult<JsonObject> result = extract( Collections.emptySet(), response( 1L, 1 ), null, null );
+
+		JsonObject hit = result.getHits().get( 0 );
+		Assertions.assertThat( hit.has( "_source" ) ).isFalse();
+		Assertions.assertThat( hit.get( "_id" ).getAsString() ).isEqualTo( "0" );
+		Assertions.assertThat( hit.get( "_index" ).getAsString() ).isEqualTo( "indexname" );
+	}
+
+	@Test
+	public void source_nestedPrefixes() throws IOException {
+		SearchResult<JsonObject> result = extract( new HashSet<>( Arrays.asList( "a.b.c", "d" ) ),
+				response( 1L, 1 ), null, null );
+
+		JsonObject source = result.getHits().get( 0 ).getAsJsonObject( "_source" );
+		// "a.b.c" may be returned either as a nested "a" object or as a top-level "a.b.c" property
+		Assertions.assertThat( source.keySet() ).containsOnly( "a", "a.b.c", "d" );
+		Assertions.assertThat( source.getAsJsonObject( "a" ).getAsJsonObject( "b" ).get( "c" ).getAsString() )
+				.isEqualTo( "nested" );
+	}
+
+	@Test
+	public void treeAndStreamConsistency() throws IOException {
+		Set<String> requestedSourcePaths = Collections.singleton( "d" );
+		String response = response( 50L, 3 );
+
+		SearchResult<JsonObject> streamed = extract( requestedSourcePaths, response, null, null );
+		SearchResult<JsonObject> tree = new SearchResultExtractorImpl<>( new RecordingHitExtractor(), hitAggregator,
+				requestedSourcePaths ).extract( JSON_PARSER.parse( response ).getAsJsonObject() );
+
+		Assertions.assertThat( streamed.getHitCount() ).isEqualTo( tree.getHitCount() );
+		Assertions.assertThat( streamed.getHits() ).hasSameSizeAs( tree.getHits() );
+		for ( int i = 0; i < streamed.getHits().size(); i++ ) {
+			Assertions.assertThat( streamed.getHits().get( i ).get( "_id" ) )
+					.isEqualTo( tree.getHits().get( i ).get( "_id" ) );
+		}
+	}
+
+	private SearchResult<JsonObject> extract(Set<String> requestedSourcePaths, String response,
+			Long offset, Long limit) throws IOException {
+		SearchResultExtractorImpl<List<JsonObject>, JsonObject> extractor =
+				new SearchResultExtractorImpl<>( new RecordingHitExtractor(), hitAggregator, requestedSourcePaths );
+		return extractor.extract( new JsonReader( new StringReader( response ) ), offset, limit );
+	}
+
+	private static String response(long totalHitCount, int returnedHitCount) {
+		JsonArray hitsArray = new JsonArray();
+		for ( int i = 0; i < returnedHitCount; i++ ) {
+			JsonObject source = JSON_PARSER.parse(
+					"{\"a\":{\"b\":{\"c\":\"nested\"},\"e\":\"ignored\"},\"a.b.c\":\"flat\",\"d\":1,\"f\":[1,2,3]}"
+			).getAsJsonObject();
+			JsonObject hit = new JsonObject();
+			hit.addProperty( "_index", "indexname" );
+			hit.addProperty( "_type", "typename" );
+			hit.addProperty( "_id", String.valueOf( i ) );
+			hit.addProperty( "_score", 1.0f );
+			hit.add( "_source", source );
+			hitsArray.add( hit );
+		}
+		JsonObject hits = new JsonObject();
+		hits.addProperty( "total", totalHitCount );
+		hits.addProperty( "max_score", 1.0f );
+		hits.add( "hits", hitsArray );
+		JsonObject response = new JsonObject();
+		response.addProperty( "took", 1 );
+		response.addProperty( "timed_out", false );
+		response.add( "_shards", new JsonObject() );
+		response.add( "hits", hits );
+		return response.toString();
+	}
+
+	private static class RecordingHitExtractor implements HitExtractor<List<JsonObject>> {
+		@Override
+		public void contributeRequest(JsonObject requestBody) {
+			// Nothing to do
+		}
+
+		@Override
+		public void extract(List<JsonObject> collector, JsonObject hit) {
+			collector.add( hit );
+		}
+	}
+
+	private static class RecordingHitAggregator implements HitAggregator<List<JsonObject>, List<JsonObject>> {
+		private int expectedHitCount = -1;
+		private List<JsonObject> hits;
+
+		@Override
+		public void init(int expectedHitCount) {
+			this.expectedHitCount = expectedHitCount;
+			this.hits = new ArrayList<>();
+		}
+
+		@Override
+		public List<JsonObject> nextCollector() {
+			return hits;
+		}
+
+		@Override
+		public List<JsonObject> build() {
+			return hits;
+		}
+	}
+}
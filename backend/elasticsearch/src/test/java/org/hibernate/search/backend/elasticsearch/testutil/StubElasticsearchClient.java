@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.testutil;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyParser;
+
+import org.assertj.core.api.Assertions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A client that does not send anything, but records requests
+ * and lets tests decide when and how each of them completes.
+ */
+public class StubElasticsearchClient implements ElasticsearchClient {
+
+	private static final long TIMEOUT_MS = 10_000L;
+	private static final long NO_REQUEST_TIMEOUT_MS = 200L;
+
+	private static final Set<String> BULK_ACTIONS = new HashSet<>( Arrays.asList( "index", "create", "update", "delete" ) );
+
+	private final BlockingQueue<PendingRequest> pendingRequests = new LinkedBlockingQueue<>();
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		PendingRequest pendingRequest = new PendingRequest( request );
+		pendingRequests.add( pendingRequest );
+		return pendingRequest.response;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchRequest request, ElasticsearchResponseBodyParser<T> bodyParser) {
+		return submit( request ).thenApply( response -> {
+			try {
+				return bodyParser.parse( new JsonReader( new StringReader( response.getBody().toString() ) ) );
+			}
+			catch (IOException e) {
+				throw new CompletionException( e );
+			}
+		} );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
+	/**
+	 * @return The next request sent to this client, waiting for it if necessary.
+	 */
+	public PendingRequest nextRequest() throws InterruptedException {
+		PendingRequest request = pendingRequests.poll( TIMEOUT_MS, TimeUnit.MILLISECONDS );
+		Assertions.assertThat( request ).as( "Request sent within " + TIMEOUT_MS + "ms" ).isNotNull();
+		return request;
+	}
+
+	/**
+	 * Checks that no request is sent to this client in the next few milliseconds.
+	 */
+	public void assertNoRequest() throws InterruptedException {
+		PendingRequest request = pendingRequests.poll( NO_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS );
+		Assertions.assertThat( request ).as( "Unexpected request" ).isNull();
+	}
+
+	public static final class PendingRequest {
+		private final ElasticsearchRequest request;
+		private final CompletableFuture<ElasticsearchResponse> response = new CompletableFuture<>();
+
+		private PendingRequest(ElasticsearchRequest request) {
+			this.request = request;
+		}
+
+		@Override
+		public String toString() {
+			return request.toString();
+		}
+
+		public ElasticsearchRequest getRequest() {
+			return request;
+		}
+
+		public PendingRequest assertPath(String expectedPath) {
+			Assertions.assertThat( request.getPath() ).isEqualTo( expectedPath );
+			return this;
+		}
+
+		public void respond(int statusCode, JsonObject body) {
+			response.complete( new ElasticsearchResponse( statusCode, "", body ) );
+		}
+
+		/**
+		 * Respond successfully; for {@code _bulk} requests, report every bulked action as successful.
+		 */
+		public void respondOk() {
+			JsonObject body = new JsonObject();
+			if ( request.getPath().endsWith( "/_bulk" ) ) {
+				JsonArray items = new JsonArray();
+				for ( JsonObject bodyPart : request.getBodyParts() ) {
+					String action = getBulkAction( bodyPart );
+					if ( action != null ) {
+						items.add( bulkItem( action, 200 ) );
+					}
+				}
+				body.add( "items", items );
+			}
+			respond( 200, body );
+		}
+
+		public void fail(Throwable throwable) {
+			response.completeExceptionally( throwable );
+		}
+	}
+
+	/**
+	 * @return The item of a {@code _bulk} response for the given action and status.
+	 */
+	public static JsonObject bulkItem(String action, int status) {
+		JsonObject result = new JsonObject();
+		result.addProperty( "status", status );
+		JsonObject item = new JsonObject();
+		item.add( action, result );
+		return item;
+	}
+
+	private static String getBulkAction(JsonObject bodyPart) {
+		if ( bodyPart.size() != 1 ) {
+			return null;
+		}
+		String name = bodyPart.keySet().iterator().next();
+		JsonElement value = bodyPart.get( name );
+		if ( BULK_ACTIONS.contains( name ) && value.isJsonObject() && value.getAsJsonObject().has( "_index" ) ) {
+			return name;
+		}
+		return null;
+	}
+}
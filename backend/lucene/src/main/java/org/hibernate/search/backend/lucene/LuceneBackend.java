@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.backend.lucene;
 
+import org.hibernate.search.backend.lucene.search.LuceneQueryResultCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 
 public interface LuceneBackend extends Backend {
 
-	// TODO add Lucene-specific backend APIs
+	/**
+	 * @return Statistics about the query result cache of this backend,
+	 * useful to tune the {@link org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings#QUERY_RESULT_CACHE_MAX_ENTRIES size of the cache}.
+	 * All counters stay at zero when the cache is disabled.
+	 */
+	LuceneQueryResultCacheStatistics getQueryResultCacheStatistics();
+
+	// TODO add more Lucene-specific backend APIs
 
 }
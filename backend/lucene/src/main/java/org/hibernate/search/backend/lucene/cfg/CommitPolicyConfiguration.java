@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Policies defining when changes to a Lucene index are committed, i.e. made durable.
+ * <p>
+ * Searches always use near-real-time readers opened from the index writer,
+ * so whatever the commit policy, changes are visible to searches
+ * as defined by the {@link ReaderRefreshStrategyConfiguration reader refresh strategy},
+ * not by commits.
+ * As a result, committing on a scheduled interval and relying on near-real-time readers
+ * with periodic durable commits are one and the same policy: {@link #SCHEDULED}.
+ */
+public enum CommitPolicyConfiguration {
+
+	/**
+	 * The index is committed at the end of each work plan:
+	 * changes are durable as soon as the work plan execution completes.
+	 */
+	PER_WORK_PLAN("per_work_plan"),
+
+	/**
+	 * The index is committed by a background thread,
+	 * every {@link SearchBackendLuceneSettings#COMMIT_INTERVAL commit interval}, if there are uncommitted changes.
+	 * <p>
+	 * Changes are visible to searches through the near-real-time index reader without waiting for the commit,
+	 * but may be lost if the JVM crashes before the next commit.
+	 * Changes are also committed when the index is flushed or closed.
+	 */
+	SCHEDULED("scheduled");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private CommitPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static CommitPolicyConfiguration fromExternalRepresentation(String commitPolicy) {
+		for ( CommitPolicyConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( commitPolicy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownCommitPolicyConfiguration( commitPolicy );
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum QueueFullPolicyConfiguration {
+
+	/**
+	 * Block the submitting thread until there is some space available in the queue.
+	 */
+	BLOCK("block"),
+
+	/**
+	 * Fail immediately, reporting the failure through the returned future.
+	 */
+	REJECT("reject");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private QueueFullPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static QueueFullPolicyConfiguration fromExternalRepresentation(String queueFullPolicy) {
+		if ( BLOCK.externalRepresentation.equals( queueFullPolicy ) ) {
+			return BLOCK;
+		}
+		else if ( REJECT.externalRepresentation.equals( queueFullPolicy ) ) {
+			return REJECT;
+		}
+		else {
+			throw log.unknownQueueFullPolicyConfiguration( queueFullPolicy );
+		}
+	}
+}
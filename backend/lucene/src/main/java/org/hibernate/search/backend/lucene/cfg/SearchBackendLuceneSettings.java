@@ -21,14 +21,207 @@ private SearchBackendLuceneSettings() {
 	 */
 	public static final String LUCENE_VERSION = "lucene_version";
 
+	/**
+	 * The provider of Lucene directories for the indexes of the backend.
+	 * <p>
+	 * Expects one of the built-in providers:
+	 * <ul>
+	 *     <li>{@code local_heap}: indexes are held in the JVM heap and lost on shutdown; mainly useful for tests.</li>
+	 *     <li>{@code local_mmap}: indexes are stored in the {@link #LUCENE_ROOT_DIRECTORY root directory}
+	 *     and accessed through memory-mapped files.
+	 *     {@code local_directory} is accepted as an alias.</li>
+	 *     <li>{@code local_nio}: indexes are stored in the {@link #LUCENE_ROOT_DIRECTORY root directory}
+	 *     and accessed through NIO positional reads.</li>
+	 * </ul>
+	 * or a reference to a bean implementing {@link org.hibernate.search.backend.lucene.index.spi.DirectoryProvider}.
+	 */
 	public static final String LUCENE_DIRECTORY_PROVIDER = "lucene.directory_provider";
 
+	/**
+	 * The filesystem directory under which the {@code local_mmap} and {@code local_nio} directory providers
+	 * store indexes, one subdirectory per index.
+	 * <p>
+	 * Defaults to the current working directory.
+	 */
 	public static final String LUCENE_ROOT_DIRECTORY = "lucene.root_directory";
 
+	/**
+	 * Whether the directories created by the {@link #LUCENE_DIRECTORY_PROVIDER directory provider}
+	 * should be wrapped in a {@link org.apache.lucene.store.NRTCachingDirectory},
+	 * which keeps small, freshly flushed segments in memory.
+	 * <p>
+	 * Useful when the index reader is refreshed very frequently.
+	 * Defaults to {@link Defaults#LUCENE_NRT_CACHING}.
+	 */
+	public static final String LUCENE_NRT_CACHING = "lucene.nrt_caching";
+
+	/**
+	 * The size, in megabytes, above which segments produced by merges are not cached in memory
+	 * when {@link #LUCENE_NRT_CACHING NRT caching} is enabled.
+	 * <p>
+	 * Defaults to {@link Defaults#LUCENE_NRT_CACHING_MAX_MERGE_SIZE}.
+	 */
+	public static final String LUCENE_NRT_CACHING_MAX_MERGE_SIZE = "lucene.nrt_caching.max_merge_size";
+
+	/**
+	 * The maximum amount of memory, in megabytes, used to cache segments of each index
+	 * when {@link #LUCENE_NRT_CACHING NRT caching} is enabled.
+	 * <p>
+	 * Defaults to {@link Defaults#LUCENE_NRT_CACHING_MAX_CACHED_SIZE}.
+	 */
+	public static final String LUCENE_NRT_CACHING_MAX_CACHED_SIZE = "lucene.nrt_caching.max_cached_size";
+
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy_strategy";
 
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The maximum number of queries executed concurrently by the backend.
+	 */
+	public static final String QUERY_THREAD_POOL_SIZE = "query.thread_pool_size";
+
+	/**
+	 * The maximum number of queries waiting for execution once all query threads are busy.
+	 */
+	public static final String QUERY_QUEUE_SIZE = "query.queue_size";
+
+	/**
+	 * What to do when a query is submitted while the query queue is full:
+	 * {@code block} the submitting thread, or {@code reject} the query.
+	 */
+	public static final String QUERY_QUEUE_FULL_POLICY = "query.queue_full_policy";
+
+	/**
+	 * The maximum number of query results cached by the backend, or {@code 0} to disable the cache.
+	 * <p>
+	 * Only the top docs and total hit count of queries with a maximum number of results are cached;
+	 * entries are never returned once the index reader they were computed from has been refreshed.
+	 * Useful when the same queries are executed repeatedly between changes to the index.
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}.
+	 *
+	 * @see org.hibernate.search.backend.lucene.LuceneBackend#getQueryResultCacheStatistics()
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
+	/**
+	 * The default timeout of queries, in milliseconds, or {@code 0} for no timeout.
+	 * <p>
+	 * Queries exceeding this timeout fail with a {@link org.hibernate.search.util.SearchTimeoutException}.
+	 * The timeout can be overridden for each query,
+	 * see {@link org.hibernate.search.engine.search.SearchQuery#failAfter(long, java.util.concurrent.TimeUnit)}
+	 * and {@link org.hibernate.search.engine.search.SearchQuery#truncateAfter(long, java.util.concurrent.TimeUnit)}.
+	 * Defaults to {@link Defaults#QUERY_TIMEOUT}.
+	 */
+	public static final String QUERY_TIMEOUT = "query.timeout";
+
+	/**
+	 * Index-level property: how the index reader shared between searches is refreshed
+	 * to take into account changes to the index.
+	 *
+	 * @see ReaderRefreshStrategyConfiguration
+	 */
+	public static final String READER_REFRESH_STRATEGY = "reader.refresh_strategy";
+
+	/**
+	 * Index-level property: the interval, in milliseconds, used by the {@code periodic}
+	 * and {@code max_staleness} reader refresh strategies.
+	 */
+	public static final String READER_REFRESH_INTERVAL = "reader.refresh_interval";
+
+	/**
+	 * Index-level property: when changes to the index are committed, i.e. made durable.
+	 *
+	 * @see CommitPolicyConfiguration
+	 */
+	public static final String COMMIT_POLICY = "commit.policy";
+
+	/**
+	 * Index-level property: the interval, in milliseconds, used by the {@code scheduled} commit policy.
+	 */
+	public static final String COMMIT_INTERVAL = "commit.interval";
+
+	/**
+	 * Index-level property: the number of shards of the index.
+	 * <p>
+	 * Each shard has its own directory and index writer.
+	 * Documents are assigned to a shard based on the hash of their routing key,
+	 * or of their identifier if they don't have one;
+	 * queries target all the shards, or only the shards matching their routing keys if they have any.
+	 * <p>
+	 * Changing the number of shards of an existing index requires reindexing.
+	 * Defaults to {@link Defaults#SHARDING_NUMBER_OF_SHARDS}, i.e. no sharding.
+	 */
+	public static final String SHARDING_NUMBER_OF_SHARDS = "sharding.number_of_shards";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the amount of RAM, in megabytes, used to buffer changes before they are flushed to the directory.
+	 * <p>
+	 * Defaults to the Lucene default.
+	 */
+	public static final String INDEXWRITER_RAM_BUFFER_SIZE = "indexwriter.ram_buffer_size";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the number of documents buffered in memory before they are flushed to the directory,
+	 * in addition to the {@link #INDEXWRITER_RAM_BUFFER_SIZE RAM buffer size} limit.
+	 * <p>
+	 * Defaults to no limit.
+	 */
+	public static final String INDEXWRITER_MAX_BUFFERED_DOCS = "indexwriter.max_buffered_docs";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the number of segments of similar size allowed before they are merged,
+	 * and the number of segments merged at once.
+	 * <p>
+	 * Defaults to the Lucene default.
+	 */
+	public static final String INDEXWRITER_MERGE_FACTOR = "indexwriter.merge_factor";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the size, in megabytes, under which segments are considered the same size when merging.
+	 * <p>
+	 * Defaults to the Lucene default.
+	 */
+	public static final String INDEXWRITER_MERGE_MIN_SIZE = "indexwriter.merge_min_size";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the maximum size, in megabytes, of segments produced by regular merges.
+	 * <p>
+	 * Defaults to the Lucene default.
+	 */
+	public static final String INDEXWRITER_MERGE_MAX_SIZE = "indexwriter.merge_max_size";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the maximum number of threads executing merges concurrently.
+	 * <p>
+	 * Defaults to a value detected by Lucene from the number of processors and the storage type.
+	 */
+	public static final String INDEXWRITER_MERGE_SCHEDULER_MAX_THREAD_COUNT = "indexwriter.merge_scheduler.max_thread_count";
+
+	/**
+	 * Index-level property, also accepted at the backend level:
+	 * the maximum number of pending merges before indexing threads are stalled.
+	 * Must be greater than or equal to the {@link #INDEXWRITER_MERGE_SCHEDULER_MAX_THREAD_COUNT maximum thread count}.
+	 * <p>
+	 * Defaults to the maximum thread count plus 5.
+	 */
+	public static final String INDEXWRITER_MERGE_SCHEDULER_MAX_MERGE_COUNT = "indexwriter.merge_scheduler.max_merge_count";
+
+	/**
+	 * The prefix of index-level properties, also accepted at the backend level,
+	 * overriding the {@code indexwriter.*} properties while mass indexing.
+	 * <p>
+	 * For example {@code indexwriter.mass_indexing.ram_buffer_size} overrides {@link #INDEXWRITER_RAM_BUFFER_SIZE}
+	 * from the moment mass indexing starts until it ends, whether it succeeds, fails or is cancelled.
+	 * Properties that are not overridden keep their regular value.
+	 */
+	public static final String INDEXWRITER_MASS_INDEXING = "indexwriter.mass_indexing";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -45,6 +238,32 @@ private Defaults() {
 		 */
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
+		public static final boolean LUCENE_NRT_CACHING = false;
+
+		public static final int LUCENE_NRT_CACHING_MAX_MERGE_SIZE = 5;
+
+		public static final int LUCENE_NRT_CACHING_MAX_CACHED_SIZE = 60;
+
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+
+		public static final int QUERY_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+		public static final int QUERY_QUEUE_SIZE = 1000;
+
+		public static final QueueFullPolicyConfiguration QUERY_QUEUE_FULL_POLICY = QueueFullPolicyConfiguration.BLOCK;
+
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
+
+		public static final int QUERY_TIMEOUT = 0;
+
+		public static final ReaderRefreshStrategyConfiguration READER_REFRESH_STRATEGY = ReaderRefreshStrategyConfiguration.ON_DEMAND;
+
+		public static final int READER_REFRESH_INTERVAL = 1000;
+
+		public static final CommitPolicyConfiguration COMMIT_POLICY = CommitPolicyConfiguration.PER_WORK_PLAN;
+
+		public static final int COMMIT_INTERVAL = 1000;
+
+		public static final int SHARDING_NUMBER_OF_SHARDS = 1;
 	}
 }
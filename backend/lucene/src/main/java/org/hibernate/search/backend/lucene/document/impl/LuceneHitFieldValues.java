@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.document.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The field values of a single search hit, as loaded from stored fields and doc values.
+ * <p>
+ * Values are held in a slot array whose {@link Layout layout} is computed once per query,
+ * so that loading a hit does not involve any intermediate {@link org.apache.lucene.document.Document}
+ * nor any per-field metadata object.
+ * Only the first value of each stored field is retained.
+ */
+public final class LuceneHitFieldValues {
+
+	private final Layout layout;
+
+	private final Object[] slots;
+
+	private LuceneHitFieldValues(Layout layout) {
+		this.layout = layout;
+		this.slots = new Object[layout.storedFieldSlots.size() + layout.docValueFields.length];
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a stored field.
+	 * @return The first stored value of this field in the hit, i.e. a {@link String}, a {@link Number} or a {@code byte[]},
+	 * or {@code null} if the hit has no value for this field or the field was not requested.
+	 */
+	public Object getStoredValue(String absoluteFieldPath) {
+		Integer slot = layout.storedFieldSlots.get( absoluteFieldPath );
+		return slot == null ? null : slots[slot];
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field with numeric doc values.
+	 * @return The doc value of this field in the hit,
+	 * or {@code null} if the hit has no value for this field or the field was not requested.
+	 */
+	public Long getDocValue(String absoluteFieldPath) {
+		Integer slot = layout.docValueFieldSlots.get( absoluteFieldPath );
+		return slot == null ? null : (Long) slots[slot];
+	}
+
+	/**
+	 * @param slot The slot of the field, as returned by {@link Layout#getStoredFieldSlot(String)}.
+	 * @param value The stored value. Ignored if a value was already set for this slot.
+	 */
+	public void setStoredValue(int slot, Object value) {
+		if ( slots[slot] == null ) {
+			slots[slot] = value;
+		}
+	}
+
+	/**
+	 * @param docValueFieldIndex The index of the field in {@link Layout#getDocValueFields()}.
+	 * @param value The doc value.
+	 */
+	public void setDocValue(int docValueFieldIndex, long value) {
+		slots[layout.storedFieldSlots.size() + docValueFieldIndex] = value;
+	}
+
+	/**
+	 * The assignment of requested fields to slots, shared by all the hits of a query.
+	 */
+	public static final class Layout {
+
+		private final Map<String, Integer> storedFieldSlots;
+
+		private final String[] docValueFields;
+
+		private final Map<String, Integer> docValueFieldSlots;
+
+		public Layout(Set<String> storedFields, Set<String> docValueFields) {
+			this.storedFieldSlots = new HashMap<>();
+			for ( String storedField : storedFields ) {
+				storedFieldSlots.put( storedField, storedFieldSlots.size() );
+			}
+			this.docValueFields = docValueFields.toArray( new String[0] );
+			this.docValueFieldSlots = new HashMap<>();
+			for ( int i = 0; i < this.docValueFields.length; i++ ) {
+				docValueFieldSlots.put( this.docValueFields[i], storedFieldSlots.size() + i );
+			}
+		}
+
+		public int getStoredFieldCount() {
+			return storedFieldSlots.size();
+		}
+
+		/**
+		 * @param absoluteFieldPath The absolute path of a stored field.
+		 * @return The slot of this field, or {@code -1} if the field was not requested.
+		 */
+		public int getStoredFieldSlot(String absoluteFieldPath) {
+			Integer slot = storedFieldSlots.get( absoluteFieldPath );
+			return slot == null ? -1 : slot;
+		}
+
+		/**
+		 * @return The absolute paths of the requested fields with numeric doc values.
+		 * Must not be modified.
+		 */
+		public String[] getDocValueFields() {
+			return docValueFields;
+		}
+
+		public LuceneHitFieldValues createValues() {
+			return new LuceneHitFieldValues( this );
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+
+/**
+ * A directory provider storing each index in its own subdirectory of a root directory on the local filesystem.
+ */
+class LocalFileSystemDirectoryProvider implements DirectoryProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Path> ROOT_DIRECTORY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY )
+					.as( Path.class, Paths::get )
+					.withDefault( () -> Paths.get( "." ) )
+					.build();
+
+	static LocalFileSystemDirectoryProvider mmap() {
+		return new LocalFileSystemDirectoryProvider( AccessStrategy.MMAP );
+	}
+
+	static LocalFileSystemDirectoryProvider nio() {
+		return new LocalFileSystemDirectoryProvider( AccessStrategy.NIO );
+	}
+
+	private final AccessStrategy accessStrategy;
+
+	private EventContext backendContext;
+	private Path rootDirectory;
+
+	private LocalFileSystemDirectoryProvider(AccessStrategy accessStrategy) {
+		this.accessStrategy = accessStrategy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() +
+				"[" +
+				"accessStrategy=" + accessStrategy +
+				", rootDirectory=" + rootDirectory +
+				"]";
+	}
+
+	@Override
+	public void initialize(DirectoryProviderInitializationContext context) {
+		this.backendContext = context.getEventContext();
+		// TODO GSM: implement the checks properly
+		this.rootDirectory = ROOT_DIRECTORY.get( context.getConfigurationPropertySource() ).toAbsolutePath();
+		initializeRootDirectory( rootDirectory );
+	}
+
+	@Override
+	public Directory createDirectory(String indexName) throws IOException {
+		Path directoryPath = rootDirectory.resolve( indexName );
+		initializeIndexDirectory( directoryPath );
+		switch ( accessStrategy ) {
+			case NIO:
+				return new NIOFSDirectory( directoryPath );
+			case MMAP:
+			default:
+				return new MMapDirectory( directoryPath );
+		}
+	}
+
+	private void initializeRootDirectory(Path rootDirectory) {
+		if ( Files.exists( rootDirectory ) ) {
+			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
+				throw log.localDirectoryBackendRootDirectoryNotWritableDirectory( rootDirectory, backendContext );
+			}
+		}
+		else {
+			try {
+				Files.createDirectories( rootDirectory );
+			}
+			catch (Exception e) {
+				throw log.unableToCreateRootDirectoryForLocalDirectoryBackend( rootDirectory, backendContext, e );
+			}
+		}
+	}
+
+	private void initializeIndexDirectory(Path indexDirectory) {
+		if ( Files.exists( indexDirectory ) ) {
+			if ( !Files.isDirectory( indexDirectory ) || !Files.isWritable( indexDirectory ) ) {
+				throw log.localDirectoryIndexRootDirectoryNotWritableDirectory( indexDirectory, backendContext );
+			}
+		}
+		else {
+			try {
+				Files.createDirectories( indexDirectory );
+			}
+			catch (Exception e) {
+				throw log.unableToCreateIndexRootDirectoryForLocalDirectoryBackend( indexDirectory, backendContext, e );
+			}
+		}
+	}
+
+	private enum AccessStrategy {
+		/**
+		 * Memory-mapped files: the fastest option on 64-bit JVMs,
+		 * but it relies on the virtual address space being large enough.
+		 */
+		MMAP,
+		/**
+		 * Positional reads through {@link java.nio.channels.FileChannel}:
+		 * slower than memory-mapped files, but without any constraint on the address space.
+		 */
+		NIO
+	}
+}
@@ -7,9 +7,6 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Optional;
@@ -19,12 +16,16 @@
 import org.hibernate.search.backend.lucene.analysis.model.dsl.impl.LuceneAnalysisDefinitionContainerContextImpl;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.MultiTenancyStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.QueueFullPolicyConfiguration;
 import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
-import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategyImpl;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestratorImpl;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.work.impl.StubLuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -57,10 +58,22 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asString()
 					.build();
 
-	private static final ConfigurationProperty<Path> ROOT_DIRECTORY =
-			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY )
-					.as( Path.class, Paths::get )
-					.withDefault( () -> Paths.get( "." ) )
+	private static final ConfigurationProperty<Boolean> NRT_CACHING =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_NRT_CACHING )
+					.asBoolean()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_NRT_CACHING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHING_MAX_MERGE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_NRT_CACHING_MAX_MERGE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_NRT_CACHING_MAX_MERGE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHING_MAX_CACHED_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_NRT_CACHING_MAX_CACHED_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_NRT_CACHING_MAX_CACHED_SIZE )
 					.build();
 
 	private static final ConfigurationProperty<MultiTenancyStrategyConfiguration> MULTI_TENANCY_STRATEGY =
@@ -69,6 +82,36 @@ public class LuceneBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendLuceneSettings.Defaults.MULTI_TENANCY_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<QueueFullPolicyConfiguration> QUERY_QUEUE_FULL_POLICY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_QUEUE_FULL_POLICY )
+					.as( QueueFullPolicyConfiguration.class, QueueFullPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_QUEUE_FULL_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_TIMEOUT )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_TIMEOUT )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -76,7 +119,7 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 
 		Version luceneVersion = getLuceneVersion( backendContext, propertySource );
 
-		DirectoryProvider directoryProvider = getDirectoryProvider( backendContext, propertySource );
+		DirectoryProvider directoryProvider = getDirectoryProvider( backendContext, buildContext, propertySource );
 
 		MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( backendContext, propertySource );
 
@@ -84,12 +127,22 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				backendContext, buildContext, propertySource, luceneVersion
 		);
 
+		LuceneQueryWorkOrchestrator queryOrchestrator = getQueryOrchestrator( backendContext, propertySource );
+
+		LuceneQueryResultCache queryResultCache = getQueryResultCache( backendContext, propertySource );
+
+		int queryTimeout = getQueryTimeout( backendContext, propertySource );
+
 		return new LuceneBackendImpl(
 				name,
 				directoryProvider,
 				new StubLuceneWorkFactory( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				queryOrchestrator,
+				queryResultCache,
+				queryTimeout,
+				propertySource
 		);
 	}
 
@@ -110,8 +163,8 @@ private Version getLuceneVersion(EventContext backendContext, ConfigurationPrope
 		return luceneVersion;
 	}
 
-	private DirectoryProvider getDirectoryProvider(EventContext backendContext, ConfigurationPropertySource propertySource) {
-		// TODO be more clever about the type, also supports providing a class
+	private DirectoryProvider getDirectoryProvider(EventContext backendContext, BackendBuildContext buildContext,
+			ConfigurationPropertySource propertySource) {
 		Optional<String> directoryProviderProperty = DIRECTORY_PROVIDER.get( propertySource );
 
 		if ( !directoryProviderProperty.isPresent() ) {
@@ -120,15 +173,47 @@ private DirectoryProvider getDirectoryProvider(EventContext backendContext, Conf
 
 		String directoryProviderString = directoryProviderProperty.get();
 
-		if ( "local_directory".equals( directoryProviderString ) ) {
-			// TODO GSM: implement the checks properly
-			Path rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
+		DirectoryProvider directoryProvider;
+		switch ( directoryProviderString ) {
+			case "local_heap":
+				directoryProvider = new LocalHeapDirectoryProvider();
+				break;
+			case "local_nio":
+				directoryProvider = LocalFileSystemDirectoryProvider.nio();
+				break;
+			case "local_mmap":
+			case "local_directory":
+				directoryProvider = LocalFileSystemDirectoryProvider.mmap();
+				break;
+			default:
+				directoryProvider = getCustomDirectoryProvider( directoryProviderString, backendContext, buildContext );
+				break;
+		}
 
-			initializeRootDirectory( rootDirectory, backendContext );
-			return new MMapDirectoryProvider( backendContext, rootDirectory );
+		if ( NRT_CACHING.get( propertySource ) ) {
+			int maxMergeSize = getStrictlyPositive(
+					SearchBackendLuceneSettings.LUCENE_NRT_CACHING_MAX_MERGE_SIZE, NRT_CACHING_MAX_MERGE_SIZE,
+					backendContext, propertySource
+			);
+			int maxCachedSize = getStrictlyPositive(
+					SearchBackendLuceneSettings.LUCENE_NRT_CACHING_MAX_CACHED_SIZE, NRT_CACHING_MAX_CACHED_SIZE,
+					backendContext, propertySource
+			);
+			directoryProvider = new NRTCachingDirectoryProvider( directoryProvider, maxMergeSize, maxCachedSize );
 		}
 
-		throw log.unrecognizedLuceneDirectoryProvider( directoryProviderString, backendContext );
+		directoryProvider.initialize( new DirectoryProviderInitializationContextImpl( backendContext, propertySource ) );
+		return directoryProvider;
+	}
+
+	private DirectoryProvider getCustomDirectoryProvider(String reference, EventContext backendContext,
+			BackendBuildContext buildContext) {
+		try {
+			return buildContext.getServiceManager().getBeanProvider().getBean( reference, DirectoryProvider.class );
+		}
+		catch (RuntimeException e) {
+			throw log.unrecognizedLuceneDirectoryProvider( reference, e.getMessage(), backendContext, e );
+		}
 	}
 
 	private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext, ConfigurationPropertySource propertySource) {
@@ -148,6 +233,42 @@ private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext
 		}
 	}
 
+	private LuceneQueryWorkOrchestrator getQueryOrchestrator(EventContext backendContext,
+			ConfigurationPropertySource propertySource) {
+		int threadPoolSize = getStrictlyPositive(
+				SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE, QUERY_THREAD_POOL_SIZE,
+				backendContext, propertySource
+		);
+		int queueSize = getStrictlyPositive(
+				SearchBackendLuceneSettings.QUERY_QUEUE_SIZE, QUERY_QUEUE_SIZE,
+				backendContext, propertySource
+		);
+		QueueFullPolicyConfiguration queueFullPolicy = QUERY_QUEUE_FULL_POLICY.get( propertySource );
+
+		return new LuceneQueryWorkOrchestratorImpl( backendContext, threadPoolSize, queueSize, queueFullPolicy );
+	}
+
+	private LuceneQueryResultCache getQueryResultCache(EventContext backendContext,
+			ConfigurationPropertySource propertySource) {
+		int maxEntries = QUERY_RESULT_CACHE_MAX_ENTRIES.get( propertySource );
+		if ( maxEntries < 0 ) {
+			throw log.invalidNegativeConfigurationValue(
+					SearchBackendLuceneSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, maxEntries, backendContext
+			);
+		}
+		return new LuceneQueryResultCache( maxEntries );
+	}
+
+	private int getQueryTimeout(EventContext backendContext, ConfigurationPropertySource propertySource) {
+		int queryTimeout = QUERY_TIMEOUT.get( propertySource );
+		if ( queryTimeout < 0 ) {
+			throw log.invalidNegativeConfigurationValue(
+					SearchBackendLuceneSettings.QUERY_TIMEOUT, queryTimeout, backendContext
+			);
+		}
+		return queryTimeout;
+	}
+
 	private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventContext backendContext,
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource,
 			Version luceneVersion) {
@@ -182,20 +303,13 @@ private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventCont
 		}
 	}
 
-	private void initializeRootDirectory(Path rootDirectory, EventContext eventContext) {
-		if ( Files.exists( rootDirectory ) ) {
-			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
-				throw log.localDirectoryBackendRootDirectoryNotWritableDirectory( rootDirectory, eventContext );
-			}
-		}
-		else {
-			try {
-				Files.createDirectories( rootDirectory );
-			}
-			catch (Exception e) {
-				throw log.unableToCreateRootDirectoryForLocalDirectoryBackend( rootDirectory, eventContext, e );
-			}
+	private static int getStrictlyPositive(String propertyKey, ConfigurationProperty<Integer> property,
+			EventContext backendContext, ConfigurationPropertySource propertySource) {
+		int value = property.get( propertySource );
+		if ( value <= 0 ) {
+			throw log.invalidNonPositiveConfigurationValue( propertyKey, value, backendContext );
 		}
+		return value;
 	}
 
 	private static Version parseLuceneVersion(String versionString) {
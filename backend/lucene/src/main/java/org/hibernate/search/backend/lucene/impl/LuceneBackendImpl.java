@@ -10,17 +10,18 @@
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
-import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.index.impl.IndexingBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.StubLuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.LuceneQueryResultCacheStatistics;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -45,22 +46,31 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneQueryResultCache queryResultCache;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
+	private final ConfigurationPropertySource propertySource;
+
 	private final EventContext eventContext;
 	private final IndexingBackendContext indexingContext;
 	private final SearchBackendContext searchContext;
 
 	LuceneBackendImpl(String name, DirectoryProvider directoryProvider, LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneQueryResultCache queryResultCache,
+			int queryTimeout,
+			ConfigurationPropertySource propertySource) {
 		this.name = name;
 		this.directoryProvider = directoryProvider;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
-		this.queryOrchestrator = new StubLuceneQueryWorkOrchestrator();
+		this.queryOrchestrator = queryOrchestrator;
+		this.queryResultCache = queryResultCache;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.propertySource = propertySource;
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
@@ -68,7 +78,7 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 				workFactory, multiTenancyStrategy
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, queryResultCache, queryTimeout
 		);
 	}
 
@@ -87,9 +97,15 @@ public Backend toAPI() {
 		return this;
 	}
 
+	@Override
+	public LuceneQueryResultCacheStatistics getQueryResultCacheStatistics() {
+		return queryResultCache;
+	}
+
 	@Override
 	public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
-			String indexName, boolean multiTenancyEnabled, BackendBuildContext context, ConfigurationPropertySource propertySource) {
+			String indexName, boolean multiTenancyEnabled, BackendBuildContext context,
+			ConfigurationPropertySource indexPropertySource) {
 		if ( multiTenancyEnabled && !multiTenancyStrategy.isMultiTenancySupported() ) {
 			throw log.multiTenancyRequiredButNotSupportedByBackend( indexName, eventContext );
 		}
@@ -107,7 +123,7 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexingContext, searchContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, indexSchemaRootNodeBuilder, indexPropertySource, propertySource
 		);
 	}
 
@@ -115,6 +131,8 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneQueryWorkOrchestrator::close, queryOrchestrator );
+			// Index managers are closed before the backend, so the directories are no longer in use
+			closer.push( DirectoryProvider::close, directoryProvider );
 		}
 	}
 
@@ -123,7 +141,9 @@ public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "name=" ).append( name ).append( ", " )
-				.append( "directoryProvider=" ).append( directoryProvider )
+				.append( "directoryProvider=" ).append( directoryProvider ).append( ", " )
+				.append( "queryOrchestrator=" ).append( queryOrchestrator ).append( ", " )
+				.append( "queryResultCache=" ).append( queryResultCache )
 				.append( "]" )
 				.toString();
 	}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NRTCachingDirectory;
+
+/**
+ * A directory provider wrapping the directories of another provider in a {@link NRTCachingDirectory},
+ * so that the small segments produced by frequent reader refreshes are kept in memory
+ * instead of being written to the underlying directory.
+ */
+class NRTCachingDirectoryProvider implements DirectoryProvider {
+
+	private final DirectoryProvider delegate;
+	private final double maxMergeSizeMb;
+	private final double maxCachedSizeMb;
+
+	NRTCachingDirectoryProvider(DirectoryProvider delegate, double maxMergeSizeMb, double maxCachedSizeMb) {
+		this.delegate = delegate;
+		this.maxMergeSizeMb = maxMergeSizeMb;
+		this.maxCachedSizeMb = maxCachedSizeMb;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() +
+				"[" +
+				"delegate=" + delegate +
+				", maxMergeSizeMb=" + maxMergeSizeMb +
+				", maxCachedSizeMb=" + maxCachedSizeMb +
+				"]";
+	}
+
+	@Override
+	public void initialize(DirectoryProviderInitializationContext context) {
+		delegate.initialize( context );
+	}
+
+	@Override
+	public Directory createDirectory(String indexName) throws IOException {
+		return new NRTCachingDirectory( delegate.createDirectory( indexName ), maxMergeSizeMb, maxCachedSizeMb );
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
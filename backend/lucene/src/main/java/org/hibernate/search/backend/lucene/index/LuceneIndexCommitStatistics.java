@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index;
+
+import java.time.Duration;
+
+/**
+ * Statistics about the commits performed on a Lucene index since it was started.
+ */
+public interface LuceneIndexCommitStatistics {
+
+	/**
+	 * @return The number of commits performed on the index.
+	 */
+	long getCommitCount();
+
+	/**
+	 * @return The cumulated time spent committing the index.
+	 */
+	Duration getTotalCommitTime();
+
+	/**
+	 * @return The time spent on the longest commit, or {@link Duration#ZERO} if there wasn't any commit yet.
+	 */
+	Duration getMaxCommitTime();
+
+}
@@ -10,6 +10,12 @@
 
 public interface LuceneIndexManager extends IndexManager {
 
-	// TODO add Lucene-specific index manager APIs
+	/**
+	 * @return Statistics about the commits performed on this index,
+	 * useful to tune the {@link org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings#COMMIT_POLICY commit policy}.
+	 */
+	LuceneIndexCommitStatistics getCommitStatistics();
+
+	// TODO add more Lucene-specific index manager APIs
 
 }
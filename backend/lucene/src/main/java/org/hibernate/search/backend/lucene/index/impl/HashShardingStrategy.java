@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+/**
+ * Assigns documents to shards based on the hash of their routing key,
+ * or of their identifier if they don't have a routing key.
+ */
+final class HashShardingStrategy {
+
+	private final int shardCount;
+
+	HashShardingStrategy(int shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[shardCount=" + shardCount + "]";
+	}
+
+	int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * @param documentId The identifier of a document.
+	 * @param routingKey The routing key of the same document, or {@code null}.
+	 * @return The index of the shard this document belongs to.
+	 */
+	int toShardIndex(String documentId, String routingKey) {
+		return toShardIndex( routingKey == null ? documentId : routingKey );
+	}
+
+	/**
+	 * @param key A routing key, or the identifier of a document without routing key.
+	 * @return The index of the shard documents with this key belong to.
+	 */
+	int toShardIndex(String key) {
+		// String.hashCode() is specified by the JDK, so the assignment is stable across JVMs and restarts
+		return Math.floorMod( key.hashCode(), shardCount );
+	}
+}
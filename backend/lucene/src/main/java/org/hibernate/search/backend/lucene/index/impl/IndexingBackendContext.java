@@ -8,10 +8,13 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.EventContext;
@@ -49,11 +52,30 @@ Directory createDirectory(String indexName) throws IOException {
 	}
 
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
-			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContext sessionContext) {
+			ShardedIndexWorkOrchestrator orchestrator,
+			String indexName, SessionContext sessionContext, boolean commitOnExecute) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
+				indexName, sessionContext, commitOnExecute );
+	}
+
+	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
+			ShardedIndexWorkOrchestrator orchestrator,
+			String indexName, SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
 				indexName, sessionContext );
 	}
+
+	IndexWorkExecutor createWorkExecutor(ShardedIndexWorkOrchestrator orchestrator, String indexName,
+			Runnable beginMassIndexing, Runnable endMassIndexing) {
+		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
+				indexName, eventContext, beginMassIndexing, endMassIndexing );
+	}
+
+	LuceneIndexWork<?> createCommitWork(String indexName) {
+		return workFactory.commit( indexName );
+	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+/**
+ * An executor streaming additions to the index writer, without committing:
+ * commits are expected to happen through {@link LuceneIndexWorkExecutor#flush()}.
+ */
+class LuceneIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> {
+
+	private final LuceneWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ShardedIndexWorkOrchestrator orchestrator;
+	private final String indexName;
+	private final String tenantId;
+
+	LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			ShardedIndexWorkOrchestrator orchestrator,
+			String indexName, SessionContext sessionContext) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.orchestrator = orchestrator;
+		this.indexName = indexName;
+		this.tenantId = sessionContext.getTenantIdentifier();
+	}
+
+	@Override
+	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
+		String id = referenceProvider.getIdentifier();
+		String routingKey = referenceProvider.getRoutingKey();
+
+		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
+		documentContributor.contribute( builder );
+		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
+
+		return orchestrator.forDocument( id, routingKey ).submit( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
+	}
+}
@@ -8,14 +8,22 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexCommitStatisticsImpl;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.LoggerFactory;
@@ -32,20 +40,56 @@ public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRoot
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<ReaderRefreshStrategyConfiguration> READER_REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.READER_REFRESH_STRATEGY )
+					.as( ReaderRefreshStrategyConfiguration.class, ReaderRefreshStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.READER_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.READER_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.READER_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SHARDING_NUMBER_OF_SHARDS =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.SHARDING_NUMBER_OF_SHARDS )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.SHARDING_NUMBER_OF_SHARDS )
+					.build();
+
+	private static final ConfigurationProperty<CommitPolicyConfiguration> COMMIT_POLICY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.COMMIT_POLICY )
+					.as( CommitPolicyConfiguration.class, CommitPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.COMMIT_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.COMMIT_INTERVAL )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.COMMIT_INTERVAL )
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
 	private final String indexName;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
+	private final ConfigurationPropertySource propertySource;
+	private final ConfigurationPropertySource backendPropertySource;
 
 	public LuceneIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName,
-			LuceneIndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder) {
+			LuceneIndexSchemaRootNodeBuilder indexSchemaRootNodeBuilder,
+			ConfigurationPropertySource propertySource,
+			ConfigurationPropertySource backendPropertySource) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = indexSchemaRootNodeBuilder;
+		this.propertySource = propertySource;
+		this.backendPropertySource = backendPropertySource;
 	}
 
 	@Override
@@ -61,26 +105,99 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 	@Override
 	public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
+		List<LuceneIndexShard> shards = new ArrayList<>();
 		try {
 			model = new LuceneIndexModel( indexName, schemaRootNodeBuilder );
-			indexWriter = createIndexWriter( model );
+			// Index writer settings can be set for the whole backend and overridden for each index
+			ConfigurationPropertySource writerPropertySource = propertySource.withFallback( backendPropertySource );
+			LuceneIndexWriterSettings writerSettings =
+					LuceneIndexWriterSettings.create( writerPropertySource, getEventContext() );
+			LuceneIndexWriterSettings massIndexingWriterSettings =
+					writerSettings.createMassIndexingSettings( writerPropertySource, getEventContext() );
+			HashShardingStrategy shardingStrategy = new HashShardingStrategy( getStrictlyPositive(
+					SearchBackendLuceneSettings.SHARDING_NUMBER_OF_SHARDS, SHARDING_NUMBER_OF_SHARDS
+			) );
+			CommitPolicyConfiguration commitPolicy = COMMIT_POLICY.get( propertySource );
+			int commitInterval = getStrictlyPositive(
+					SearchBackendLuceneSettings.COMMIT_INTERVAL, COMMIT_INTERVAL
+			);
+			LuceneIndexCommitStatisticsImpl commitStatistics = new LuceneIndexCommitStatisticsImpl();
+			for ( int i = 0; i < shardingStrategy.getShardCount(); i++ ) {
+				shards.add( createShard( model, shardingStrategy, i, writerSettings, commitStatistics,
+						commitPolicy, commitInterval ) );
+			}
 			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model,
+					shardingStrategy, shards, commitStatistics, commitPolicy,
+					writerSettings, massIndexingWriterSettings
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( model )
+					.pushAll( shards );
+			throw e;
+		}
+	}
+
+	private LuceneIndexShard createShard(LuceneIndexModel model, HashShardingStrategy shardingStrategy, int shardIndex,
+			LuceneIndexWriterSettings writerSettings, LuceneIndexCommitStatisticsImpl commitStatistics,
+			CommitPolicyConfiguration commitPolicy, int commitInterval) {
+		/*
+		 * Unsharded indexes use the index name as directory name, so that enabling sharding
+		 * does not affect the location of existing indexes.
+		 */
+		String directoryName;
+		EventContext eventContext;
+		if ( shardingStrategy.getShardCount() == 1 ) {
+			directoryName = indexName;
+			eventContext = getEventContext();
+		}
+		else {
+			String shardId = String.valueOf( shardIndex );
+			directoryName = indexName + "." + shardId;
+			eventContext = getEventContext().append( EventContexts.fromShardId( shardId ) );
+		}
+		IndexWriter indexWriter = null;
+		SharedReaderProvider readerProvider = null;
+		try {
+			indexWriter = createIndexWriter( model, directoryName, writerSettings, eventContext );
+			readerProvider = createReaderProvider( indexWriter, eventContext );
+			return new LuceneIndexShard(
+					eventContext, indexWriter, readerProvider, commitStatistics,
+					commitPolicy, commitInterval, () -> indexingBackendContext.createCommitWork( indexName )
+			);
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.push( readerProvider )
 					.push( indexWriter );
 			throw e;
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
+	private SharedReaderProvider createReaderProvider(IndexWriter indexWriter, EventContext eventContext) {
+		ReaderRefreshStrategyConfiguration refreshStrategy = READER_REFRESH_STRATEGY.get( propertySource );
+		int refreshInterval = getStrictlyPositive(
+				SearchBackendLuceneSettings.READER_REFRESH_INTERVAL, READER_REFRESH_INTERVAL
+		);
+		return new SharedReaderProvider( eventContext, indexWriter, refreshStrategy, refreshInterval );
+	}
+
+	private int getStrictlyPositive(String propertyKey, ConfigurationProperty<Integer> property) {
+		int value = property.get( propertySource );
+		if ( value <= 0 ) {
+			throw log.invalidNonPositiveConfigurationValue( propertyKey, value, getEventContext() );
+		}
+		return value;
+	}
+
+	private IndexWriter createIndexWriter(LuceneIndexModel model, String directoryName,
+			LuceneIndexWriterSettings writerSettings, EventContext eventContext) {
 		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
+		writerSettings.applyTo( indexWriterConfig );
 		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
+			Directory directory = indexingBackendContext.createDirectory( directoryName );
 			try {
 				return new IndexWriter( directory, indexWriterConfig );
 			}
@@ -90,7 +207,7 @@ private IndexWriter createIndexWriter(LuceneIndexModel model) {
 			}
 		}
 		catch (IOException | RuntimeException e) {
-			throw log.unableToCreateIndexWriter( getEventContext(), e );
+			throw log.unableToCreateIndexWriter( eventContext, e );
 		}
 	}
 
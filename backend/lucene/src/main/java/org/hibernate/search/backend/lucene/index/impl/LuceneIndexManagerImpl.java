@@ -8,19 +8,28 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
-
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.index.LuceneIndexCommitStatistics;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.StubLuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.ShardedReaderProviders;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexCommitStatisticsImpl;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
@@ -28,17 +37,12 @@
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-
 
 /**
  * @author Guillaume Smet
  */
-// TODO in the end the IndexManager won't implement ReaderProvider as it's far more complex than that
 class LuceneIndexManagerImpl
-		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager, ReaderProvider {
+		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -48,22 +52,47 @@
 	private final String indexName;
 	private final LuceneIndexModel model;
 
-	private final LuceneIndexWorkOrchestrator workPlanOrchestrator;
-	private final LuceneIndexWorkOrchestrator streamOrchestrator;
-	private final IndexWriter indexWriter;
+	private final HashShardingStrategy shardingStrategy;
+	private final List<LuceneIndexShard> shards;
+	private final ShardedIndexWorkOrchestrator workPlanOrchestrator;
+	private final ShardedIndexWorkOrchestrator streamOrchestrator;
+	private final ShardedReaderProviders readerProviders;
+	private final LuceneIndexCommitStatisticsImpl commitStatistics;
+	private final boolean commitOnWorkPlanExecution;
+	private final LuceneIndexWriterSettings writerSettings;
+	private final LuceneIndexWriterSettings massIndexingWriterSettings;
+	// The number of mass indexing processes currently targeting this index
+	private int massIndexingCount = 0;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
-			String indexName, LuceneIndexModel model, IndexWriter indexWriter) {
+			String indexName, LuceneIndexModel model,
+			HashShardingStrategy shardingStrategy, List<LuceneIndexShard> shards,
+			LuceneIndexCommitStatisticsImpl commitStatistics,
+			CommitPolicyConfiguration commitPolicy,
+			LuceneIndexWriterSettings writerSettings, LuceneIndexWriterSettings massIndexingWriterSettings) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
 
-		this.workPlanOrchestrator = new StubLuceneIndexWorkOrchestrator( indexWriter );
-		this.streamOrchestrator = new StubLuceneIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+		this.shardingStrategy = shardingStrategy;
+		this.shards = shards;
+		this.workPlanOrchestrator = new ShardedIndexWorkOrchestrator(
+				shardingStrategy,
+				shards.stream().map( LuceneIndexShard::getWorkPlanOrchestrator ).collect( Collectors.toList() )
+		);
+		this.streamOrchestrator = new ShardedIndexWorkOrchestrator(
+				shardingStrategy,
+				shards.stream().map( LuceneIndexShard::getStreamOrchestrator ).collect( Collectors.toList() )
+		);
+		this.readerProviders = this::collectReaderProviders;
+		this.commitStatistics = commitStatistics;
+		// With the scheduled commit policy, each shard commits on its own
+		this.commitOnWorkPlanExecution = !CommitPolicyConfiguration.SCHEDULED.equals( commitPolicy );
+		this.writerSettings = writerSettings;
+		this.massIndexingWriterSettings = massIndexingWriterSettings;
 	}
 
 	LuceneIndexModel getModel() {
@@ -73,10 +102,21 @@ LuceneIndexModel getModel() {
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContext sessionContext) {
 		return indexingBackendContext.createWorkPlan(
-				workPlanOrchestrator, indexName, sessionContext
+				workPlanOrchestrator, indexName, sessionContext, commitOnWorkPlanExecution
 		);
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContext sessionContext) {
+		return indexingBackendContext.createDocumentWorkExecutor( streamOrchestrator, indexName, sessionContext );
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor() {
+		return indexingBackendContext.createWorkExecutor( streamOrchestrator, indexName,
+				this::beginMassIndexing, this::endMassIndexing );
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return new LuceneIndexSearchTargetBuilder( searchBackendContext, this );
@@ -99,6 +139,7 @@ public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "name=" ).append( indexName )
+				.append( ", shardingStrategy=" ).append( shardingStrategy )
 				.append( "]" )
 				.toString();
 	}
@@ -106,10 +147,7 @@ public String toString() {
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( LuceneIndexWorkOrchestrator::close, workPlanOrchestrator );
-			closer.push( LuceneIndexWorkOrchestrator::close, streamOrchestrator );
-			// Close the index writer after the orchestrators, when we're sure all works have been performed
-			closer.push( IndexWriter::close, indexWriter );
+			closer.pushAll( LuceneIndexShard::close, shards );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -117,30 +155,55 @@ public void close() {
 		}
 	}
 
-	ReaderProvider getReaderProvider() {
-		return this;
+	private synchronized void beginMassIndexing() {
+		++massIndexingCount;
+		if ( massIndexingCount == 1 ) {
+			applySettings( massIndexingWriterSettings );
+		}
 	}
 
-	@Override
-	public IndexReader openIndexReader() {
-		try {
-			return DirectoryReader.open( indexWriter );
+	private synchronized void endMassIndexing() {
+		if ( massIndexingCount == 0 ) {
+			// Unbalanced call: nothing to revert
+			return;
 		}
-		catch (IOException e) {
-			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
+		--massIndexingCount;
+		if ( massIndexingCount == 0 ) {
+			applySettings( writerSettings );
 		}
 	}
 
-	@Override
-	public void closeIndexReader(IndexReader reader) {
-		try {
-			reader.close();
+	private void applySettings(LuceneIndexWriterSettings settings) {
+		for ( LuceneIndexShard shard : shards ) {
+			shard.applySettings( settings );
 		}
-		catch (IOException e) {
-			log.unableToCloseIndexReader( getBackendAndIndexEventContext(), e );
+	}
+
+	ShardedReaderProviders getReaderProviders() {
+		return readerProviders;
+	}
+
+	private void collectReaderProviders(Set<String> routingKeys, Collection<ReaderProvider> collector) {
+		if ( routingKeys.isEmpty() || shards.size() == 1 ) {
+			for ( LuceneIndexShard shard : shards ) {
+				collector.add( shard.getReaderProvider() );
+			}
+		}
+		else {
+			// Only search the shards that may contain documents with the given routing keys
+			BitSet targetedShards = new BitSet( shards.size() );
+			for ( String routingKey : routingKeys ) {
+				targetedShards.set( shardingStrategy.toShardIndex( routingKey ) );
+			}
+			targetedShards.stream().forEach( i -> collector.add( shards.get( i ).getReaderProvider() ) );
 		}
 	}
 
+	@Override
+	public LuceneIndexCommitStatistics getCommitStatistics() {
+		return commitStatistics;
+	}
+
 	@Override
 	public IndexManager toAPI() {
 		return this;
@@ -11,10 +11,10 @@
 
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBase;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchTargetContext;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.ShardedReaderProviders;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.ObjectLoader;
@@ -33,7 +33,7 @@ class LuceneIndexSearchTarget extends IndexSearchTargetBase {
 	private final SearchTargetContext<?> searchTargetContext;
 
 	LuceneIndexSearchTarget(SearchBackendContext searchBackendContext,
-			Set<LuceneIndexModel> indexModels, Set<ReaderProvider> readerProviders) {
+			Set<LuceneIndexModel> indexModels, Set<ShardedReaderProviders> readerProviders) {
 		this.searchTargetModel = new LuceneSearchTargetModel( indexModels, readerProviders );
 		this.searchTargetContext = new LuceneSearchTargetContext( searchBackendContext, searchTargetModel );
 	}
@@ -14,9 +14,9 @@
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.ShardedReaderProviders;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 
@@ -53,8 +53,7 @@ public IndexSearchTarget build() {
 		Set<LuceneIndexModel> indexModels = indexManagers.stream().map( LuceneIndexManagerImpl::getModel )
 				.collect( Collectors.toCollection( LinkedHashSet::new ) );
 
-		// TODO obviously, this will have to be changed once we have the full storage complexity from Search 5
-		Set<ReaderProvider> readerProviders = indexManagers.stream().map( LuceneIndexManagerImpl::getReaderProvider )
+		Set<ShardedReaderProviders> readerProviders = indexManagers.stream().map( LuceneIndexManagerImpl::getReaderProviders )
 				.collect( Collectors.toCollection( LinkedHashSet::new ) );
 
 		return new LuceneIndexSearchTarget( searchBackendContext, indexModels, readerProviders );
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.StubLuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexCommitStatisticsImpl;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A shard of an index, i.e. a subset of the documents of this index,
+ * with its own directory, index writer and index reader.
+ */
+class LuceneIndexShard implements AutoCloseable {
+
+	private final EventContext eventContext;
+	private final IndexWriter indexWriter;
+	private final SharedReaderProvider readerProvider;
+	private final LuceneIndexWorkOrchestrator workPlanOrchestrator;
+	private final LuceneIndexWorkOrchestrator streamOrchestrator;
+	private final ScheduledIndexCommitter scheduledCommitter;
+
+	LuceneIndexShard(EventContext eventContext, IndexWriter indexWriter, SharedReaderProvider readerProvider,
+			LuceneIndexCommitStatisticsImpl commitStatistics,
+			CommitPolicyConfiguration commitPolicy, int commitInterval,
+			Supplier<LuceneIndexWork<?>> commitWorkFactory) {
+		this.eventContext = eventContext;
+		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
+		this.workPlanOrchestrator = new StubLuceneIndexWorkOrchestrator(
+				indexWriter, commitStatistics, readerProvider::onIndexChanged
+		);
+		this.streamOrchestrator = new StubLuceneIndexWorkOrchestrator(
+				indexWriter, commitStatistics, readerProvider::onIndexChanged
+		);
+		if ( CommitPolicyConfiguration.SCHEDULED.equals( commitPolicy ) ) {
+			this.scheduledCommitter = new ScheduledIndexCommitter(
+					eventContext, indexWriter, workPlanOrchestrator, commitWorkFactory, commitInterval
+			);
+		}
+		else {
+			this.scheduledCommitter = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( scheduledCommitter != null ) {
+				closer.push( ScheduledIndexCommitter::close, scheduledCommitter );
+			}
+			closer.push( LuceneIndexWorkOrchestrator::close, workPlanOrchestrator );
+			closer.push( LuceneIndexWorkOrchestrator::close, streamOrchestrator );
+			closer.push( SharedReaderProvider::close, readerProvider );
+			// Close the index writer after the orchestrators, when we're sure all works have been performed
+			closer.push( IndexWriter::close, indexWriter );
+		}
+	}
+
+	void applySettings(LuceneIndexWriterSettings writerSettings) {
+		writerSettings.applyTo( indexWriter.getConfig() );
+	}
+
+	LuceneIndexWorkOrchestrator getWorkPlanOrchestrator() {
+		return workPlanOrchestrator;
+	}
+
+	LuceneIndexWorkOrchestrator getStreamOrchestrator() {
+		return streamOrchestrator;
+	}
+
+	SharedReaderProvider getReaderProvider() {
+		return readerProvider;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.util.EventContext;
+
+class LuceneIndexWorkExecutor implements IndexWorkExecutor {
+
+	private final LuceneWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ShardedIndexWorkOrchestrator orchestrator;
+	private final String indexName;
+	private final EventContext eventContext;
+	private final Runnable beginMassIndexing;
+	private final Runnable endMassIndexing;
+
+	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			ShardedIndexWorkOrchestrator orchestrator,
+			String indexName, EventContext eventContext,
+			Runnable beginMassIndexing, Runnable endMassIndexing) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.orchestrator = orchestrator;
+		this.indexName = indexName;
+		this.eventContext = eventContext;
+		this.beginMassIndexing = beginMassIndexing;
+		this.endMassIndexing = endMassIndexing;
+	}
+
+	@Override
+	public CompletableFuture<?> purge(String tenantId) {
+		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
+
+		return orchestrator.submitToAllShards( Arrays.asList(
+				factory.deleteAll( indexName, tenantId ),
+				factory.commit( indexName )
+		) );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize() {
+		// The optimize work commits, too
+		return orchestrator.submitToAllShards( Collections.singletonList( factory.optimize( indexName ) ) );
+	}
+
+	@Override
+	public CompletableFuture<?> flush() {
+		// Committing flushes pending changes, and the reader provider is notified after each work
+		return orchestrator.submitToAllShards( Collections.singletonList( factory.commit( indexName ) ) );
+	}
+
+	@Override
+	public void beginMassIndexing() {
+		beginMassIndexing.run();
+	}
+
+	@Override
+	public void endMassIndexing() {
+		endMassIndexing.run();
+	}
+}
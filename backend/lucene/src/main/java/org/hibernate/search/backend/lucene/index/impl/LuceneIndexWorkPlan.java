@@ -7,7 +7,10 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -29,20 +32,23 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final ShardedIndexWorkOrchestrator orchestrator;
 	private final String indexName;
 	private final String tenantId;
+	private final boolean commitOnExecute;
 
-	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
+	// Use LinkedHashMap to ensure stable order when executing works
+	private final Map<LuceneIndexWorkOrchestrator, List<LuceneIndexWork<?>>> worksByShard = new LinkedHashMap<>();
 
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
-			String indexName, SessionContext sessionContext) {
+			ShardedIndexWorkOrchestrator orchestrator,
+			String indexName, SessionContext sessionContext, boolean commitOnExecute) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.commitOnExecute = commitOnExecute;
 	}
 
 	@Override
@@ -55,9 +61,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -70,9 +74,7 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -80,9 +82,7 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.delete( indexName, tenantId, id, routingKey ) );
 	}
 
 	@Override
@@ -93,15 +93,32 @@ public void prepare() {
 	@Override
 	public CompletableFuture<?> execute() {
 		try {
-			CompletableFuture<?> future = orchestrator.submit( works );
-			return future;
+			if ( worksByShard.isEmpty() ) {
+				return orchestrator.submitToAllShards( Collections.emptyList() );
+			}
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[worksByShard.size()];
+			int i = 0;
+			for ( Map.Entry<LuceneIndexWorkOrchestrator, List<LuceneIndexWork<?>>> entry : worksByShard.entrySet() ) {
+				List<LuceneIndexWork<?>> works = entry.getValue();
+				if ( commitOnExecute ) {
+					// A single commit for the whole work plan in each shard
+					List<LuceneIndexWork<?>> worksWithCommit = new ArrayList<>( works.size() + 1 );
+					worksWithCommit.addAll( works );
+					worksWithCommit.add( factory.commit( indexName ) );
+					works = worksWithCommit;
+				}
+				futures[i] = entry.getKey().submit( works );
+				++i;
+			}
+			return futures.length == 1 ? futures[0] : CompletableFuture.allOf( futures );
 		}
 		finally {
-			works.clear();
+			worksByShard.clear();
 		}
 	}
 
-	private void collect(LuceneIndexWork<?> work) {
-		works.add( work );
+	private void collect(String id, String routingKey, LuceneIndexWork<?> work) {
+		worksByShard.computeIfAbsent( orchestrator.forDocument( id, routingKey ), ignored -> new ArrayList<>() )
+				.add( work );
 	}
 }
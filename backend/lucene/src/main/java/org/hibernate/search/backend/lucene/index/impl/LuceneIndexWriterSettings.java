@@ -0,0 +1,212 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * The tunable settings of an index writer.
+ * <p>
+ * All these settings can be changed while the index writer is open,
+ * so that we can switch between the regular settings and the mass indexing settings
+ * without re-opening the index writer.
+ */
+final class LuceneIndexWriterSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String KEY_PREFIX = "indexwriter.";
+
+	private static final LuceneIndexWriterSettings DEFAULTS;
+
+	static {
+		TieredMergePolicy defaultMergePolicy = new TieredMergePolicy();
+		DEFAULTS = new LuceneIndexWriterSettings(
+				IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB,
+				IndexWriterConfig.DEFAULT_MAX_BUFFERED_DOCS,
+				defaultMergePolicy.getMaxMergeAtOnce(),
+				defaultMergePolicy.getFloorSegmentMB(),
+				defaultMergePolicy.getMaxMergedSegmentMB(),
+				ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS,
+				ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS
+		);
+	}
+
+	/**
+	 * @param propertySource The index property source.
+	 * @param eventContext The event context to use when reporting errors.
+	 * @return The settings to use during regular indexing.
+	 */
+	static LuceneIndexWriterSettings create(ConfigurationPropertySource propertySource, EventContext eventContext) {
+		return create( propertySource, eventContext, UnaryOperator.identity(), DEFAULTS );
+	}
+
+	private final double ramBufferSizeMb;
+	private final int maxBufferedDocs;
+	private final int mergeFactor;
+	private final double mergeMinSizeMb;
+	private final double mergeMaxSizeMb;
+	private final int maxMergeCount;
+	private final int maxThreadCount;
+
+	private LuceneIndexWriterSettings(double ramBufferSizeMb, int maxBufferedDocs,
+			int mergeFactor, double mergeMinSizeMb, double mergeMaxSizeMb,
+			int maxMergeCount, int maxThreadCount) {
+		this.ramBufferSizeMb = ramBufferSizeMb;
+		this.maxBufferedDocs = maxBufferedDocs;
+		this.mergeFactor = mergeFactor;
+		this.mergeMinSizeMb = mergeMinSizeMb;
+		this.mergeMaxSizeMb = mergeMaxSizeMb;
+		this.maxMergeCount = maxMergeCount;
+		this.maxThreadCount = maxThreadCount;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "ramBufferSizeMb=" ).append( ramBufferSizeMb )
+				.append( ", maxBufferedDocs=" ).append( maxBufferedDocs )
+				.append( ", mergeFactor=" ).append( mergeFactor )
+				.append( ", mergeMinSizeMb=" ).append( mergeMinSizeMb )
+				.append( ", mergeMaxSizeMb=" ).append( mergeMaxSizeMb )
+				.append( ", maxMergeCount=" ).append( maxMergeCount )
+				.append( ", maxThreadCount=" ).append( maxThreadCount )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * @param propertySource The index property source.
+	 * @param eventContext The event context to use when reporting errors.
+	 * @return The settings to use during mass indexing:
+	 * these settings, overridden with the {@link SearchBackendLuceneSettings#INDEXWRITER_MASS_INDEXING mass indexing properties}.
+	 */
+	LuceneIndexWriterSettings createMassIndexingSettings(ConfigurationPropertySource propertySource,
+			EventContext eventContext) {
+		return create(
+				propertySource, eventContext,
+				key -> SearchBackendLuceneSettings.INDEXWRITER_MASS_INDEXING + "." + key.substring( KEY_PREFIX.length() ),
+				this
+		);
+	}
+
+	/**
+	 * Apply these settings to the given configuration, which may belong to an open index writer.
+	 *
+	 * @param config The index writer configuration.
+	 */
+	void applyTo(LiveIndexWriterConfig config) {
+		// The RAM buffer is always enabled, so the buffered docs limit can be disabled without any risk
+		config.setRAMBufferSizeMB( ramBufferSizeMb );
+		config.setMaxBufferedDocs( maxBufferedDocs );
+
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		mergePolicy.setSegmentsPerTier( mergeFactor );
+		mergePolicy.setMaxMergeAtOnce( mergeFactor );
+		mergePolicy.setFloorSegmentMB( mergeMinSizeMb );
+		mergePolicy.setMaxMergedSegmentMB( mergeMaxSizeMb );
+		config.setMergePolicy( mergePolicy );
+
+		MergeScheduler mergeScheduler = config.getMergeScheduler();
+		if ( mergeScheduler instanceof ConcurrentMergeScheduler ) {
+			( (ConcurrentMergeScheduler) mergeScheduler ).setMaxMergesAndThreads( maxMergeCount, maxThreadCount );
+		}
+	}
+
+	private static LuceneIndexWriterSettings create(ConfigurationPropertySource propertySource,
+			EventContext eventContext, UnaryOperator<String> keyTransformer, LuceneIndexWriterSettings fallback) {
+		Optional<Integer> ramBufferSize = getStrictlyPositive(
+				propertySource, eventContext, keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_RAM_BUFFER_SIZE )
+		);
+		Optional<Integer> maxBufferedDocs = getStrictlyPositive(
+				propertySource, eventContext, keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_MAX_BUFFERED_DOCS )
+		);
+		Optional<Integer> mergeFactor = getStrictlyPositive(
+				propertySource, eventContext, keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_MERGE_FACTOR )
+		);
+		Optional<Integer> mergeMinSize = getStrictlyPositive(
+				propertySource, eventContext, keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_MERGE_MIN_SIZE )
+		);
+		Optional<Integer> mergeMaxSize = getStrictlyPositive(
+				propertySource, eventContext, keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_MERGE_MAX_SIZE )
+		);
+		Optional<Integer> maxThreadCount = getStrictlyPositive(
+				propertySource, eventContext,
+				keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_MERGE_SCHEDULER_MAX_THREAD_COUNT )
+		);
+		Optional<Integer> maxMergeCount = getStrictlyPositive(
+				propertySource, eventContext,
+				keyTransformer.apply( SearchBackendLuceneSettings.INDEXWRITER_MERGE_SCHEDULER_MAX_MERGE_COUNT )
+		);
+
+		int resolvedMaxThreadCount;
+		int resolvedMaxMergeCount;
+		if ( !maxThreadCount.isPresent() && !maxMergeCount.isPresent() ) {
+			resolvedMaxThreadCount = fallback.maxThreadCount;
+			resolvedMaxMergeCount = fallback.maxMergeCount;
+		}
+		else {
+			// Lucene does not allow auto-detecting only one of the two values
+			resolvedMaxThreadCount = maxThreadCount.orElseGet( () -> {
+				int threadCount = fallback.maxThreadCount != ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS
+						? fallback.maxThreadCount : getDefaultMaxThreadCount();
+				return Math.min( threadCount, maxMergeCount.get() );
+			} );
+			resolvedMaxMergeCount = maxMergeCount.orElseGet( () ->
+					Math.max( fallback.maxMergeCount, resolvedMaxThreadCount + 5 )
+			);
+			if ( resolvedMaxMergeCount < resolvedMaxThreadCount ) {
+				throw log.invalidMergeSchedulerConfiguration( resolvedMaxMergeCount, resolvedMaxThreadCount, eventContext );
+			}
+		}
+
+		return new LuceneIndexWriterSettings(
+				ramBufferSize.<Double>map( Integer::doubleValue ).orElse( fallback.ramBufferSizeMb ),
+				maxBufferedDocs.orElse( fallback.maxBufferedDocs ),
+				mergeFactor.orElse( fallback.mergeFactor ),
+				mergeMinSize.<Double>map( Integer::doubleValue ).orElse( fallback.mergeMinSizeMb ),
+				mergeMaxSize.<Double>map( Integer::doubleValue ).orElse( fallback.mergeMaxSizeMb ),
+				resolvedMaxMergeCount,
+				resolvedMaxThreadCount
+		);
+	}
+
+	private static Optional<Integer> getStrictlyPositive(ConfigurationPropertySource propertySource,
+			EventContext eventContext, String propertyKey) {
+		ConfigurationProperty<Optional<Integer>> property = ConfigurationProperty.forKey( propertyKey )
+				.asInteger()
+				.build();
+		Optional<Integer> value = property.get( propertySource );
+		if ( value.isPresent() && value.get() <= 0 ) {
+			throw log.invalidNonPositiveConfigurationValue( propertyKey, value.get(), eventContext );
+		}
+		return value;
+	}
+
+	/*
+	 * Same as what Lucene auto-detects for non-spinning storage.
+	 */
+	private static int getDefaultMaxThreadCount() {
+		return Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() / 2 ) );
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Periodically submits a commit work to an orchestrator when the index writer has uncommitted changes.
+ * <p>
+ * Commits go through the orchestrator, so that they are executed in order with the other index works.
+ */
+class ScheduledIndexCommitter implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final IndexWriter indexWriter;
+	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final Supplier<LuceneIndexWork<?>> commitWorkFactory;
+	private final ScheduledExecutorService executor;
+
+	ScheduledIndexCommitter(EventContext eventContext, IndexWriter indexWriter,
+			LuceneIndexWorkOrchestrator orchestrator, Supplier<LuceneIndexWork<?>> commitWorkFactory,
+			int commitIntervalMs) {
+		this.eventContext = eventContext;
+		this.indexWriter = indexWriter;
+		this.orchestrator = orchestrator;
+		this.commitWorkFactory = commitWorkFactory;
+		this.executor = Executors.newScheduledThreadPool( "Lucene scheduled commit - " + eventContext.render() );
+		this.executor.scheduleWithFixedDelay( this::commitIfNecessary, commitIntervalMs, commitIntervalMs,
+				TimeUnit.MILLISECONDS );
+	}
+
+	@Override
+	public void close() {
+		// The index writer will commit pending changes when it is closed
+		executor.shutdownNow();
+	}
+
+	private void commitIfNecessary() {
+		try {
+			if ( !indexWriter.hasUncommittedChanges() ) {
+				return;
+			}
+			orchestrator.submit( commitWorkFactory.get() )
+					.exceptionally( Futures.handler( throwable -> {
+						log.unableToPerformScheduledCommit( eventContext, throwable );
+						return null;
+					} ) )
+					// Wait for the commit, so as not to submit a new one before this one is done
+					.join();
+		}
+		catch (RuntimeException e) {
+			// Do not propagate the exception, or the executor would stop scheduling commits
+			log.unableToPerformScheduledCommit( eventContext, e );
+		}
+	}
+}
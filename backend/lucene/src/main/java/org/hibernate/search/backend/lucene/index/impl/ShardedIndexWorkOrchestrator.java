@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+
+/**
+ * Dispatches works to the orchestrators of the shards of an index:
+ * document works go to the shard owning the document, index-wide works go to every shard.
+ */
+class ShardedIndexWorkOrchestrator {
+
+	private final HashShardingStrategy shardingStrategy;
+	private final List<LuceneIndexWorkOrchestrator> shardOrchestrators;
+
+	ShardedIndexWorkOrchestrator(HashShardingStrategy shardingStrategy,
+			List<LuceneIndexWorkOrchestrator> shardOrchestrators) {
+		this.shardingStrategy = shardingStrategy;
+		this.shardOrchestrators = shardOrchestrators;
+	}
+
+	/**
+	 * @param documentId The identifier of a document.
+	 * @param routingKey The routing key of the same document, or {@code null}.
+	 * @return The orchestrator of the shard this document belongs to.
+	 */
+	LuceneIndexWorkOrchestrator forDocument(String documentId, String routingKey) {
+		if ( shardOrchestrators.size() == 1 ) {
+			return shardOrchestrators.get( 0 );
+		}
+		return shardOrchestrators.get( shardingStrategy.toShardIndex( documentId, routingKey ) );
+	}
+
+	/**
+	 * @param works The works to execute against each shard, in order.
+	 * @return A future completing when the works have been executed against every shard.
+	 */
+	CompletableFuture<?> submitToAllShards(List<LuceneIndexWork<?>> works) {
+		if ( shardOrchestrators.size() == 1 ) {
+			return shardOrchestrators.get( 0 ).submit( works );
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[shardOrchestrators.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = shardOrchestrators.get( i ).submit( works );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.ReaderManager;
+
+/**
+ * A {@link ReaderProvider} sharing a single near-real-time reader between all searches,
+ * refreshing it according to a {@link ReaderRefreshStrategyConfiguration refresh strategy}.
+ * <p>
+ * Readers are reference-counted: {@link #openIndexReader()} acquires a reference
+ * and {@link #closeIndexReader(IndexReader)} releases it,
+ * so that a reader is only closed once it has been replaced by a fresher one
+ * and all the searches using it are done.
+ */
+class SharedReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final ReaderManager readerManager;
+	private final ReaderRefreshStrategyConfiguration refreshStrategy;
+	private final long refreshIntervalNanos;
+	private final ScheduledExecutorService refreshExecutor;
+
+	private final AtomicLong changeGeneration = new AtomicLong( 0L );
+	private final Object refreshLock = new Object();
+	// Protected by synchronization on refreshLock for updates
+	private volatile long refreshedGeneration = 0L;
+	private volatile long lastRefreshNanos;
+
+	SharedReaderProvider(EventContext eventContext, IndexWriter indexWriter,
+			ReaderRefreshStrategyConfiguration refreshStrategy, int refreshIntervalMs) {
+		this.eventContext = eventContext;
+		try {
+			this.readerManager = new ReaderManager( indexWriter );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+		this.refreshStrategy = refreshStrategy;
+		this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos( refreshIntervalMs );
+		this.lastRefreshNanos = System.nanoTime();
+		if ( ReaderRefreshStrategyConfiguration.PERIODIC.equals( refreshStrategy ) ) {
+			this.refreshExecutor = Executors.newScheduledThreadPool( "Lucene reader refresh - " + eventContext.render() );
+			this.refreshExecutor.scheduleWithFixedDelay(
+					this::periodicRefresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS
+			);
+		}
+		else {
+			this.refreshExecutor = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( refreshExecutor != null ) {
+				closer.push( ScheduledExecutorService::shutdownNow, refreshExecutor );
+			}
+			closer.push( ReaderManager::close, readerManager );
+		}
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		try {
+			if ( isRefreshOnAccess() && needsRefresh() ) {
+				refresh();
+			}
+			return readerManager.acquire();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	/**
+	 * To be called after changes were applied to the index writer,
+	 * so that the next refresh takes them into account.
+	 */
+	void onIndexChanged() {
+		changeGeneration.incrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "eventContext=" ).append( eventContext )
+				.append( ", refreshStrategy=" ).append( refreshStrategy )
+				.append( "]" )
+				.toString();
+	}
+
+	private boolean isRefreshOnAccess() {
+		switch ( refreshStrategy ) {
+			case ON_DEMAND:
+				return true;
+			case MAX_STALENESS:
+				return System.nanoTime() - lastRefreshNanos >= refreshIntervalNanos;
+			case PERIODIC:
+			default:
+				return false;
+		}
+	}
+
+	private boolean needsRefresh() {
+		return changeGeneration.get() > refreshedGeneration;
+	}
+
+	private void refresh() throws IOException {
+		synchronized ( refreshLock ) {
+			/*
+			 * Capture the generation before refreshing:
+			 * every change counted in this generation was applied to the writer
+			 * before the refresh, and thus will be visible in the refreshed reader.
+			 */
+			long targetGeneration = changeGeneration.get();
+			if ( targetGeneration <= refreshedGeneration ) {
+				// Another thread refreshed the reader while we were waiting for the lock
+				return;
+			}
+			readerManager.maybeRefreshBlocking();
+			refreshedGeneration = targetGeneration;
+			lastRefreshNanos = System.nanoTime();
+		}
+	}
+
+	private void periodicRefresh() {
+		try {
+			if ( needsRefresh() ) {
+				refresh();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			// Do not propagate the exception, or the executor would stop scheduling refreshes
+			log.unableToRefreshIndexReader( eventContext, e );
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+import java.io.IOException;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * Creates the Lucene {@link Directory directories} of the indexes of a Lucene backend.
+ * <p>
+ * A directory provider is selected with the
+ * {@link org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings#LUCENE_DIRECTORY_PROVIDER directory provider property}:
+ * either by using the name of a built-in provider, or by referencing a bean implementing this interface.
+ * There is exactly one provider per backend, which is {@link #initialize(DirectoryProviderInitializationContext) initialized}
+ * once when the backend starts, and {@link #close() closed} once when the backend stops.
+ */
+public interface DirectoryProvider extends AutoCloseable {
+
+	/**
+	 * Initialize this provider, allocating internal resources (root filesystem directory, connections, ...)
+	 * as necessary.
+	 * <p>
+	 * Called exactly once, before any call to {@link #createDirectory(String)}.
+	 *
+	 * @param context The initialization context, giving access to the backend configuration in particular.
+	 */
+	default void initialize(DirectoryProviderInitializationContext context) {
+		// No-op by default
+	}
+
+	/**
+	 * Create a {@link Directory} for a given name, allocating internal resources (filesystem directories, ...)
+	 * as necessary.
+	 * <p>
+	 * The provided index names are raw and do not take into account the limitations of the internal representation
+	 * of indexes. If some characters cannot be used in a given {@link DirectoryProvider},
+	 * this provider is expected to escape characters as necessary using a encoding scheme attributing
+	 * a unique representation to each index name,
+	 * so as to avoid two index names to be encoded into identical internal representations.
+	 * Lower-casing the index name, for example, is not an acceptable encoding scheme,
+	 * as two index names differing only in case could end up using the same directory.
+	 * <p>
+	 * The returned directory is closed by the caller when the index is closed.
+	 *
+	 * @param indexName The name of the index in Hibernate Search.
+	 * @return The directory to use for that index name
+	 * @throws IOException If an error occurs while initializing the directory.
+	 */
+	Directory createDirectory(String indexName) throws IOException;
+
+	/**
+	 * Release the resources allocated in {@link #initialize(DirectoryProviderInitializationContext)}.
+	 * <p>
+	 * Called exactly once, after all the directories created by this provider have been closed.
+	 */
+	@Override
+	default void close() {
+		// No-op by default
+	}
+
+}
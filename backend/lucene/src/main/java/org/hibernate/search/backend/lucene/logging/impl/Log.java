@@ -10,6 +10,7 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
 
 import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
@@ -20,6 +21,7 @@
 import org.hibernate.search.util.impl.common.logging.ClassFormatter;
 import org.hibernate.search.util.impl.common.logging.EventContextFormatter;
 import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.SearchTimeoutException;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchSort;
 import org.hibernate.search.util.impl.common.MessageConstants;
@@ -171,8 +173,9 @@ SearchException unableToCreateRootDirectoryForLocalDirectoryBackend(Path rootDir
 	SearchException undefinedLuceneDirectoryProvider(@Param EventContext context);
 
 	@Message(id = ID_OFFSET_2 + 4,
-			value = "Unrecognized Lucene directory provider '%1$s'.")
-	SearchException unrecognizedLuceneDirectoryProvider(String directoryProvider, @Param EventContext context);
+			value = "Unrecognized Lucene directory provider '%1$s': %2$s")
+	SearchException unrecognizedLuceneDirectoryProvider(String directoryProvider, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
 
 	@Message(id = ID_OFFSET_2 + 5,
 			value = "The Lucene extension can only be applied to objects"
@@ -366,4 +369,60 @@ SearchException indexManagerUnwrappingWithUnknownType(@FormatWith(ClassFormatter
 			value = "Unknown normalizer: '%1$s'. Make sure you defined this normalizer.")
 	SearchException unknownNormalizer(String normalizerName, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 55,
+			value = "Unknown queue full policy '%1$s'.")
+	SearchException unknownQueueFullPolicyConfiguration(String queueFullPolicy);
+
+	@Message(id = ID_OFFSET_2 + 56,
+			value = "Unable to execute the query: the query queue is full (%1$s queries pending).")
+	SearchException queryQueueFull(int queueSize, @Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 57,
+			value = "Invalid value for '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidNonPositiveConfigurationValue(String propertyKey, int value, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 58,
+			value = "Unknown reader refresh strategy '%1$s'.")
+	SearchException unknownReaderRefreshStrategyConfiguration(String readerRefreshStrategy);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 59,
+			value = "Unable to refresh the index reader. %1$s")
+	void unableToRefreshIndexReader(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 60,
+			value = "Unknown commit policy '%1$s'.")
+	SearchException unknownCommitPolicyConfiguration(String commitPolicy);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 61,
+			value = "Unable to perform a scheduled commit of the index. %1$s")
+	void unableToPerformScheduledCommit(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable e);
+
+	@Message(id = ID_OFFSET_2 + 62,
+			value = "Unable to delete all entries with tenant identifier '%1$s'.")
+	SearchException unableToDeleteAllEntriesFromIndex(String tenantId, @Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 63,
+			value = "Invalid merge scheduler configuration: the maximum merge count (%1$s) must be greater than or equal to"
+					+ " the maximum thread count (%2$s).")
+	SearchException invalidMergeSchedulerConfiguration(int maxMergeCount, int maxThreadCount, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 64,
+			value = "Invalid value for '%1$s': '%2$s'. The value must be positive or zero.")
+	SearchException invalidNegativeConfigurationValue(String propertyKey, int value, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 65,
+			value = "The query '%1$s' exceeded the timeout of %2$s.")
+	SearchTimeoutException queryTimedOut(Query luceneQuery, Duration timeout, @Param EventContext context,
+			@Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 66,
+			value = "Unable to execute the query: the query executor is closed.")
+	SearchException queryOrchestratorClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 67,
+			value = "Unable to execute the query: the thread was interrupted while waiting for space in the query queue (%1$s queries pending).")
+	SearchException queryInterruptedWhileQueueFull(int queueSize, @Param EventContext context, @Cause Exception e);
+
 }
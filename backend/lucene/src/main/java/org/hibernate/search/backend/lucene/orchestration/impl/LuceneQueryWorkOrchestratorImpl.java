@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.QueueFullPolicyConfiguration;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator executing query works concurrently on a bounded thread pool.
+ * <p>
+ * At most {@code threadPoolSize} queries are executed at the same time;
+ * additional queries are queued, up to {@code queueSize} queries.
+ * When the queue is full, the submitting thread is either blocked until some space is available,
+ * or the query is rejected, depending on the {@link QueueFullPolicyConfiguration queue full policy}.
+ * <p>
+ * Queries that cannot be executed, because the queue is full, because the submitting thread
+ * was interrupted while waiting for space in the queue, or because the orchestrator is closed,
+ * are reported through the returned future.
+ * Such queries do not hold any index reader, since readers are only opened when a query is executed.
+ */
+public class LuceneQueryWorkOrchestratorImpl implements LuceneQueryWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final int queueSize;
+
+	private final StubLuceneQueryWorkExecutionContext context;
+	private final ThreadPoolExecutor executor;
+
+	public LuceneQueryWorkOrchestratorImpl(EventContext eventContext, int threadPoolSize, int queueSize,
+			QueueFullPolicyConfiguration queueFullPolicy) {
+		this.eventContext = eventContext;
+		this.queueSize = queueSize;
+		this.context = new StubLuceneQueryWorkExecutionContext();
+		this.executor = Executors.newFixedThreadPool(
+				threadPoolSize, "Lucene query executor - " + eventContext.render(), queueSize,
+				createRejectedExecutionHandler( queueFullPolicy )
+		);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			// Let the queries that were already submitted complete
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneQueryWork<T> work) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		if ( executor.isShutdown() ) {
+			future.completeExceptionally( log.queryOrchestratorClosed( eventContext ) );
+			return future;
+		}
+		try {
+			executor.execute( () -> Futures.create( () -> work.execute( context ) )
+					.whenComplete( Futures.copyHandler( future ) ) );
+		}
+		catch (RejectedExecutionException e) {
+			// Never leave the future pending: the work will not be executed
+			if ( executor.isShutdown() ) {
+				future.completeExceptionally( log.queryOrchestratorClosed( eventContext ) );
+			}
+			else if ( Thread.currentThread().isInterrupted() ) {
+				future.completeExceptionally( log.queryInterruptedWhileQueueFull( queueSize, eventContext, e ) );
+			}
+			else {
+				future.completeExceptionally( log.queryQueueFull( queueSize, eventContext, e ) );
+			}
+		}
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneQueryWork<?>> works) {
+		// Query works are independent from each other: execute them concurrently
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[works.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = submit( works.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "eventContext=" ).append( eventContext )
+				.append( ", maxPoolSize=" ).append( executor.getMaximumPoolSize() )
+				.append( ", queueSize=" ).append( queueSize )
+				.append( "]" )
+				.toString();
+	}
+
+	private static RejectedExecutionHandler createRejectedExecutionHandler(QueueFullPolicyConfiguration queueFullPolicy) {
+		switch ( queueFullPolicy ) {
+			case REJECT:
+				return new ThreadPoolExecutor.AbortPolicy();
+			case BLOCK:
+			default:
+				return new Executors.BlockPolicy();
+		}
+	}
+}
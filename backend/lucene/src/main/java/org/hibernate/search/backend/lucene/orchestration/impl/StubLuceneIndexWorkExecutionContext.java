@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexCommitStatisticsImpl;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
 
 /**
@@ -15,13 +16,21 @@
 public class StubLuceneIndexWorkExecutionContext implements LuceneIndexWorkExecutionContext {
 
 	private final IndexWriter indexWriter;
+	private final LuceneIndexCommitStatisticsImpl commitStatistics;
 
-	public StubLuceneIndexWorkExecutionContext(IndexWriter indexWriter) {
+	public StubLuceneIndexWorkExecutionContext(IndexWriter indexWriter,
+			LuceneIndexCommitStatisticsImpl commitStatistics) {
 		this.indexWriter = indexWriter;
+		this.commitStatistics = commitStatistics;
 	}
 
 	@Override
 	public IndexWriter getIndexWriter() {
 		return indexWriter;
 	}
+
+	@Override
+	public LuceneIndexCommitStatisticsImpl getCommitStatistics() {
+		return commitStatistics;
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexCommitStatisticsImpl;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.util.impl.common.Futures;
 
@@ -21,12 +22,21 @@
 public class StubLuceneIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
 
 	private final StubLuceneIndexWorkExecutionContext context;
+	private final Runnable indexChangeListener;
 
 	// Protected by synchronization on updates
 	private CompletableFuture<?> latestFuture = CompletableFuture.completedFuture( null );
 
-	public StubLuceneIndexWorkOrchestrator(IndexWriter indexWriter) {
-		this.context = new StubLuceneIndexWorkExecutionContext( indexWriter );
+	/**
+	 * @param indexWriter The index writer to execute works against.
+	 * @param commitStatistics The statistics to update when committing the index writer.
+	 * @param indexChangeListener A listener to notify after works have been executed,
+	 * before the corresponding futures are completed.
+	 */
+	public StubLuceneIndexWorkOrchestrator(IndexWriter indexWriter, LuceneIndexCommitStatisticsImpl commitStatistics,
+			Runnable indexChangeListener) {
+		this.context = new StubLuceneIndexWorkExecutionContext( indexWriter, commitStatistics );
+		this.indexChangeListener = indexChangeListener;
 	}
 
 	@Override
@@ -38,7 +48,8 @@ public void close() {
 	public synchronized <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
 		CompletableFuture<T> future = latestFuture.thenCompose( Futures.safeComposer(
 				ignored -> work.execute( context )
-		) );
+		) )
+				.whenComplete( (result, throwable) -> indexChangeListener.run() );
 		// Ignore errors from this work in future works and during close(): error handling is the client's responsibility.
 		latestFuture = future.exceptionally( ignore -> null );
 		return future;
@@ -52,6 +63,7 @@ public synchronized CompletableFuture<?> submit(List<LuceneIndexWork<?>> works)
 					ignored -> work.execute( context )
 			) );
 		}
+		future = future.whenComplete( (result, throwable) -> indexChangeListener.run() );
 		// Ignore errors from this work in future works and during close(): error handling is the client's responsibility.
 		latestFuture = future.exceptionally( ignore -> null );
 		return future;
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search;
+
+/**
+ * Statistics about the query result cache of a Lucene backend since it was started.
+ *
+ * @see org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings#QUERY_RESULT_CACHE_MAX_ENTRIES
+ */
+public interface LuceneQueryResultCacheStatistics {
+
+	/**
+	 * @return The number of query executions whose results were retrieved from the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of cacheable query executions whose results were not in the cache.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of results currently held in the cache.
+	 */
+	int getEntryCount();
+
+}
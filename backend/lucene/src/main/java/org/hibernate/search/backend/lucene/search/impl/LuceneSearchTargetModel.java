@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +17,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.reader.impl.ShardedReaderProviders;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.LoggerFactory;
@@ -26,9 +28,9 @@ public class LuceneSearchTargetModel {
 
 	private final Set<LuceneIndexModel> indexModels;
 	private final Set<String> indexNames;
-	private final Set<ReaderProvider> readerProviders;
+	private final Set<ShardedReaderProviders> readerProviders;
 
-	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ReaderProvider> readerProviders) {
+	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ShardedReaderProviders> readerProviders) {
 		this.indexModels = indexModels;
 		this.indexNames = indexModels.stream()
 				.map( LuceneIndexModel::getIndexName )
@@ -48,8 +50,18 @@ public Set<LuceneIndexModel> getIndexModels() {
 		return indexModels;
 	}
 
-	public Set<ReaderProvider> getReaderProviders() {
-		return readerProviders;
+	/**
+	 * @param routingKeys The routing keys of a query, or an empty set if the query is not routed.
+	 * @return The reader providers of the shards to search, i.e. all the shards of each target index,
+	 * or only the shards matching the routing keys if there are any.
+	 */
+	public Set<ReaderProvider> getReaderProviders(Set<String> routingKeys) {
+		// Use LinkedHashSet to ensure stable order when generating requests
+		Set<ReaderProvider> result = new LinkedHashSet<>();
+		for ( ShardedReaderProviders indexReaderProviders : readerProviders ) {
+			indexReaderProviders.collect( routingKeys, result );
+		}
+		return result;
 	}
 
 	public LuceneIndexSchemaFieldNode<?> getSchemaNode(String absoluteFieldPath) {
@@ -8,7 +8,7 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
 import org.hibernate.search.engine.search.DocumentReference;
@@ -29,10 +29,10 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 		absoluteFieldPaths.add( LuceneFields.idFieldName() );
 	}
 
-	protected DocumentReference extractDocumentReference(Document document) {
+	protected DocumentReference extractDocumentReference(LuceneHitFieldValues values) {
 		DocumentReference documentReference = new LuceneDocumentReference(
-				document.get( LuceneFields.indexFieldName() ),
-				document.get( LuceneFields.idFieldName() )
+				(String) values.getStoredValue( LuceneFields.indexFieldName() ),
+				(String) values.getStoredValue( LuceneFields.idFieldName() )
 		);
 		return documentReference;
 	}
@@ -9,7 +9,7 @@
 import java.util.List;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 
 /**
  * A hit extractor used when multiple values must be extracted for each hit.
@@ -39,9 +39,16 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(C collector, Document document) {
+	public void contributeDocValueFields(Set<String> absoluteFieldPaths) {
 		for ( HitExtractor<? super C> extractor : extractors ) {
-			extractor.extract( collector, document );
+			extractor.contributeDocValueFields( absoluteFieldPaths );
+		}
+	}
+
+	@Override
+	public void extract(C collector, LuceneHitFieldValues values) {
+		for ( HitExtractor<? super C> extractor : extractors ) {
+			extractor.extract( collector, values );
 		}
 	}
 }
@@ -6,7 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.engine.search.query.spi.DocumentReferenceHitCollector;
 
 class DocumentReferenceHitExtractor extends AbstractDocumentReferenceHitExtractor<DocumentReferenceHitCollector> {
@@ -21,7 +21,7 @@ private DocumentReferenceHitExtractor() {
 	}
 
 	@Override
-	public void extract(DocumentReferenceHitCollector collector, Document document) {
-		collector.collectReference( extractDocumentReference( document ) );
+	public void extract(DocumentReferenceHitCollector collector, LuceneHitFieldValues values) {
+		collector.collectReference( extractDocumentReference( values ) );
 	}
 }
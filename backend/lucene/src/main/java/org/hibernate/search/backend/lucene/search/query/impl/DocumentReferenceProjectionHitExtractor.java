@@ -6,7 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitCollector;
 
 class DocumentReferenceProjectionHitExtractor extends AbstractDocumentReferenceHitExtractor<ProjectionHitCollector> {
@@ -21,7 +21,7 @@ private DocumentReferenceProjectionHitExtractor() {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
-		collector.collectProjection( extractDocumentReference( document ) );
+	public void extract(ProjectionHitCollector collector, LuceneHitFieldValues values) {
+		collector.collectProjection( extractDocumentReference( values ) );
 	}
 }
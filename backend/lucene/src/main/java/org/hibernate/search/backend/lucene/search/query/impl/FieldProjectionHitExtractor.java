@@ -8,8 +8,7 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
@@ -21,6 +20,7 @@
 
 	private final LuceneFieldConverter<F, ?> converter;
 	private final LuceneFieldCodec<F> codec;
+	private final boolean fromDocValue;
 
 	FieldProjectionHitExtractor(String absoluteFieldPath,
 			LuceneIndexSchemaFieldNode<F> schemaFieldNode) {
@@ -32,6 +32,7 @@ private FieldProjectionHitExtractor(String absoluteFieldPath,
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.converter = converter;
 		this.codec = codec;
+		this.fromDocValue = codec.isDocValueProjectable();
 	}
 
 	@Override
@@ -41,7 +42,10 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(Set<String> absoluteFieldPaths) {
-		if ( codec.getOverriddenStoredFields().isEmpty() ) {
+		if ( fromDocValue ) {
+			return;
+		}
+		else if ( codec.getOverriddenStoredFields().isEmpty() ) {
 			absoluteFieldPaths.add( absoluteFieldPath );
 		}
 		else {
@@ -50,8 +54,22 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
-		F rawValue = codec.decode( document, absoluteFieldPath );
+	public void contributeDocValueFields(Set<String> absoluteFieldPaths) {
+		if ( fromDocValue ) {
+			absoluteFieldPaths.add( absoluteFieldPath );
+		}
+	}
+
+	@Override
+	public void extract(ProjectionHitCollector collector, LuceneHitFieldValues values) {
+		F rawValue;
+		if ( fromDocValue ) {
+			Long docValue = values.getDocValue( absoluteFieldPath );
+			rawValue = docValue == null ? null : codec.decodeDocValue( docValue );
+		}
+		else {
+			rawValue = codec.decode( values, absoluteFieldPath );
+		}
 		collector.collectProjection( converter.convertFromProjection( rawValue ) );
 	}
 }
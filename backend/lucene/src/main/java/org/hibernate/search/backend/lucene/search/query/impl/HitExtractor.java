@@ -8,7 +8,7 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 
 public interface HitExtractor<C> {
 
@@ -20,18 +20,30 @@
 	void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder);
 
 	/**
-	 * Contributes to the list of fields extracted from the Lucene document. Some fields might require the extraction of
+	 * Contributes to the list of stored fields extracted from the Lucene document. Some fields might require the extraction of
 	 * other fields e.g. if the stored fields have different names.
 	 *
 	 * @param absoluteFieldPaths The set of absolute field paths contributed.
 	 */
 	void contributeFields(Set<String> absoluteFieldPaths);
 
+	/**
+	 * Contributes to the list of fields whose value is read from numeric doc values rather than from stored fields.
+	 * <p>
+	 * The value of each of these fields, if any, is available through {@link LuceneHitFieldValues#getDocValue(String)}
+	 * in the values passed to {@link #extract(Object, LuceneHitFieldValues)}.
+	 *
+	 * @param absoluteFieldPaths The set of absolute field paths contributed.
+	 */
+	default void contributeDocValueFields(Set<String> absoluteFieldPaths) {
+		// No doc value field by default
+	}
+
 	/**
 	 * Perform hit extraction.
 	 *
 	 * @param collector The hit collector, which will receive the result of the extraction.
-	 * @param document The Lucene document extracted from the index.
+	 * @param values The field values extracted from the index.
 	 */
-	void extract(C collector, Document document);
+	void extract(C collector, LuceneHitFieldValues values);
 }
@@ -9,7 +9,7 @@
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 class IndexSensitiveHitExtractor<C> implements HitExtractor<C> {
@@ -29,6 +29,13 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 		}
 	}
 
+	@Override
+	public void contributeDocValueFields(Set<String> absoluteFieldPaths) {
+		for ( HitExtractor<?> extractor : extractorByIndex.values() ) {
+			extractor.contributeDocValueFields( absoluteFieldPaths );
+		}
+	}
+
 	@Override
 	public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
 		for ( HitExtractor<?> extractor : extractorByIndex.values() ) {
@@ -37,9 +44,9 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 	}
 
 	@Override
-	public void extract(C collector, Document document) {
-		String indexName = document.get( LuceneFields.indexFieldName() );
+	public void extract(C collector, LuceneHitFieldValues values) {
+		String indexName = (String) values.getStoredValue( LuceneFields.indexFieldName() );
 		HitExtractor<? super C> delegate = extractorByIndex.get( indexName );
-		delegate.extract( collector, document );
+		delegate.extract( collector, values );
 	}
 }
@@ -10,7 +10,9 @@
 import java.util.List;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
@@ -23,28 +25,38 @@ class LuceneCollectorsBuilder {
 
 	private int maxDocs;
 
-	private TopDocsCollector<?> topDocsCollector;
+	private ScoreDoc after;
 
-	private TotalHitCountCollector totalHitCountCollector;
+	private boolean topDocsCollectorRequired = false;
 
 	private List<Collector> luceneCollectors = new ArrayList<>();
 
 	LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+		this( sort, maxDocs, null );
+	}
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top documents to collect.
+	 * @param after The last hit of the previous chunk when scrolling, or {@code null}.
+	 * Only hits following this one in the sort order will be collected.
+	 */
+	LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
+		this.after = after;
 	}
 
 	void requireTopDocsCollector() {
-		if ( maxDocs == 0 ) {
-			if ( totalHitCountCollector == null ) {
-				totalHitCountCollector = new TotalHitCountCollector();
-				luceneCollectors.add( totalHitCountCollector );
-			}
-		}
-		else if ( topDocsCollector == null ) {
-			topDocsCollector = createTopDocsCollector( sort, maxDocs );
-			luceneCollectors.add( topDocsCollector );
-		}
+		topDocsCollectorRequired = true;
+	}
+
+	/**
+	 * @return Whether the top docs will be collected, as opposed to just the total hit count.
+	 * Collectors are only allocated in {@link #build()}, so this can be checked beforehand.
+	 */
+	boolean isTopDocsCollectorRequired() {
+		return topDocsCollectorRequired && maxDocs > 0;
 	}
 
 	void addCollector(Collector collector) {
@@ -52,26 +64,41 @@ void addCollector(Collector collector) {
 	}
 
 	LuceneCollectors build() {
+		TopDocsCollector<?> topDocsCollector = null;
+		TotalHitCountCollector totalHitCountCollector = null;
+		List<Collector> collectors = new ArrayList<>( luceneCollectors.size() + 1 );
+		if ( isTopDocsCollectorRequired() ) {
+			topDocsCollector = createTopDocsCollector( sort, maxDocs, after );
+			collectors.add( topDocsCollector );
+		}
+		else if ( topDocsCollectorRequired ) {
+			totalHitCountCollector = new TotalHitCountCollector();
+			collectors.add( totalHitCountCollector );
+		}
+		collectors.addAll( luceneCollectors );
+
 		Collector compositeCollector;
-		if ( luceneCollectors.size() == 1 ) {
-			compositeCollector = topDocsCollector != null ? topDocsCollector : totalHitCountCollector;
+		if ( collectors.size() == 1 ) {
+			compositeCollector = collectors.get( 0 );
 		}
 		else {
-			compositeCollector = MultiCollector.wrap( luceneCollectors );
+			compositeCollector = MultiCollector.wrap( collectors );
 		}
 
 		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, compositeCollector );
 	}
 
-	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs) {
+	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs, ScoreDoc after) {
 		TopDocsCollector<?> topDocsCollector;
 		if ( sort == null ) {
-			topDocsCollector = TopScoreDocCollector.create( maxDocs );
+			topDocsCollector = TopScoreDocCollector.create( maxDocs, after );
 		}
 		else {
+			// Hits collected by a TopFieldCollector filling fields are always FieldDocs
 			topDocsCollector = TopFieldCollector.create(
 					sort,
 					maxDocs,
+					(FieldDoc) after,
 					true,
 					true,
 					true,
@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.search.LuceneQueryResultCacheStatistics;
+import org.hibernate.search.backend.lucene.search.reader.impl.ManagedMultiReader;
+
+/**
+ * A size-bounded, least-recently-used cache of query results, shared by all queries of a backend.
+ * <p>
+ * Results are cached as top docs and total hit count, so hits are still extracted from the index on each execution.
+ * Keys include the cache keys of the index readers the query was executed against:
+ * as soon as an index reader is refreshed, queries no longer match previous entries,
+ * which are never returned again and are eventually evicted.
+ * The tenant identifier, if any, is part of the key through the tenant filter of the Lucene query.
+ */
+public class LuceneQueryResultCache implements LuceneQueryResultCacheStatistics {
+
+	private final int maxEntries;
+
+	// Guarded by "this"
+	private final Map<Key, Entry> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * @param maxEntries The maximum number of results held in the cache, or {@code 0} to disable the cache.
+	 */
+	public LuceneQueryResultCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<Key, Entry>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > LuceneQueryResultCache.this.maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "maxEntries=" ).append( maxEntries )
+				.append( ", hitCount=" ).append( getHitCount() )
+				.append( ", missCount=" ).append( getMissCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * @return The key of the results of the given query, or {@code null} if these results must not be cached.
+	 * Results without a maximum count are never cached, since they could include every document of the index.
+	 */
+	Key createKey(IndexReader indexReader, Query luceneQuery, Sort luceneSort,
+			long firstResultIndex, Long maxResultsCount, boolean topDocsRequired) {
+		if ( maxEntries == 0 || maxResultsCount == null || !( indexReader instanceof ManagedMultiReader ) ) {
+			return null;
+		}
+		List<IndexReader.CacheKey> readerCacheKeys = ( (ManagedMultiReader) indexReader ).getSubReaderCacheKeys();
+		if ( readerCacheKeys == null ) {
+			return null;
+		}
+		return new Key( readerCacheKeys, luceneQuery, luceneSort, firstResultIndex, maxResultsCount, topDocsRequired );
+	}
+
+	Entry get(Key key) {
+		Entry entry;
+		synchronized ( this ) {
+			entry = entries.get( key );
+		}
+		if ( entry == null ) {
+			missCount.increment();
+		}
+		else {
+			hitCount.increment();
+		}
+		return entry;
+	}
+
+	void put(Key key, long totalHits, TopDocs topDocs) {
+		Entry entry = new Entry( totalHits, topDocs );
+		synchronized ( this ) {
+			entries.put( key, entry );
+		}
+	}
+
+	static final class Key {
+		private final List<IndexReader.CacheKey> readerCacheKeys;
+		private final Query luceneQuery;
+		private final Sort luceneSort;
+		private final long firstResultIndex;
+		private final long maxResultsCount;
+		private final boolean topDocsRequired;
+		private final int hashCode;
+
+		private Key(List<IndexReader.CacheKey> readerCacheKeys, Query luceneQuery, Sort luceneSort,
+				long firstResultIndex, long maxResultsCount, boolean topDocsRequired) {
+			this.readerCacheKeys = readerCacheKeys;
+			this.luceneQuery = luceneQuery;
+			this.luceneSort = luceneSort;
+			this.firstResultIndex = firstResultIndex;
+			this.maxResultsCount = maxResultsCount;
+			this.topDocsRequired = topDocsRequired;
+			this.hashCode = Objects.hash( readerCacheKeys, luceneQuery, luceneSort,
+					firstResultIndex, maxResultsCount, topDocsRequired );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return firstResultIndex == other.firstResultIndex
+					&& maxResultsCount == other.maxResultsCount
+					&& topDocsRequired == other.topDocsRequired
+					&& readerCacheKeys.equals( other.readerCacheKeys )
+					&& luceneQuery.equals( other.luceneQuery )
+					&& Objects.equals( luceneSort, other.luceneSort );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	static final class Entry {
+		private final long totalHits;
+		private final TopDocs topDocs;
+
+		private Entry(long totalHits, TopDocs topDocs) {
+			this.totalHits = totalHits;
+			this.topDocs = topDocs;
+		}
+
+		long getTotalHits() {
+			return totalHits;
+		}
+
+		TopDocs getTopDocs() {
+			return topDocs;
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -16,6 +18,8 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.util.impl.common.Contracts;
 
 
 /**
@@ -31,13 +35,18 @@
 	private final Sort luceneSort;
 	private final HitExtractor<?> hitExtractor;
 	private final SearchResultExtractor<T> searchResultExtractor;
+	private final LuceneQueryResultCache resultCache;
 
 	private Long firstResultIndex = 0L;
 	private Long maxResultsCount;
+	private long timeout;
+	private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
+	private boolean truncateAfterTimeout = false;
 
 	public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
-			Query luceneQuery, Sort luceneSort, HitExtractor<?> hitExtractor, SearchResultExtractor<T> searchResultExtractor) {
+			Query luceneQuery, Sort luceneSort, HitExtractor<?> hitExtractor, SearchResultExtractor<T> searchResultExtractor,
+			LuceneQueryResultCache resultCache, int defaultTimeout) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
@@ -46,6 +55,8 @@ public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 		this.luceneSort = luceneSort;
 		this.hitExtractor = hitExtractor;
 		this.searchResultExtractor = searchResultExtractor;
+		this.resultCache = resultCache;
+		this.timeout = defaultTimeout;
 	}
 
 	@Override
@@ -58,6 +69,16 @@ public void setMaxResults(Long maxResultsCount) {
 		this.maxResultsCount = maxResultsCount;
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, false );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, true );
+	}
+
 	@Override
 	public String getQueryString() {
 		return luceneQuery.toString();
@@ -70,12 +91,39 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
+		return executeAsync().join();
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync() {
 		LuceneQueryWork<SearchResult<T>> work = workFactory.search( new LuceneSearcher<T>(
 				indexNames,
 				readerProviders,
 				luceneQuery, luceneSort,
 				firstResultIndex, maxResultsCount,
-				hitExtractor, searchResultExtractor ) );
-		return queryOrchestrator.submit( work ).join();
+				hitExtractor, searchResultExtractor, resultCache,
+				LuceneTimeoutManager.of( timeout, timeUnit, truncateAfterTimeout ) ) );
+		return queryOrchestrator.submit( work );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		LuceneSearcher<T> searcher = new LuceneSearcher<T>(
+				indexNames,
+				readerProviders,
+				luceneQuery, luceneSort,
+				firstResultIndex, maxResultsCount,
+				hitExtractor, searchResultExtractor, resultCache,
+				LuceneTimeoutManager.noTimeout() );
+		return new LuceneSearchScroll<>( queryOrchestrator, workFactory, searcher, chunkSize );
+	}
+
+	private void setTimeout(long timeout, TimeUnit timeUnit, boolean truncateAfterTimeout) {
+		Contracts.assertPositiveOrZero( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.truncateAfterTimeout = truncateAfterTimeout;
 	}
 }
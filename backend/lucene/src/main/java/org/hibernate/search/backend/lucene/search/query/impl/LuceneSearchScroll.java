@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+
+/**
+ * A scroll retrieving chunks of hits using Lucene's "search after" feature.
+ * <p>
+ * The same index reader is used for all chunks, so the scroll sees a consistent view of the index,
+ * and releases it when closed.
+ */
+class LuceneSearchScroll<T> implements SearchScroll<T> {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearcher<T> searcher;
+	private final int chunkSize;
+
+	LuceneSearchScroll(LuceneQueryWorkOrchestrator queryOrchestrator, LuceneWorkFactory workFactory,
+			LuceneSearcher<T> searcher, int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		LuceneQueryWork<SearchResult<T>> work = workFactory.scroll( searcher, chunkSize );
+		return queryOrchestrator.submit( work ).join();
+	}
+
+	@Override
+	public void close() {
+		searcher.close();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[searcher=" + searcher + ", chunkSize=" + chunkSize + "]";
+	}
+}
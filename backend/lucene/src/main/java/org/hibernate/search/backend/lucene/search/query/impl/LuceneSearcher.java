@@ -7,24 +7,33 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
 
+import org.apache.lucene.index.ExitableDirectoryReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.search.TopDocs;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final Set<String> indexNames;
-	private final IndexSearcher indexSearcher;
+	private final Set<ReaderProvider> readerProviders;
 
 	private final Query luceneQuery;
 	private final Sort luceneSort;
@@ -35,6 +44,17 @@
 	private final HitExtractor<?> hitExtractor;
 	private final SearchResultExtractor<T> searchResultExtractor;
 
+	private final LuceneQueryResultCache resultCache;
+	private final LuceneTimeoutManager timeoutManager;
+
+	// Opened lazily, see openIndexSearcherIfNecessary()
+	private IndexSearcher indexSearcher;
+
+	// Scroll state, see executeNextChunk()
+	private boolean scrollStarted = false;
+	private ScoreDoc lastScrolledHit;
+	private long scrolledHitCount = 0L;
+
 	public LuceneSearcher(Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
 			Query luceneQuery,
@@ -42,28 +62,81 @@ public LuceneSearcher(Set<String> indexNames,
 			Long firstResultIndex,
 			Long maxResultsCount,
 			HitExtractor<?> hitExtractor,
-			SearchResultExtractor<T> searchResultExtractor) {
+			SearchResultExtractor<T> searchResultExtractor,
+			LuceneQueryResultCache resultCache,
+			LuceneTimeoutManager timeoutManager) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.readerProviders = readerProviders;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex.longValue();
 		this.maxResultsCount = maxResultsCount;
 		this.hitExtractor = hitExtractor;
 		this.searchResultExtractor = searchResultExtractor;
+		this.resultCache = resultCache;
+		this.timeoutManager = timeoutManager;
 	}
 
 	public SearchResult<T> execute() throws IOException {
-		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
+		openIndexSearcherIfNecessary();
+		timeoutManager.start();
 
 		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
 		hitExtractor.contributeCollectors( luceneCollectorsBuilder );
+
+		LuceneQueryResultCache.Key cacheKey = resultCache.createKey(
+				indexSearcher.getIndexReader(), luceneQuery, luceneSort,
+				firstResultIndex, maxResultsCount, luceneCollectorsBuilder.isTopDocsCollectorRequired()
+		);
+		if ( cacheKey != null ) {
+			LuceneQueryResultCache.Entry cachedResult = resultCache.get( cacheKey );
+			if ( cachedResult != null ) {
+				return searchResultExtractor.extract( indexSearcher, cachedResult.getTotalHits(),
+						cachedResult.getTopDocs(), false );
+			}
+		}
+
 		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
-		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+		boolean timedOut = searchWithTimeout( luceneCollectors );
+
+		long totalHits = luceneCollectors.getTotalHits();
+		TopDocs topDocs = luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount );
+		if ( cacheKey != null && !timedOut ) {
+			resultCache.put( cacheKey, totalHits, topDocs );
+		}
 
-		return searchResultExtractor.extract( indexSearcher, luceneCollectors.getTotalHits(),
-				luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount ) );
+		return searchResultExtractor.extract( indexSearcher, totalHits, topDocs, timedOut );
+	}
+
+	/**
+	 * Executes the query and returns the next chunk of hits,
+	 * i.e. the hits following those returned by previous calls to this method.
+	 * <p>
+	 * Unlike {@link #execute()}, this only allocates data structures for {@code chunkSize} hits,
+	 * regardless of the size of the index and of the first result index.
+	 * The searcher must not be closed between two calls,
+	 * so that all chunks are retrieved from the same view of the index.
+	 *
+	 * @param chunkSize The maximum number of hits to return.
+	 * @return The next chunk of hits, empty if all hits have already been returned.
+	 * @throws IOException If Lucene fails to execute the query.
+	 */
+	public SearchResult<T> executeNextChunk(int chunkSize) throws IOException {
+		openIndexSearcherIfNecessary();
+		if ( !scrollStarted ) {
+			scrollStarted = true;
+			skipHits( firstResultIndex, chunkSize );
+		}
+
+		LuceneCollectors luceneCollectors = collectAfter( lastScrolledHit, getChunkMaxDocs( chunkSize ) );
+		TopDocs topDocs = luceneCollectors.getTopDocs( 0L, null );
+		if ( topDocs != null && topDocs.scoreDocs.length > 0 ) {
+			lastScrolledHit = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+			scrolledHitCount += topDocs.scoreDocs.length;
+		}
+
+		return searchResultExtractor.extract( indexSearcher, luceneCollectors.getTotalHits(), topDocs, false );
 	}
 
 	public Query getLuceneQuery() {
@@ -80,13 +153,79 @@ public EventContext getEventContext() {
 
 	@Override
 	public void close() {
-		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		if ( indexSearcher != null ) {
+			MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+			indexSearcher = null;
+		}
+	}
+
+	/**
+	 * Opens the index readers on first use, i.e. when the searcher is executed by the query orchestrator,
+	 * so that queries which are never executed, e.g. because they were rejected, never hold a reader.
+	 */
+	private void openIndexSearcherIfNecessary() {
+		if ( indexSearcher == null ) {
+			indexSearcher = new IndexSearcher(
+					MultiReaderFactory.openReader( indexNames, readerProviders, timeoutManager )
+			);
+		}
+	}
+
+	/**
+	 * @return {@code true} if the search timed out and the hits collected so far should be returned,
+	 * {@code false} if it completed.
+	 * @throws org.hibernate.search.util.SearchTimeoutException If the search timed out
+	 * and partial results were not requested.
+	 */
+	private boolean searchWithTimeout(LuceneCollectors luceneCollectors) throws IOException {
+		try {
+			indexSearcher.search( luceneQuery, timeoutManager.decorateCollector( luceneCollectors.getCompositeCollector() ) );
+			return false;
+		}
+		catch (TimeLimitingCollector.TimeExceededException | ExitableDirectoryReader.ExitingReaderException e) {
+			if ( timeoutManager.isTruncateAfterTimeout() ) {
+				return true;
+			}
+			throw log.queryTimedOut( luceneQuery, timeoutManager.getTimeout(), getEventContext(), e );
+		}
+	}
+
+	private void skipHits(long hitCount, int chunkSize) throws IOException {
+		long remaining = hitCount;
+		while ( remaining > 0L ) {
+			int maxDocs = (int) Math.min( Math.min( remaining, chunkSize ), indexSearcher.getIndexReader().maxDoc() );
+			TopDocs skipped = collectAfter( lastScrolledHit, maxDocs ).getTopDocs( 0L, null );
+			if ( skipped == null || skipped.scoreDocs.length == 0 ) {
+				return;
+			}
+			lastScrolledHit = skipped.scoreDocs[skipped.scoreDocs.length - 1];
+			remaining -= skipped.scoreDocs.length;
+		}
+	}
+
+	private LuceneCollectors collectAfter(ScoreDoc after, int maxDocs) throws IOException {
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, maxDocs, after );
+		hitExtractor.contributeCollectors( luceneCollectorsBuilder );
+		// We need the top docs to know where the next chunk starts, even if the hit extractor doesn't
+		luceneCollectorsBuilder.requireTopDocsCollector();
+		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+
+		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+
+		return luceneCollectors;
+	}
+
+	private int getChunkMaxDocs(int chunkSize) {
+		long maxDocs = chunkSize;
+		if ( maxResultsCount != null ) {
+			maxDocs = Math.min( maxDocs, maxResultsCount - scrolledHitCount );
+		}
+		return (int) Math.max( 0L, Math.min( maxDocs, indexSearcher.getIndexReader().maxDoc() ) );
 	}
 
 	private int getMaxDocs() {
-		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
-		// as it is done in Search 5.
-		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory:
+		// large result sets should be retrieved using executeNextChunk() instead.
 		if ( maxResultsCount == null ) {
 			return indexSearcher.getIndexReader().maxDoc();
 		}
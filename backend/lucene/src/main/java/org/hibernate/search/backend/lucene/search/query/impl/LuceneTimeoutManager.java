@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.QueryTimeout;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.TimeLimitingCollector;
+
+/**
+ * Enforces the timeout of a query execution, if any.
+ * <p>
+ * The timeout is checked by the index reader when enumerating terms, e.g. when rewriting wildcard queries,
+ * and by the collector when collecting hits.
+ * It starts running when the execution starts, not when the query is submitted.
+ */
+final class LuceneTimeoutManager implements QueryTimeout {
+
+	private static final LuceneTimeoutManager NO_TIMEOUT = new LuceneTimeoutManager( 0L, false );
+
+	static LuceneTimeoutManager noTimeout() {
+		return NO_TIMEOUT;
+	}
+
+	static LuceneTimeoutManager of(long timeout, TimeUnit timeUnit, boolean truncateAfterTimeout) {
+		if ( timeout == 0L ) {
+			return NO_TIMEOUT;
+		}
+		return new LuceneTimeoutManager( timeUnit.toNanos( timeout ), truncateAfterTimeout );
+	}
+
+	private final long timeoutNanos;
+	private final boolean truncateAfterTimeout;
+
+	private volatile boolean started = false;
+	private volatile long deadlineNanos;
+
+	private LuceneTimeoutManager(long timeoutNanos, boolean truncateAfterTimeout) {
+		this.timeoutNanos = timeoutNanos;
+		this.truncateAfterTimeout = truncateAfterTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[timeout=" + getTimeout() + ", truncateAfterTimeout=" + truncateAfterTimeout + "]";
+	}
+
+	@Override
+	public boolean shouldExit() {
+		return started && System.nanoTime() - deadlineNanos > 0L;
+	}
+
+	@Override
+	public boolean isTimeoutEnabled() {
+		return timeoutNanos > 0L;
+	}
+
+	void start() {
+		if ( isTimeoutEnabled() ) {
+			deadlineNanos = System.nanoTime() + timeoutNanos;
+			started = true;
+		}
+	}
+
+	Collector decorateCollector(Collector collector) {
+		if ( !isTimeoutEnabled() ) {
+			return collector;
+		}
+		long remainingMillis = TimeUnit.NANOSECONDS.toMillis( deadlineNanos - System.nanoTime() );
+		return new TimeLimitingCollector( collector, TimeLimitingCollector.getGlobalCounter(),
+				Math.max( 0L, remainingMillis ) );
+	}
+
+	boolean isTruncateAfterTimeout() {
+		return truncateAfterTimeout;
+	}
+
+	Duration getTimeout() {
+		return Duration.ofNanos( timeoutNanos );
+	}
+}
@@ -8,7 +8,7 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitCollector;
 
 /**
@@ -40,7 +40,7 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
+	public void extract(ProjectionHitCollector collector, LuceneHitFieldValues values) {
 		collector.collectProjection( null );
 	}
 }
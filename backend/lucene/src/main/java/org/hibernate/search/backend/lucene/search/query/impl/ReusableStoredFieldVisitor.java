@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.search.IndexSearcher;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
+
+/**
+ * Inspired by Lucene's DocumentStoredFieldVisitor, with the difference that we want
+ * to reuse the same FieldVisitor to load multiple hits,
+ * and that values are written directly to the slots of a {@link LuceneHitFieldValues}
+ * instead of being wrapped in fields of a Lucene Document.
+ *
+ * A ReusableStoredFieldVisitor is NOT threadsafe: in case you need one
+ * for multiple threads make a clone for each thread.
+ *
+ * @see org.apache.lucene.document.DocumentStoredFieldVisitor
+ * @author Sanne Grinovero
+ */
+public final class ReusableStoredFieldVisitor extends StoredFieldVisitor {
+
+	private final LuceneHitFieldValues.Layout layout;
+	private final int totalFields;
+
+	//The values of the hit being visited, if any.
+	private LuceneHitFieldValues values;
+
+	//The slot of the field accepted by the last call to needsField.
+	private int currentSlot;
+
+	//Counts the number of fields which have not been loaded yet (counting down from the known set of needed fields)
+	//This field needs to be reset to the value of totalFields when the visited hit changes.
+	private int missingFields;
+
+	public ReusableStoredFieldVisitor(LuceneHitFieldValues.Layout layout) {
+		this.layout = layout;
+		this.totalFields = layout.getStoredFieldCount();
+	}
+
+	/**
+	 * Load the stored fields of the given document into the given values.
+	 *
+	 * @param indexSearcher The index searcher.
+	 * @param docId The (top-level) document ID.
+	 * @param values The values to populate.
+	 * @throws IOException If loading the stored fields fails.
+	 */
+	public void visit(IndexSearcher indexSearcher, int docId, LuceneHitFieldValues values) throws IOException {
+		this.values = values;
+		this.missingFields = totalFields;
+		try {
+			indexSearcher.doc( docId, this );
+		}
+		finally {
+			this.values = null;
+		}
+	}
+
+	@Override
+	public void binaryField(FieldInfo fieldInfo, byte[] value) {
+		values.setStoredValue( currentSlot, value );
+	}
+
+	@Override
+	public void stringField(FieldInfo fieldInfo, byte[] value) {
+		values.setStoredValue( currentSlot, new String( value, StandardCharsets.UTF_8 ) );
+	}
+
+	@Override
+	public void intField(FieldInfo fieldInfo, int value) {
+		values.setStoredValue( currentSlot, value );
+	}
+
+	@Override
+	public void longField(FieldInfo fieldInfo, long value) {
+		values.setStoredValue( currentSlot, value );
+	}
+
+	@Override
+	public void floatField(FieldInfo fieldInfo, float value) {
+		values.setStoredValue( currentSlot, value );
+	}
+
+	@Override
+	public void doubleField(FieldInfo fieldInfo, double value) {
+		values.setStoredValue( currentSlot, value );
+	}
+
+	@Override
+	public Status needsField(FieldInfo fieldInfo) {
+		if ( missingFields == 0 ) {
+			// An aggressive STOP could prevent unnecessary I/O !
+			return Status.STOP;
+		}
+		int slot = layout.getStoredFieldSlot( fieldInfo.name );
+		if ( slot < 0 ) {
+			return Status.NO;
+		}
+		currentSlot = slot;
+		missingFields--;
+		return Status.YES;
+	}
+
+}
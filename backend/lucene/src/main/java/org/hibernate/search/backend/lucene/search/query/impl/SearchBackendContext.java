@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
@@ -25,15 +26,21 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
+	private final LuceneQueryResultCache resultCache;
+	private final int queryTimeout;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator) {
+			LuceneQueryWorkOrchestrator orchestrator,
+			LuceneQueryResultCache resultCache,
+			int queryTimeout) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.resultCache = resultCache;
+		this.queryTimeout = queryTimeout;
 	}
 
 	@Override
@@ -54,14 +61,18 @@ <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
 
 		Set<String> storedFields = new HashSet<>();
 		hitExtractor.contributeFields( storedFields );
+		Set<String> docValueFields = new HashSet<>();
+		hitExtractor.contributeDocValueFields( docValueFields );
 
 		return new SearchQueryBuilderImpl<>(
 				workFactory,
 				orchestrator,
 				multiTenancyStrategy,
+				resultCache,
+				queryTimeout,
 				searchTargetModel,
 				sessionContext,
-				new ReusableDocumentStoredFieldVisitor( storedFields ),
+				new LuceneHitFieldValues.Layout( storedFields, docValueFields ),
 				hitExtractor,
 				hitAggregator
 		);
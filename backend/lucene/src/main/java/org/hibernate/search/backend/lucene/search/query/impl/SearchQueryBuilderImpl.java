@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
@@ -29,11 +32,14 @@
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final LuceneQueryResultCache resultCache;
+	private final int queryTimeout;
 
 	private final LuceneSearchTargetModel searchTargetModel;
 	private final String tenantId;
+	private final Set<String> routingKeys;
 
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneHitFieldValues.Layout hitFieldValuesLayout;
 	private final HitExtractor<? super C> hitExtractor;
 	private final HitAggregator<C, List<T>> hitAggregator;
 	private final LuceneSearchQueryElementCollector elementCollector;
@@ -42,20 +48,25 @@
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
 			MultiTenancyStrategy multiTenancyStrategy,
+			LuceneQueryResultCache resultCache,
+			int queryTimeout,
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContext sessionContext,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneHitFieldValues.Layout hitFieldValuesLayout,
 			HitExtractor<? super C> hitExtractor,
 			HitAggregator<C, List<T>> hitAggregator) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.resultCache = resultCache;
+		this.queryTimeout = queryTimeout;
 
 		this.searchTargetModel = searchTargetModel;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.routingKeys = new HashSet<>();
 
 		this.elementCollector = new LuceneSearchQueryElementCollector();
-		this.storedFieldVisitor = storedFieldVisitor;
+		this.hitFieldValuesLayout = hitFieldValuesLayout;
 		this.hitExtractor = hitExtractor;
 		this.hitAggregator = hitAggregator;
 	}
@@ -67,22 +78,23 @@ public LuceneSearchQueryElementCollector getQueryElementCollector() {
 
 	@Override
 	public void addRoutingKey(String routingKey) {
-		// TODO see what to do with the routing key
-		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
+		this.routingKeys.add( routingKey );
 	}
 
 	private SearchQuery<T> build() {
-		SearchResultExtractor<T> searchResultExtractor = new SearchResultExtractorImpl<>( storedFieldVisitor, hitExtractor, hitAggregator );
+		SearchResultExtractor<T> searchResultExtractor = new SearchResultExtractorImpl<>(
+				hitFieldValuesLayout, hitExtractor, hitAggregator
+		);
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
 		luceneQueryBuilder.add( elementCollector.toLuceneQueryPredicate(), Occur.MUST );
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
 		return new LuceneSearchQuery<T>( queryOrchestrator, workFactory,
-				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(),
+				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders( routingKeys ),
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), tenantId ),
 				elementCollector.toLuceneSort(),
-				hitExtractor, searchResultExtractor );
+				hitExtractor, searchResultExtractor, resultCache, queryTimeout );
 	}
 
 	@Override
@@ -14,6 +14,15 @@
 
 public interface SearchResultExtractor<T> {
 
-	SearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs) throws IOException;
+	/**
+	 * @param indexSearcher The searcher the top docs were collected with.
+	 * @param totalHits The total hit count.
+	 * @param topDocs The top docs, or {@code null} if they were not collected.
+	 * @param timedOut Whether collection was interrupted by a timeout, meaning the hits are incomplete.
+	 * @return The search result.
+	 * @throws IOException If field values cannot be loaded from the index.
+	 */
+	SearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs, boolean timedOut)
+			throws IOException;
 
 }
@@ -7,35 +7,63 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
 
+/**
+ * Extracts search results from top docs.
+ * <p>
+ * The field values of hits are loaded in docID order, leaf by leaf,
+ * which is the order in which both stored fields and doc values are most efficiently accessed,
+ * then passed to the hit extractor in score order.
+ * Stored fields are not loaded at all when the hit extractor does not need any.
+ *
+ * @param <C> The type of hit collector.
+ * @param <T> The type of hits in the result.
+ */
 public class SearchResultExtractorImpl<C, T> implements SearchResultExtractor<T> {
 
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneHitFieldValues.Layout hitFieldValuesLayout;
+
+	private final ReusableStoredFieldVisitor storedFieldVisitor;
+
+	private final String[] docValueFields;
 
 	private final HitExtractor<? super C> hitExtractor;
 
 	private final HitAggregator<C, List<T>> hitAggregator;
 
+	/**
+	 * @param hitFieldValuesLayout The layout of the field values needed by the hit extractor.
+	 * @param hitExtractor The hit extractor.
+	 * @param hitAggregator The hit aggregator.
+	 */
 	public SearchResultExtractorImpl(
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneHitFieldValues.Layout hitFieldValuesLayout,
 			HitExtractor<? super C> hitExtractor,
 			HitAggregator<C, List<T>> hitAggregator) {
-		this.storedFieldVisitor = storedFieldVisitor;
+		this.hitFieldValuesLayout = hitFieldValuesLayout;
+		this.storedFieldVisitor = hitFieldValuesLayout.getStoredFieldCount() > 0
+				? new ReusableStoredFieldVisitor( hitFieldValuesLayout ) : null;
+		this.docValueFields = hitFieldValuesLayout.getDocValueFields();
 		this.hitExtractor = hitExtractor;
 		this.hitAggregator = hitAggregator;
 	}
 
 	@Override
-	public SearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs) throws IOException {
+	public SearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs, boolean timedOut)
+			throws IOException {
 		List<T> finalHits = extractHits( indexSearcher, topDocs );
 
 		return new SearchResult<T>() {
@@ -49,6 +77,11 @@ public long getHitCount() {
 			public List<T> getHits() {
 				return finalHits;
 			}
+
+			@Override
+			public boolean isTimedOut() {
+				return timedOut;
+			}
 		};
 	}
 
@@ -57,16 +90,65 @@ private List<T> extractHits(IndexSearcher indexSearcher, TopDocs topDocs) throws
 			return Collections.emptyList();
 		}
 
-		hitAggregator.init( topDocs.scoreDocs.length );
+		ScoreDoc[] hits = topDocs.scoreDocs;
+		LuceneHitFieldValues[] hitsValues = loadValues( indexSearcher, hits );
 
-		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			Document document = storedFieldVisitor.getDocumentAndReset();
+		hitAggregator.init( hits.length );
 
+		for ( LuceneHitFieldValues values : hitsValues ) {
 			C hitCollector = hitAggregator.nextCollector();
-			hitExtractor.extract( hitCollector, document );
+			hitExtractor.extract( hitCollector, values );
 		}
 
 		return Collections.unmodifiableList( hitAggregator.build() );
 	}
+
+	/**
+	 * @return The field values of each hit, in the same order as the given hits.
+	 */
+	private LuceneHitFieldValues[] loadValues(IndexSearcher indexSearcher, ScoreDoc[] hits) throws IOException {
+		LuceneHitFieldValues[] hitsValues = new LuceneHitFieldValues[hits.length];
+
+		// Sort hit indexes by docID: the docID in the upper bits, the hit index in the lower bits
+		long[] docIdAndHitIndexes = new long[hits.length];
+		for ( int i = 0; i < hits.length; i++ ) {
+			docIdAndHitIndexes[i] = ( (long) hits[i].doc << 32 ) | i;
+		}
+		Arrays.sort( docIdAndHitIndexes );
+
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+		LeafReaderContext currentLeaf = null;
+		NumericDocValues[] currentDocValues = new NumericDocValues[docValueFields.length];
+
+		for ( long docIdAndHitIndex : docIdAndHitIndexes ) {
+			int docId = (int) ( docIdAndHitIndex >>> 32 );
+			int hitIndex = (int) docIdAndHitIndex;
+
+			LuceneHitFieldValues values = hitFieldValuesLayout.createValues();
+			if ( storedFieldVisitor != null ) {
+				storedFieldVisitor.visit( indexSearcher, docId, values );
+			}
+
+			if ( docValueFields.length > 0 ) {
+				if ( currentLeaf == null || docId >= currentLeaf.docBase + currentLeaf.reader().maxDoc() ) {
+					currentLeaf = leaves.get( ReaderUtil.subIndex( docId, leaves ) );
+					for ( int i = 0; i < docValueFields.length; i++ ) {
+						// Doc values can only be iterated forward: get a new iterator for each leaf
+						currentDocValues[i] = currentLeaf.reader().getNumericDocValues( docValueFields[i] );
+					}
+				}
+				int leafDocId = docId - currentLeaf.docBase;
+				for ( int i = 0; i < docValueFields.length; i++ ) {
+					NumericDocValues docValues = currentDocValues[i];
+					if ( docValues != null && docValues.advanceExact( leafDocId ) ) {
+						values.setDocValue( i, docValues.longValue() );
+					}
+				}
+			}
+
+			hitsValues[hitIndex] = values;
+		}
+
+		return hitsValues;
+	}
 }
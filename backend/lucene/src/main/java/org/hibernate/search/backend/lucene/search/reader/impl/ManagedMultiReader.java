@@ -8,12 +8,16 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.ExitableDirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.QueryTimeout;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.util.impl.common.LoggerFactory;
@@ -31,19 +35,39 @@ public class ManagedMultiReader extends MultiReader {
 
 	final ReaderProvider[] readerProviders;
 
+	/**
+	 * The readers returned by the reader providers,
+	 * which may differ from the sub readers when those are wrapped to enforce a timeout.
+	 */
+	private final IndexReader[] providedReaders;
 
-	private ManagedMultiReader(IndexReader[] subReaders, ReaderProvider[] readerProviders) throws IOException {
+	private ManagedMultiReader(IndexReader[] subReaders, IndexReader[] providedReaders,
+			ReaderProvider[] readerProviders) throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( subReaders, true );
+		this.providedReaders = providedReaders;
 		this.readerProviders = readerProviders;
 	}
 
-	static ManagedMultiReader createInstance(Set<ReaderProvider> readerProviders) throws IOException {
-		IndexReader[] indexReaders = readerProviders.stream()
+	static ManagedMultiReader createInstance(Set<ReaderProvider> readerProviders, QueryTimeout queryTimeout)
+			throws IOException {
+		IndexReader[] providedReaders = readerProviders.stream()
 				.map( ReaderProvider::openIndexReader )
 				.toArray( size -> new IndexReader[size] );
 
-		return new ManagedMultiReader( indexReaders, readerProviders.toArray( new ReaderProvider[readerProviders.size()] ) );
+		IndexReader[] subReaders = providedReaders;
+		if ( queryTimeout != null && queryTimeout.isTimeoutEnabled() ) {
+			subReaders = new IndexReader[providedReaders.length];
+			for ( int i = 0; i < providedReaders.length; i++ ) {
+				IndexReader providedReader = providedReaders[i];
+				subReaders[i] = providedReader instanceof DirectoryReader
+						? ExitableDirectoryReader.wrap( (DirectoryReader) providedReader, queryTimeout )
+						: providedReader;
+			}
+		}
+
+		return new ManagedMultiReader( subReaders, providedReaders,
+				readerProviders.toArray( new ReaderProvider[readerProviders.size()] ) );
 	}
 
 	@Override
@@ -57,9 +81,9 @@ protected synchronized void doClose() throws IOException {
 		if ( debugEnabled ) {
 			log.debugf( "Closing MultiReader: %s", this );
 		}
-		for ( int i = 0; i < getSequentialSubReaders().size(); i++ ) {
+		for ( int i = 0; i < providedReaders.length; i++ ) {
 			ReaderProvider container = readerProviders[i];
-			container.closeIndexReader( getSequentialSubReaders().get( i ) );
+			container.closeIndexReader( providedReaders[i] );
 		}
 		if ( debugEnabled ) {
 			log.trace( "MultiReader closed." );
@@ -71,6 +95,23 @@ public List<? extends IndexReader> getSubReaders() {
 		return getSequentialSubReaders();
 	}
 
+	/**
+	 * @return The cache keys of the sub readers, in order,
+	 * which change whenever one of the underlying indexes is refreshed,
+	 * or {@code null} if one of the sub readers cannot be cached.
+	 */
+	public List<IndexReader.CacheKey> getSubReaderCacheKeys() {
+		List<IndexReader.CacheKey> cacheKeys = new ArrayList<>( providedReaders.length );
+		for ( IndexReader providedReader : providedReaders ) {
+			IndexReader.CacheHelper cacheHelper = providedReader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			cacheKeys.add( cacheHelper.getKey() );
+		}
+		return cacheKeys;
+	}
+
 	@Override
 	public String toString() {
 		return ManagedMultiReader.class.getSimpleName() + " [subReaders=" + getSequentialSubReaders() + ", readerProviders=" + Arrays.toString( readerProviders ) + "]";
@@ -16,6 +16,7 @@
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.QueryTimeout;
 
 /**
  * Creates and closes the IndexReaders encompassing multiple indexes.
@@ -30,14 +31,22 @@ private MultiReaderFactory() {
 		//not allowed
 	}
 
-	public static IndexReader openReader(Set<String> indexNames, Set<ReaderProvider> readerProviders) {
+	/**
+	 * @param indexNames The names of the indexes to read from.
+	 * @param readerProviders The providers of the readers to read from.
+	 * @param queryTimeout The timeout to enforce when enumerating terms, e.g. to rewrite wildcard queries,
+	 * or {@code null}.
+	 * @return A reader encompassing all the readers of the given providers, or {@code null} if there isn't any.
+	 */
+	public static IndexReader openReader(Set<String> indexNames, Set<ReaderProvider> readerProviders,
+			QueryTimeout queryTimeout) {
 		if ( readerProviders.size() == 0 ) {
 			return null;
 		}
 		else {
 			//everything should be the same so wrap in an MultiReader
 			try {
-				return ManagedMultiReader.createInstance( readerProviders );
+				return ManagedMultiReader.createInstance( readerProviders, queryTimeout );
 			}
 			catch (IOException e) {
 				throw log.ioExceptionOnMultiReaderRefresh(
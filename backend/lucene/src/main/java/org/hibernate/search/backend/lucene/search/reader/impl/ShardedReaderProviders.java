@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+
+/**
+ * The reader providers of the shards of a single index.
+ */
+public interface ShardedReaderProviders {
+
+	/**
+	 * @param routingKeys The routing keys of a query, or an empty set if the query targets all shards.
+	 * @param collector A collection to add the reader providers to:
+	 * one for each shard that may contain documents with the given routing keys.
+	 */
+	void collect(Set<String> routingKeys, Collection<ReaderProvider> collector);
+
+}
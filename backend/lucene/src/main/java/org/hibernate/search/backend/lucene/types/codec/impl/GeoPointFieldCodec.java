@@ -12,14 +12,13 @@
 import java.util.Objects;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.document.LatLonDocValuesField;
 import org.apache.lucene.document.LatLonPoint;
 import org.apache.lucene.document.StoredField;
-import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.impl.common.CollectionHelper;
@@ -91,15 +90,15 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 	}
 
 	@Override
-	public GeoPoint decode(Document document, String absoluteFieldPath) {
-		IndexableField latitudeField = document.getField( latitudeAbsoluteFieldPath );
-		IndexableField longitudeField = document.getField( longitudeAbsoluteFieldPath );
+	public GeoPoint decode(LuceneHitFieldValues values, String absoluteFieldPath) {
+		Double latitude = (Double) values.getStoredValue( latitudeAbsoluteFieldPath );
+		Double longitude = (Double) values.getStoredValue( longitudeAbsoluteFieldPath );
 
-		if ( latitudeField == null || longitudeField == null ) {
+		if ( latitude == null || longitude == null ) {
 			return null;
 		}
 
-		return GeoPoint.of( (double) latitudeField.numericValue(), (double) longitudeField.numericValue() );
+		return GeoPoint.of( latitude, longitude );
 	}
 
 	@Override
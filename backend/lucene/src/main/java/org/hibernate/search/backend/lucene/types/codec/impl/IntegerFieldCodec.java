@@ -8,14 +8,13 @@
 
 import java.util.Objects;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
-import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 
 public final class IntegerFieldCodec implements LuceneFieldCodec<Integer> {
 
@@ -59,14 +58,18 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 	}
 
 	@Override
-	public Integer decode(Document document, String absoluteFieldPath) {
-		IndexableField field = document.getField( absoluteFieldPath );
+	public Integer decode(LuceneHitFieldValues values, String absoluteFieldPath) {
+		return (Integer) values.getStoredValue( absoluteFieldPath );
+	}
 
-		if ( field == null ) {
-			return null;
-		}
+	@Override
+	public boolean isDocValueProjectable() {
+		return store == Store.YES && sortable == Sortable.YES;
+	}
 
-		return (Integer) field.numericValue();
+	@Override
+	public Integer decodeDocValue(long docValue) {
+		return (int) docValue;
 	}
 
 	@Override
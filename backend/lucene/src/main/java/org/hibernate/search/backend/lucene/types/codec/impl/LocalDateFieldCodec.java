@@ -18,14 +18,13 @@
 import java.util.Locale;
 import java.util.Objects;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
-import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 
 public final class LocalDateFieldCodec implements LuceneFieldCodec<LocalDate> {
 
@@ -80,14 +79,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 	}
 
 	@Override
-	public LocalDate decode(Document document, String absoluteFieldPath) {
-		IndexableField field = document.getField( absoluteFieldPath );
-
-		if ( field == null ) {
-			return null;
-		}
-
-		String value = field.stringValue();
+	public LocalDate decode(LuceneHitFieldValues values, String absoluteFieldPath) {
+		String value = (String) values.getStoredValue( absoluteFieldPath );
 
 		if ( value == null ) {
 			return null;
@@ -96,6 +89,16 @@ public LocalDate decode(Document document, String absoluteFieldPath) {
 		return LocalDate.parse( value, FORMATTER );
 	}
 
+	@Override
+	public boolean isDocValueProjectable() {
+		return store == Store.YES && sortable == Sortable.YES;
+	}
+
+	@Override
+	public LocalDate decodeDocValue(long docValue) {
+		return LocalDate.ofEpochDay( docValue );
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
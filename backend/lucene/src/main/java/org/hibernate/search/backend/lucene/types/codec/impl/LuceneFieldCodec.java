@@ -9,9 +9,10 @@
 import java.util.Collections;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.AssertionFailure;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -41,13 +42,35 @@ default Set<String> getOverriddenStoredFields() {
 	}
 
 	/**
-	 * Extract the value from the Lucene document, typically used in projections.
+	 * Extract the value from the stored field values of a hit, typically used in projections.
 	 *
-	 * @param document The Lucene document.
+	 * @param values The field values of the hit.
 	 * @param absoluteFieldPath The absolute path of the field.
 	 * @return The decoded value.
 	 */
-	F decode(Document document, String absoluteFieldPath);
+	F decode(LuceneHitFieldValues values, String absoluteFieldPath);
+
+	/**
+	 * @return {@code true} if projections can be served from the numeric doc values written by this codec
+	 * ({@link #decodeDocValue(long)}) instead of from stored fields.
+	 * Only codecs that write both a stored field and a numeric doc value for the same information should return {@code true},
+	 * so that projecting from doc values never returns a different result.
+	 */
+	default boolean isDocValueProjectable() {
+		return false;
+	}
+
+	/**
+	 * Extract the value from the numeric doc value of a document, typically used in projections.
+	 * <p>
+	 * Only called if {@link #isDocValueProjectable()} returns {@code true}.
+	 *
+	 * @param docValue The numeric doc value.
+	 * @return The decoded value.
+	 */
+	default F decodeDocValue(long docValue) {
+		throw new AssertionFailure( "Codec " + this + " does not support decoding from doc values" );
+	}
 
 	// equals()/hashCode() needs to be implemented if the codec is not a singleton
 
@@ -9,9 +9,10 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Objects;
 
-import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.document.model.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.document.model.LuceneFieldValueExtractor;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -41,20 +42,42 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 	}
 
 	@Override
-	public F decode(Document document, String absoluteFieldPath) {
+	public F decode(LuceneHitFieldValues values, String absoluteFieldPath) {
 		if ( fieldValueExtractor == null ) {
 			throw log.unsupportedProjection(
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
 			);
 		}
 
-		IndexableField field = document.getField( absoluteFieldPath );
+		Object value = values.getStoredValue( absoluteFieldPath );
 
-		if ( field == null ) {
+		if ( value == null ) {
 			return null;
 		}
 
-		return fieldValueExtractor.extract( field );
+		// The value extractor is user-provided and expects a Lucene field
+		return fieldValueExtractor.extract( toStoredField( absoluteFieldPath, value ) );
+	}
+
+	private static IndexableField toStoredField(String absoluteFieldPath, Object value) {
+		if ( value instanceof String ) {
+			return new StoredField( absoluteFieldPath, (String) value );
+		}
+		else if ( value instanceof Integer ) {
+			return new StoredField( absoluteFieldPath, (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			return new StoredField( absoluteFieldPath, (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			return new StoredField( absoluteFieldPath, (Float) value );
+		}
+		else if ( value instanceof Double ) {
+			return new StoredField( absoluteFieldPath, (Double) value );
+		}
+		else {
+			return new StoredField( absoluteFieldPath, (byte[]) value );
+		}
 	}
 
 	@Override
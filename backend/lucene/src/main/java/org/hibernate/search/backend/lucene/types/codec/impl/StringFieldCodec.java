@@ -9,13 +9,13 @@
 import java.util.Objects;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.impl.LuceneHitFieldValues;
 import org.hibernate.search.backend.lucene.util.impl.AnalyzerUtils;
 
 public final class StringFieldCodec implements LuceneFieldCodec<String> {
@@ -56,8 +56,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 	}
 
 	@Override
-	public String decode(Document document, String absoluteFieldPath) {
-		return document.get( absoluteFieldPath );
+	public String decode(LuceneHitFieldValues values, String absoluteFieldPath) {
+		return (String) values.getStoredValue( absoluteFieldPath );
 	}
 
 	@Override
@@ -29,12 +29,15 @@ public CommitIndexLuceneWork(String indexName) {
 	@Override
 	public CompletableFuture<Long> execute(LuceneIndexWorkExecutionContext context) {
 		// FIXME for now everything is blocking here, we need a non blocking wrapper on top of the IndexWriter
-		return Futures.create( () -> commitIndex( context.getIndexWriter() ) );
+		return Futures.create( () -> commitIndex( context.getIndexWriter(), context.getCommitStatistics() ) );
 	}
 
-	private CompletableFuture<Long> commitIndex(IndexWriter indexWriter) {
+	private CompletableFuture<Long> commitIndex(IndexWriter indexWriter, LuceneIndexCommitStatisticsImpl commitStatistics) {
 		try {
-			return CompletableFuture.completedFuture( indexWriter.commit() );
+			long start = System.nanoTime();
+			long sequenceNumber = indexWriter.commit();
+			commitStatistics.recordCommit( System.nanoTime() - start );
+			return CompletableFuture.completedFuture( sequenceNumber );
 		}
 		catch (IOException e) {
 			throw log.unableToCommitIndex( getEventContext(), e );
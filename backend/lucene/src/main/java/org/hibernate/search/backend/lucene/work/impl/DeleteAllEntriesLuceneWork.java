@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public class DeleteAllEntriesLuceneWork extends AbstractLuceneWork<Long> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String tenantId;
+
+	private final Query query;
+
+	/**
+	 * @param indexName The index name.
+	 * @param tenantId The tenant id.
+	 * @param query A query matching all the documents of the given tenant.
+	 */
+	public DeleteAllEntriesLuceneWork(String indexName, String tenantId, Query query) {
+		super( "deleteAllEntries", indexName );
+		this.tenantId = tenantId;
+		this.query = query;
+	}
+
+	@Override
+	public CompletableFuture<Long> execute(LuceneIndexWorkExecutionContext context) {
+		// FIXME for now everything is blocking here, we need a non blocking wrapper on top of the IndexWriter
+		return Futures.create( () -> CompletableFuture.completedFuture( deleteDocuments( context.getIndexWriter() ) ) );
+	}
+
+	private Long deleteDocuments(IndexWriter indexWriter) {
+		try {
+			return indexWriter.deleteDocuments( query );
+		}
+		catch (IOException e) {
+			throw log.unableToDeleteAllEntriesFromIndex( tenantId, getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "type=" ).append( workType )
+				.append( ", indexName=" ).append( indexName )
+				.append( ", tenantId=" ).append( tenantId )
+				.append( "]" );
+		return sb.toString();
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.index.LuceneIndexCommitStatistics;
+
+public class LuceneIndexCommitStatisticsImpl implements LuceneIndexCommitStatistics {
+
+	private final LongAdder commitCount = new LongAdder();
+	private final LongAdder totalCommitTimeNanos = new LongAdder();
+	private final AtomicLong maxCommitTimeNanos = new AtomicLong( 0L );
+
+	@Override
+	public long getCommitCount() {
+		return commitCount.sum();
+	}
+
+	@Override
+	public Duration getTotalCommitTime() {
+		return Duration.ofNanos( totalCommitTimeNanos.sum() );
+	}
+
+	@Override
+	public Duration getMaxCommitTime() {
+		return Duration.ofNanos( maxCommitTimeNanos.get() );
+	}
+
+	void recordCommit(long commitTimeNanos) {
+		commitCount.increment();
+		totalCommitTimeNanos.add( commitTimeNanos );
+		maxCommitTimeNanos.accumulateAndGet( commitTimeNanos, Math::max );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "commitCount=" ).append( getCommitCount() )
+				.append( ", totalCommitTime=" ).append( getTotalCommitTime() )
+				.append( ", maxCommitTime=" ).append( getMaxCommitTime() )
+				.append( "]" )
+				.toString();
+	}
+}
@@ -14,4 +14,6 @@
 public interface LuceneIndexWorkExecutionContext {
 
 	IndexWriter getIndexWriter();
+
+	LuceneIndexCommitStatisticsImpl getCommitStatistics();
 }
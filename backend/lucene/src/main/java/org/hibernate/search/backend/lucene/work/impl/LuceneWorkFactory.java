@@ -21,6 +21,8 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 
 	LuceneIndexWork<?> delete(String indexName, String tenantId, String id, String routingKey);
 
+	LuceneIndexWork<?> deleteAll(String indexName, String tenantId);
+
 	LuceneIndexWork<?> commit(String indexName);
 
 	LuceneIndexWork<?> flush(String indexName);
@@ -28,4 +30,6 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 	LuceneIndexWork<?> optimize(String indexName);
 
 	<T> ExecuteQueryLuceneWork<T> search(LuceneSearcher<T> luceneSearcher);
+
+	<T> ScrollQueryLuceneWork<T> scroll(LuceneSearcher<T> luceneSearcher, int chunkSize);
 }
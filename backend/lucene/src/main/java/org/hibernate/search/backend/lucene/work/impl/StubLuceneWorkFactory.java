@@ -10,6 +10,8 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
+import org.apache.lucene.search.MatchAllDocsQuery;
+
 
 /**
  * @author Guillaume Smet
@@ -38,6 +40,13 @@ public LuceneIndexWork<?> delete(String indexName, String tenantId, String id, S
 		return multiTenancyStrategy.createDeleteEntryLuceneWork( indexName, tenantId, id );
 	}
 
+	@Override
+	public LuceneIndexWork<?> deleteAll(String indexName, String tenantId) {
+		return new DeleteAllEntriesLuceneWork(
+				indexName, tenantId, multiTenancyStrategy.decorateLuceneQuery( new MatchAllDocsQuery(), tenantId )
+		);
+	}
+
 	@Override
 	public LuceneIndexWork<?> flush(String indexName) {
 		return new FlushIndexLuceneWork( indexName );
@@ -57,4 +66,9 @@ public LuceneIndexWork<?> optimize(String indexName) {
 	public <T> ExecuteQueryLuceneWork<T> search(LuceneSearcher<T> luceneSearcher) {
 		return new ExecuteQueryLuceneWork<T>( luceneSearcher );
 	}
+
+	@Override
+	public <T> ScrollQueryLuceneWork<T> scroll(LuceneSearcher<T> luceneSearcher, int chunkSize) {
+		return new ScrollQueryLuceneWork<T>( luceneSearcher, chunkSize );
+	}
 }
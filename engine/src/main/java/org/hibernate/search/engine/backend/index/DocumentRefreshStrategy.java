@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index;
+
+
+/**
+ * Whether the changes performed by a work plan should be visible to searches
+ * as soon as the work plan completes.
+ */
+public enum DocumentRefreshStrategy {
+	/**
+	 * Use the strategy configured for the index.
+	 */
+	DEFAULT,
+	/**
+	 * Do not refresh the index: changes will become visible to searches eventually,
+	 * depending on the backend, but not necessarily as soon as the work plan completes.
+	 */
+	NONE,
+	/**
+	 * Refresh the index before the work plan completes,
+	 * so that changes are visible to searches as soon as the work plan completes.
+	 */
+	FORCE
+}
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works on single documents, executing works as soon as they are submitted.
+ * <p>
+ * Contrary to {@link IndexWorkPlan}, works are not accumulated and are not executed in a single batch,
+ * but are streamed to the index instead.
+ * This is most useful when submitting a large number of works, for instance when mass indexing.
+ * <p>
+ * Changes are not guaranteed to be committed to the index, nor to be visible to searches,
+ * until {@link IndexWorkExecutor#flush()} has been called and its future has completed.
+ * <p>
+ * Implementations may not be thread-safe.
+ *
+ * @param <D> The expected document type.
+ */
+public interface IndexDocumentWorkExecutor<D> {
+
+	/**
+	 * Add a document to the index, assuming that the document is absent from the index.
+	 * <p>
+	 * The document is built in the calling thread, before this method returns.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to add.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
+
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.backend.index.spi;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.common.spi.SessionContext;
 
@@ -24,6 +25,28 @@
 
 	IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext);
 
+	/**
+	 * @param sessionContext The session context.
+	 * @param refreshStrategy The refresh strategy to apply to the work plan,
+	 * overriding the one configured for the index.
+	 * Backends that do not need refreshing for changes to be visible may ignore it.
+	 * @return A new work plan.
+	 */
+	default IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext, DocumentRefreshStrategy refreshStrategy) {
+		return createWorkPlan( sessionContext );
+	}
+
+	/**
+	 * @param sessionContext The session context.
+	 * @return A new executor streaming document works to the index.
+	 */
+	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext);
+
+	/**
+	 * @return A new executor for works affecting the whole index.
+	 */
+	IndexWorkExecutor createWorkExecutor();
+
 	IndexSearchTargetBuilder createSearchTarget();
 
 	void addToSearchTarget(IndexSearchTargetBuilder searchTargetBuilder);
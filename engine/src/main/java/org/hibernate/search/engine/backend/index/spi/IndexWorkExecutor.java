@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works affecting a whole index, executing works as soon as they are submitted.
+ * <p>
+ * Works are not guaranteed to be ordered relative to the works submitted to document work executors:
+ * callers should wait for document works to complete before, for instance, flushing the index.
+ */
+public interface IndexWorkExecutor {
+
+	/**
+	 * Delete all documents from the index.
+	 *
+	 * @param tenantId The identifier of the tenant whose documents should be deleted,
+	 * or {@code null} if multi-tenancy is not enabled.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> purge(String tenantId);
+
+	/**
+	 * Merge the index segments, so as to make searches faster.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> optimize();
+
+	/**
+	 * Commit all the changes previously applied to the index, and make them visible to searches.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> flush();
+
+	/**
+	 * Notify the index that documents are about to be mass indexed through
+	 * {@link IndexDocumentWorkExecutor document work executors},
+	 * so that it can switch to settings better suited to mass indexing.
+	 * <p>
+	 * Callers must call {@link #endMassIndexing()} once mass indexing is over,
+	 * whether it succeeded or not.
+	 */
+	default void beginMassIndexing() {
+		// Nothing to do by default
+	}
+
+	/**
+	 * Notify the index that mass indexing is over, be it successfully or not,
+	 * so that it can switch back to its regular settings.
+	 */
+	default void endMassIndexing() {
+		// Nothing to do by default
+	}
+
+}
@@ -7,9 +7,12 @@
 package org.hibernate.search.engine.common.impl;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
@@ -32,6 +35,21 @@ public IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext) {
 		return implementor.createWorkPlan( sessionContext );
 	}
 
+	@Override
+	public IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext, DocumentRefreshStrategy refreshStrategy) {
+		return implementor.createWorkPlan( sessionContext, refreshStrategy );
+	}
+
+	@Override
+	public IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext) {
+		return implementor.createDocumentWorkExecutor( sessionContext );
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor() {
+		return implementor.createWorkExecutor();
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return implementor.createSearchTarget();
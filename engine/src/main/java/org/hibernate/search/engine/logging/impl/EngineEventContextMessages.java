@@ -56,6 +56,9 @@ public interface EngineEventContextMessages {
 	@Message(value = "indexes %1$s")
 	String indexes(Set<String> names);
 
+	@Message(value = "shard '%1$s'")
+	String shard(String shardId);
+
 	@Message(value = "index schema root")
 	String indexSchemaRoot();
 
@@ -166,4 +166,15 @@ SearchException relativeFieldNameCannotContainDot(String relativeFieldName,
 			value = "Multiple calls to createAccessor() for the same field definition."
 					+ " You must call createAccessor() exactly once.")
 	SearchException cannotCreateAccessorMultipleTimes(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Cannot map projections to type '%1$s':"
+					+ " this type must declare exactly one constructor with %2$s parameters, but it declares %3$s.")
+	SearchException invalidProjectionConstructorCount(@FormatWith(ClassFormatter.class) Class<?> projectionType,
+			int projectionCount, int matchingConstructorCount);
+
+	@Message(id = ID_OFFSET_2 + 26,
+			value = "Cannot map projections to type '%1$s': %2$s")
+	SearchException cannotCreateProjectionInstance(@FormatWith(ClassFormatter.class) Class<?> projectionType,
+			String causeMessage, @Cause Throwable cause);
 }
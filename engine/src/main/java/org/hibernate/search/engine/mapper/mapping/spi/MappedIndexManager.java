@@ -7,8 +7,11 @@
 package org.hibernate.search.engine.mapper.mapping.spi;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.common.spi.SessionContext;
 
@@ -23,6 +26,12 @@
 
 	IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext);
 
+	IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext, DocumentRefreshStrategy refreshStrategy);
+
+	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext);
+
+	IndexWorkExecutor createWorkExecutor();
+
 	IndexSearchTargetBuilder createSearchTarget();
 
 	void addToSearchTarget(IndexSearchTargetBuilder searchTargetBuilder);
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Yoann Rodiere
  */
@@ -15,8 +18,59 @@
 
 	void setMaxResults(Long maxResultsCount);
 
+	/**
+	 * Stop the execution of the query and throw a {@link org.hibernate.search.util.SearchTimeoutException}
+	 * if it takes longer than the given timeout.
+	 * <p>
+	 * Overrides any timeout set previously on this query, as well as the default timeout of the backend.
+	 * Scrolls are not subject to timeouts.
+	 *
+	 * @param timeout The timeout, or {@code 0} for no timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 */
+	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop collecting hits once the execution of the query takes longer than the given timeout,
+	 * and return the hits collected so far, with {@link SearchResult#isTimedOut()} returning {@code true}.
+	 * <p>
+	 * The backend may need some time to notice the timeout, so the execution may take slightly longer.
+	 * Overrides any timeout set previously on this query, as well as the default timeout of the backend.
+	 * Scrolls are not subject to timeouts.
+	 *
+	 * @param timeout The timeout, or {@code 0} for no timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 */
+	void truncateAfter(long timeout, TimeUnit timeUnit);
+
 	String getQueryString();
 
 	SearchResult<T> execute();
 
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * The calling thread is not blocked: hit extraction and object loading are performed
+	 * by backend threads, once the backend returns the hits.
+	 * As a consequence, object loaders used by this query must be thread-safe
+	 * or at least must not be used concurrently by other threads.
+	 * <p>
+	 * The query must not be executed again until the returned future completes.
+	 *
+	 * @return A future that will be completed with the result of the query.
+	 */
+	CompletableFuture<SearchResult<T>> executeAsync();
+
+	/**
+	 * Execute the query, retrieving hits chunk by chunk instead of all at once.
+	 * <p>
+	 * Memory usage only depends on the size of chunks, not on the total number of hits,
+	 * which makes scrolls suitable to process very large result sets.
+	 *
+	 * @param chunkSize The maximum number of hits in each chunk.
+	 * @return A scroll over the hits, taking into account the first result index and max results count if set.
+	 * The scroll must be closed when no longer needed.
+	 */
+	SearchScroll<T> scroll(int chunkSize);
+
 }
@@ -17,6 +17,15 @@
 
 	List<T> getHits();
 
+	/**
+	 * @return {@code true} if the query was {@link SearchQuery#truncateAfter(long, java.util.concurrent.TimeUnit) truncated}
+	 * because it timed out, in which case the hits and hit count only reflect the documents collected before the timeout.
+	 * {@code false} otherwise.
+	 */
+	default boolean isTimedOut() {
+		return false;
+	}
+
 	// TODO aggregations, facets, ...
 
 }
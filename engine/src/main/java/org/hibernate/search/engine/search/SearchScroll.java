@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * A scroll over the hits of a {@link SearchQuery}, retrieving hits chunk by chunk.
+ * <p>
+ * Scrolls hold resources (index readers, server-side search contexts, ...)
+ * and must be {@link #close() closed} when no longer needed.
+ *
+ * @param <T> The type of hits.
+ */
+public interface SearchScroll<T> extends AutoCloseable {
+
+	/**
+	 * Retrieve the next chunk of hits.
+	 *
+	 * @return The next chunk of hits, along with the total hit count.
+	 * The list of hits is empty if and only if all hits have already been retrieved.
+	 */
+	SearchResult<T> next();
+
+	@Override
+	void close();
+
+}
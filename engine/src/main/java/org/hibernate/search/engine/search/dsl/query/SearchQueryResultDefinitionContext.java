@@ -31,4 +31,20 @@ default SearchQueryWrappingDefinitionResultContext<SearchQuery<List<?>>> asProje
 	<T> SearchQueryWrappingDefinitionResultContext<SearchQuery<T>> asProjections(Function<List<?>, T> hitTransformer,
 			String ... projections);
 
+	/**
+	 * Define the query results as instances of the given type,
+	 * created by passing the given projections to the constructor of that type, in order.
+	 * <p>
+	 * The type must declare exactly one constructor accepting as many parameters as there are projections.
+	 * Unless {@link org.hibernate.search.engine.search.ProjectionConstants#OBJECT} is requested,
+	 * no object is loaded: projections are retrieved from the index only.
+	 *
+	 * @param projectionType The type of query results.
+	 * @param projections The projections to pass to the constructor.
+	 * @param <T> The type of query results.
+	 * @return The next context.
+	 */
+	<T> SearchQueryWrappingDefinitionResultContext<SearchQuery<T>> asProjections(Class<T> projectionType,
+			String ... projections);
+
 }
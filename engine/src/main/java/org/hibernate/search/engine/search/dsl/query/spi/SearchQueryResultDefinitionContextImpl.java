@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.search.dsl.query.SearchQueryWrappingDefinitionResultContext;
 import org.hibernate.search.engine.search.dsl.query.impl.SearchQueryWrappingDefinitionResultContextImpl;
 import org.hibernate.search.engine.search.dsl.spi.SearchTargetContext;
+import org.hibernate.search.engine.search.query.impl.ConstructorProjectionHitTransformer;
 import org.hibernate.search.engine.search.query.impl.ObjectHitAggregator;
 import org.hibernate.search.engine.search.query.impl.ProjectionHitAggregator;
 import org.hibernate.search.engine.search.query.impl.ReferenceHitAggregator;
@@ -81,4 +82,10 @@ public <T> SearchQueryWrappingDefinitionResultContext<SearchQuery<T>> asProjecti
 				.asProjections( sessionContext, hitAggregator, projections );
 		return new SearchQueryWrappingDefinitionResultContextImpl<>( targetContext, builder, Function.identity() );
 	}
+
+	@Override
+	public <T> SearchQueryWrappingDefinitionResultContext<SearchQuery<T>> asProjections(Class<T> projectionType,
+			String... projections) {
+		return asProjections( new ConstructorProjectionHitTransformer<>( projectionType, projections.length ), projections );
+	}
 }
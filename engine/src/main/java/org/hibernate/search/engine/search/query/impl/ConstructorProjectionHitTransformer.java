@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A hit transformer that passes projections to the constructor of a given type,
+ * in the order they were requested, so that hits can be mapped to DTOs directly.
+ * <p>
+ * The constructor is resolved once, when the query is built,
+ * and invoked through a method handle for each hit.
+ *
+ * @param <T> The type of DTOs.
+ */
+public final class ConstructorProjectionHitTransformer<T> implements Function<List<?>, T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Class<T> projectionType;
+	private final MethodHandle constructorHandle;
+
+	public ConstructorProjectionHitTransformer(Class<T> projectionType, int projectionCount) {
+		this.projectionType = projectionType;
+		Constructor<?> constructor = findConstructor( projectionType, projectionCount );
+		try {
+			constructor.setAccessible( true );
+			this.constructorHandle = MethodHandles.lookup().unreflectConstructor( constructor )
+					.asSpreader( Object[].class, projectionCount )
+					.asType( MethodType.methodType( Object.class, Object[].class ) );
+		}
+		catch (IllegalAccessException | SecurityException e) {
+			throw log.cannotCreateProjectionInstance( projectionType, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "projectionType=" ).append( projectionType )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public T apply(List<?> projections) {
+		try {
+			return projectionType.cast( (Object) constructorHandle.invokeExact( projections.toArray() ) );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Projections not matching the parameter types, or exception thrown by the constructor
+			throw log.cannotCreateProjectionInstance( projectionType, e.getMessage(), e );
+		}
+	}
+
+	private static Constructor<?> findConstructor(Class<?> projectionType, int projectionCount) {
+		List<Constructor<?>> matchingConstructors = new ArrayList<>();
+		for ( Constructor<?> constructor : projectionType.getDeclaredConstructors() ) {
+			if ( constructor.getParameterCount() == projectionCount ) {
+				matchingConstructors.add( constructor );
+			}
+		}
+		if ( matchingConstructors.size() != 1 ) {
+			throw log.invalidProjectionConstructorCount( projectionType, projectionCount, matchingConstructors.size() );
+		}
+		return matchingConstructors.get( 0 );
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexCommitStatistics;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneCommitPolicyIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private SearchIntegration integration;
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void perWorkPlan_singleCommitPerWorkPlan() {
+		setup( "per_work_plan" );
+
+		indexDocuments( "1", "2", "3" );
+
+		Assertions.assertThat( getCommitStatistics().getCommitCount() ).isEqualTo( 1L );
+		assertAllDocumentsVisible( "1", "2", "3" );
+	}
+
+	@Test
+	public void scheduled_changesVisibleBeforeCommit() throws InterruptedException {
+		setup( "scheduled" );
+
+		indexDocuments( "1", "2", "3" );
+
+		// Changes are visible through the near-real-time reader, even before the commit
+		assertAllDocumentsVisible( "1", "2", "3" );
+
+		LuceneIndexCommitStatistics commitStatistics = getCommitStatistics();
+		long deadline = System.currentTimeMillis() + 10_000L;
+		while ( commitStatistics.getCommitCount() == 0L && System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10L );
+		}
+		Assertions.assertThat( commitStatistics.getCommitCount() ).isEqualTo( 1L );
+	}
+
+	private void setup(String commitPolicy) {
+		this.integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( "index." + INDEX_NAME + "." + SearchBackendLuceneSettings.COMMIT_POLICY, commitPolicy )
+				.withProperty( "index." + INDEX_NAME + "." + SearchBackendLuceneSettings.COMMIT_INTERVAL, "100" )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(String... ids) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( String id : ids ) {
+			workPlan.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private void assertAllDocumentsVisible(String firstId, String... otherIds) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME, firstId, otherIds );
+	}
+
+	private LuceneIndexCommitStatistics getCommitStatistics() {
+		return integration.getIndexManager( INDEX_NAME ).unwrap( LuceneIndexManager.class ).getCommitStatistics();
+	}
+}
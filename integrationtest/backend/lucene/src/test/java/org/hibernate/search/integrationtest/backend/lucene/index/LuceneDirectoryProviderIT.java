@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class LuceneDirectoryProviderIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String BACKEND_PREFIX = "backend." + BACKEND_NAME + ".";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void localHeap() {
+		setup( "local_heap", false );
+		checkIndexingAndSearching();
+	}
+
+	@Test
+	public void localNio() {
+		setup( "local_nio", false );
+		checkIndexingAndSearching();
+	}
+
+	@Test
+	public void localMmap_nrtCaching() {
+		setup( "local_mmap", true );
+		checkIndexingAndSearching();
+	}
+
+	@Test
+	public void custom() {
+		CustomDirectoryProvider.initializeCount.set( 0 );
+		CustomDirectoryProvider.createCount.set( 0 );
+		CustomDirectoryProvider.closeCount.set( 0 );
+
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER,
+						CustomDirectoryProvider.class.getName() )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		checkIndexingAndSearching();
+
+		assertThat( CustomDirectoryProvider.initializeCount ).hasValue( 1 );
+		assertThat( CustomDirectoryProvider.createCount ).hasValue( 1 );
+		assertThat( CustomDirectoryProvider.closeCount ).hasValue( 0 );
+	}
+
+	@Test
+	public void invalid() {
+		SubTest.expectException(
+				"Unknown directory provider",
+				() -> setup( "some_invalid_name", false )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unrecognized Lucene directory provider 'some_invalid_name'" );
+
+		SubTest.expectException(
+				"Non-positive NRT cache size",
+				() -> setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_NRT_CACHING, "true" )
+						.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_NRT_CACHING_MAX_CACHED_SIZE, "0" )
+						.withIndex( "MappedType", INDEX_NAME, ctx -> { }, indexManager -> { } )
+						.setup()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'lucene.nrt_caching.max_cached_size': '0'" );
+	}
+
+	private void setup(String directoryProvider, boolean nrtCaching) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER, directoryProvider )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_NRT_CACHING, String.valueOf( nrtCaching ) )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void checkIndexingAndSearching() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1" ), document -> string.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2" ), document -> string.write( document, "text 2" ) );
+		workPlan.execute().join();
+
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	public static class CustomDirectoryProvider implements DirectoryProvider {
+		static final AtomicInteger initializeCount = new AtomicInteger();
+		static final AtomicInteger createCount = new AtomicInteger();
+		static final AtomicInteger closeCount = new AtomicInteger();
+
+		@Override
+		public void initialize(DirectoryProviderInitializationContext context) {
+			initializeCount.incrementAndGet();
+		}
+
+		@Override
+		public Directory createDirectory(String indexName) {
+			createCount.incrementAndGet();
+			return new RAMDirectory();
+		}
+
+		@Override
+		public void close() {
+			closeCount.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneIndexWriterSettingsIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String BACKEND_PREFIX = "backend." + BACKEND_NAME + ".";
+	private static final String INDEX_PREFIX = "index." + INDEX_NAME + ".";
+	private static final String MASS_INDEXING_PREFIX = SearchBackendLuceneSettings.INDEXWRITER_MASS_INDEXING + ".";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void regularAndMassIndexing() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.INDEXWRITER_RAM_BUFFER_SIZE, "32" )
+				.withProperty( INDEX_PREFIX + SearchBackendLuceneSettings.INDEXWRITER_MERGE_FACTOR, "5" )
+				.withProperty( INDEX_PREFIX + SearchBackendLuceneSettings.INDEXWRITER_MERGE_SCHEDULER_MAX_THREAD_COUNT, "1" )
+				.withProperty( INDEX_PREFIX + MASS_INDEXING_PREFIX + "max_buffered_docs", "2" )
+				.withProperty( INDEX_PREFIX + MASS_INDEXING_PREFIX + "merge_factor", "20" )
+				.withProperty( INDEX_PREFIX + MASS_INDEXING_PREFIX + "merge_scheduler.max_merge_count", "10" )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1" ), document -> string.write( document, "text 1" ) );
+		workPlan.execute().join();
+		assertAllDocumentsVisible( "1" );
+
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+		workExecutor.beginMassIndexing();
+		IndexDocumentWorkExecutor<? extends DocumentElement> documentWorkExecutor =
+				indexManager.createDocumentWorkExecutor( sessionContext );
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[5];
+		for ( int i = 0; i < futures.length; i++ ) {
+			String id = String.valueOf( i + 2 );
+			futures[i] = documentWorkExecutor.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		CompletableFuture.allOf( futures ).join();
+		workExecutor.flush().join();
+		workExecutor.endMassIndexing();
+		assertAllDocumentsVisible( "1", "2", "3", "4", "5", "6" );
+
+		// Back to the regular settings
+		workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "7" ), document -> string.write( document, "text 7" ) );
+		workPlan.execute().join();
+		assertAllDocumentsVisible( "1", "2", "3", "4", "5", "6", "7" );
+	}
+
+	@Test
+	public void invalidValue() {
+		SubTest.expectException(
+				"Non-positive RAM buffer size",
+				() -> setup( MASS_INDEXING_PREFIX + "ram_buffer_size", "0" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'indexwriter.mass_indexing.ram_buffer_size': '0'" );
+
+		SubTest.expectException(
+				"Merge count lower than thread count",
+				() -> setup( SearchBackendLuceneSettings.INDEXWRITER_MERGE_SCHEDULER_MAX_THREAD_COUNT, "3",
+						SearchBackendLuceneSettings.INDEXWRITER_MERGE_SCHEDULER_MAX_MERGE_COUNT, "2" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "the maximum merge count (2) must be greater than or equal to the maximum thread count (3)" );
+	}
+
+	private void setup(String... indexPropertyKeysAndValues) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME );
+		for ( int i = 0; i < indexPropertyKeysAndValues.length; i += 2 ) {
+			setupContext = setupContext.withProperty(
+					INDEX_PREFIX + indexPropertyKeysAndValues[i], indexPropertyKeysAndValues[i + 1]
+			);
+		}
+		setupContext.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void assertAllDocumentsVisible(String firstId, String... otherIds) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME, firstId, otherIds );
+	}
+}
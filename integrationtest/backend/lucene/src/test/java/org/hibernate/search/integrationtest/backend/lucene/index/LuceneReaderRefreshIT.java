@@ -0,0 +1,223 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Weight;
+import org.assertj.core.api.Assertions;
+
+public class LuceneReaderRefreshIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String INDEX_PREFIX = "index." + INDEX_NAME + ".";
+
+	private static final long TIMEOUT_MS = 10_000L;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private SearchIntegration integration;
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void onDemand() {
+		setup( "on_demand", 60_000 );
+		assertHits();
+
+		indexDocuments( "1", "2" );
+		// Changes are visible as soon as the work plan completes
+		assertHits( "1", "2" );
+
+		indexDocuments( "3" );
+		assertHits( "1", "2", "3" );
+	}
+
+	@Test
+	public void periodic_longInterval() {
+		setup( "periodic", 60_000 );
+		assertHits();
+
+		indexDocuments( "1", "2" );
+		// Searches never trigger a refresh
+		assertHits();
+	}
+
+	@Test
+	public void periodic_shortInterval() throws InterruptedException {
+		setup( "periodic", 50 );
+
+		indexDocuments( "1", "2" );
+		// The changes eventually become visible without any write or search triggering a refresh
+		awaitHits( "1", "2" );
+
+		indexDocuments( "3" );
+		awaitHits( "1", "2", "3" );
+	}
+
+	@Test
+	public void maxStaleness() throws InterruptedException {
+		int refreshIntervalMs = 1_000;
+		setup( "max_staleness", refreshIntervalMs );
+
+		indexDocuments( "1", "2" );
+		awaitHits( "1", "2" );
+		long lastRefreshNanos = System.nanoTime();
+
+		indexDocuments( "3" );
+		SearchResult<DocumentReference> result = query().execute();
+		if ( System.nanoTime() - lastRefreshNanos < TimeUnit.MILLISECONDS.toNanos( refreshIntervalMs ) ) {
+			// The reader was refreshed less than one interval ago: the search must not trigger a refresh
+			assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		}
+
+		// After one interval, the next search triggers a refresh: staleness is bounded
+		Thread.sleep( refreshIntervalMs );
+		assertHits( "1", "2", "3" );
+	}
+
+	@Test
+	public void readersReleased() {
+		setup( "on_demand", 60_000 );
+		indexDocuments( "1", "2" );
+
+		ReaderCapturingQuery firstQuery = new ReaderCapturingQuery();
+		assertThat( query( firstQuery ).execute() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		IndexReader firstReader = firstQuery.capturedReader;
+		// The search is done: only the reader provider holds a reference
+		Assertions.assertThat( firstReader.getRefCount() ).isEqualTo( 1 );
+
+		indexDocuments( "3" );
+		ReaderCapturingQuery secondQuery = new ReaderCapturingQuery();
+		assertThat( query( secondQuery ).execute() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+		IndexReader secondReader = secondQuery.capturedReader;
+		Assertions.assertThat( secondReader ).isNotSameAs( firstReader );
+		// The reader that was replaced by the refresh is closed
+		Assertions.assertThat( firstReader.getRefCount() ).isEqualTo( 0 );
+		Assertions.assertThat( secondReader.getRefCount() ).isEqualTo( 1 );
+
+		integration.close();
+		Assertions.assertThat( secondReader.getRefCount() ).isEqualTo( 0 );
+	}
+
+	private void setup(String refreshStrategy, int refreshIntervalMs) {
+		this.integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( INDEX_PREFIX + SearchBackendLuceneSettings.READER_REFRESH_STRATEGY, refreshStrategy )
+				.withProperty(
+						INDEX_PREFIX + SearchBackendLuceneSettings.READER_REFRESH_INTERVAL, String.valueOf( refreshIntervalMs )
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(String... ids) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( String id : ids ) {
+			workPlan.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private void assertHits(String... ids) {
+		SearchResult<DocumentReference> result = query().execute();
+		if ( ids.length == 0 ) {
+			Assertions.assertThat( result.getHitCount() ).isEqualTo( 0L );
+		}
+		else {
+			assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME, ids[0], tail( ids ) );
+		}
+	}
+
+	private void awaitHits(String... ids) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+		while ( query().execute().getHitCount() < ids.length && System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10L );
+		}
+		assertHits( ids );
+	}
+
+	private SearchQuery<DocumentReference> query() {
+		return query( new MatchAllDocsQuery() );
+	}
+
+	private SearchQuery<DocumentReference> query(Query luceneQuery) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().withExtension( LuceneExtension.get() ).fromLuceneQuery( luceneQuery )
+				.build();
+	}
+
+	private static String[] tail(String[] ids) {
+		String[] result = new String[ids.length - 1];
+		System.arraycopy( ids, 1, result, 0, result.length );
+		return result;
+	}
+
+	/**
+	 * A query matching all documents, capturing the reader provided by the index.
+	 */
+	private static class ReaderCapturingQuery extends Query {
+		private IndexReader capturedReader;
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, boolean needsScores, float boost) throws IOException {
+			// The searcher wraps the readers of each targeted index
+			capturedReader = searcher.getIndexReader().getContext().children().get( 0 ).reader();
+			return new MatchAllDocsQuery().createWeight( searcher, needsScores, boost );
+		}
+
+		@Override
+		public String toString(String field) {
+			return "ReaderCapturingQuery";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
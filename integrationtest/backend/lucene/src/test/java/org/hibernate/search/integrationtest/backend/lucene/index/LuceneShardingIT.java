@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneShardingIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String INDEX_PREFIX = "index." + INDEX_NAME + ".";
+
+	/*
+	 * With 3 shards, these routing keys are assigned to different shards.
+	 */
+	private static final String ROUTING_KEY_1 = "A";
+	private static final String ROUTING_KEY_2 = "B";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void indexingAndSearching() {
+		setup( "3" );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = 1; i <= 10; i++ ) {
+			String id = String.valueOf( i );
+			workPlan.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+		assertThat( query() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" );
+
+		workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.update( referenceProvider( "1" ), document -> string.write( document, "updated" ) );
+		workPlan.delete( referenceProvider( "2" ) );
+		workPlan.delete( referenceProvider( "3" ) );
+		workPlan.execute().join();
+		assertThat( query() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "4", "5", "6", "7", "8", "9", "10" );
+
+		indexManager.createWorkExecutor().purge( null ).join();
+		assertThat( query() ).hasNoHits();
+	}
+
+	@Test
+	public void routing() {
+		setup( "3" );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1", ROUTING_KEY_1 ), document -> string.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2", ROUTING_KEY_1 ), document -> string.write( document, "text 2" ) );
+		workPlan.add( referenceProvider( "3", ROUTING_KEY_2 ), document -> string.write( document, "text 3" ) );
+		workPlan.execute().join();
+
+		assertThat( query() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+		assertThat( query( ROUTING_KEY_1 ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( query( ROUTING_KEY_2 ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "3" );
+		assertThat( query( ROUTING_KEY_1, ROUTING_KEY_2 ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+
+		// Deletes must be routed to the same shard as the original document
+		workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.delete( referenceProvider( "1", ROUTING_KEY_1 ) );
+		workPlan.execute().join();
+		assertThat( query() ).hasReferencesHitsAnyOrder( INDEX_NAME, "2", "3" );
+	}
+
+	@Test
+	public void routing_noSharding() {
+		setup( "1" );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1", ROUTING_KEY_1 ), document -> string.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2", ROUTING_KEY_2 ), document -> string.write( document, "text 2" ) );
+		workPlan.execute().join();
+
+		// Routing is only an optimization: all documents are in the same shard
+		assertThat( query( ROUTING_KEY_1 ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void invalidNumberOfShards() {
+		SubTest.expectException(
+				"Zero shards",
+				() -> setup( "0" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'sharding.number_of_shards': '0'" );
+	}
+
+	private void setup(String numberOfShards) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( INDEX_PREFIX + SearchBackendLuceneSettings.SHARDING_NUMBER_OF_SHARDS, numberOfShards )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private SearchQuery<DocumentReference> query(String... routingKeys) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.routing( Arrays.asList( routingKeys ) )
+				.build();
+	}
+}
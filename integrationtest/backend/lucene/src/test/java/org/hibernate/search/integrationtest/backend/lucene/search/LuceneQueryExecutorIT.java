@@ -0,0 +1,310 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Weight;
+import org.assertj.core.api.Assertions;
+
+public class LuceneQueryExecutorIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String BACKEND_PREFIX = "backend." + BACKEND_NAME + ".";
+
+	private static final long TIMEOUT_MS = 10_000L;
+	private static final long BLOCKED_MS = 200L;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	private final CountDownLatch releaseQueries = new CountDownLatch( 1 );
+
+	@After
+	public void releaseQueries() {
+		releaseQueries.countDown();
+	}
+
+	@Test
+	public void reject() throws InterruptedException {
+		setup( "1", "1", "reject" );
+		indexDocuments( "1", "2" );
+
+		// Occupy the only thread...
+		BlockingQuery runningQuery = new BlockingQuery();
+		CompletableFuture<SearchResult<DocumentReference>> runningFuture = query( runningQuery ).executeAsync();
+		runningQuery.awaitStarted();
+		// ... and the only slot in the queue
+		CompletableFuture<SearchResult<DocumentReference>> queuedFuture = query( new BlockingQuery() ).executeAsync();
+
+		CompletableFuture<SearchResult<DocumentReference>> rejectedFuture = query( new BlockingQuery() ).executeAsync();
+		SubTest.expectException(
+				"Query submitted while the queue is full",
+				rejectedFuture::join
+		)
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "the query queue is full (1 queries pending)" );
+
+		releaseQueries.countDown();
+		assertThat( runningFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( queuedFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void reject_readersReleased() throws InterruptedException {
+		setup( "1", "1", "reject" );
+		indexDocuments( "1", "2" );
+
+		BlockingQuery runningQuery = new BlockingQuery();
+		CompletableFuture<SearchResult<DocumentReference>> runningFuture = query( runningQuery ).executeAsync();
+		runningQuery.awaitStarted();
+		CompletableFuture<SearchResult<DocumentReference>> queuedFuture = query( new BlockingQuery() ).executeAsync();
+		for ( int i = 0; i < 10; i++ ) {
+			Assertions.assertThat( query( new BlockingQuery() ).executeAsync() ).isCompletedExceptionally();
+		}
+
+		releaseQueries.countDown();
+		assertThat( runningFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( queuedFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		// Rejected queries must not hold a reference to the reader: only the reader provider does
+		Assertions.assertThat( runningQuery.reader.getRefCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void block() throws InterruptedException {
+		setup( "1", "1", "block" );
+		indexDocuments( "1", "2" );
+
+		BlockingQuery runningQuery = new BlockingQuery();
+		CompletableFuture<SearchResult<DocumentReference>> runningFuture = query( runningQuery ).executeAsync();
+		runningQuery.awaitStarted();
+		CompletableFuture<SearchResult<DocumentReference>> queuedFuture = query( new BlockingQuery() ).executeAsync();
+
+		// The queue is full: the submitting thread must block until some space is available
+		SubmittingThread submittingThread = new SubmittingThread( query( new BlockingQuery() ) );
+		submittingThread.start();
+		submittingThread.join( BLOCKED_MS );
+		Assertions.assertThat( submittingThread.isAlive() ).as( "Submitting thread blocked" ).isTrue();
+
+		releaseQueries.countDown();
+		submittingThread.join( TIMEOUT_MS );
+		Assertions.assertThat( submittingThread.isAlive() ).as( "Submitting thread blocked" ).isFalse();
+		assertThat( runningFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( queuedFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( submittingThread.future.get().join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void block_interrupted() throws InterruptedException {
+		setup( "1", "1", "block" );
+		indexDocuments( "1", "2" );
+
+		BlockingQuery runningQuery = new BlockingQuery();
+		CompletableFuture<SearchResult<DocumentReference>> runningFuture = query( runningQuery ).executeAsync();
+		runningQuery.awaitStarted();
+		CompletableFuture<SearchResult<DocumentReference>> queuedFuture = query( new BlockingQuery() ).executeAsync();
+
+		SubmittingThread submittingThread = new SubmittingThread( query( new BlockingQuery() ) );
+		submittingThread.start();
+		submittingThread.join( BLOCKED_MS );
+		Assertions.assertThat( submittingThread.isAlive() ).as( "Submitting thread blocked" ).isTrue();
+
+		submittingThread.interrupt();
+		submittingThread.join( TIMEOUT_MS );
+		Assertions.assertThat( submittingThread.isAlive() ).as( "Submitting thread blocked" ).isFalse();
+		// The query was not executed, and the future must reflect that instead of never completing
+		CompletableFuture<SearchResult<DocumentReference>> interruptedFuture = submittingThread.future.get();
+		SubTest.expectException(
+				"Query submission interrupted while the queue is full",
+				interruptedFuture::join
+		)
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "the thread was interrupted while waiting for space in the query queue" );
+
+		releaseQueries.countDown();
+		assertThat( runningFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( queuedFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void threadPoolSize() throws InterruptedException {
+		setup( "2", "1", "reject" );
+		indexDocuments( "1", "2" );
+
+		// Two queries run concurrently
+		BlockingQuery firstQuery = new BlockingQuery();
+		BlockingQuery secondQuery = new BlockingQuery();
+		CompletableFuture<SearchResult<DocumentReference>> firstFuture = query( firstQuery ).executeAsync();
+		CompletableFuture<SearchResult<DocumentReference>> secondFuture = query( secondQuery ).executeAsync();
+		firstQuery.awaitStarted();
+		secondQuery.awaitStarted();
+
+		// The third one is queued, and the fourth one is rejected
+		CompletableFuture<SearchResult<DocumentReference>> queuedFuture = query( new BlockingQuery() ).executeAsync();
+		CompletableFuture<SearchResult<DocumentReference>> rejectedFuture = query( new BlockingQuery() ).executeAsync();
+		Assertions.assertThat( rejectedFuture ).isCompletedExceptionally();
+
+		releaseQueries.countDown();
+		assertThat( firstFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( secondFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( queuedFuture.join() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void invalidValue() {
+		SubTest.expectException(
+				"Zero thread pool size",
+				() -> setup( "0", "1", "block" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'query.thread_pool_size': '0'" );
+
+		SubTest.expectException(
+				"Zero queue size",
+				() -> setup( "1", "0", "block" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'query.queue_size': '0'" );
+
+		SubTest.expectException(
+				"Unknown queue full policy",
+				() -> setup( "1", "1", "drop" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to convert configuration property 'query.queue_full_policy' with value 'drop'" );
+	}
+
+	private void setup(String threadPoolSize, String queueSize, String queueFullPolicy) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE, threadPoolSize )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_QUEUE_SIZE, queueSize )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_QUEUE_FULL_POLICY, queueFullPolicy )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(String... ids) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( String id : ids ) {
+			workPlan.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> query(Query luceneQuery) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().withExtension( LuceneExtension.get() ).fromLuceneQuery( luceneQuery )
+				.build();
+	}
+
+	/**
+	 * A query matching all documents, whose execution blocks until queries are released.
+	 */
+	private class BlockingQuery extends Query {
+		private final CountDownLatch started = new CountDownLatch( 1 );
+		private volatile IndexReader reader;
+
+		void awaitStarted() throws InterruptedException {
+			Assertions.assertThat( started.await( TIMEOUT_MS, TimeUnit.MILLISECONDS ) )
+					.as( "Query started within " + TIMEOUT_MS + "ms" )
+					.isTrue();
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, boolean needsScores, float boost) throws IOException {
+			// The searcher wraps the readers of each targeted index
+			reader = searcher.getIndexReader().getContext().children().get( 0 ).reader();
+			started.countDown();
+			try {
+				releaseQueries.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+			return new MatchAllDocsQuery().createWeight( searcher, needsScores, boost );
+		}
+
+		@Override
+		public String toString(String field) {
+			return "BlockingQuery";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+
+	private static class SubmittingThread extends Thread {
+		private final SearchQuery<DocumentReference> query;
+		private final AtomicReference<CompletableFuture<SearchResult<DocumentReference>>> future =
+				new AtomicReference<>();
+
+		SubmittingThread(SearchQuery<DocumentReference> query) {
+			this.query = query;
+		}
+
+		@Override
+		public void run() {
+			future.set( query.executeAsync() );
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.search.LuceneQueryResultCacheStatistics;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneQueryResultCacheIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String BACKEND_PREFIX = "backend." + BACKEND_NAME + ".";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private SearchIntegration integration;
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void disabledByDefault() {
+		setup( null );
+		indexDocuments( "1", "2" );
+
+		assertThat( query( 10L ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( query( 10L ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		LuceneQueryResultCacheStatistics statistics = getStatistics();
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.getEntryCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void hit() {
+		setup( "10" );
+		indexDocuments( "1", "2", "3" );
+
+		assertThat( query( 10L ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+		assertThat( query( 10L ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+
+		LuceneQueryResultCacheStatistics statistics = getStatistics();
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 1L );
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 1L );
+
+		// A different window of results is a different entry
+		assertThat( query( 1L ) ).hasHitCount( 3L );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 2L );
+		Assertions.assertThat( statistics.getEntryCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void invalidatedOnIndexChange() {
+		setup( "10" );
+		indexDocuments( "1", "2" );
+
+		assertThat( query( 10L ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		indexDocuments( "3" );
+
+		assertThat( query( 10L ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+		LuceneQueryResultCacheStatistics statistics = getStatistics();
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 2L );
+		Assertions.assertThat( statistics.getHitCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void sizeBounded() {
+		setup( "1" );
+		indexDocuments( "1", "2" );
+
+		query( 1L ).execute();
+		query( 2L ).execute();
+		query( 1L ).execute();
+
+		LuceneQueryResultCacheStatistics statistics = getStatistics();
+		Assertions.assertThat( statistics.getEntryCount() ).isEqualTo( 1 );
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 3L );
+	}
+
+	@Test
+	public void noMaxResults_notCached() {
+		setup( "10" );
+		indexDocuments( "1", "2" );
+
+		assertThat( query( null ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( query( null ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		LuceneQueryResultCacheStatistics statistics = getStatistics();
+		Assertions.assertThat( statistics.getMissCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.getEntryCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void invalidMaxEntries() {
+		SubTest.expectException(
+				"Negative max entries",
+				() -> setup( "-1" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'query.result_cache.max_entries': '-1'" );
+	}
+
+	private void setup(String maxEntries) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME );
+		if ( maxEntries != null ) {
+			setupContext = setupContext.withProperty(
+					BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, maxEntries
+			);
+		}
+		this.integration = setupContext
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(String... ids) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( String id : ids ) {
+			workPlan.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> query(Long maxResults) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( maxResults );
+		return query;
+	}
+
+	private LuceneQueryResultCacheStatistics getStatistics() {
+		return integration.getBackend( BACKEND_NAME ).unwrap( LuceneBackend.class ).getQueryResultCacheStatistics();
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneSearchTimeoutIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String BACKEND_PREFIX = "backend." + BACKEND_NAME + ".";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> string;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void noTimeout() {
+		setup( null );
+		indexDocuments( "1", "2" );
+
+		SearchResult<DocumentReference> result = query().execute();
+		assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void failAfter_notExceeded() {
+		setup( null );
+		indexDocuments( "1", "2" );
+
+		SearchQuery<DocumentReference> query = query();
+		query.failAfter( 1L, TimeUnit.MINUTES );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void failAfter_exceeded() {
+		setup( null );
+		indexDocuments( "1", "2" );
+
+		SearchQuery<DocumentReference> query = query();
+		query.failAfter( 1L, TimeUnit.NANOSECONDS );
+
+		SubTest.expectException(
+				"Query exceeding its timeout",
+				query::execute
+		)
+				.assertThrown()
+				.hasCauseInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "exceeded the timeout of PT0.000000001S" );
+	}
+
+	@Test
+	public void truncateAfter_exceeded() {
+		setup( null );
+		indexDocuments( "1", "2" );
+
+		SearchQuery<DocumentReference> query = query();
+		query.truncateAfter( 1L, TimeUnit.NANOSECONDS );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.isTimedOut() ).isTrue();
+		Assertions.assertThat( result.getHits().size() ).isLessThanOrEqualTo( 2 );
+	}
+
+	@Test
+	public void backendDefault() {
+		setup( "1" );
+		indexDocuments( "1", "2" );
+
+		// The backend default applies, but can be overridden for each query
+		SearchQuery<DocumentReference> query = query();
+		query.failAfter( 0L, TimeUnit.MILLISECONDS );
+		assertThat( query.execute() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		query.truncateAfter( 1L, TimeUnit.NANOSECONDS );
+		Assertions.assertThat( query.execute().isTimedOut() ).isTrue();
+	}
+
+	@Test
+	public void invalidBackendDefault() {
+		SubTest.expectException(
+				"Negative query timeout",
+				() -> setup( "-1" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for 'query.timeout': '-1'" );
+	}
+
+	private void setup(String queryTimeout) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME );
+		if ( queryTimeout != null ) {
+			setupContext = setupContext.withProperty(
+					BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_TIMEOUT, queryTimeout
+			);
+		}
+		setupContext
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.string = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void indexDocuments(String... ids) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( String id : ids ) {
+			workPlan.add( referenceProvider( id ), document -> string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> query() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+}
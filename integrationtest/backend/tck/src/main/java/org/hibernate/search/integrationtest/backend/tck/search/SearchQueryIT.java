@@ -9,6 +9,8 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
@@ -20,6 +22,8 @@
 import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
 import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -174,6 +178,78 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void executeAsync() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+		query.setFirstResult( 1L );
+
+		CompletableFuture<SearchResult<DocumentReference>> future = query.executeAsync();
+
+		DocumentReferencesSearchResultAssert.assertThat( future.join() )
+				.hasHitCount( 3 )
+				.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void scroll() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasNoHits();
+		}
+	}
+
+	@Test
+	public void scroll_paging() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+		query.setFirstResult( 1L );
+		query.setMaxResults( 1L );
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 1 ) ) {
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasNoHits();
+		}
+
+		query.setFirstResult( 2L );
+		query.setMaxResults( null );
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 1 ) ) {
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasHitCount( 3 )
+					.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+			DocumentReferencesSearchResultAssert.assertThat( scroll.next() )
+					.hasNoHits();
+		}
+	}
+
 	@Test
 	public void getQueryString() {
 		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
 import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.backend.document.model.dsl.StandardIndexSchemaFieldTypedContext;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.engine.backend.document.model.dsl.StringIndexSchemaFieldTypedContext;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -119,6 +120,56 @@ public void field_withProjectionConverters() {
 		}
 	}
 
+	@Test
+	public void field_sortable() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		for ( FieldModel<?> fieldModel : indexMapping.supportedSortableFieldModels ) {
+			SearchQuery<List<?>> query;
+			String fieldPath = fieldModel.relativeFieldName;
+
+			query = searchTarget.query( sessionContext )
+					.asProjections( fieldPath )
+					.predicate().matchAll().end()
+					.build();
+			assertThat( query ).hasProjectionsHitsAnyOrder( b -> {
+				b.projection( fieldModel.document1Value.indexedValue );
+				b.projection( fieldModel.document2Value.indexedValue );
+				b.projection( fieldModel.document3Value.indexedValue );
+				b.projection( null ); // Empty document
+			} );
+		}
+	}
+
+	@Test
+	public void field_sortable_multiple() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<List<?>> query = searchTarget.query( sessionContext )
+				.asProjections(
+						indexMapping.sortableIntegerField.relativeFieldName,
+						indexMapping.sortableLocalDateField.relativeFieldName
+				)
+				.predicate().matchAll().end()
+				.sort().byField( indexMapping.sortableIntegerField.relativeFieldName ).desc().onMissingValue().sortLast().end()
+				.build();
+		assertThat( query ).hasProjectionsHitsExactOrder( b -> {
+			b.projection(
+					indexMapping.sortableIntegerField.document3Value.indexedValue,
+					indexMapping.sortableLocalDateField.document3Value.indexedValue
+			);
+			b.projection(
+					indexMapping.sortableIntegerField.document2Value.indexedValue,
+					indexMapping.sortableLocalDateField.document2Value.indexedValue
+			);
+			b.projection(
+					indexMapping.sortableIntegerField.document1Value.indexedValue,
+					indexMapping.sortableLocalDateField.document1Value.indexedValue
+			);
+			b.projection( null, (Object) null ); // Empty document
+		} );
+	}
+
 	@Test
 	public void field_duplicated() {
 		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
@@ -320,6 +371,7 @@ private void initData() {
 		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
 			indexMapping.supportedFieldModels.forEach( f -> f.document1Value.write( document ) );
 			indexMapping.supportedFieldWithProjectionConverterModels.forEach( f -> f.document1Value.write( document ) );
+			indexMapping.supportedSortableFieldModels.forEach( f -> f.document1Value.write( document ) );
 
 			indexMapping.string1Field.document1Value.write( document );
 			indexMapping.string2Field.document1Value.write( document );
@@ -335,6 +387,7 @@ private void initData() {
 		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
 			indexMapping.supportedFieldModels.forEach( f -> f.document2Value.write( document ) );
 			indexMapping.supportedFieldWithProjectionConverterModels.forEach( f -> f.document2Value.write( document ) );
+			indexMapping.supportedSortableFieldModels.forEach( f -> f.document2Value.write( document ) );
 
 			indexMapping.string1Field.document2Value.write( document );
 			indexMapping.string2Field.document2Value.write( document );
@@ -350,6 +403,7 @@ private void initData() {
 		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
 			indexMapping.supportedFieldModels.forEach( f -> f.document3Value.write( document ) );
 			indexMapping.supportedFieldWithProjectionConverterModels.forEach( f -> f.document3Value.write( document ) );
+			indexMapping.supportedSortableFieldModels.forEach( f -> f.document3Value.write( document ) );
 
 			indexMapping.string1Field.document3Value.write( document );
 			indexMapping.string2Field.document3Value.write( document );
@@ -379,6 +433,10 @@ private void initData() {
 	private static class IndexMapping {
 		final List<FieldModel<?>> supportedFieldModels;
 		final List<FieldModel<?>> supportedFieldWithProjectionConverterModels;
+		final List<FieldModel<?>> supportedSortableFieldModels;
+
+		final FieldModel<Integer> sortableIntegerField;
+		final FieldModel<LocalDate> sortableLocalDateField;
 
 		final FieldModel<String> string1Field;
 		final FieldModel<String> string2Field;
@@ -391,6 +449,11 @@ private static class IndexMapping {
 			supportedFieldWithProjectionConverterModels = mapSupportedFields(
 					root, "converted_", c -> c.projectionConverter( ValueWrapper.fromIndexFieldConverter() )
 			);
+			supportedSortableFieldModels = mapSupportedFields(
+					root, "sortable_", c -> c.sortable( Sortable.YES )
+			);
+			sortableIntegerField = getFieldModel( supportedSortableFieldModels, Integer.class );
+			sortableLocalDateField = getFieldModel( supportedSortableFieldModels, LocalDate.class );
 
 			string1Field = FieldModel.mapper( String.class,"ccc", "mmm", "xxx" )
 					.map( root, "string1" );
@@ -402,6 +465,14 @@ private static class IndexMapping {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private static <F> FieldModel<F> getFieldModel(List<FieldModel<?>> fieldModels, Class<F> type) {
+		return (FieldModel<F>) fieldModels.stream()
+				.filter( f -> type.equals( f.type ) )
+				.findFirst()
+				.orElseThrow( IllegalStateException::new );
+	}
+
 	private static class ObjectMapping {
 		final String relativeFieldName;
 		final IndexObjectFieldAccessor self;
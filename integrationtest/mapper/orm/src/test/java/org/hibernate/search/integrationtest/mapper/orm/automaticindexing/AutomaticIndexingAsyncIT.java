@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing when changes are applied asynchronously after transaction commits.
+ */
+public class AutomaticIndexingAsyncIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( SearchOrmSettings.ENABLE_ASYNC_INDEXING, true )
+				.withProperty( SearchOrmSettings.ASYNC_INDEXING_QUEUE_SIZE, 2 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void persistUpdate() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.indexedField = "initialValue";
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.indexedField = "updatedValue";
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+
+		// Closing waits for pending asynchronous works
+		sessionFactory.close();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void queueFull_block_interrupted() throws InterruptedException {
+		// Keep the only background thread busy...
+		CompletableFuture<?> firstExecution = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "1", b -> b.field( "indexedField", "value1" ) )
+				.preparedThenExecuted( firstExecution );
+		persist( 1 );
+		awaitDependents( firstExecution );
+
+		// ... and fill the queue
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "2", b -> b.field( "indexedField", "value2" ) )
+				.prepared();
+		persist( 2 );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "3", b -> b.field( "indexedField", "value3" ) )
+				.prepared();
+		persist( 3 );
+
+		// The committing thread blocks, and when interrupted, executes the work plan itself
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "4", b -> b.field( "indexedField", "value4" ) )
+				.preparedThenExecuted();
+		Thread committingThread = new Thread( () -> persist( 4 ) );
+		committingThread.start();
+		committingThread.join( 200L );
+		assertThat( committingThread.isAlive() ).as( "Committing thread blocked" ).isTrue();
+		committingThread.interrupt();
+		committingThread.join( 10_000L );
+		assertThat( committingThread.isAlive() ).as( "Committing thread blocked" ).isFalse();
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "2", b -> b.field( "indexedField", "value2" ) )
+				.executed();
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "3", b -> b.field( "indexedField", "value3" ) )
+				.executed();
+		firstExecution.complete( null );
+
+		sessionFactory.close();
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void persist(int id) {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = new IndexedEntity();
+			entity.id = id;
+			entity.indexedField = "value" + id;
+			session.persist( entity );
+		} );
+	}
+
+	private static void awaitDependents(CompletableFuture<?> future) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		// Someone waits for the future to complete
+		while ( future.getNumberOfDependents() == 0 ) {
+			assertThat( System.nanoTime() ).as( "Timeout waiting for execution" ).isLessThan( deadline );
+			Thread.sleep( 10L );
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String indexedField;
+	}
+
+}
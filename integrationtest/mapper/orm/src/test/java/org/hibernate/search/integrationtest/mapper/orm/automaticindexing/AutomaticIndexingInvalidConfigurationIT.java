@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that invalid settings for asynchronous and outbox indexing are reported at boot.
+ */
+public class AutomaticIndexingInvalidConfigurationIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Test
+	public void asyncIndexingThreadCount() {
+		expectInvalidStrictlyPositiveValue( SearchOrmSettings.ENABLE_ASYNC_INDEXING,
+				SearchOrmSettings.ASYNC_INDEXING_THREAD_COUNT, 0 );
+	}
+
+	@Test
+	public void asyncIndexingQueueSize() {
+		expectInvalidStrictlyPositiveValue( SearchOrmSettings.ENABLE_ASYNC_INDEXING,
+				SearchOrmSettings.ASYNC_INDEXING_QUEUE_SIZE, -1 );
+	}
+
+	@Test
+	public void outboxPollingInterval() {
+		expectInvalidStrictlyPositiveValue( SearchOrmSettings.ENABLE_OUTBOX_INDEXING,
+				SearchOrmSettings.OUTBOX_POLLING_INTERVAL, 0 );
+	}
+
+	@Test
+	public void outboxBatchSize() {
+		expectInvalidStrictlyPositiveValue( SearchOrmSettings.ENABLE_OUTBOX_INDEXING,
+				SearchOrmSettings.OUTBOX_BATCH_SIZE, 0 );
+	}
+
+	@Test
+	public void outboxClaimTimeout() {
+		expectInvalidStrictlyPositiveValue( SearchOrmSettings.ENABLE_OUTBOX_INDEXING,
+				SearchOrmSettings.OUTBOX_CLAIM_TIMEOUT, -1 );
+	}
+
+	private void expectInvalidStrictlyPositiveValue(String enablingPropertyKey, String propertyKey, int value) {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+		SubTest.expectException(
+				"Invalid value '" + value + "' for '" + propertyKey + "'",
+				() -> ormSetupHelper.withBackendMock( backendMock )
+						.withProperty( enablingPropertyKey, true )
+						.withProperty( propertyKey, value )
+						.setup( IndexedEntity.class )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for '" + propertyKey + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be strictly positive" );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String indexedField;
+	}
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.LockMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing when changes are recorded in an outbox table and indexed by a poller.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	private static final String OUTBOX_TABLE = "HSEARCH_OUTBOX_IT";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( SearchOrmSettings.ENABLE_OUTBOX_INDEXING, true )
+				.withProperty( SearchOrmSettings.OUTBOX_TABLE, OUTBOX_TABLE )
+				.withProperty( SearchOrmSettings.OUTBOX_POLLING_INTERVAL, 10L )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void persistUpdateDelete() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.indexedField = "initialValue";
+
+			session.persist( entity1 );
+
+			// The poller does not know whether the entity was added or updated
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.indexedField = "updatedValue";
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			session.delete( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.delete( "1" )
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void rollback() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			session.getTransaction().begin();
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.indexedField = "initialValue";
+			session.persist( entity1 );
+			session.flush();
+			session.getTransaction().rollback();
+		} );
+
+		// No work expected: nothing was recorded in the outbox table
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void updateWithoutDirtyPaths() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.indexedField = "initialValue";
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			// Without a snapshot of the detached entity, Hibernate ORM cannot tell which properties are dirty
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.indexedField = "updatedValue";
+			session.update( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void lockedEntity() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.indexedField = "initialValue";
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			// Simulate another poller indexing the entity
+			session.get( IndexedEntity.class, 1, LockMode.PESSIMISTIC_WRITE );
+
+			OrmUtils.withinTransaction( sessionFactory, otherSession -> {
+				otherSession.createNativeQuery( "insert into " + OUTBOX_TABLE
+						+ " (ID, ENTITY_NAME, ENTITY_ID, TENANT_ID, DIRTY_PATHS, CREATED) values (?, ?, ?, null, null, ?)" )
+						.setParameter( 1, UUID.randomUUID().toString() )
+						.setParameter( 2, IndexedEntity.class.getName() )
+						.setParameter( 3, "1" )
+						.setParameter( 4, System.currentTimeMillis() )
+						.executeUpdate();
+			} );
+
+			// The row must not be processed while the entity is locked (this would trigger an unexpected work)
+			sleep( 200L );
+			assertThat( countOutboxRows() ).isEqualTo( 1L );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void awaitOutboxProcessing() {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		long rowCount;
+		do {
+			rowCount = countOutboxRows();
+			if ( rowCount == 0L ) {
+				return;
+			}
+			sleep( 10L );
+		}
+		while ( System.nanoTime() < deadline );
+		fail( "The outbox table still contains " + rowCount + " rows after 10 seconds" );
+	}
+
+	private long countOutboxRows() {
+		AtomicLong rowCount = new AtomicLong();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Number count = (Number) session.createNativeQuery( "select count(*) from " + OUTBOX_TABLE )
+					.getSingleResult();
+			rowCount.set( count.longValue() );
+		} );
+		return rowCount.get();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( e );
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String indexedField;
+	}
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubIndexWork;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class MassIndexingBaseIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		IndexedEntity.loadCount.set( 0 );
+
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.id = i;
+				entity.text = "text" + i;
+				session.persist( entity );
+			}
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.add( "3", b -> b.field( "text", "text3" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void simple() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+
+			// Works are streamed: each work is prepared and executed immediately
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.BEGIN_MASS_INDEXING ).build() )
+					.preparedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.PURGE ).build() )
+					.preparedThenExecuted();
+			for ( int i = 1; i <= 3; i++ ) {
+				String text = "text" + i;
+				backendMock.expectWorks( IndexedEntity.INDEX )
+						.add( String.valueOf( i ), b -> b.field( "text", text ) )
+						.preparedThenExecuted();
+			}
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.FLUSH ).build() )
+					.preparedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.END_MASS_INDEXING ).build() )
+					.preparedThenExecuted();
+
+			try {
+				// Single-threaded, single batch, so that works are executed in a predictable order
+				fullTextSession.createIndexer()
+						.threadsToLoadObjects( 1 )
+						.threadsToBuildDocuments( 1 )
+						.batchSizeToLoadObjects( 10 )
+						.optimizeAfterPurge( false )
+						.optimizeOnFinish( false )
+						.startAndWait();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void failure() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.BEGIN_MASS_INDEXING ).build() )
+					.preparedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.PURGE ).build() )
+					.preparedThenExecuted();
+			// No add and no flush, but the end of mass indexing must still be notified
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.END_MASS_INDEXING ).build() )
+					.preparedThenExecuted();
+
+			IndexedEntity.failOnLoad = true;
+			try {
+				SubTest.expectException(
+						"Mass indexing with a failure on entity loading",
+						() -> {
+							fullTextSession.createIndexer()
+									.threadsToLoadObjects( 1 )
+									.threadsToBuildDocuments( 1 )
+									.batchSizeToLoadObjects( 10 )
+									.optimizeAfterPurge( false )
+									.optimizeOnFinish( false )
+									.startAndWait();
+							return null;
+						}
+				)
+						.assertThrown()
+						.hasStackTraceContaining( "Simulated failure" );
+			}
+			finally {
+				IndexedEntity.failOnLoad = false;
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void cancel() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+
+			CompletableFuture<?> purgeFuture = new CompletableFuture<>();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.BEGIN_MASS_INDEXING ).build() )
+					.preparedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.PURGE ).build() )
+					.preparedThenExecuted( purgeFuture );
+			// No add and no flush, but the end of mass indexing must still be notified
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.work( StubIndexWork.builder( StubIndexWork.Type.END_MASS_INDEXING ).build() )
+					.preparedThenExecuted();
+
+			CompletableFuture<?> massIndexingFuture = fullTextSession.createIndexer()
+					.threadsToLoadObjects( 1 )
+					.threadsToBuildDocuments( 1 )
+					.batchSizeToLoadObjects( 10 )
+					.optimizeAfterPurge( false )
+					.optimizeOnFinish( false )
+					.start();
+
+			try {
+				// Wait for the purge to start, then cancel mass indexing before any entity gets loaded
+				awaitDependents( purgeFuture );
+				Assertions.assertThat( massIndexingFuture.cancel( false ) ).isTrue();
+				purgeFuture.complete( null );
+
+				awaitExpectationsMet();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		} );
+		Assertions.assertThat( IndexedEntity.loadCount.get() ).isEqualTo( 0 );
+	}
+
+	private void awaitExpectationsMet() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( true ) {
+			try {
+				backendMock.verifyExpectationsMet();
+				return;
+			}
+			catch (AssertionError e) {
+				if ( System.nanoTime() > deadline ) {
+					throw e;
+				}
+			}
+			Thread.sleep( 10L );
+		}
+	}
+
+	private static void awaitDependents(CompletableFuture<?> future) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		// Someone waits for the future to complete
+		while ( future.getNumberOfDependents() == 0 ) {
+			Assertions.assertThat( System.nanoTime() ).as( "Timeout waiting for execution" ).isLessThan( deadline );
+			Thread.sleep( 10L );
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		static volatile boolean failOnLoad = false;
+
+		static final AtomicInteger loadCount = new AtomicInteger();
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		@PostLoad
+		private void postLoad() {
+			loadCount.incrementAndGet();
+			if ( failOnLoad ) {
+				throw new IllegalStateException( "Simulated failure" );
+			}
+		}
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.model;
+
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.PropertyAccessorStrategyConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that properties are correctly retrieved when using the lambda property accessor strategy,
+ * including properties for which lambdas cannot be generated.
+ */
+public class PropertyAccessorStrategyIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "publicGetter", String.class )
+				.field( "primitiveGetter", Integer.class )
+				.field( "protectedGetter", String.class )
+				.field( "field", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( SearchOrmSettings.PROPERTY_ACCESSOR_STRATEGY,
+						PropertyAccessorStrategyConfiguration.LAMBDA.toExternalRepresentation() )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void index() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setPublicGetter( "publicGetterValue" );
+			entity1.setPrimitiveGetter( 42 );
+			entity1.setProtectedGetter( "protectedGetterValue" );
+			entity1.field = "fieldValue";
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "publicGetter", "publicGetterValue" )
+							.field( "primitiveGetter", 42 )
+							.field( "protectedGetter", "protectedGetterValue" )
+							.field( "field", "fieldValue" )
+					)
+					.preparedThenExecuted();
+		} );
+	}
+
+	@Entity
+	@Table(name = "indexed")
+	@Access( AccessType.PROPERTY )
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		public static final String INDEX = "IndexedEntity";
+
+		private Integer id;
+
+		private String publicGetter;
+
+		private int primitiveGetter;
+
+		private String protectedGetter;
+
+		@Access( AccessType.FIELD )
+		@Basic
+		@GenericField
+		protected String field;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public String getPublicGetter() {
+			return publicGetter;
+		}
+
+		public void setPublicGetter(String publicGetter) {
+			this.publicGetter = publicGetter;
+		}
+
+		@GenericField
+		public int getPrimitiveGetter() {
+			return primitiveGetter;
+		}
+
+		public void setPrimitiveGetter(int primitiveGetter) {
+			this.primitiveGetter = primitiveGetter;
+		}
+
+		@GenericField
+		protected String getProtectedGetter() {
+			return protectedGetter;
+		}
+
+		protected void setProtectedGetter(String protectedGetter) {
+			this.protectedGetter = protectedGetter;
+		}
+	}
+}
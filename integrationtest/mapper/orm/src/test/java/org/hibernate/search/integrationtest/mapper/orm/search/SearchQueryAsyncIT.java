@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.search.ProjectionConstants;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchQueryResultDefinitionContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoReferenceImpl;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test the asynchronous execution of search queries.
+ */
+public class SearchQueryAsyncIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.text = "text1";
+			session.persist( entity1 );
+			IndexedEntity entity2 = new IndexedEntity();
+			entity2.id = 2;
+			entity2.text = "text2";
+			session.persist( entity2 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void projections() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<List<?>> query = createQueryContext( Search.getFullTextSession( session ) )
+					.asProjections( "text", ProjectionConstants.REFERENCE )
+					.predicate().matchAll().end()
+					.build();
+
+			backendMock.expectSearchProjections(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							c -> {
+								c.collectProjection( "text1" );
+								c.collectReference( reference( IndexedEntity.INDEX, "1" ) );
+							},
+							c -> {
+								c.collectProjection( "text2" );
+								c.collectReference( reference( IndexedEntity.INDEX, "2" ) );
+							}
+					)
+			);
+			CompletableFuture<List<List<?>>> future = query.getResultListAsync();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( future.join() )
+					.containsExactly(
+							Arrays.asList( "text1", new PojoReferenceImpl( IndexedEntity.class, 1 ) ),
+							Arrays.asList( "text2", new PojoReferenceImpl( IndexedEntity.class, 2 ) )
+					);
+		} );
+	}
+
+	@Test
+	public void references() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<List<?>> query = createQueryContext( Search.getFullTextSession( session ) )
+					.asProjections( ProjectionConstants.REFERENCE )
+					.predicate().matchAll().end()
+					.build();
+			query.setMaxResults( 1 );
+
+			backendMock.expectSearchProjections(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> b.maxResultsCount( 1L ),
+					StubSearchWorkBehavior.of(
+							2L,
+							c -> c.collectReference( reference( IndexedEntity.INDEX, "1" ) )
+					)
+			);
+			CompletableFuture<List<List<?>>> future = query.getResultListAsync();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( future.join() )
+					.containsExactly( Collections.singletonList( new PojoReferenceImpl( IndexedEntity.class, 1 ) ) );
+		} );
+	}
+
+	@Test
+	public void entities() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQueryContext( Search.getFullTextSession( session ) )
+					.asEntities()
+					.predicate().matchAll().end()
+					.build();
+
+			// Entities cannot be loaded asynchronously: the query must not reach the backend
+			expectLoadingEntitiesFailure( query );
+		} );
+	}
+
+	@Test
+	public void objectProjection() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<List<?>> query = createQueryContext( Search.getFullTextSession( session ) )
+					.asProjections( ProjectionConstants.REFERENCE, ProjectionConstants.OBJECT )
+					.predicate().matchAll().end()
+					.build();
+
+			expectLoadingEntitiesFailure( query );
+		} );
+	}
+
+	private HibernateOrmSearchQueryResultDefinitionContext<IndexedEntity> createQueryContext(
+			FullTextSession ftSession) {
+		return ftSession.search( IndexedEntity.class ).query();
+	}
+
+	private void expectLoadingEntitiesFailure(FullTextQuery<?> query) {
+		SubTest.expectException(
+				"Asynchronous execution of a query loading entities",
+				query::getResultListAsync
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot execute a query asynchronously when it loads entities" );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		Integer id;
+
+		@GenericField
+		String text;
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test the loading of entities when executing search queries.
+ */
+public class SearchQueryEntityLoadingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( FirstSubclass.INDEX );
+		backendMock.expectAnySchema( SecondSubclass.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( RootEntity.class, FirstSubclass.class, SecondSubclass.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			FirstSubclass entity1 = new FirstSubclass();
+			entity1.id = 1;
+			entity1.text = "text1";
+			session.persist( entity1 );
+			SecondSubclass entity2 = new SecondSubclass();
+			entity2.id = 2;
+			entity2.text = "text2";
+			session.persist( entity2 );
+
+			backendMock.expectWorks( FirstSubclass.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.preparedThenExecuted();
+			backendMock.expectWorks( SecondSubclass.INDEX )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void singleQueryPerHierarchy() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<RootEntity> query = createQuery( Search.getFullTextSession( session ) );
+			expectSearch();
+
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+			List<RootEntity> result = query.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).extracting( "id" ).containsExactly( 1, 2 );
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void cacheLookupStrategy_skip() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FirstSubclass entity1 = session.get( FirstSubclass.class, 1 );
+			SecondSubclass entity2 = session.get( SecondSubclass.class, 2 );
+
+			FullTextQuery<RootEntity> query = createQuery( Search.getFullTextSession( session ) )
+					.setCacheLookupStrategy( CacheLookupStrategyConfiguration.SKIP );
+			expectSearch();
+
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+			List<RootEntity> result = query.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).containsExactly( entity1, entity2 );
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void cacheLookupStrategy_persistenceContext() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FirstSubclass entity1 = session.get( FirstSubclass.class, 1 );
+
+			FullTextQuery<RootEntity> query = createQuery( Search.getFullTextSession( session ) )
+					.setCacheLookupStrategy( CacheLookupStrategyConfiguration.PERSISTENCE_CONTEXT );
+			expectSearch();
+
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+			List<RootEntity> result = query.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).hasSize( 2 );
+			Assertions.assertThat( result.get( 0 ) ).isSameAs( entity1 );
+			Assertions.assertThat( result.get( 1 ) ).extracting( "id" ).containsExactly( 2 );
+			// Only the entity missing from the persistence context is loaded from the database
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+
+			statistics.clear();
+			expectSearch();
+			result = createQuery( Search.getFullTextSession( session ) )
+					.setCacheLookupStrategy( CacheLookupStrategyConfiguration.PERSISTENCE_CONTEXT )
+					.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).hasSize( 2 );
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0L );
+		} );
+	}
+
+	private FullTextQuery<RootEntity> createQuery(FullTextSession ftSession) {
+		return ftSession.search( RootEntity.class )
+				.query()
+				.asEntities()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private void expectSearch() {
+		backendMock.expectSearchObjects(
+				Arrays.asList( FirstSubclass.INDEX, SecondSubclass.INDEX ),
+				b -> { },
+				StubSearchWorkBehavior.of(
+						2L,
+						c -> c.collectForLoading( reference( FirstSubclass.INDEX, "1" ) ),
+						c -> c.collectForLoading( reference( SecondSubclass.INDEX, "2" ) )
+				)
+		);
+	}
+
+	@Entity(name = "root")
+	public static class RootEntity {
+		@Id
+		Integer id;
+
+		@GenericField
+		String text;
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "first")
+	@Indexed(index = FirstSubclass.INDEX)
+	public static class FirstSubclass extends RootEntity {
+		static final String INDEX = "FirstSubclass";
+	}
+
+	@Entity(name = "second")
+	@Indexed(index = SecondSubclass.INDEX)
+	public static class SecondSubclass extends RootEntity {
+		static final String INDEX = "SecondSubclass";
+	}
+
+}
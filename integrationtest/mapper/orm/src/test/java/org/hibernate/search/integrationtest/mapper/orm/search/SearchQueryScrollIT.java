@@ -0,0 +1,332 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.search.engine.search.query.spi.LoadingHitCollector;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubSearchWork;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test scrolling through the results of search queries,
+ * with {@code scroll()}, {@code iterate()} and {@code getResultStream()}.
+ */
+public class SearchQueryScrollIT {
+
+	private static final int ENTITY_COUNT = 5;
+
+	private static final int DEFAULT_CHUNK_SIZE = 100;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			BackendMock.WorkCallListContext works = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.id = i;
+				entity.text = "text" + i;
+				session.persist( entity );
+				String text = entity.text;
+				works.add( String.valueOf( i ), b -> b.field( "text", text ) );
+			}
+			works.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void scroll() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setFetchSize( 2 );
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			try ( ScrollableResults scroll = query.scroll() ) {
+				backendMock.verifyExpectationsMet();
+
+				// Hits are retrieved, and entities loaded, one chunk at a time
+				expectChunk( 2, 1, 2 );
+				assertNextRow( scroll, 1 );
+				assertNextRow( scroll, 2 );
+				backendMock.verifyExpectationsMet();
+				Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+
+				expectChunk( 2, 3, 4 );
+				assertNextRow( scroll, 3 );
+				assertNextRow( scroll, 4 );
+				backendMock.verifyExpectationsMet();
+				Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2L );
+
+				expectChunk( 2, 5 );
+				assertNextRow( scroll, 5 );
+				backendMock.verifyExpectationsMet();
+				Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 3L );
+
+				expectChunk( 2 );
+				Assertions.assertThat( scroll.next() ).isFalse();
+				backendMock.verifyExpectationsMet();
+
+				backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			}
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	@Test
+	public void scroll_defaultChunkSize() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+
+			try ( ScrollableResults scroll = query.scroll() ) {
+				expectChunk( DEFAULT_CHUNK_SIZE, 1, 2, 3, 4, 5 );
+				for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+					assertNextRow( scroll, i );
+				}
+				expectChunk( DEFAULT_CHUNK_SIZE );
+				Assertions.assertThat( scroll.next() ).isFalse();
+				backendMock.verifyExpectationsMet();
+
+				backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			}
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	@Test
+	public void scroll_firstResultMaxResults() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setFetchSize( 2 );
+			query.setFirstResult( 1 );
+			query.setMaxResults( 3 );
+
+			try ( ScrollableResults scroll = query.scroll() ) {
+				Consumer<StubSearchWork.Builder> limits = b -> b.firstResultIndex( 1L ).maxResultsCount( 3L );
+				expectChunk( 2, limits, 2, 3 );
+				assertNextRow( scroll, 2 );
+				assertNextRow( scroll, 3 );
+				expectChunk( 2, limits, 4 );
+				assertNextRow( scroll, 4 );
+				expectChunk( 2, limits );
+				Assertions.assertThat( scroll.next() ).isFalse();
+				backendMock.verifyExpectationsMet();
+
+				backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			}
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	@Test
+	public void scroll_forwardOnly() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setFetchSize( 2 );
+
+			SubTest.expectException(
+					"scroll() with a scroll mode other than FORWARD_ONLY",
+					() -> query.scroll( ScrollMode.SCROLL_INSENSITIVE )
+			)
+					.assertThrown()
+					.isInstanceOf( UnsupportedOperationException.class )
+					.hasMessageContaining( "Only forward-only scrolling is supported" );
+
+			try ( ScrollableResults scroll = query.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				expectChunk( 2, 1, 2 );
+				assertNextRow( scroll, 1 );
+				assertNextRow( scroll, 2 );
+				backendMock.verifyExpectationsMet();
+
+				SubTest.expectException( "previous() on scrollable results", scroll::previous )
+						.assertThrown()
+						.isInstanceOf( UnsupportedOperationException.class )
+						.hasMessageContaining( "Hibernate Search scrollable results are forward-only" );
+				SubTest.expectException( "scroll(-1) on scrollable results", () -> scroll.scroll( -1 ) )
+						.assertThrown()
+						.isInstanceOf( UnsupportedOperationException.class )
+						.hasMessageContaining( "Hibernate Search scrollable results are forward-only" );
+
+				// Closing before the end releases the backend scroll too
+				backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			}
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	@Test
+	public void iterate() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setFetchSize( 3 );
+			Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+
+			Iterator<IndexedEntity> iterator = query.iterate();
+			backendMock.verifyExpectationsMet();
+
+			expectChunk( 3, 1, 2, 3 );
+			assertNextElement( iterator, 1 );
+			assertNextElement( iterator, 2 );
+			assertNextElement( iterator, 3 );
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1L );
+
+			expectChunk( 3, 4, 5 );
+			assertNextElement( iterator, 4 );
+			assertNextElement( iterator, 5 );
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2L );
+
+			// The backend scroll is released as soon as all hits have been retrieved
+			expectChunk( 3 );
+			backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			Assertions.assertThat( iterator.hasNext() ).isFalse();
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	@Test
+	public void iterate_close() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setFetchSize( 2 );
+
+			Iterator<IndexedEntity> iterator = query.iterate();
+			expectChunk( 2, 1, 2 );
+			assertNextElement( iterator, 1 );
+			backendMock.verifyExpectationsMet();
+
+			backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			( (CloseableIterator<IndexedEntity>) iterator ).close();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( iterator.hasNext() ).isFalse();
+		} );
+	}
+
+	@Test
+	public void getResultStream() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setFetchSize( 2 );
+
+			expectChunk( 2, 1, 2 );
+			expectChunk( 2, 3, 4 );
+			try ( Stream<IndexedEntity> stream = query.getResultStream() ) {
+				List<Integer> ids = stream.limit( 3 ).map( IndexedEntity::getId ).collect( Collectors.toList() );
+				Assertions.assertThat( ids ).containsExactly( 1, 2, 3 );
+				backendMock.verifyExpectationsMet();
+
+				backendMock.expectScrollClosed( Collections.singletonList( IndexedEntity.INDEX ) );
+			}
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	private FullTextQuery<IndexedEntity> createQuery(FullTextSession ftSession) {
+		return ftSession.search( IndexedEntity.class )
+				.query()
+				.asEntities()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private void expectChunk(int chunkSize, int... ids) {
+		expectChunk( chunkSize, b -> { }, ids );
+	}
+
+	@SuppressWarnings("unchecked")
+	private void expectChunk(int chunkSize, Consumer<StubSearchWork.Builder> contributor, int... ids) {
+		Consumer<LoadingHitCollector>[] hitContributors = new Consumer[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			String id = String.valueOf( ids[i] );
+			hitContributors[i] = c -> c.collectForLoading( reference( IndexedEntity.INDEX, id ) );
+		}
+		backendMock.expectSearchObjects(
+				Collections.singletonList( IndexedEntity.INDEX ),
+				b -> {
+					contributor.accept( b );
+					b.scrollChunkSize( chunkSize );
+				},
+				StubSearchWorkBehavior.of( ENTITY_COUNT, hitContributors )
+		);
+	}
+
+	private static void assertNextRow(ScrollableResults scroll, int expectedId) {
+		Assertions.assertThat( scroll.next() ).isTrue();
+		Assertions.assertThat( scroll.get( 0 ) ).extracting( "id" ).containsExactly( expectedId );
+	}
+
+	private static void assertNextElement(Iterator<IndexedEntity> iterator, int expectedId) {
+		Assertions.assertThat( iterator.hasNext() ).isTrue();
+		Assertions.assertThat( iterator.next().getId() ).isEqualTo( expectedId );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		Integer id;
+
+		@GenericField
+		String text;
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+}
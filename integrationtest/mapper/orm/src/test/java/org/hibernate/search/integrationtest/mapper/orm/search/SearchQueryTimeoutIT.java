@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.engine.search.query.spi.LoadingHitCollector;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test that timeouts set on full-text queries are passed to the backend,
+ * and that timeout failures reach the caller.
+ */
+public class SearchQueryTimeoutIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.id = 1;
+			entity1.text = "text1";
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void setTimeout() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) );
+			query.setTimeout( 5 );
+
+			backendMock.expectSearchObjects(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> b.failAfter( 5L, TimeUnit.SECONDS ),
+					StubSearchWorkBehavior.of(
+							1L,
+							c -> c.collectForLoading( reference( IndexedEntity.INDEX, "1" ) )
+					)
+			);
+			List<IndexedEntity> result = query.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).extracting( "id" ).containsExactly( 1 );
+			Assertions.assertThat( query.getTimeout() ).isEqualTo( 5 );
+		} );
+	}
+
+	@Test
+	public void failAfter() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) )
+					.failAfter( 200L, TimeUnit.MILLISECONDS );
+
+			backendMock.expectSearchObjects(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> b.failAfter( 200L, TimeUnit.MILLISECONDS ),
+					StubSearchWorkBehavior.of(
+							1L,
+							c -> c.collectForLoading( reference( IndexedEntity.INDEX, "1" ) )
+					)
+			);
+			List<IndexedEntity> result = query.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).extracting( "id" ).containsExactly( 1 );
+		} );
+	}
+
+	@Test
+	public void failAfter_timedOut() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) )
+					.failAfter( 200L, TimeUnit.MILLISECONDS );
+
+			SearchTimeoutException timeoutException = new SearchTimeoutException( "Query timed out" );
+			backendMock.expectSearchObjects(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> b.failAfter( 200L, TimeUnit.MILLISECONDS ),
+					new StubSearchWorkBehavior<LoadingHitCollector>() {
+						@Override
+						public long getTotalHitCount() {
+							return 1L;
+						}
+
+						@Override
+						public void contribute(HitAggregator<LoadingHitCollector, ?> hitAggregator) {
+							throw timeoutException;
+						}
+					}
+			);
+
+			// Timeout failures are not converted into ORM exceptions
+			SubTest.expectException(
+					"Query exceeding its timeout",
+					query::list
+			)
+					.assertThrown()
+					.isSameAs( timeoutException );
+			backendMock.verifyExpectationsMet();
+		} );
+	}
+
+	@Test
+	public void truncateAfter() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextQuery<IndexedEntity> query = createQuery( Search.getFullTextSession( session ) )
+					.truncateAfter( 200L, TimeUnit.MILLISECONDS );
+
+			backendMock.expectSearchObjects(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> b.truncateAfter( 200L, TimeUnit.MILLISECONDS ),
+					StubSearchWorkBehavior.of(
+							1L,
+							c -> c.collectForLoading( reference( IndexedEntity.INDEX, "1" ) )
+					)
+			);
+			List<IndexedEntity> result = query.list();
+			backendMock.verifyExpectationsMet();
+
+			Assertions.assertThat( result ).extracting( "id" ).containsExactly( 1 );
+		} );
+	}
+
+	private FullTextQuery<IndexedEntity> createQuery(FullTextSession ftSession) {
+		return ftSession.search( IndexedEntity.class )
+				.query()
+				.asEntities()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		Integer id;
+
+		@GenericField
+		String text;
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+}
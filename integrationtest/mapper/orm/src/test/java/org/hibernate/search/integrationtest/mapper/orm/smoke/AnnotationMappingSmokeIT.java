@@ -11,6 +11,7 @@
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,7 @@
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ValueBridgeBeanReference;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoReferenceImpl;
+import org.hibernate.search.mapper.pojo.search.PojoReference;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
 import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
 import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
@@ -405,6 +407,62 @@ public void search_projection() {
 		} );
 	}
 
+	@Test
+	public void search_projectionToDto() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			FullTextQuery<ProjectionDto> query = ftSession.search( IndexedEntity.class )
+					.query()
+					.asProjections(
+							ProjectionDto.class,
+							"myTextField",
+							ProjectionConstants.REFERENCE,
+							"myLocalDateField"
+					)
+					.predicate().matchAll().end()
+					.build();
+
+			backendMock.expectSearchProjections(
+					Collections.singletonList( IndexedEntity.INDEX ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							c -> {
+								c.collectProjection( "text1" );
+								c.collectReference( reference( IndexedEntity.INDEX, "0" ) );
+								c.collectProjection( LocalDate.of( 2017, 11, 1 ) );
+							},
+							c -> {
+								c.collectProjection( null );
+								c.collectReference( reference( IndexedEntity.INDEX, "1" ) );
+								c.collectProjection( LocalDate.of( 2017, 11, 2 ) );
+							}
+					)
+			);
+
+			List<ProjectionDto> result = query.list();
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( result )
+					.extracting( dto -> dto.text, dto -> dto.reference, dto -> dto.localDate )
+					.containsExactly(
+							Assertions.tuple( "text1", new PojoReferenceImpl( IndexedEntity.class, 0 ), LocalDate.of( 2017, 11, 1 ) ),
+							Assertions.tuple( null, new PojoReferenceImpl( IndexedEntity.class, 1 ), LocalDate.of( 2017, 11, 2 ) )
+					);
+		} );
+	}
+
+	private static class ProjectionDto {
+		private final String text;
+		private final PojoReference reference;
+		private final LocalDate localDate;
+
+		ProjectionDto(String text, PojoReference reference, LocalDate localDate) {
+			this.text = text;
+			this.reference = reference;
+			this.localDate = localDate;
+		}
+	}
+
 	@MappedSuperclass
 	public static class ParentIndexedEntity {
 
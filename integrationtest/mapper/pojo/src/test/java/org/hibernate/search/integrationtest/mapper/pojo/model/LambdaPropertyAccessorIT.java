@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.integrationtest.mapper.pojo.test.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test that {@link org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder#setLambdaPropertyAccessorsEnabled(boolean)}
+ * determines how property values are retrieved.
+ */
+public class LambdaPropertyAccessorIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper = new JavaBeanMappingSetupHelper();
+
+	@Before
+	public void clearCallers() {
+		IndexedEntity.CALLERS.clear();
+	}
+
+	@Test
+	public void enabled() {
+		JavaBeanMapping mapping = setup( true );
+
+		index( mapping );
+
+		Assertions.assertThat( IndexedEntity.CALLERS )
+				.containsEntry( "text", "JavaLambdaPropertyHandle" )
+				.containsEntry( "number", "JavaLambdaPropertyHandle" );
+	}
+
+	@Test
+	public void disabledByDefault() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+		JavaBeanMapping mapping = setupHelper.withBackendMock( backendMock )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		index( mapping );
+
+		Assertions.assertThat( IndexedEntity.CALLERS )
+				.containsEntry( "text", "MemberPropertyHandle" )
+				.containsEntry( "number", "MemberPropertyHandle" );
+	}
+
+	@Test
+	public void disabled() {
+		JavaBeanMapping mapping = setup( false );
+
+		index( mapping );
+
+		Assertions.assertThat( IndexedEntity.CALLERS )
+				.containsEntry( "text", "MemberPropertyHandle" )
+				.containsEntry( "number", "MemberPropertyHandle" );
+	}
+
+	private JavaBeanMapping setup(boolean lambdaPropertyAccessorsEnabled) {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+		JavaBeanMapping mapping = setupHelper.withBackendMock( backendMock )
+				.withConfiguration( builder -> builder.setLambdaPropertyAccessorsEnabled( lambdaPropertyAccessorsEnabled ) )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return mapping;
+	}
+
+	private void index(JavaBeanMapping mapping) {
+		try ( PojoSearchManager manager = mapping.createSearchManager() ) {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setText( "text1" );
+			entity1.setNumber( 42 );
+
+			manager.getMainWorkPlan().add( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "text", "text1" )
+							.field( "number", 42 )
+					)
+					.preparedThenExecuted();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static final class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		/**
+		 * For each property, the simple name of the Hibernate Search class that last retrieved its value.
+		 */
+		static final Map<String, String> CALLERS = new HashMap<>();
+
+		private Integer id;
+
+		private String text;
+
+		private int number;
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public String getText() {
+			recordCaller( "text" );
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		@GenericField
+		public int getNumber() {
+			recordCaller( "number" );
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+
+		private static void recordCaller(String propertyName) {
+			// Generated lambdas and method handle internals are hidden from stack traces
+			for ( StackTraceElement element : new Throwable().getStackTrace() ) {
+				String className = element.getClassName();
+				if ( className.startsWith( "org.hibernate.search." )
+						&& !className.startsWith( LambdaPropertyAccessorIT.class.getName() ) ) {
+					CALLERS.put( propertyName, className.substring( className.lastIndexOf( '.' ) + 1 ) );
+					return;
+				}
+			}
+		}
+	}
+
+}
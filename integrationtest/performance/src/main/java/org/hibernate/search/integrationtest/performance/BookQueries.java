@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance;
+
+import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
+import org.hibernate.search.integrationtest.performance.model.Book;
+
+/**
+ * The queries executed in benchmarks, shared between mappers so that results can be compared.
+ */
+public final class BookQueries {
+
+	private BookQueries() {
+	}
+
+	/**
+	 * @param context The query context, defining the type of hits.
+	 * @param index An arbitrary index, used to vary the predicates from one query to the next.
+	 * @param <Q> The type of query.
+	 * @return A query with a boolean predicate combining a match and a range predicate,
+	 * and a sort on two fields.
+	 */
+	public static <Q> Q authorAndPageCount(SearchQueryResultContext<Q> context, int index) {
+		int minPageCount = 50 + index % 500;
+		return context.predicate().bool()
+						.must().match().onField( "author" ).matching( Book.author( index ) ).end()
+						.filter().range().onField( "pageCount" ).from( minPageCount ).to( minPageCount + 400 ).end()
+				.end()
+				.sort().byField( "pageCount" ).desc().then().byField( "title" ).end()
+				.build();
+	}
+
+}
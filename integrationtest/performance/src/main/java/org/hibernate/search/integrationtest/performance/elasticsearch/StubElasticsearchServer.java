@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.elasticsearch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.search.integrationtest.performance.model.Book;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server pretending to be an Elasticsearch cluster.
+ * <p>
+ * Every request is acknowledged, bulk requests get one successful item per action,
+ * and search requests get the same canned response, containing books.
+ * This allows to measure the cost of serializing requests and parsing responses in the Elasticsearch backend
+ * without measuring the cost of Elasticsearch itself.
+ */
+public final class StubElasticsearchServer implements AutoCloseable {
+
+	private static final String BULK_PATH_SUFFIX = "/_bulk";
+	private static final String SEARCH_PATH_SUFFIX = "/_search";
+	private static final String DELETE_ACTION_PREFIX = "{\"delete\"";
+
+	private static final Gson GSON = new Gson();
+
+	private static final byte[] ACKNOWLEDGED_RESPONSE = "{\"acknowledged\":true}".getBytes( StandardCharsets.UTF_8 );
+
+	private static final String SUCCESSFUL_BULK_ITEM = "{\"index\":{\"status\":200}}";
+
+	private final ExecutorService executor;
+	private final HttpServer server;
+	private final byte[] searchResponse;
+
+	/**
+	 * @param searchHitCount The number of hits to return in responses to search requests.
+	 * @throws IOException If the server cannot be started.
+	 */
+	public StubElasticsearchServer(int searchHitCount) throws IOException {
+		this.searchResponse = createSearchResponse( searchHitCount );
+		this.executor = Executors.newFixedThreadPool( Runtime.getRuntime().availableProcessors() );
+		this.server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+		server.createContext( "/", this::handle );
+		server.setExecutor( executor );
+		server.start();
+	}
+
+	@Override
+	public void close() {
+		server.stop( 0 );
+		executor.shutdownNow();
+	}
+
+	/**
+	 * @return The host to pass to the Elasticsearch backend, e.g. {@code http://127.0.0.1:12345}.
+	 */
+	public String getHost() {
+		InetSocketAddress address = server.getAddress();
+		return "http://" + address.getHostString() + ":" + address.getPort();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			String path = exchange.getRequestURI().getPath();
+			byte[] response;
+			if ( path.endsWith( BULK_PATH_SUFFIX ) ) {
+				response = createBulkResponse( exchange.getRequestBody() );
+			}
+			else {
+				drain( exchange.getRequestBody() );
+				response = path.endsWith( SEARCH_PATH_SUFFIX ) ? searchResponse : ACKNOWLEDGED_RESPONSE;
+			}
+			exchange.getResponseHeaders().set( "Content-Type", "application/json; charset=UTF-8" );
+			exchange.sendResponseHeaders( 200, response.length );
+			try ( OutputStream responseBody = exchange.getResponseBody() ) {
+				responseBody.write( response );
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	/*
+	 * Bulk requests are formatted as one line for each action metadata,
+	 * followed by one line for the document, except for delete actions.
+	 */
+	private static byte[] createBulkResponse(InputStream requestBody) throws IOException {
+		StringBuilder items = new StringBuilder();
+		try ( BufferedReader reader = new BufferedReader( new InputStreamReader( requestBody, StandardCharsets.UTF_8 ) ) ) {
+			String line = reader.readLine();
+			while ( line != null ) {
+				if ( !line.isEmpty() ) {
+					if ( items.length() > 0 ) {
+						items.append( ',' );
+					}
+					items.append( SUCCESSFUL_BULK_ITEM );
+					if ( !line.startsWith( DELETE_ACTION_PREFIX ) ) {
+						reader.readLine();
+					}
+				}
+				line = reader.readLine();
+			}
+		}
+		return ( "{\"took\":1,\"errors\":false,\"items\":[" + items + "]}" ).getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] createSearchResponse(int hitCount) {
+		JsonArray hits = new JsonArray();
+		for ( int i = 0; i < hitCount; i++ ) {
+			Book book = Book.create( i );
+			JsonObject source = new JsonObject();
+			source.addProperty( "title", book.getTitle() );
+			source.addProperty( "author", book.getAuthor() );
+			source.addProperty( "pageCount", book.getPageCount() );
+			source.addProperty( "publicationYear", book.getPublicationYear() );
+
+			JsonObject hit = new JsonObject();
+			hit.addProperty( "_index", Book.INDEX );
+			hit.addProperty( "_type", "typeName" );
+			hit.addProperty( "_id", String.valueOf( book.getId() ) );
+			hit.addProperty( "_score", 1.0f );
+			hit.add( "_source", source );
+			hits.add( hit );
+		}
+
+		JsonObject hitsObject = new JsonObject();
+		hitsObject.addProperty( "total", hitCount );
+		hitsObject.addProperty( "max_score", 1.0f );
+		hitsObject.add( "hits", hits );
+
+		JsonObject response = new JsonObject();
+		response.addProperty( "took", 1 );
+		response.addProperty( "timed_out", false );
+		response.add( "hits", hitsObject );
+		return GSON.toJson( response ).getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static void drain(InputStream requestBody) throws IOException {
+		try ( InputStream stream = requestBody ) {
+			byte[] buffer = new byte[4096];
+			while ( stream.read( buffer ) >= 0 ) {
+				// Discard the request body
+			}
+		}
+	}
+
+}
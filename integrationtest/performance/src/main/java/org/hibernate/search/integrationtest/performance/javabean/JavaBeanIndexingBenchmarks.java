@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.javabean;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for indexing through the JavaBean mapper.
+ * <p>
+ * Books are updated in batches of {@code batchSize},
+ * cycling through the identifiers of the books already in the index so that the index size stays constant.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JavaBeanIndexingBenchmarks {
+
+	@Param("100")
+	private int batchSize;
+
+	private int nextId;
+
+	/**
+	 * Measures the conversion of entities to documents by the POJO mapper,
+	 * without sending the documents to the backend.
+	 */
+	@Benchmark
+	public void documentBuilding(JavaBeanMappingHolder holder, Blackhole blackhole) {
+		try ( PojoSearchManager searchManager = holder.getMapping().createSearchManager() ) {
+			PojoWorkPlan workPlan = fillWorkPlan( holder, searchManager );
+			workPlan.prepare();
+			blackhole.consume( workPlan );
+		}
+	}
+
+	/**
+	 * Measures the conversion of entities to documents and the execution of the resulting works by the backend.
+	 */
+	@Benchmark
+	public void workPlanExecution(JavaBeanMappingHolder holder, Blackhole blackhole) {
+		try ( PojoSearchManager searchManager = holder.getMapping().createSearchManager() ) {
+			PojoWorkPlan workPlan = fillWorkPlan( holder, searchManager );
+			blackhole.consume( workPlan.execute().join() );
+		}
+	}
+
+	private PojoWorkPlan fillWorkPlan(JavaBeanMappingHolder holder, PojoSearchManager searchManager) {
+		PojoWorkPlan workPlan = searchManager.createWorkPlan();
+		for ( int i = 0; i < batchSize; i++ ) {
+			workPlan.update( Book.create( nextId ) );
+			nextId = ( nextId + 1 ) % holder.getIndexSize();
+		}
+		return workPlan;
+	}
+
+}
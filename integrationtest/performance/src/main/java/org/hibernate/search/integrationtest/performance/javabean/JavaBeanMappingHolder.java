@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.javabean;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.backend.elasticsearch.impl.ElasticsearchBackendFactory;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.impl.LuceneBackendFactory;
+import org.hibernate.search.integrationtest.performance.elasticsearch.StubElasticsearchServer;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder;
+import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a JavaBean mapping of {@link Book}, backed by either an in-memory Lucene index
+ * or a {@link StubElasticsearchServer stub Elasticsearch server}.
+ * <p>
+ * The index is populated with {@link #getIndexSize()} books before the benchmarks start.
+ */
+@State(Scope.Benchmark)
+public class JavaBeanMappingHolder {
+
+	public static final String LUCENE = "lucene";
+	public static final String ELASTICSEARCH = "elasticsearch";
+
+	private static final String BACKEND_NAME = "backendName";
+	private static final String BACKEND_PREFIX = "backend." + BACKEND_NAME + ".";
+
+	private static final int INITIAL_INDEXING_BATCH_SIZE = 1000;
+
+	@Param({ LUCENE, ELASTICSEARCH })
+	private String backend;
+
+	@Param("10000")
+	private int indexSize;
+
+	@Param("10")
+	private int maxResults;
+
+	private StubElasticsearchServer elasticsearchServer;
+
+	private CloseableJavaBeanMapping mapping;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		JavaBeanMappingBuilder builder = JavaBeanMapping.builder( MethodHandles.lookup() )
+				.addEntityType( Book.class )
+				.setProperty( "index.default.backend", BACKEND_NAME );
+		builder.annotationMapping().add( Book.class );
+
+		switch ( backend ) {
+			case LUCENE:
+				builder.setProperty( BACKEND_PREFIX + "type", LuceneBackendFactory.class.getName() )
+						.setProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER, "local_heap" );
+				break;
+			case ELASTICSEARCH:
+				elasticsearchServer = new StubElasticsearchServer( maxResults );
+				builder.setProperty( BACKEND_PREFIX + "type", ElasticsearchBackendFactory.class.getName() )
+						.setProperty( BACKEND_PREFIX + SearchBackendElasticsearchSettings.HOST, elasticsearchServer.getHost() );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown backend: " + backend );
+		}
+
+		mapping = builder.build();
+
+		try ( PojoSearchManager searchManager = mapping.createSearchManager() ) {
+			for ( int batchStart = 0; batchStart < indexSize; batchStart += INITIAL_INDEXING_BATCH_SIZE ) {
+				PojoWorkPlan workPlan = searchManager.createWorkPlan();
+				int batchEnd = Math.min( indexSize, batchStart + INITIAL_INDEXING_BATCH_SIZE );
+				for ( int id = batchStart; id < batchEnd; id++ ) {
+					workPlan.add( Book.create( id ) );
+				}
+				workPlan.execute().join();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( mapping != null ) {
+			mapping.close();
+		}
+		if ( elasticsearchServer != null ) {
+			elasticsearchServer.close();
+		}
+	}
+
+	public JavaBeanMapping getMapping() {
+		return mapping;
+	}
+
+	public int getIndexSize() {
+		return indexSize;
+	}
+
+	public long getMaxResults() {
+		return maxResults;
+	}
+
+}
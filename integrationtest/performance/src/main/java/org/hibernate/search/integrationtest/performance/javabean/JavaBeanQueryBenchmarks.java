@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.javabean;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.performance.BookQueries;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for querying through the JavaBean mapper.
+ * <p>
+ * With the Elasticsearch backend, query execution measures the serialization of the request
+ * and the parsing of the response, since the server is a stub.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JavaBeanQueryBenchmarks {
+
+	private int queryIndex;
+
+	/**
+	 * Measures the creation of a query through the predicate and sort DSL, without executing it.
+	 */
+	@Benchmark
+	public void queryBuilding(JavaBeanMappingHolder holder, Blackhole blackhole) {
+		try ( PojoSearchManager searchManager = holder.getMapping().createSearchManager() ) {
+			SearchQuery<?> query = BookQueries.authorAndPageCount(
+					searchManager.search( Book.class ).query().asReferences(), queryIndex++
+			);
+			blackhole.consume( query );
+		}
+	}
+
+	/**
+	 * Measures the creation and execution of a query retrieving projections.
+	 */
+	@Benchmark
+	public void searchWithProjections(JavaBeanMappingHolder holder, Blackhole blackhole) {
+		try ( PojoSearchManager searchManager = holder.getMapping().createSearchManager() ) {
+			SearchQuery<List<?>> query = BookQueries.authorAndPageCount(
+					searchManager.search( Book.class ).query().asProjections( "title", "pageCount" ), queryIndex++
+			);
+			query.setMaxResults( holder.getMaxResults() );
+			blackhole.consume( query.execute() );
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+/**
+ * The entity used in all benchmarks.
+ * <p>
+ * Mapped both as a JPA entity (with property access) and as a JavaBean,
+ * so that the same indexing and query code can be measured with every mapper.
+ */
+@Entity
+@Indexed(index = Book.INDEX)
+public class Book {
+
+	public static final String INDEX = "book";
+
+	private static final String[] AUTHORS = {
+			"Jane Austen", "Leo Tolstoy", "Herman Melville", "Virginia Woolf",
+			"Fyodor Dostoevsky", "George Eliot", "Mark Twain", "Charlotte Bronte"
+	};
+
+	private Integer id;
+	private String title;
+	private String author;
+	private Integer pageCount;
+	private Integer publicationYear;
+
+	/**
+	 * @param id The identifier of the book.
+	 * @return A book whose properties are derived from the given identifier,
+	 * so that data sets are reproducible from one run to the next.
+	 */
+	public static Book create(int id) {
+		Book book = new Book();
+		book.setId( id );
+		book.setTitle( "Book #" + id );
+		book.setAuthor( AUTHORS[id % AUTHORS.length] );
+		book.setPageCount( 50 + id % 950 );
+		book.setPublicationYear( 1900 + id % 120 );
+		return book;
+	}
+
+	/**
+	 * @param index An arbitrary index.
+	 * @return An author name, such that some books of any data set are written by that author.
+	 */
+	public static String author(int index) {
+		return AUTHORS[index % AUTHORS.length];
+	}
+
+	@Id
+	@DocumentId
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	@GenericField(store = Store.YES, sortable = Sortable.YES)
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	@GenericField
+	public String getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(String author) {
+		this.author = author;
+	}
+
+	@GenericField(store = Store.YES, sortable = Sortable.YES)
+	public Integer getPageCount() {
+		return pageCount;
+	}
+
+	public void setPageCount(Integer pageCount) {
+		this.pageCount = pageCount;
+	}
+
+	@GenericField
+	public Integer getPublicationYear() {
+		return publicationYear;
+	}
+
+	public void setPublicationYear(Integer publicationYear) {
+		this.publicationYear = publicationYear;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.orm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.search.integrationtest.performance.BookQueries;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for automatic indexing and querying through the Hibernate ORM mapper.
+ * <p>
+ * These include the cost of Hibernate ORM and of the database,
+ * and are meant to be compared with the JavaBean benchmarks to spot ORM-specific overhead.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrmBenchmarks {
+
+	@Param("100")
+	private int batchSize;
+
+	private int nextId;
+
+	private int revision;
+
+	private int queryIndex;
+
+	/**
+	 * Measures the update of entities in a transaction,
+	 * including automatic reindexing upon commit.
+	 */
+	@Benchmark
+	public void automaticIndexing(OrmSessionFactoryHolder holder) {
+		++revision;
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			Transaction tx = session.beginTransaction();
+			for ( int i = 0; i < batchSize; i++ ) {
+				Book book = session.load( Book.class, nextId );
+				book.setTitle( "Book #" + nextId + " - revision " + revision );
+				nextId = ( nextId + 1 ) % holder.getIndexSize();
+			}
+			tx.commit();
+		}
+	}
+
+	/**
+	 * Measures the creation and execution of a query, including the loading of entities.
+	 */
+	@Benchmark
+	public void searchEntities(OrmSessionFactoryHolder holder, Blackhole blackhole) {
+		try ( Session session = holder.getSessionFactory().openSession() ) {
+			FullTextQuery<Book> query = BookQueries.authorAndPageCount(
+					Search.getFullTextSession( session ).search( Book.class ).query().asEntities(), queryIndex++
+			);
+			query.setMaxResults( holder.getMaxResults() );
+			blackhole.consume( query.getResultList() );
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.orm;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.impl.LuceneBackendFactory;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.tool.schema.Action;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a Hibernate ORM session factory mapping {@link Book}, backed by an in-memory H2 database
+ * and an in-memory Lucene index.
+ * <p>
+ * The database and the index are populated with {@link #getIndexSize()} books before the benchmarks start.
+ */
+@State(Scope.Benchmark)
+public class OrmSessionFactoryHolder {
+
+	private static final String BACKEND_NAME = "backendName";
+	private static final String BACKEND_PREFIX = SearchOrmSettings.PREFIX + "backend." + BACKEND_NAME + ".";
+
+	private static final int INITIAL_INDEXING_BATCH_SIZE = 1000;
+
+	@Param("10000")
+	private int indexSize;
+
+	@Param("10")
+	private int maxResults;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "sa" )
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, Action.CREATE_DROP )
+				.applySetting( SearchOrmSettings.PREFIX + "index.default.backend", BACKEND_NAME )
+				.applySetting( BACKEND_PREFIX + "type", LuceneBackendFactory.class.getName() )
+				.applySetting( BACKEND_PREFIX + SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER, "local_heap" )
+				.build();
+
+		try {
+			sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+
+		for ( int batchStart = 0; batchStart < indexSize; batchStart += INITIAL_INDEXING_BATCH_SIZE ) {
+			try ( Session session = sessionFactory.openSession() ) {
+				Transaction tx = session.beginTransaction();
+				int batchEnd = Math.min( indexSize, batchStart + INITIAL_INDEXING_BATCH_SIZE );
+				for ( int id = batchStart; id < batchEnd; id++ ) {
+					session.persist( Book.create( id ) );
+				}
+				tx.commit();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	public SessionFactory getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public int getIndexSize() {
+		return indexSize;
+	}
+
+	public int getMaxResults() {
+		return maxResults;
+	}
+
+}
@@ -24,11 +24,12 @@ public final class JavaBeanMappingBuilder {
 
 	private final SearchIntegrationBuilder integrationBuilder;
 	private final JavaBeanMappingKey mappingKey;
+	private final JavaBeanBootstrapIntrospector introspector;
 	private final JavaBeanMappingInitiatorImpl mappingInitiator;
 
 	JavaBeanMappingBuilder(ConfigurationPropertySource propertySource, MethodHandles.Lookup lookup) {
 		integrationBuilder = SearchIntegration.builder( propertySource );
-		JavaBeanBootstrapIntrospector introspector = new JavaBeanBootstrapIntrospector( lookup );
+		introspector = new JavaBeanBootstrapIntrospector( lookup );
 		mappingKey = new JavaBeanMappingKey();
 		mappingInitiator = new JavaBeanMappingInitiatorImpl( introspector );
 		integrationBuilder.addMappingInitiator( mappingKey, mappingInitiator );
@@ -76,6 +77,19 @@ public JavaBeanMappingBuilder setAnnotatedTypeDiscoveryEnabled(boolean annotated
 		return this;
 	}
 
+	/**
+	 * @param lambdaPropertyAccessorsEnabled {@code true} to retrieve property values at runtime
+	 * through lambdas generated with {@link java.lang.invoke.LambdaMetafactory} when possible,
+	 * which the JIT compiler can inline, {@code false} to always invoke method handles.
+	 * Lambdas are only generated for public getters of public types.
+	 * Defaults to {@code false}.
+	 * @return {@code this}, for call chaining.
+	 */
+	public JavaBeanMappingBuilder setLambdaPropertyAccessorsEnabled(boolean lambdaPropertyAccessorsEnabled) {
+		introspector.setLambdaPropertyAccessorsEnabled( lambdaPropertyAccessorsEnabled );
+		return this;
+	}
+
 	public JavaBeanMappingBuilder setProperty(String name, String value) {
 		integrationBuilder.setProperty( name, value );
 		return this;
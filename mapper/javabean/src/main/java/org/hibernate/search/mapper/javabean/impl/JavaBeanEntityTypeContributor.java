@@ -6,16 +6,18 @@
  */
 package org.hibernate.search.mapper.javabean.impl;
 
-import org.hibernate.search.mapper.javabean.model.impl.SimpleStringSetPojoPathFilterFactory;
+import org.hibernate.search.mapper.javabean.model.impl.SimplePojoPathFilterFactory;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorTypeNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 class JavaBeanEntityTypeContributor implements PojoTypeMetadataContributor {
 	@Override
 	public void contributeModel(PojoAdditionalMetadataCollectorTypeNode collector) {
 		try {
-			collector.markAsEntity( new SimpleStringSetPojoPathFilterFactory() );
+			PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+			collector.markAsEntity( new SimplePojoPathFilterFactory( pathOrdinals ), pathOrdinals );
 		}
 		catch (RuntimeException e) {
 			collector.getFailureCollector().add( e );
@@ -17,11 +17,13 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.model.spi.GenericContextAwarePojoGenericTypeModel.RawTypeDeclaringContext;
-import org.hibernate.search.mapper.pojo.model.spi.MemberPropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.JavaLambdaPropertyHandleFactory;
+import org.hibernate.search.mapper.pojo.model.spi.MethodHandlePropertyHandleFactory;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoGenericTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
 import org.hibernate.search.mapper.pojo.util.spi.AnnotationHelper;
 import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.common.ReflectionHelper;
@@ -42,8 +44,11 @@ public class JavaBeanBootstrapIntrospector implements PojoBootstrapIntrospector
 
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
+	private PropertyHandleFactory propertyHandleFactory;
+
 	public JavaBeanBootstrapIntrospector(MethodHandles.Lookup lookup) {
 		this.lookup = lookup;
+		this.propertyHandleFactory = new MethodHandlePropertyHandleFactory( lookup );
 		this.annotationHelper = new AnnotationHelper( lookup );
 		this.genericContextHelper = new JavaBeanGenericContextHelper( this );
 		this.missingRawTypeDeclaringContext = new RawTypeDeclaringContext<>(
@@ -51,6 +56,17 @@ public JavaBeanBootstrapIntrospector(MethodHandles.Lookup lookup) {
 		);
 	}
 
+	/**
+	 * @param enabled {@code true} to retrieve property values through lambdas generated at bootstrap
+	 * when possible, {@code false} to always invoke method handles.
+	 * Must be called before any property handle is created.
+	 */
+	public void setLambdaPropertyAccessorsEnabled(boolean enabled) {
+		this.propertyHandleFactory = enabled
+				? new JavaLambdaPropertyHandleFactory( lookup )
+				: new MethodHandlePropertyHandleFactory( lookup );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> PojoRawTypeModel<T> getTypeModel(Class<T> clazz) {
@@ -85,7 +101,7 @@ Stream<? extends Annotation> getAnnotationsByMetaAnnotationType(AnnotatedElement
 	}
 
 	PropertyHandle createPropertyHandle(String name, Method method) throws IllegalAccessException {
-		return new MemberPropertyHandle( name, method, lookup.unreflect( method ) );
+		return propertyHandleFactory.createForMethod( name, method );
 	}
 
 	private <T> PojoRawTypeModel<T> createTypeModel(Class<T> clazz) {
@@ -6,29 +6,38 @@
  */
 package org.hibernate.search.mapper.javabean.model.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.util.impl.common.CollectionHelper;
 
 /**
- * A factory for filters expecting a simple string representation of dirty paths,
- * in the form "propertyA.propertyB.propertyC".
+ * A factory for filters expecting dirty paths as a bitset of path ordinals,
+ * paths being represented as strings in the form "propertyA.propertyB.propertyC".
  * <p>
  * See {@link PojoModelPathPropertyNode#toPropertyString()}.
  */
-public class SimpleStringSetPojoPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class SimplePojoPathFilterFactory implements PojoPathFilterFactory<BitSet> {
+
+	private final PojoPathOrdinals pathOrdinals;
+
+	public SimplePojoPathFilterFactory(PojoPathOrdinals pathOrdinals) {
+		this.pathOrdinals = pathOrdinals;
+	}
+
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
 		// Use a LinkedHashSet for deterministic iteration
 		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
 		for ( PojoModelPathValueNode path : paths ) {
 			pathsAsStrings.add( path.getParent().toPropertyString() );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
+		return new BitSetPojoPathFilter( pathOrdinals, pathsAsStrings );
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.bootstrap.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -19,13 +20,21 @@
 import org.hibernate.resource.beans.container.spi.BeanContainer;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.UnusedPropertyTrackingConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.environment.bean.spi.ReflectionBeanResolver;
+import org.hibernate.search.mapper.orm.cfg.QueueFullPolicyConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
 import org.hibernate.search.mapper.orm.event.impl.FullTextIndexEventListener;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
+import org.hibernate.search.mapper.orm.indexing.IndexingErrorHandler;
+import org.hibernate.search.mapper.orm.indexing.impl.AsyncWorkPlanExecutor;
+import org.hibernate.search.mapper.orm.indexing.impl.LoggingIndexingErrorHandler;
+import org.hibernate.search.mapper.orm.indexing.impl.OutboxPoller;
+import org.hibernate.search.mapper.orm.indexing.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingInitiator;
@@ -47,6 +56,66 @@ public class HibernateSearchSessionFactoryObserver implements SessionFactoryObse
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<Boolean> ENABLE_ASYNC_INDEXING =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ENABLE_ASYNC_INDEXING )
+					.asBoolean()
+					.withDefault( SearchOrmSettings.Defaults.ENABLE_ASYNC_INDEXING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ASYNC_INDEXING_THREAD_COUNT =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ASYNC_INDEXING_THREAD_COUNT )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.ASYNC_INDEXING_THREAD_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ASYNC_INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ASYNC_INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.ASYNC_INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<QueueFullPolicyConfiguration> ASYNC_INDEXING_QUEUE_FULL_POLICY =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ASYNC_INDEXING_QUEUE_FULL_POLICY )
+					.as( QueueFullPolicyConfiguration.class, QueueFullPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchOrmSettings.Defaults.ASYNC_INDEXING_QUEUE_FULL_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ENABLE_OUTBOX_INDEXING =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ENABLE_OUTBOX_INDEXING )
+					.asBoolean()
+					.withDefault( SearchOrmSettings.Defaults.ENABLE_OUTBOX_INDEXING )
+					.build();
+
+	private static final ConfigurationProperty<String> OUTBOX_TABLE =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.OUTBOX_TABLE )
+					.asString()
+					.withDefault( SearchOrmSettings.Defaults.OUTBOX_TABLE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> OUTBOX_PROCESSING_ENABLED =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.OUTBOX_PROCESSING_ENABLED )
+					.asBoolean()
+					.withDefault( SearchOrmSettings.Defaults.OUTBOX_PROCESSING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Long> OUTBOX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.OUTBOX_POLLING_INTERVAL )
+					.asLong()
+					.withDefault( SearchOrmSettings.Defaults.OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> OUTBOX_BATCH_SIZE =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> OUTBOX_CLAIM_TIMEOUT =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.OUTBOX_CLAIM_TIMEOUT )
+					.asLong()
+					.withDefault( SearchOrmSettings.Defaults.OUTBOX_CLAIM_TIMEOUT )
+					.build();
+
 	private final ConfigurationPropertySource propertySource;
 	private final UnusedPropertyTrackingConfigurationPropertySource unusedPropertyTrackingPropertySource;
 	private final JndiService namingService;
@@ -59,6 +128,8 @@ public class HibernateSearchSessionFactoryObserver implements SessionFactoryObse
 	private final CompletableFuture<HibernateSearchContextService> contextFuture = new CompletableFuture<>();
 	private final CompletableFuture<?> closingTrigger = new CompletableFuture<>();
 
+	//Guarded by synchronization on this
+	private OutboxPoller outboxPoller;
 
 	//Guarded by synchronization on this
 	// TODO JMX
@@ -137,12 +208,13 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 		BeanResolver reflectionBeanResolver = null;
 		BeanResolver beanResolver = null;
+		AsyncWorkPlanExecutor asyncWorkPlanExecutor = null;
 		try {
 			SearchIntegrationBuilder builder = SearchIntegration.builder( propertySource );
 
 			HibernateOrmMappingKey mappingKey = new HibernateOrmMappingKey();
 			HibernateOrmMappingInitiator mappingInitiator = HibernateOrmMappingInitiator.create(
-					metadata, sessionFactoryImplementor
+					metadata, sessionFactoryImplementor, propertySource
 			);
 			builder.addMappingInitiator( mappingKey, mappingInitiator );
 
@@ -170,6 +242,9 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			SearchIntegration integration = builder.build();
 			HibernateOrmMapping mapping = integration.getMapping( mappingKey );
 
+			asyncWorkPlanExecutor = createAsyncWorkPlanExecutor( beanResolver );
+			OutboxTable outboxTable = createOutboxTable( sessionFactoryImplementor );
+
 			// TODO JMX
 //			this.jmx = new JMXHook( propertySource );
 //			this.jmx.registerIfEnabled( extendedIntegrator, factory );
@@ -177,7 +252,10 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			//Register the SearchFactory in the ORM ServiceRegistry (for convenience of lookup)
 			HibernateSearchContextService contextService =
 					sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextService.class );
-			contextService.initialize( integration, mapping );
+			contextService.initialize( integration, mapping, asyncWorkPlanExecutor, outboxTable );
+			if ( outboxTable != null && OUTBOX_PROCESSING_ENABLED.get( propertySource ) ) {
+				outboxPoller = createOutboxPoller( sessionFactoryImplementor, contextService, outboxTable );
+			}
 			contextFuture.complete( contextService );
 
 			if ( unusedPropertyTrackingPropertySource != null ) {
@@ -189,6 +267,8 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
+					.push( OutboxPoller::close, outboxPoller )
+					.push( AsyncWorkPlanExecutor::close, asyncWorkPlanExecutor )
 					.push( BeanResolver::close, reflectionBeanResolver )
 					.push( BeanResolver::close, beanResolver );
 
@@ -225,8 +305,64 @@ public void sessionFactoryClosed(SessionFactory factory) {
 		closingTrigger.complete( null );
 	}
 
+	private AsyncWorkPlanExecutor createAsyncWorkPlanExecutor(BeanResolver beanResolver) {
+		if ( !ENABLE_ASYNC_INDEXING.get( propertySource ) ) {
+			return null;
+		}
+		ConfigurationProperty<Optional<IndexingErrorHandler>> errorHandlerProperty =
+				ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ASYNC_INDEXING_ERROR_HANDLER )
+						.as(
+								IndexingErrorHandler.class,
+								reference -> beanResolver.resolve( reference, IndexingErrorHandler.class )
+						)
+						.build();
+		int threadCount = getStrictlyPositive( ASYNC_INDEXING_THREAD_COUNT, SearchOrmSettings.ASYNC_INDEXING_THREAD_COUNT );
+		int queueSize = getStrictlyPositive( ASYNC_INDEXING_QUEUE_SIZE, SearchOrmSettings.ASYNC_INDEXING_QUEUE_SIZE );
+		return new AsyncWorkPlanExecutor(
+				threadCount, queueSize,
+				ASYNC_INDEXING_QUEUE_FULL_POLICY.get( propertySource ),
+				errorHandlerProperty.get( propertySource ).orElseGet( LoggingIndexingErrorHandler::new )
+		);
+	}
+
+	private OutboxTable createOutboxTable(SessionFactoryImplementor sessionFactoryImplementor) {
+		if ( !ENABLE_OUTBOX_INDEXING.get( propertySource ) ) {
+			return null;
+		}
+		OutboxTable outboxTable = new OutboxTable(
+				OUTBOX_TABLE.get( propertySource ),
+				sessionFactoryImplementor.getJdbcServices().getDialect(),
+				sessionFactoryImplementor.getJdbcServices().getBootstrapJdbcConnectionAccess()
+		);
+		outboxTable.createIfMissing();
+		return outboxTable;
+	}
+
+	private OutboxPoller createOutboxPoller(SessionFactoryImplementor sessionFactoryImplementor,
+			HibernateSearchContextService contextService, OutboxTable outboxTable) {
+		long pollingInterval = getStrictlyPositive( OUTBOX_POLLING_INTERVAL, SearchOrmSettings.OUTBOX_POLLING_INTERVAL );
+		int batchSize = getStrictlyPositive( OUTBOX_BATCH_SIZE, SearchOrmSettings.OUTBOX_BATCH_SIZE );
+		long claimTimeout = getStrictlyPositive( OUTBOX_CLAIM_TIMEOUT, SearchOrmSettings.OUTBOX_CLAIM_TIMEOUT );
+		return new OutboxPoller(
+				sessionFactoryImplementor, contextService, outboxTable,
+				pollingInterval, batchSize, claimTimeout
+		);
+	}
+
+	private <N extends Number> N getStrictlyPositive(ConfigurationProperty<N> property, String propertyKey) {
+		N value = property.get( propertySource );
+		if ( value.longValue() <= 0L ) {
+			throw log.invalidNonPositiveConfigurationValue( propertyKey, value );
+		}
+		return value;
+	}
+
 	private synchronized void cleanup(HibernateSearchContextService context) {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// The outbox poller indexes entities: stop it before anything else
+			closer.push( OutboxPoller::close, outboxPoller );
+			// Let pending asynchronous works complete before the backends are closed
+			closer.push( AsyncWorkPlanExecutor::close, context.getAsyncWorkPlanExecutor() );
 			closer.push( c -> c.getIntegration().close(), context );
 			// TODO JMX
 			// closer.push( JMXHook::unRegisterIfRegistered, jmx );
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Strategies to look up entities in caches before querying the database when loading search hits.
+ * <p>
+ * Entities that cannot be found in caches are always loaded from the database,
+ * with one query per entity hierarchy.
+ */
+public enum CacheLookupStrategyConfiguration {
+
+	/**
+	 * Query the database directly, without looking up entities in caches first.
+	 * <p>
+	 * Best when most entities are not expected to be in caches.
+	 */
+	SKIP("skip"),
+
+	/**
+	 * Look up entities in the persistence context (the session) first,
+	 * then query the database for entities that were not found.
+	 * <p>
+	 * Best when most entities are expected to be already loaded in the session.
+	 */
+	PERSISTENCE_CONTEXT("persistence_context"),
+
+	/**
+	 * Look up entities in the persistence context (the session), then in the second-level cache,
+	 * then query the database for entities that were not found.
+	 * <p>
+	 * Best when most entities are expected to be in the second-level cache.
+	 * Only entity types for which the second-level cache is enabled are looked up in the second-level cache.
+	 */
+	PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE("persistence_context_then_second_level_cache");
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	CacheLookupStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link CacheLookupStrategyConfiguration} matching the given external representation as specified via
+	 * {@link SearchOrmSettings#QUERY_LOADING_CACHE_LOOKUP_STRATEGY}
+	 * @param cacheLookupStrategy the cache lookup strategy external representation
+	 * @return the {@link CacheLookupStrategyConfiguration}
+	 */
+	public static CacheLookupStrategyConfiguration fromExternalRepresentation(String cacheLookupStrategy) {
+		for ( CacheLookupStrategyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( cacheLookupStrategy ) ) {
+				return value;
+			}
+		}
+		throw LOG.unknownCacheLookupStrategy( cacheLookupStrategy );
+	}
+
+	/**
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
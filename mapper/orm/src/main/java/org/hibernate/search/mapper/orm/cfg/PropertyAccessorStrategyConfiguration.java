@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Strategies to retrieve the value of entity properties when indexing.
+ */
+public enum PropertyAccessorStrategyConfiguration {
+
+	/**
+	 * Invoke a method handle for each property, be it a field or a getter.
+	 * <p>
+	 * Works for any property, but the JIT compiler cannot inline the invocation.
+	 */
+	METHOD_HANDLE("method_handle"),
+
+	/**
+	 * Generate a lambda for each getter at bootstrap using {@link java.lang.invoke.LambdaMetafactory},
+	 * so that the JIT compiler can inline property access.
+	 * <p>
+	 * Best when indexing large amounts of entities.
+	 * Lambdas are only generated for public getters of public types visible from Hibernate Search;
+	 * other properties, including fields, are accessed as with {@link #METHOD_HANDLE}.
+	 */
+	LAMBDA("lambda");
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	PropertyAccessorStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link PropertyAccessorStrategyConfiguration} matching the given external representation as specified via
+	 * {@link SearchOrmSettings#PROPERTY_ACCESSOR_STRATEGY}
+	 * @param propertyAccessorStrategy the property accessor strategy external representation
+	 * @return the {@link PropertyAccessorStrategyConfiguration}
+	 */
+	public static PropertyAccessorStrategyConfiguration fromExternalRepresentation(String propertyAccessorStrategy) {
+		for ( PropertyAccessorStrategyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( propertyAccessorStrategy ) ) {
+				return value;
+			}
+		}
+		throw LOG.unknownPropertyAccessorStrategy( propertyAccessorStrategy );
+	}
+
+	/**
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Policies to apply when a queue of works to execute in the background is full.
+ */
+public enum QueueFullPolicyConfiguration {
+
+	/**
+	 * The thread submitting works blocks until there is room in the queue.
+	 * <p>
+	 * Preserves the order of execution, but may slow down the application when the backend cannot keep up.
+	 * If the thread is interrupted while blocking, it executes the works itself.
+	 */
+	BLOCK("block"),
+
+	/**
+	 * The thread submitting works executes them itself.
+	 * <p>
+	 * Never blocks, but works executed this way may be executed before works that were queued earlier.
+	 */
+	CALLER_RUNS("caller_runs");
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	QueueFullPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link QueueFullPolicyConfiguration} matching the given external representation as specified via
+	 * {@link SearchOrmSettings#ASYNC_INDEXING_QUEUE_FULL_POLICY}
+	 * @param queueFullPolicy the queue full policy external representation
+	 * @return the {@link QueueFullPolicyConfiguration}
+	 */
+	public static QueueFullPolicyConfiguration fromExternalRepresentation(String queueFullPolicy) {
+		for ( QueueFullPolicyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( queueFullPolicy ) ) {
+				return value;
+			}
+		}
+		throw LOG.unknownQueueFullPolicy( queueFullPolicy );
+	}
+
+	/**
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
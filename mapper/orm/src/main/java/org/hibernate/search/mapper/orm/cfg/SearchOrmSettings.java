@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.cfg;
 
+import org.hibernate.search.mapper.orm.indexing.IndexingErrorHandler;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
 
 /**
@@ -60,6 +61,130 @@ public final class SearchOrmSettings {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * When enabled, changes to the indexes are applied asynchronously after each transaction commit,
+	 * in background threads, instead of blocking the thread that committed the transaction
+	 * until the changes are applied.
+	 * <p>
+	 * Failures are then reported to the {@link #ASYNC_INDEXING_ERROR_HANDLER error handler}
+	 * instead of being propagated to the application.
+	 * <p>
+	 * Disabled by default.
+	 */
+	public static final String ENABLE_ASYNC_INDEXING = PREFIX + Radicals.ENABLE_ASYNC_INDEXING;
+
+	/**
+	 * The number of threads applying changes to the indexes when {@link #ENABLE_ASYNC_INDEXING asynchronous indexing}
+	 * is enabled.
+	 * <p>
+	 * With more than one thread, changes from successive transactions affecting the same entity
+	 * may be applied in a different order than the order of transaction commits.
+	 * <p>
+	 * Defaults to {@link Defaults#ASYNC_INDEXING_THREAD_COUNT}.
+	 */
+	public static final String ASYNC_INDEXING_THREAD_COUNT = PREFIX + Radicals.ASYNC_INDEXING_THREAD_COUNT;
+
+	/**
+	 * The maximum number of transactions whose changes are waiting to be applied
+	 * when {@link #ENABLE_ASYNC_INDEXING asynchronous indexing} is enabled.
+	 * <p>
+	 * Defaults to {@link Defaults#ASYNC_INDEXING_QUEUE_SIZE}.
+	 */
+	public static final String ASYNC_INDEXING_QUEUE_SIZE = PREFIX + Radicals.ASYNC_INDEXING_QUEUE_SIZE;
+
+	/**
+	 * What to do when the {@link #ASYNC_INDEXING_QUEUE_SIZE asynchronous indexing queue} is full.
+	 * <p>
+	 * Accepts a {@link QueueFullPolicyConfiguration} or its external representation.
+	 * Defaults to {@link Defaults#ASYNC_INDEXING_QUEUE_FULL_POLICY}.
+	 */
+	public static final String ASYNC_INDEXING_QUEUE_FULL_POLICY = PREFIX + Radicals.ASYNC_INDEXING_QUEUE_FULL_POLICY;
+
+	/**
+	 * The error handler to notify of failures to apply changes to the indexes
+	 * when {@link #ENABLE_ASYNC_INDEXING asynchronous indexing} is enabled.
+	 * <p>
+	 * Accepts a reference to a bean implementing {@link IndexingErrorHandler}.
+	 * By default, failures are logged.
+	 */
+	public static final String ASYNC_INDEXING_ERROR_HANDLER = PREFIX + Radicals.ASYNC_INDEXING_ERROR_HANDLER;
+
+	/**
+	 * When enabled, changes to indexed entities are not applied to the indexes directly,
+	 * but recorded in an {@link #OUTBOX_TABLE outbox table}, as part of the same database transaction.
+	 * Background processors, on any application node, then reload the changed entities from the database
+	 * and apply the changes to the indexes.
+	 * <p>
+	 * This guarantees that changes committed to the database will eventually reach the indexes,
+	 * even if the application crashes right after the commit.
+	 * The outbox table is shared by all tenants, so this is not supported with schema-based
+	 * or database-based multi-tenancy.
+	 * <p>
+	 * Disabled by default.
+	 */
+	public static final String ENABLE_OUTBOX_INDEXING = PREFIX + Radicals.ENABLE_OUTBOX_INDEXING;
+
+	/**
+	 * The name of the table in which changes are recorded when {@link #ENABLE_OUTBOX_INDEXING outbox indexing}
+	 * is enabled.
+	 * <p>
+	 * The table is created on startup if it does not exist.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_TABLE}.
+	 */
+	public static final String OUTBOX_TABLE = PREFIX + Radicals.OUTBOX_TABLE;
+
+	/**
+	 * When enabled, this node processes changes recorded in the outbox table.
+	 * Disable on nodes that should only record changes.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_PROCESSING_ENABLED}.
+	 */
+	public static final String OUTBOX_PROCESSING_ENABLED = PREFIX + Radicals.OUTBOX_PROCESSING_ENABLED;
+
+	/**
+	 * The delay in milliseconds between two polls of the outbox table, when the previous poll found nothing to process.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of changes claimed from the outbox table and processed together,
+	 * in a single session.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String OUTBOX_BATCH_SIZE = PREFIX + Radicals.OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The delay in milliseconds after which changes claimed by a processor but still in the outbox table
+	 * are considered abandoned (because the processor failed or crashed) and can be claimed again.
+	 * <p>
+	 * Defaults to {@link Defaults#OUTBOX_CLAIM_TIMEOUT}.
+	 */
+	public static final String OUTBOX_CLAIM_TIMEOUT = PREFIX + Radicals.OUTBOX_CLAIM_TIMEOUT;
+
+	/**
+	 * How to look up entities in caches before querying the database when loading search hits.
+	 * <p>
+	 * Can be overridden for each query, see
+	 * {@link org.hibernate.search.mapper.orm.jpa.FullTextQuery#setCacheLookupStrategy(CacheLookupStrategyConfiguration)}.
+	 * <p>
+	 * Accepts a {@link CacheLookupStrategyConfiguration} or its external representation.
+	 * Defaults to {@link Defaults#QUERY_LOADING_CACHE_LOOKUP_STRATEGY}.
+	 */
+	public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
+			PREFIX + Radicals.QUERY_LOADING_CACHE_LOOKUP_STRATEGY;
+
+	/**
+	 * How to retrieve the value of entity properties when indexing.
+	 * <p>
+	 * Accepts a {@link PropertyAccessorStrategyConfiguration} or its external representation.
+	 * Defaults to {@link Defaults#PROPERTY_ACCESSOR_STRATEGY}.
+	 */
+	public static final String PROPERTY_ACCESSOR_STRATEGY = PREFIX + Radicals.PROPERTY_ACCESSOR_STRATEGY;
+
 	public static class Radicals {
 		public static final String ENABLE_CONFIGURATION_PROPERTY_TRACKING = "enable_configuration_property_tracking";
 		public static final String AUTOREGISTER_LISTENERS = "autoregister_listeners";
@@ -67,6 +192,19 @@ public static class Radicals {
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
+		public static final String ENABLE_ASYNC_INDEXING = "enable_async_indexing";
+		public static final String ASYNC_INDEXING_THREAD_COUNT = "async_indexing_thread_count";
+		public static final String ASYNC_INDEXING_QUEUE_SIZE = "async_indexing_queue_size";
+		public static final String ASYNC_INDEXING_QUEUE_FULL_POLICY = "async_indexing_queue_full_policy";
+		public static final String ASYNC_INDEXING_ERROR_HANDLER = "async_indexing_error_handler";
+		public static final String ENABLE_OUTBOX_INDEXING = "enable_outbox_indexing";
+		public static final String OUTBOX_TABLE = "outbox_table";
+		public static final String OUTBOX_PROCESSING_ENABLED = "outbox_processing_enabled";
+		public static final String OUTBOX_POLLING_INTERVAL = "outbox_polling_interval";
+		public static final String OUTBOX_BATCH_SIZE = "outbox_batch_size";
+		public static final String OUTBOX_CLAIM_TIMEOUT = "outbox_claim_timeout";
+		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query_loading_cache_lookup_strategy";
+		public static final String PROPERTY_ACCESSOR_STRATEGY = "property_accessor_strategy";
 
 		private Radicals() {
 		}
@@ -85,6 +223,21 @@ private Defaults() {
 		public static final IndexingStrategyConfiguration INDEXING_STRATEGY = IndexingStrategyConfiguration.EVENT;
 		public static final boolean ENABLE_DIRTY_CHECK = true;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
+		public static final boolean ENABLE_ASYNC_INDEXING = false;
+		public static final int ASYNC_INDEXING_THREAD_COUNT = 1;
+		public static final int ASYNC_INDEXING_QUEUE_SIZE = 1000;
+		public static final QueueFullPolicyConfiguration ASYNC_INDEXING_QUEUE_FULL_POLICY =
+				QueueFullPolicyConfiguration.BLOCK;
+		public static final boolean ENABLE_OUTBOX_INDEXING = false;
+		public static final String OUTBOX_TABLE = "HSEARCH_OUTBOX";
+		public static final boolean OUTBOX_PROCESSING_ENABLED = true;
+		public static final long OUTBOX_POLLING_INTERVAL = 100L;
+		public static final int OUTBOX_BATCH_SIZE = 50;
+		public static final long OUTBOX_CLAIM_TIMEOUT = 60_000L;
+		public static final CacheLookupStrategyConfiguration QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
+				CacheLookupStrategyConfiguration.SKIP;
+		public static final PropertyAccessorStrategyConfiguration PROPERTY_ACCESSOR_STRATEGY =
+				PropertyAccessorStrategyConfiguration.METHOD_HANDLE;
 	}
 
 	private SearchOrmSettings() {
@@ -6,16 +6,26 @@
  */
 package org.hibernate.search.mapper.orm.hibernate;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 
 public interface FullTextQuery<T> extends Query<T>, org.hibernate.search.mapper.orm.jpa.FullTextQuery<T> {
 
+	@Override
+	FullTextQuery<T> setCacheLookupStrategy(CacheLookupStrategyConfiguration cacheLookupStrategy);
+
+	@Override
+	FullTextQuery<T> failAfter(long timeout, TimeUnit timeUnit);
+
+	@Override
+	FullTextQuery<T> truncateAfter(long timeout, TimeUnit timeUnit);
+
 	// TODO getResultSize
 
 	// TODO facets
 
-	// TODO timeouts
-
 	// TODO explain
 
 }
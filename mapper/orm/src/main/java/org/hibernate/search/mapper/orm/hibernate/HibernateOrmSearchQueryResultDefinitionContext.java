@@ -35,4 +35,9 @@ <T> SearchQueryResultContext<? extends FullTextQuery<T>> asProjections(
 			Function<List<?>, T> hitTransformer,
 			String... projections);
 
+	@Override
+	<T> SearchQueryResultContext<? extends FullTextQuery<T>> asProjections(
+			Class<T> projectionType,
+			String... projections);
+
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
@@ -13,6 +14,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -30,26 +33,36 @@
 import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.search.impl.MutableObjectLoadingOptions;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
 public class FullTextQueryImpl<R> extends AbstractProducedQuery<R> implements FullTextQuery<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int DEFAULT_SCROLL_CHUNK_SIZE = 100;
+
 	private final SearchQuery<R> searchQuery;
 
 	private final MutableObjectLoadingOptions loadingOptions;
+	private final boolean loadingEntities;
 
 	private Integer firstResult;
 	private Integer maxResults;
 
 	public FullTextQueryImpl(SearchQuery<R> searchQuery, SessionImplementor sessionImplementor,
-			MutableObjectLoadingOptions loadingOptions) {
+			MutableObjectLoadingOptions loadingOptions, boolean loadingEntities) {
 		super( sessionImplementor, new ParameterMetadataImpl( null, null ) );
 		this.searchQuery = searchQuery;
 		this.loadingOptions = loadingOptions;
+		this.loadingEntities = loadingEntities;
 	}
 
 	@Override
@@ -76,26 +89,35 @@ public List<R> getResultList() {
 
 	/**
 	 * Return an iterator on the results.
-	 * Retrieve the object one by one (initialize it during the next() operation)
+	 * Hits are retrieved, and entities loaded, one chunk at a time;
+	 * the chunk size is the fetch size if set, or {@value #DEFAULT_SCROLL_CHUNK_SIZE} otherwise.
 	 */
 	@Override
 	public Iterator<R> iterate() {
-		throw resultStreamingNotImplemented();
+		return new FullTextQueryIterator<>( searchQuery.scroll( getScrollChunkSize() ) );
 	}
 
+	/**
+	 * Return forward-only scrollable results.
+	 * Hits are retrieved, and entities loaded, one chunk at a time;
+	 * the chunk size is the fetch size if set, or {@value #DEFAULT_SCROLL_CHUNK_SIZE} otherwise.
+	 */
 	@Override
 	public ScrollableResultsImplementor scroll() {
-		throw resultStreamingNotImplemented();
+		return scroll( ScrollMode.FORWARD_ONLY );
 	}
 
 	@Override
 	public ScrollableResultsImplementor scroll(ScrollMode scrollMode) {
-		throw resultStreamingNotImplemented();
+		if ( !ScrollMode.FORWARD_ONLY.equals( scrollMode ) ) {
+			throw new UnsupportedOperationException( "Only forward-only scrolling is supported in Hibernate Search queries" );
+		}
+		return new FullTextScrollableResultsImpl<>( searchQuery.scroll( getScrollChunkSize() ) );
 	}
 
-	private UnsupportedOperationException resultStreamingNotImplemented() {
-		// TODO result streaming
-		return new UnsupportedOperationException( "Not implemented yet" );
+	private int getScrollChunkSize() {
+		int fetchSize = loadingOptions.getFetchSize();
+		return fetchSize > 0 ? fetchSize : DEFAULT_SCROLL_CHUNK_SIZE;
 	}
 
 	@Override
@@ -115,8 +137,15 @@ public List<R> list() {
 		}
 	}
 
+	@Override
+	public CompletableFuture<List<R>> getResultListAsync() {
+		if ( loadingEntities ) {
+			throw log.cannotExecuteAsyncQueryLoadingEntities();
+		}
+		return searchQuery.executeAsync().thenApply( SearchResult::getHits );
+	}
+
 	protected List<R> doHibernateSearchList() {
-		// TODO handle timeouts
 		final List<R> results = searchQuery.execute().getHits();
 		// TODO apply the result transformer?
 		return results;
@@ -281,6 +310,12 @@ public FullTextQueryImpl<R> setFetchSize(int fetchSize) {
 		return this;
 	}
 
+	@Override
+	public FullTextQueryImpl<R> setCacheLookupStrategy(CacheLookupStrategyConfiguration cacheLookupStrategy) {
+		loadingOptions.setCacheLookupStrategy( cacheLookupStrategy );
+		return this;
+	}
+
 	@Override
 	public FullTextQueryImpl<R> setLockOptions(LockOptions lockOptions) {
 		throw new UnsupportedOperationException( "Lock options are not implemented in Hibernate Search queries" );
@@ -323,14 +358,28 @@ public FullTextQueryImpl<R> setLockMode(String alias, LockMode lockMode) {
 		throw new UnsupportedOperationException( "Lock options are not implemented in Hibernate Search queries" );
 	}
 
+	/**
+	 * Set the timeout of the full-text query, in seconds.
+	 * Queries exceeding this timeout fail with a {@link org.hibernate.search.util.SearchTimeoutException}.
+	 *
+	 * @see #failAfter(long, TimeUnit)
+	 */
 	@Override
 	public FullTextQueryImpl<R> setTimeout(int timeout) {
-		throw timeoutNotImplementedYet();
+		super.setTimeout( timeout );
+		return failAfter( timeout, TimeUnit.SECONDS );
 	}
 
-	private UnsupportedOperationException timeoutNotImplementedYet() {
-		// TODO add support for timeouts
-		return new UnsupportedOperationException( "Not implemented yet" );
+	@Override
+	public FullTextQueryImpl<R> failAfter(long timeout, TimeUnit timeUnit) {
+		searchQuery.failAfter( timeout, timeUnit );
+		return this;
+	}
+
+	@Override
+	public FullTextQueryImpl<R> truncateAfter(long timeout, TimeUnit timeUnit) {
+		searchQuery.truncateAfter( timeout, timeUnit );
+		return this;
 	}
 
 	@Override
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.search.engine.search.SearchScroll;
+
+/**
+ * An iterator over the hits of a {@link SearchScroll},
+ * retrieving hits one chunk at a time.
+ * <p>
+ * The scroll is closed automatically once all hits have been returned.
+ */
+class FullTextQueryIterator<R> implements CloseableIterator<R> {
+
+	private final SearchScroll<R> scroll;
+
+	private Iterator<R> currentChunk = Collections.emptyIterator();
+	private boolean closed = false;
+
+	FullTextQueryIterator(SearchScroll<R> scroll) {
+		this.scroll = scroll;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( closed ) {
+			return false;
+		}
+		if ( !currentChunk.hasNext() ) {
+			currentChunk = scroll.next().getHits().iterator();
+			if ( !currentChunk.hasNext() ) {
+				close();
+			}
+		}
+		return currentChunk.hasNext();
+	}
+
+	@Override
+	public R next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return currentChunk.next();
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			scroll.close();
+		}
+	}
+}
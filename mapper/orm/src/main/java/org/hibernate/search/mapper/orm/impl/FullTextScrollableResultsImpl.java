@@ -0,0 +1,322 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * Forward-only scrollable results backed by a {@link SearchScroll}.
+ * <p>
+ * Hits are retrieved, and entities loaded, one chunk at a time,
+ * so that memory usage does not depend on the total number of hits.
+ * Each row contains a single element: the hit.
+ */
+class FullTextScrollableResultsImpl<R> implements ScrollableResultsImplementor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchScroll<R> scroll;
+
+	private List<R> currentChunk = Collections.emptyList();
+	// Only set when looking ahead, see isLast()
+	private List<R> nextChunk;
+	private int indexInCurrentChunk = -1;
+	private int rowNumber = -1;
+	private boolean afterLast = false;
+	private boolean closed = false;
+
+	FullTextScrollableResultsImpl(SearchScroll<R> scroll) {
+		this.scroll = scroll;
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			scroll.close();
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public int getNumberOfTypes() {
+		return 1;
+	}
+
+	@Override
+	public boolean next() {
+		checkNotClosed();
+		if ( afterLast ) {
+			return false;
+		}
+		++indexInCurrentChunk;
+		if ( indexInCurrentChunk >= currentChunk.size() ) {
+			currentChunk = fetchNextChunk();
+			indexInCurrentChunk = 0;
+			if ( currentChunk.isEmpty() ) {
+				afterLast = true;
+				return false;
+			}
+		}
+		++rowNumber;
+		return true;
+	}
+
+	@Override
+	public boolean previous() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		checkNotClosed();
+		if ( positions < 0 ) {
+			throw forwardOnly();
+		}
+		boolean onRow = isOnRow();
+		for ( int i = 0; i < positions; i++ ) {
+			onRow = next();
+			if ( !onRow ) {
+				break;
+			}
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean last() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean first() {
+		checkNotClosed();
+		if ( rowNumber < 0 && !afterLast ) {
+			return next();
+		}
+		else if ( rowNumber == 0 && !afterLast ) {
+			return true;
+		}
+		else {
+			throw forwardOnly();
+		}
+	}
+
+	@Override
+	public void beforeFirst() {
+		checkNotClosed();
+		if ( rowNumber >= 0 || afterLast ) {
+			throw forwardOnly();
+		}
+	}
+
+	@Override
+	public void afterLast() {
+		checkNotClosed();
+		while ( next() ) {
+			// Skip all remaining rows
+		}
+	}
+
+	@Override
+	public boolean isFirst() {
+		checkNotClosed();
+		return rowNumber == 0 && !afterLast;
+	}
+
+	@Override
+	public boolean isLast() {
+		checkNotClosed();
+		if ( !isOnRow() ) {
+			return false;
+		}
+		if ( indexInCurrentChunk < currentChunk.size() - 1 ) {
+			return false;
+		}
+		if ( nextChunk == null ) {
+			nextChunk = scroll.next().getHits();
+		}
+		return nextChunk.isEmpty();
+	}
+
+	@Override
+	public int getRowNumber() {
+		checkNotClosed();
+		return isOnRow() ? rowNumber : -1;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		checkNotClosed();
+		if ( rowNumber < 0 || rowNumber < this.rowNumber || afterLast ) {
+			throw forwardOnly();
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public Object[] get() {
+		checkNotClosed();
+		if ( !isOnRow() ) {
+			throw log.scrollableResultsNotPositionedOnRow();
+		}
+		return new Object[] { currentChunk.get( indexInCurrentChunk ) };
+	}
+
+	@Override
+	public Object get(int col) {
+		return get()[col];
+	}
+
+	@Override
+	public Type getType(int i) {
+		throw new UnsupportedOperationException( "getType(int) is not implemented in Hibernate Search queries" );
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scroll=" + scroll + ", rowNumber=" + rowNumber + "]";
+	}
+
+	private List<R> fetchNextChunk() {
+		if ( nextChunk != null ) {
+			List<R> result = nextChunk;
+			nextChunk = null;
+			return result;
+		}
+		return scroll.next().getHits();
+	}
+
+	private boolean isOnRow() {
+		return rowNumber >= 0 && !afterLast;
+	}
+
+	private void checkNotClosed() {
+		if ( closed ) {
+			throw log.scrollableResultsClosed();
+		}
+	}
+
+	private static UnsupportedOperationException forwardOnly() {
+		return new UnsupportedOperationException( "Hibernate Search scrollable results are forward-only" );
+	}
+}
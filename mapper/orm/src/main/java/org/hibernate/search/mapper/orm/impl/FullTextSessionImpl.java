@@ -14,6 +14,7 @@
 import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
 import org.hibernate.search.mapper.orm.jpa.FullTextEntityManager;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 
 public class FullTextSessionImpl extends SessionDelegatorBaseImpl implements FullTextSession {
 
@@ -47,6 +48,11 @@ public final <T> FullTextSearchTarget<T> search(Collection<? extends Class<? ext
 		return new FullTextSearchTargetImpl<>( getSearchManager().search( types ) );
 	}
 
+	@Override
+	public final MassIndexer createIndexer(Class<?>... types) {
+		return getSearchManager().createIndexer( types );
+	}
+
 	private HibernateOrmSearchManager getSearchManager() {
 		if ( searchManager == null ) {
 			HibernateSearchContextService contextService = delegate.getSessionFactory().getServiceRegistry()
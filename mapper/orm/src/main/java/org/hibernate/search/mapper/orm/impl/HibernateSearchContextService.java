@@ -23,6 +23,9 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.search.engine.common.SearchManager;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.mapper.orm.indexing.impl.AsyncWorkPlanExecutor;
+import org.hibernate.search.mapper.orm.indexing.impl.OutboxRecordingWorkPlan;
+import org.hibernate.search.mapper.orm.indexing.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
@@ -35,6 +38,8 @@ public class HibernateSearchContextService implements Service {
 
 	private volatile SearchIntegration integration;
 	private volatile HibernateOrmMapping mapping;
+	private volatile AsyncWorkPlanExecutor asyncWorkPlanExecutor;
+	private volatile OutboxTable outboxTable;
 
 	/*
 	 * FIXME support "enlist in transaction"? This only makes sense when index managers support it,
@@ -48,9 +53,20 @@ public class HibernateSearchContextService implements Service {
 	private static final String WORK_PLAN_PER_TRANSACTION_MAP_KEY =
 			HibernateSearchContextService.class.getName() + "#WORK_PLAN_PER_TRANSACTION_KEY";
 
-	public void initialize(SearchIntegration integration, HibernateOrmMapping mapping) {
+	/**
+	 * @param integration The search integration.
+	 * @param mapping The mapping.
+	 * @param asyncWorkPlanExecutor The executor to use to execute work plans after transaction commits,
+	 * or {@code null} to execute them synchronously.
+	 * @param outboxTable The table to record changes to entities in, instead of indexing them,
+	 * or {@code null} to index changes when transactions are committed.
+	 */
+	public void initialize(SearchIntegration integration, HibernateOrmMapping mapping,
+			AsyncWorkPlanExecutor asyncWorkPlanExecutor, OutboxTable outboxTable) {
 		this.integration = integration;
 		this.mapping = mapping;
+		this.asyncWorkPlanExecutor = asyncWorkPlanExecutor;
+		this.outboxTable = outboxTable;
 	}
 
 	public SearchIntegration getIntegration() {
@@ -62,6 +78,10 @@ public SearchIntegration getIntegration() {
 		}
 	}
 
+	public AsyncWorkPlanExecutor getAsyncWorkPlanExecutor() {
+		return asyncWorkPlanExecutor;
+	}
+
 	public HibernateOrmMapping getMapping() {
 		if ( mapping != null ) {
 			return mapping;
@@ -113,7 +133,9 @@ public PojoWorkPlan getCurrentWorkPlan(SessionImplementor sessionImplementor) {
 			}
 			PojoWorkPlan workPlan = workPlanPerTransaction.get( transactionIdentifier );
 			if ( workPlan == null ) {
-				workPlan = searchManager.createWorkPlan();
+				workPlan = outboxTable != null
+						? new OutboxRecordingWorkPlan( sessionImplementor, outboxTable )
+						: searchManager.createWorkPlan();
 				workPlanPerTransaction.put( transactionIdentifier, workPlan );
 				Synchronization txSync = createTransactionWorkQueueSynchronization(
 						workPlan, workPlanPerTransaction, transactionIdentifier
@@ -154,7 +176,7 @@ private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan w
 		}
 		else {
 			return new PostTransactionWorkQueueSynchronization(
-					workPlan, workPlanPerTransaction, transactionIdentifier
+					workPlan, workPlanPerTransaction, transactionIdentifier, asyncWorkPlanExecutor
 			);
 		}
 	}
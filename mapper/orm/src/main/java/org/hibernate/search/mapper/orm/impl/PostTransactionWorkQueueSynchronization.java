@@ -12,6 +12,7 @@
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
 
+import org.hibernate.search.mapper.orm.indexing.impl.AsyncWorkPlanExecutor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.util.impl.common.LoggerFactory;
@@ -28,12 +29,15 @@ public class PostTransactionWorkQueueSynchronization implements Synchronization
 	private final PojoWorkPlan workPlan;
 	private final Map<?, ?> workPlanPerTransaction;
 	private final Object transactionIdentifier;
+	private final AsyncWorkPlanExecutor asyncWorkPlanExecutor;
 
 	PostTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
-			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
+			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier,
+			AsyncWorkPlanExecutor asyncWorkPlanExecutor) {
 		this.workPlan = workPlan;
 		this.workPlanPerTransaction = workPlanPerTransaction;
 		this.transactionIdentifier = transactionIdentifier;
+		this.asyncWorkPlanExecutor = asyncWorkPlanExecutor;
 	}
 
 	@Override
@@ -47,6 +51,11 @@ public void afterCompletion(int i) {
 		try {
 			if ( Status.STATUS_COMMITTED == i ) {
 				log.tracef( "Processing Transaction's afterCompletion() phase for %s. Performing work.", this );
+				if ( asyncWorkPlanExecutor != null ) {
+					// Do not make the committing thread wait for the backend; failures go to the error handler
+					asyncWorkPlanExecutor.submit( workPlan );
+					return;
+				}
 				CompletableFuture<?> future = workPlan.execute();
 				/*
 				 * TODO decide whether we want the sync/async setting to be scoped per index,
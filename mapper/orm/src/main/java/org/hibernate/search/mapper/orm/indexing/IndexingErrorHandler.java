@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing;
+
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+
+/**
+ * A handler for failures to apply changes to the indexes
+ * that cannot be reported to the application directly,
+ * for instance when {@link SearchOrmSettings#ENABLE_ASYNC_INDEXING asynchronous indexing} is enabled.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface IndexingErrorHandler {
+
+	/**
+	 * @param throwable The failure.
+	 */
+	void handle(Throwable throwable);
+
+}
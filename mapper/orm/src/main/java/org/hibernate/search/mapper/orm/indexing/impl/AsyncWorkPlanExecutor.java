@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing.impl;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.orm.cfg.QueueFullPolicyConfiguration;
+import org.hibernate.search.mapper.orm.indexing.IndexingErrorHandler;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.Executors;
+
+/**
+ * Executes work plans in background threads, after the transaction that produced them was committed.
+ * <p>
+ * Work plans are queued in a bounded queue and executed in the order they were submitted,
+ * each background thread waiting for the backend to complete a work plan before executing the next one,
+ * so that the amount of pending changes stays bounded.
+ * <p>
+ * Work plans that cannot be queued are executed in the submitting thread, so that changes are never lost:
+ * this happens when the queue is full with the caller-runs policy,
+ * when the submitting thread is interrupted while waiting for space in the queue with the blocking policy,
+ * or when the executor is being closed.
+ */
+public class AsyncWorkPlanExecutor implements AutoCloseable {
+
+	private final ThreadPoolExecutor executor;
+	private final IndexingErrorHandler errorHandler;
+
+	public AsyncWorkPlanExecutor(int threadCount, int queueSize, QueueFullPolicyConfiguration queueFullPolicy,
+			IndexingErrorHandler errorHandler) {
+		RejectedExecutionHandler rejectedExecutionHandler;
+		switch ( queueFullPolicy ) {
+			case CALLER_RUNS:
+				// Rejected work plans are executed by the caller in submit()
+				rejectedExecutionHandler = new ThreadPoolExecutor.AbortPolicy();
+				break;
+			case BLOCK:
+			default:
+				rejectedExecutionHandler = new Executors.BlockPolicy();
+				break;
+		}
+		this.executor = Executors.newFixedThreadPool(
+				threadCount, "Hibernate Search - Asynchronous indexing", queueSize, rejectedExecutionHandler
+		);
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Let the work plans that were already submitted complete, then release resources.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Submit a work plan for execution in a background thread.
+	 * <p>
+	 * Depending on the queue full policy, this may block, or execute the work plan in the current thread,
+	 * when the queue is full.
+	 * The work plan is also executed in the current thread if the executor is closed concurrently,
+	 * or if the current thread is interrupted while blocking.
+	 *
+	 * @param workPlan A prepared work plan.
+	 */
+	public void submit(PojoWorkPlan workPlan) {
+		try {
+			executor.execute( () -> execute( workPlan ) );
+		}
+		catch (RejectedExecutionException e) {
+			// Queue full, interrupted while waiting, or late transaction during shutdown: do not lose the changes
+			execute( workPlan );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "executor=" ).append( executor )
+				.append( ", errorHandler=" ).append( errorHandler )
+				.append( "]" )
+				.toString();
+	}
+
+	private void execute(PojoWorkPlan workPlan) {
+		try {
+			workPlan.execute().join();
+		}
+		catch (CompletionException e) {
+			errorHandler.handle( e.getCause() );
+		}
+		catch (RuntimeException e) {
+			errorHandler.handle( e );
+		}
+	}
+
+}
@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.indexing.IndexingErrorHandler;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public class LoggingIndexingErrorHandler implements IndexingErrorHandler {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	@Override
+	public void handle(Throwable throwable) {
+		log.asyncIndexingFailed( throwable );
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing.impl;
+
+import java.util.Set;
+
+/**
+ * A change to an entity, recorded in the outbox table.
+ */
+final class OutboxEvent {
+
+	final String entityName;
+	final String entityId;
+	final String tenantId;
+	/*
+	 * The paths that changed, or null if the whole entity should be considered dirty
+	 * (for instance because it was added or deleted).
+	 */
+	final Set<String> dirtyPaths;
+
+	OutboxEvent(String entityName, String entityId, String tenantId, Set<String> dirtyPaths) {
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.tenantId = tenantId;
+		this.dirtyPaths = dirtyPaths;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "entityName=" ).append( entityName )
+				.append( ", entityId=" ).append( entityId )
+				.append( ", tenantId=" ).append( tenantId )
+				.append( ", dirtyPaths=" ).append( dirtyPaths )
+				.append( "]" )
+				.toString();
+	}
+}
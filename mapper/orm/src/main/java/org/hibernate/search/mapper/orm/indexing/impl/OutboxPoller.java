@@ -0,0 +1,235 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Periodically claims rows from the outbox table and indexes the corresponding entities.
+ * <p>
+ * Entities are loaded from the database, so that the current state of each entity is indexed,
+ * regardless of how many changes were recorded for that entity.
+ * Entities that no longer exist are deleted from the index.
+ * <p>
+ * Rows are deleted only after the changes have been applied to the indexes:
+ * if indexing fails, or if the application stops before indexing is complete,
+ * the rows will be processed again once their claim times out.
+ * <p>
+ * Multiple pollers, possibly on different nodes, may claim different rows for the same entity.
+ * To prevent a poller from indexing an older state of the entity after another poller indexed a newer one,
+ * entities are loaded with a pessimistic write lock, which is held until indexing is complete.
+ * Thus, for a given entity, loading and indexing is serialized across pollers,
+ * and the last poller to index an entity always indexes its latest committed state.
+ * Changes committed after that state was loaded have their own rows,
+ * and will lead to the entity being indexed again.
+ * This guarantee does not hold for entities that no longer exist, since there is nothing to lock:
+ * their deletion from the indexes may be reordered with indexing by another poller
+ * if an entity with the same identifier is re-created concurrently.
+ * <p>
+ * While an entity is being indexed, transactions updating that entity will block.
+ * Pollers waiting for a lock longer than the claim timeout may end up processing rows
+ * that were claimed again by another poller: this is safe, but wasteful.
+ */
+public class OutboxPoller implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final HibernateSearchContextService contextService;
+	private final OutboxTable table;
+	private final int batchSize;
+	private final long claimTimeout;
+
+	private final ScheduledExecutorService executor;
+
+	private volatile boolean stopped = false;
+
+	public OutboxPoller(SessionFactoryImplementor sessionFactory, HibernateSearchContextService contextService,
+			OutboxTable table, long pollingInterval, int batchSize, long claimTimeout) {
+		this.sessionFactory = sessionFactory;
+		this.contextService = contextService;
+		this.table = table;
+		this.batchSize = batchSize;
+		this.claimTimeout = claimTimeout;
+		this.executor = Executors.newScheduledThreadPool( "Hibernate Search - Outbox polling" );
+		executor.scheduleWithFixedDelay( this::poll, pollingInterval, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Let the batch being processed complete, then release resources.
+	 * <p>
+	 * Rows that were not processed yet are left in the outbox table.
+	 */
+	@Override
+	public void close() {
+		stopped = true;
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "table=" ).append( table )
+				.append( ", batchSize=" ).append( batchSize )
+				.append( ", claimTimeout=" ).append( claimTimeout )
+				.append( "]" )
+				.toString();
+	}
+
+	private void poll() {
+		try {
+			// Keep going while there are more rows to process, instead of waiting for the next poll
+			while ( !stopped && processBatch() >= batchSize ) {
+				log.tracef( "Outbox batch complete, more rows may be available: %s", this );
+			}
+		}
+		catch (RuntimeException e) {
+			// Do not propagate, or the executor would stop polling
+			log.outboxProcessingFailed( e );
+		}
+	}
+
+	/**
+	 * @return The number of rows processed.
+	 */
+	private int processBatch() {
+		String processorId = UUID.randomUUID().toString();
+		List<OutboxEvent> events = table.claim( processorId, batchSize, claimTimeout );
+		if ( events.isEmpty() ) {
+			return 0;
+		}
+
+		Map<String, Map<String, List<OutboxEvent>>> eventsByTenantAndEntityName = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			// Lock entity types in the same order in every poller, to limit the risk of deadlocks
+			eventsByTenantAndEntityName.computeIfAbsent( event.tenantId, ignored -> new TreeMap<>() )
+					.computeIfAbsent( event.entityName, ignored -> new ArrayList<>() )
+					.add( event );
+		}
+		for ( Map.Entry<String, Map<String, List<OutboxEvent>>> entry : eventsByTenantAndEntityName.entrySet() ) {
+			index( entry.getKey(), entry.getValue() );
+		}
+
+		table.deleteClaimed( processorId );
+		return events.size();
+	}
+
+	private void index(String tenantId, Map<String, List<OutboxEvent>> eventsByEntityName) {
+		try ( Session session = openSession( tenantId ) ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+				PojoWorkPlan workPlan = contextService.getSearchManager( sessionImplementor ).createWorkPlan();
+				for ( Map.Entry<String, List<OutboxEvent>> entry : eventsByEntityName.entrySet() ) {
+					addWorks( sessionImplementor, workPlan, entry.getKey(), entry.getValue() );
+				}
+				workPlan.execute().join();
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+	}
+
+	private void addWorks(SessionImplementor session, PojoWorkPlan workPlan, String entityName,
+			List<OutboxEvent> events) {
+		EntityPersister persister = sessionFactory.getMetamodel().entityPersister( entityName );
+
+		// Rows recorded by different transactions for the same entity lead to a single reindexing
+		Map<String, Set<String>> dirtyPathsByEntityId = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			if ( !dirtyPathsByEntityId.containsKey( event.entityId ) ) {
+				dirtyPathsByEntityId.put( event.entityId, event.dirtyPaths );
+			}
+			else {
+				Set<String> dirtyPaths = dirtyPathsByEntityId.get( event.entityId );
+				// A null set means every path is considered dirty
+				if ( dirtyPaths != null && event.dirtyPaths != null ) {
+					dirtyPaths.addAll( event.dirtyPaths );
+				}
+				else {
+					dirtyPathsByEntityId.put( event.entityId, null );
+				}
+			}
+		}
+
+		List<Serializable> ids = new ArrayList<>( dirtyPathsByEntityId.size() );
+		List<Set<String>> dirtyPathsList = new ArrayList<>( dirtyPathsByEntityId.size() );
+		for ( Map.Entry<String, Set<String>> entry : dirtyPathsByEntityId.entrySet() ) {
+			ids.add( table.fromEntityIdString( persister, entry.getKey() ) );
+			dirtyPathsList.add( entry.getValue() );
+		}
+
+		/*
+		 * Lock the entities until the end of the transaction, i.e. until they have been indexed,
+		 * so that other pollers cannot index a different state concurrently.
+		 * Results are returned in the order of identifiers, with null for missing entities.
+		 */
+		MultiIdentifierLoadAccess<?> loadAccess = session.byMultipleIds( entityName )
+				.with( new LockOptions( LockMode.PESSIMISTIC_WRITE ) );
+		List<?> entities = loadAccess.multiLoad( ids );
+		for ( int i = 0; i < ids.size(); i++ ) {
+			Serializable id = ids.get( i );
+			Object entity = entities.get( i );
+			Set<String> dirtyPaths = dirtyPathsList.get( i );
+			if ( entity == null ) {
+				workPlan.purge( persister.getMappedClass(), id );
+			}
+			else if ( dirtyPaths == null ) {
+				workPlan.update( id, entity );
+			}
+			else {
+				workPlan.update( id, entity, dirtyPaths.toArray( new String[0] ) );
+			}
+		}
+	}
+
+	private Session openSession(String tenantId) {
+		Session session = sessionFactory.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		session.setDefaultReadOnly( true );
+		return session;
+	}
+
+}
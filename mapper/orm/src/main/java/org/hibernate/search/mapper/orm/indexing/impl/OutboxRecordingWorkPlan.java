@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+
+/**
+ * A work plan that does not index anything, but records changes to entities in the outbox table,
+ * as part of the current transaction.
+ * <p>
+ * Changes are recorded when the work plan is prepared, i.e. before the transaction is committed,
+ * and are indexed later by an {@link OutboxPoller}.
+ * Multiple changes to the same entity are recorded as a single row:
+ * the poller will index the state of the entity at the time it is processed,
+ * regardless of the nature of the changes.
+ */
+public class OutboxRecordingWorkPlan implements PojoWorkPlan {
+
+	private final SessionImplementor session;
+	private final OutboxTable table;
+
+	private final Map<EntityKey, Set<String>> dirtyPathsByEntity = new LinkedHashMap<>();
+
+	public OutboxRecordingWorkPlan(SessionImplementor session, OutboxTable table) {
+		this.session = session;
+		this.table = table;
+	}
+
+	@Override
+	public void add(Object entity) {
+		add( null, entity );
+	}
+
+	@Override
+	public void add(Object id, Object entity) {
+		recordAllDirty( session.getEntityPersister( null, entity ), id, entity );
+	}
+
+	@Override
+	public void update(Object entity) {
+		update( null, entity );
+	}
+
+	@Override
+	public void update(Object id, Object entity) {
+		recordAllDirty( session.getEntityPersister( null, entity ), id, entity );
+	}
+
+	@Override
+	public void update(Object entity, String... dirtyPaths) {
+		update( null, entity, dirtyPaths );
+	}
+
+	@Override
+	public void update(Object id, Object entity, String... dirtyPaths) {
+		EntityKey key = toKey( session.getEntityPersister( null, entity ), id, entity );
+		if ( !dirtyPathsByEntity.containsKey( key ) ) {
+			dirtyPathsByEntity.put( key, new LinkedHashSet<>( Arrays.asList( dirtyPaths ) ) );
+		}
+		else {
+			Set<String> recordedDirtyPaths = dirtyPathsByEntity.get( key );
+			// A null set means every path is already considered dirty
+			if ( recordedDirtyPaths != null ) {
+				recordedDirtyPaths.addAll( Arrays.asList( dirtyPaths ) );
+			}
+		}
+	}
+
+	@Override
+	public void delete(Object entity) {
+		delete( null, entity );
+	}
+
+	@Override
+	public void delete(Object id, Object entity) {
+		recordAllDirty( session.getEntityPersister( null, entity ), id, entity );
+	}
+
+	@Override
+	public void purge(Class<?> clazz, Object id) {
+		EntityPersister persister = session.getFactory().getMetamodel().entityPersister( clazz );
+		recordAllDirty( persister, id, null );
+	}
+
+	@Override
+	public void prepare() {
+		if ( dirtyPathsByEntity.isEmpty() ) {
+			return;
+		}
+		String tenantId = session.getTenantIdentifier();
+		List<OutboxEvent> events = new ArrayList<>( dirtyPathsByEntity.size() );
+		for ( Map.Entry<EntityKey, Set<String>> entry : dirtyPathsByEntity.entrySet() ) {
+			EntityKey key = entry.getKey();
+			events.add( new OutboxEvent( key.entityName, key.entityId, tenantId, entry.getValue() ) );
+		}
+		session.doWork( connection -> table.insert( connection, events ) );
+		dirtyPathsByEntity.clear();
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		prepare();
+		// Indexing will happen later, in the poller
+		return CompletableFuture.completedFuture( null );
+	}
+
+	private void recordAllDirty(EntityPersister persister, Object id, Object entity) {
+		dirtyPathsByEntity.put( toKey( persister, id, entity ), null );
+	}
+
+	private EntityKey toKey(EntityPersister persister, Object providedId, Object entity) {
+		Serializable id = providedId != null ? (Serializable) providedId : persister.getIdentifier( entity, session );
+		return new EntityKey( persister.getEntityName(), table.toEntityIdString( persister, id ) );
+	}
+
+	private static final class EntityKey {
+		private final String entityName;
+		private final String entityId;
+
+		private EntityKey(String entityName, String entityId) {
+			this.entityName = entityName;
+			this.entityId = entityId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			EntityKey other = (EntityKey) obj;
+			return entityName.equals( other.entityName ) && entityId.equals( other.entityId );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( entityName, entityId );
+		}
+	}
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.indexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * Access to the outbox table, where changes to entities are recorded
+ * as part of the transaction that changed the entities.
+ * <p>
+ * Rows are claimed by processors through optimistic updates that only succeed
+ * if the row is not claimed, or if the claim timed out,
+ * so that multiple processors, possibly on different nodes, can poll the same table.
+ */
+public class OutboxTable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int NAME_LENGTH = 255;
+	private static final int DIRTY_PATHS_LENGTH = 4000;
+	private static final int UUID_LENGTH = 36;
+	private static final String DIRTY_PATHS_SEPARATOR = ",";
+	// Cannot be confused with a path, and unlike an empty string it is not stored as null by some databases
+	private static final String NO_DIRTY_PATHS = DIRTY_PATHS_SEPARATOR;
+
+	private final String tableName;
+	private final JdbcConnectionAccess connectionAccess;
+
+	private final String createTableSql;
+	private final String insertSql;
+	private final String selectCandidatesSql;
+	private final String claimSql;
+	private final String selectClaimedSql;
+	private final String deleteClaimedSql;
+
+	public OutboxTable(String tableName, Dialect dialect, JdbcConnectionAccess connectionAccess) {
+		this.tableName = tableName;
+		this.connectionAccess = connectionAccess;
+
+		String uuidType = dialect.getTypeName( Types.VARCHAR, UUID_LENGTH, 0, 0 );
+		String nameType = dialect.getTypeName( Types.VARCHAR, NAME_LENGTH, 0, 0 );
+		String longType = dialect.getTypeName( Types.BIGINT );
+		this.createTableSql = dialect.getCreateTableString() + " " + tableName + " ("
+				+ "ID " + uuidType + " not null, "
+				+ "ENTITY_NAME " + nameType + " not null, "
+				+ "ENTITY_ID " + nameType + " not null, "
+				+ "TENANT_ID " + nameType + ", "
+				+ "DIRTY_PATHS " + dialect.getTypeName( Types.VARCHAR, DIRTY_PATHS_LENGTH, 0, 0 ) + ", "
+				+ "CREATED " + longType + " not null, "
+				+ "PROCESSOR " + uuidType + ", "
+				+ "CLAIMED " + longType + ", "
+				+ "primary key (ID))"
+				+ dialect.getTableTypeString();
+		this.insertSql = "insert into " + tableName
+				+ " (ID, ENTITY_NAME, ENTITY_ID, TENANT_ID, DIRTY_PATHS, CREATED) values (?, ?, ?, ?, ?, ?)";
+		this.selectCandidatesSql = "select ID from " + tableName
+				+ " where PROCESSOR is null or CLAIMED < ? order by CREATED";
+		this.claimSql = "update " + tableName + " set PROCESSOR = ?, CLAIMED = ?"
+				+ " where ID = ? and (PROCESSOR is null or CLAIMED < ?)";
+		this.selectClaimedSql = "select ENTITY_NAME, ENTITY_ID, TENANT_ID, DIRTY_PATHS from " + tableName
+				+ " where PROCESSOR = ?";
+		this.deleteClaimedSql = "delete from " + tableName + " where PROCESSOR = ?";
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "tableName=" ).append( tableName )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * Create the outbox table if it does not exist yet.
+	 */
+	public void createIfMissing() {
+		inTransaction( connection -> {
+			if ( !exists( connection ) ) {
+				try ( Statement statement = connection.createStatement() ) {
+					statement.executeUpdate( createTableSql );
+				}
+			}
+			return null;
+		} );
+	}
+
+	/**
+	 * @param entityPersister The persister of the entity.
+	 * @param id The identifier of the entity.
+	 * @return The string representation of the identifier, to be stored in the outbox table.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" }) // The identifier type is the type of the identifier
+	String toEntityIdString(EntityPersister entityPersister, Serializable id) {
+		return ( (StringRepresentableType) getStringRepresentableIdentifierType( entityPersister ) ).toString( id );
+	}
+
+	Serializable fromEntityIdString(EntityPersister entityPersister, String idString) {
+		return (Serializable) getStringRepresentableIdentifierType( entityPersister ).fromStringValue( idString );
+	}
+
+	/**
+	 * Record changes in the outbox table, using the given connection so as to be part of the current transaction.
+	 *
+	 * @param connection The connection of the session that changed the entities.
+	 * @param events The changes to record.
+	 * @throws SQLException If inserting rows fails.
+	 */
+	void insert(Connection connection, Collection<OutboxEvent> events) throws SQLException {
+		long now = System.currentTimeMillis();
+		try ( PreparedStatement statement = connection.prepareStatement( insertSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, UUID.randomUUID().toString() );
+				statement.setString( 2, event.entityName );
+				statement.setString( 3, event.entityId );
+				statement.setString( 4, event.tenantId );
+				statement.setString( 5, toDirtyPathsString( event.dirtyPaths ) );
+				statement.setLong( 6, now );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * Claim rows that are not claimed yet, or whose claim timed out, in a dedicated transaction.
+	 *
+	 * @param processorId The identifier of the processor, unique for each call.
+	 * @param maxCount The maximum number of rows to claim.
+	 * @param claimTimeout The delay after which claimed rows can be claimed again.
+	 * @return The changes recorded in the claimed rows.
+	 */
+	List<OutboxEvent> claim(String processorId, int maxCount, long claimTimeout) {
+		long now = System.currentTimeMillis();
+		long expiredClaimThreshold = now - claimTimeout;
+		return inTransaction( connection -> {
+			List<String> candidateIds = new ArrayList<>();
+			try ( PreparedStatement statement = connection.prepareStatement( selectCandidatesSql ) ) {
+				statement.setMaxRows( maxCount );
+				statement.setLong( 1, expiredClaimThreshold );
+				try ( ResultSet resultSet = statement.executeQuery() ) {
+					while ( resultSet.next() ) {
+						candidateIds.add( resultSet.getString( 1 ) );
+					}
+				}
+			}
+			if ( candidateIds.isEmpty() ) {
+				return new ArrayList<>();
+			}
+
+			// Another processor may claim some of the candidates concurrently: only the first update wins
+			try ( PreparedStatement statement = connection.prepareStatement( claimSql ) ) {
+				for ( String candidateId : candidateIds ) {
+					statement.setString( 1, processorId );
+					statement.setLong( 2, now );
+					statement.setString( 3, candidateId );
+					statement.setLong( 4, expiredClaimThreshold );
+					statement.executeUpdate();
+				}
+			}
+
+			List<OutboxEvent> events = new ArrayList<>();
+			try ( PreparedStatement statement = connection.prepareStatement( selectClaimedSql ) ) {
+				statement.setString( 1, processorId );
+				try ( ResultSet resultSet = statement.executeQuery() ) {
+					while ( resultSet.next() ) {
+						events.add( new OutboxEvent(
+								resultSet.getString( 1 ), resultSet.getString( 2 ), resultSet.getString( 3 ),
+								fromDirtyPathsString( resultSet.getString( 4 ) )
+						) );
+					}
+				}
+			}
+			return events;
+		} );
+	}
+
+	/**
+	 * Delete the rows claimed by the given processor, in a dedicated transaction.
+	 * <p>
+	 * Rows that were claimed again by another processor after a claim timeout are not deleted.
+	 *
+	 * @param processorId The identifier of the processor.
+	 */
+	void deleteClaimed(String processorId) {
+		inTransaction( connection -> {
+			try ( PreparedStatement statement = connection.prepareStatement( deleteClaimedSql ) ) {
+				statement.setString( 1, processorId );
+				statement.executeUpdate();
+			}
+			return null;
+		} );
+	}
+
+	private boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// Depending on the database, unquoted identifiers may be stored in upper case, lower case or as is
+		for ( String candidateName : Arrays.asList( tableName, tableName.toUpperCase( Locale.ROOT ), tableName.toLowerCase( Locale.ROOT ) ) ) {
+			try ( ResultSet resultSet = metaData.getTables( null, null, candidateName, null ) ) {
+				if ( resultSet.next() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private <T> T inTransaction(SqlFunction<T> function) {
+		try {
+			Connection connection = connectionAccess.obtainConnection();
+			try {
+				boolean autoCommit = connection.getAutoCommit();
+				connection.setAutoCommit( false );
+				try {
+					T result = function.apply( connection );
+					connection.commit();
+					return result;
+				}
+				catch (SQLException | RuntimeException e) {
+					try {
+						connection.rollback();
+					}
+					catch (SQLException e2) {
+						e.addSuppressed( e2 );
+					}
+					throw e;
+				}
+				finally {
+					connection.setAutoCommit( autoCommit );
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException e) {
+			throw log.outboxTableAccessFailed( tableName, e );
+		}
+	}
+
+	private static StringRepresentableType<?> getStringRepresentableIdentifierType(EntityPersister entityPersister) {
+		Type identifierType = entityPersister.getIdentifierType();
+		if ( !( identifierType instanceof StringRepresentableType ) ) {
+			throw log.outboxUnsupportedIdentifierType( entityPersister.getEntityName(), identifierType.getName() );
+		}
+		return (StringRepresentableType<?>) identifierType;
+	}
+
+	private static String toDirtyPathsString(Set<String> dirtyPaths) {
+		if ( dirtyPaths == null ) {
+			return null;
+		}
+		if ( dirtyPaths.isEmpty() ) {
+			return NO_DIRTY_PATHS;
+		}
+		String result = String.join( DIRTY_PATHS_SEPARATOR, dirtyPaths );
+		// Too many paths to store: consider the whole entity dirty.
+		// Depending on the database, the column length is in characters or bytes: assume the worst.
+		return result.getBytes( StandardCharsets.UTF_8 ).length > DIRTY_PATHS_LENGTH ? null : result;
+	}
+
+	private static Set<String> fromDirtyPathsString(String dirtyPaths) {
+		if ( dirtyPaths == null ) {
+			return null;
+		}
+		if ( NO_DIRTY_PATHS.equals( dirtyPaths ) ) {
+			return new LinkedHashSet<>();
+		}
+		return new LinkedHashSet<>( Arrays.asList( dirtyPaths.split( DIRTY_PATHS_SEPARATOR ) ) );
+	}
+
+	@FunctionalInterface
+	private interface SqlFunction<T> {
+		T apply(Connection connection) throws SQLException;
+	}
+
+}
@@ -9,10 +9,21 @@
 import java.util.Collection;
 import javax.persistence.EntityManager;
 
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+
 public interface FullTextEntityManager extends EntityManager {
 
 	<T> FullTextSearchTarget<T> search(Class<T> type);
 
 	<T> FullTextSearchTarget<T> search(Collection<? extends Class<? extends T>> types);
 
+	/**
+	 * Create a {@link MassIndexer} to rebuild the indexes of the given types from the database.
+	 *
+	 * @param types The types to reindex. Indexed subtypes are reindexed, too.
+	 * If no type is given, all indexed types are reindexed.
+	 * @return A new {@link MassIndexer}.
+	 */
+	MassIndexer createIndexer(Class<?>... types);
+
 }
@@ -6,7 +6,62 @@
  */
 package org.hibernate.search.mapper.orm.jpa;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.TypedQuery;
 
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
+
 public interface FullTextQuery<T> extends TypedQuery<T> {
+
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * Only available for queries that do not require loading entities,
+	 * i.e. queries returning projections that do not include
+	 * {@link org.hibernate.search.engine.search.ProjectionConstants#OBJECT}:
+	 * entities cannot be loaded asynchronously, since sessions are not thread-safe.
+	 *
+	 * @return A future that will be completed with the query results.
+	 * @throws org.hibernate.search.util.SearchException If this query requires loading entities.
+	 */
+	CompletableFuture<List<T>> getResultListAsync();
+
+	/**
+	 * Set the strategy to use to look up entities in caches before querying the database when loading hits.
+	 * <p>
+	 * Defaults to the value of {@link org.hibernate.search.mapper.orm.cfg.SearchOrmSettings#QUERY_LOADING_CACHE_LOOKUP_STRATEGY}.
+	 *
+	 * @param cacheLookupStrategy The cache lookup strategy.
+	 * @return {@code this}, for method chaining.
+	 */
+	FullTextQuery<T> setCacheLookupStrategy(CacheLookupStrategyConfiguration cacheLookupStrategy);
+
+	/**
+	 * Stop the query and throw a {@link org.hibernate.search.util.SearchTimeoutException}
+	 * if it takes longer than the given timeout to execute.
+	 * <p>
+	 * The timeout only applies to the execution of the full-text query, not to the loading of entities.
+	 *
+	 * @param timeout The timeout, or {@code 0} for no timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @return {@code this}, for method chaining.
+	 * @see org.hibernate.search.engine.search.SearchQuery#failAfter(long, TimeUnit)
+	 */
+	FullTextQuery<T> failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop the query and return the hits found so far
+	 * if it takes longer than the given timeout to execute.
+	 * <p>
+	 * The timeout only applies to the execution of the full-text query, not to the loading of entities.
+	 *
+	 * @param timeout The timeout, or {@code 0} for no timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @return {@code this}, for method chaining.
+	 * @see org.hibernate.search.engine.search.SearchQuery#truncateAfter(long, TimeUnit)
+	 */
+	FullTextQuery<T> truncateAfter(long timeout, TimeUnit timeUnit);
+
 }
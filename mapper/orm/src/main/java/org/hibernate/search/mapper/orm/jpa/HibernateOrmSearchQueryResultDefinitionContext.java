@@ -32,4 +32,22 @@ <T> SearchQueryResultContext<? extends FullTextQuery<T>> asProjections(
 			Function<List<?>, T> hitTransformer,
 			String... projections);
 
+	/**
+	 * Define the query results as instances of the given type,
+	 * created by passing the given projections to the constructor of that type, in order.
+	 * <p>
+	 * Unless {@link org.hibernate.search.engine.search.ProjectionConstants#OBJECT} is requested,
+	 * no entity is loaded and the database is not accessed.
+	 *
+	 * @param projectionType The type of query results, declaring exactly one constructor
+	 * accepting as many parameters as there are projections.
+	 * @param projections The projections to pass to the constructor.
+	 * @param <T> The type of query results.
+	 * @return The next context.
+	 * @see org.hibernate.search.engine.search.dsl.query.SearchQueryResultDefinitionContext#asProjections(Class, String...)
+	 */
+	<T> SearchQueryResultContext<? extends FullTextQuery<T>> asProjections(
+			Class<T> projectionType,
+			String... projections);
+
 }
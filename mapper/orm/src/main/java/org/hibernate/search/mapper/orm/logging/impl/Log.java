@@ -101,4 +101,81 @@ SearchException invalidContainerValueExtractorForDirtyChecking(Class<?> ormMappi
 			value = "Unable to find a readable property '%2$s' on type '%1$s'.")
 	SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.class) PojoRawTypeModel<?> typeModel,
 			String propertyName);
+
+	@Message(id = ID_OFFSET_2 + 11,
+			value = "Cannot use scrollable results after they have been closed.")
+	SearchException scrollableResultsClosed();
+
+	@Message(id = ID_OFFSET_2 + 12,
+			value = "Scrollable results are not positioned on a row. Call next() to move to the next row.")
+	SearchException scrollableResultsNotPositionedOnRow();
+
+	@Message(id = ID_OFFSET_2 + 13,
+			value = "Cannot execute a query asynchronously when it loads entities, because sessions are not thread-safe."
+					+ " Either execute the query synchronously, or only use projections that do not require loading entities.")
+	SearchException cannotExecuteAsyncQueryLoadingEntities();
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 14,
+			value = "Mass indexing is going to index %1$d entities.")
+	void indexingEntities(long count);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 15,
+			value = "Mass indexing progress: %1$d documents added in %2$d ms, %3$.2f documents/second, %4$.2f%% done.")
+	void indexingProgress(long doneCount, long elapsedMs, float speed, float percentDone);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 16,
+			value = "Mass indexing complete: %1$d documents added.")
+	void indexingCompleted(long doneCount);
+
+	@Message(id = ID_OFFSET_2 + 17,
+			value = "Mass indexing failed while indexing entities of type '%1$s'.")
+	SearchException massIndexingFailed(String entityName, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 18,
+			value = "Mass indexing was cancelled.")
+	SearchException massIndexingCancelled();
+
+	@Message(id = ID_OFFSET_2 + 19,
+			value = "Unknown queue full policy: %1$s")
+	SearchException unknownQueueFullPolicy(String queueFullPolicy);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 20,
+			value = "Failed to apply changes to the indexes after a transaction was committed."
+					+ " The indexes may be out of sync with the database.")
+	void asyncIndexingFailed(@Cause Throwable throwable);
+
+	@Message(id = ID_OFFSET_2 + 21,
+			value = "Cannot record changes to entity '%1$s' in the outbox table:"
+					+ " identifiers of type '%2$s' cannot be converted to a string.")
+	SearchException outboxUnsupportedIdentifierType(String entityName, String identifierTypeName);
+
+	@Message(id = ID_OFFSET_2 + 22,
+			value = "Unable to access the outbox table '%1$s'.")
+	SearchException outboxTableAccessFailed(String tableName, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 23,
+			value = "Failed to apply changes from the outbox table to the indexes."
+					+ " The changes will be processed again after the claim timeout.")
+	void outboxProcessingFailed(@Cause Throwable throwable);
+
+	@Message(id = ID_OFFSET_2 + 24,
+			value = "Unknown cache lookup strategy: %1$s")
+	SearchException unknownCacheLookupStrategy(String cacheLookupStrategy);
+
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Unknown property accessor strategy: %1$s")
+	SearchException unknownPropertyAccessorStrategy(String propertyAccessorStrategy);
+
+	@Message(id = ID_OFFSET_2 + 26,
+			value = "Mass indexing failed: %1$s")
+	SearchException massIndexingFailedUnexpectedly(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 27,
+			value = "Invalid value for '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidNonPositiveConfigurationValue(String propertyKey, Number value);
 }
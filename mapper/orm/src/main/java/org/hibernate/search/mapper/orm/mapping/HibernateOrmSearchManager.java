@@ -10,6 +10,7 @@
 import java.util.Collections;
 
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
 
 public interface HibernateOrmSearchManager extends PojoSearchManager {
@@ -22,4 +23,13 @@ default <T> HibernateOrmSearchTarget<T> search(Class<T> targetedType) {
 	@Override
 	<T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? extends T>> targetedTypes);
 
+	/**
+	 * Create a {@link MassIndexer} to rebuild the indexes of the given types from the database.
+	 *
+	 * @param types The types to reindex. Indexed subtypes are reindexed, too.
+	 * If no type is given, all indexed types are reindexed.
+	 * @return A new {@link MassIndexer}.
+	 */
+	MassIndexer createIndexer(Class<?>... types);
+
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorTypeNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 final class HibernateOrmEntityTypeMetadataContributor implements PojoTypeMetadataContributor {
 
@@ -24,7 +25,8 @@ final class HibernateOrmEntityTypeMetadataContributor implements PojoTypeMetadat
 
 	@Override
 	public void contributeModel(PojoAdditionalMetadataCollectorTypeNode collector) {
-		collector.markAsEntity( new HibernateOrmPathFilterFactory( persistentClass ) )
+		PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+		collector.markAsEntity( new HibernateOrmPathFilterFactory( persistentClass, pathOrdinals ), pathOrdinals )
 				.entityIdPropertyName( idPropertyName );
 	}
 
@@ -8,13 +8,22 @@
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingFactory;
 
 public final class HibernateOrmMappingFactory implements PojoMappingFactory<HibernateOrmMapping> {
 
+	private static final ConfigurationProperty<CacheLookupStrategyConfiguration> QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
+					.as( CacheLookupStrategyConfiguration.class, CacheLookupStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchOrmSettings.Defaults.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
+					.build();
+
 	private final SessionFactoryImplementor sessionFactoryImplementor;
 
 	public HibernateOrmMappingFactory(SessionFactoryImplementor sessionFactoryImplementor) {
@@ -24,6 +33,9 @@ public HibernateOrmMappingFactory(SessionFactoryImplementor sessionFactoryImplem
 	@Override
 	public MappingImplementor<HibernateOrmMapping> createMapping(ConfigurationPropertySource propertySource,
 			PojoMappingDelegate mappingDelegate) {
-		return new HibernateOrmMappingImpl( mappingDelegate, sessionFactoryImplementor );
+		return new HibernateOrmMappingImpl(
+				mappingDelegate, sessionFactoryImplementor,
+				QUERY_LOADING_CACHE_LOOKUP_STRATEGY.get( propertySource )
+		);
 	}
 }
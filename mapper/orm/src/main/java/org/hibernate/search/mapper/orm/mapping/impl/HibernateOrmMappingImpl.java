@@ -11,6 +11,7 @@
 import org.hibernate.Hibernate;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManagerBuilder;
@@ -21,10 +22,13 @@ public class HibernateOrmMappingImpl extends PojoMappingImpl<HibernateOrmMapping
 		implements HibernateOrmMapping {
 
 	private final SessionFactoryImplementor sessionFactoryImplementor;
+	private final CacheLookupStrategyConfiguration cacheLookupStrategy;
 
-	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor) {
+	HibernateOrmMappingImpl(PojoMappingDelegate mappingDelegate, SessionFactoryImplementor sessionFactoryImplementor,
+			CacheLookupStrategyConfiguration cacheLookupStrategy) {
 		super( mappingDelegate );
 		this.sessionFactoryImplementor = sessionFactoryImplementor;
+		this.cacheLookupStrategy = cacheLookupStrategy;
 	}
 
 	@Override
@@ -50,6 +54,6 @@ public boolean isWorkable(Object entity) {
 	private HibernateOrmSearchManagerBuilder createSearchManagerBuilder(EntityManager entityManager) {
 		SessionImplementor sessionImplementor = entityManager.unwrap( SessionImplementor.class );
 		// TODO check that the session refers to the same session factory used when building the mapping
-		return new HibernateOrmSearchManagerImpl.Builder( getDelegate(), sessionImplementor );
+		return new HibernateOrmSearchManagerImpl.Builder( getDelegate(), sessionImplementor, cacheLookupStrategy );
 	}
 }
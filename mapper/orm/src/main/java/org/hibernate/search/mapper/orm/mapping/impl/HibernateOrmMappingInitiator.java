@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -20,6 +21,7 @@
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingBuildContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
+import org.hibernate.search.mapper.orm.cfg.PropertyAccessorStrategyConfiguration;
 import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMappingDefinitionContainerContext;
@@ -28,6 +30,9 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingDefinitionContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingInitiatorImpl;
+import org.hibernate.search.mapper.pojo.model.spi.JavaLambdaPropertyHandleFactory;
+import org.hibernate.search.mapper.pojo.model.spi.MethodHandlePropertyHandleFactory;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
 import org.hibernate.search.util.impl.common.StreamHelper;
 
 /*
@@ -45,10 +50,26 @@ public class HibernateOrmMappingInitiator extends PojoMappingInitiatorImpl<Hiber
 					.withDefault( SearchOrmSettings.Defaults.ENABLE_ANNOTATION_MAPPING )
 					.build();
 
+	private static final ConfigurationProperty<PropertyAccessorStrategyConfiguration> PROPERTY_ACCESSOR_STRATEGY =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.PROPERTY_ACCESSOR_STRATEGY )
+					.as( PropertyAccessorStrategyConfiguration.class, PropertyAccessorStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchOrmSettings.Defaults.PROPERTY_ACCESSOR_STRATEGY )
+					.build();
+
 	public static HibernateOrmMappingInitiator create(Metadata metadata,
-			SessionFactoryImplementor sessionFactoryImplementor) {
+			SessionFactoryImplementor sessionFactoryImplementor, ConfigurationPropertySource propertySource) {
+		Function<MethodHandles.Lookup, PropertyHandleFactory> propertyHandleFactoryCreator;
+		switch ( PROPERTY_ACCESSOR_STRATEGY.get( propertySource ) ) {
+			case LAMBDA:
+				propertyHandleFactoryCreator = JavaLambdaPropertyHandleFactory::new;
+				break;
+			case METHOD_HANDLE:
+			default:
+				propertyHandleFactoryCreator = MethodHandlePropertyHandleFactory::new;
+				break;
+		}
 		HibernateOrmBootstrapIntrospector introspector =
-				new HibernateOrmBootstrapIntrospector( metadata, sessionFactoryImplementor );
+				new HibernateOrmBootstrapIntrospector( metadata, sessionFactoryImplementor, propertyHandleFactoryCreator );
 
 		return new HibernateOrmMappingInitiator(
 				metadata,
@@ -6,15 +6,21 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManagerBuilder;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.impl.MassIndexerImpl;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospector;
 import org.hibernate.search.mapper.orm.search.impl.HibernateOrmSearchTargetImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchManagerImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -22,26 +28,43 @@
 class HibernateOrmSearchManagerImpl extends PojoSearchManagerImpl
 		implements HibernateOrmSearchManager {
 	private final SessionImplementor sessionImplementor;
+	private final CacheLookupStrategyConfiguration cacheLookupStrategy;
 
 	private HibernateOrmSearchManagerImpl(Builder builder) {
 		super( builder );
 		this.sessionImplementor = builder.sessionImplementor;
+		this.cacheLookupStrategy = builder.cacheLookupStrategy;
 	}
 
 	@Override
 	public <T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? extends T>> targetedTypes) {
 		PojoSearchTargetDelegate<T> searchTargetDelegate = getMappingDelegate()
 				.createPojoSearchTarget( targetedTypes, getSessionContext() );
-		return new HibernateOrmSearchTargetImpl<>( searchTargetDelegate, sessionImplementor );
+		return new HibernateOrmSearchTargetImpl<>( searchTargetDelegate, sessionImplementor, cacheLookupStrategy );
+	}
+
+	@Override
+	public MassIndexer createIndexer(Class<?>... types) {
+		Collection<? extends Class<?>> targetedTypes = types.length == 0
+				? Collections.singleton( Object.class )
+				: Arrays.asList( types );
+		PojoScopeWorkExecutor scopeWorkExecutor = getMappingDelegate().createScopeWorkExecutor( targetedTypes );
+		return new MassIndexerImpl(
+				sessionImplementor.getFactory(), getMappingDelegate(),
+				sessionImplementor.getTenantIdentifier(), scopeWorkExecutor
+		);
 	}
 
 	static class Builder extends AbstractBuilder<HibernateOrmSearchManager>
 			implements HibernateOrmSearchManagerBuilder {
 		private final SessionImplementor sessionImplementor;
+		private final CacheLookupStrategyConfiguration cacheLookupStrategy;
 
-		public Builder(PojoMappingDelegate mappingDelegate, SessionImplementor sessionImplementor) {
+		public Builder(PojoMappingDelegate mappingDelegate, SessionImplementor sessionImplementor,
+				CacheLookupStrategyConfiguration cacheLookupStrategy) {
 			super( mappingDelegate );
 			this.sessionImplementor = sessionImplementor;
+			this.cacheLookupStrategy = cacheLookupStrategy;
 		}
 
 		@Override
@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A tool to rebuild the indexes of some or all indexed entity types from the database.
+ * <p>
+ * Entities are indexed through a pipeline of threads:
+ * for each entity type, one thread loads entity identifiers from the database,
+ * {@link #threadsToLoadObjects(int) several threads} load the corresponding entities in batches,
+ * and {@link #threadsToBuildDocuments(int) several threads} build documents from these entities
+ * and stream them to the backends.
+ * Several entity types may be indexed {@link #typesToIndexInParallel(int) in parallel}.
+ * <p>
+ * Documents are streamed to the backends directly, without going through transactional work plans,
+ * and only committed or refreshed once at the end of mass indexing.
+ * <p>
+ * The mass indexer only adds documents to the indexes:
+ * unless {@link #purgeAllOnStart(boolean) the indexes are purged on start},
+ * it should only be used on empty indexes.
+ */
+public interface MassIndexer {
+
+	/**
+	 * @param typesToIndexInParallel The number of entity types to index in parallel.
+	 * Each type uses its own identifier loading, entity loading and document building threads.
+	 * Defaults to {@code 1}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer typesToIndexInParallel(int typesToIndexInParallel);
+
+	/**
+	 * @param threadsToLoadObjects The number of threads loading entities, for each entity type.
+	 * Defaults to {@code 6}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer threadsToLoadObjects(int threadsToLoadObjects);
+
+	/**
+	 * @param threadsToBuildDocuments The number of threads building documents from loaded entities,
+	 * for each entity type.
+	 * Lazy associations are initialized from these threads, so this is only useful if the document building
+	 * involves loading data from the database, or if the mapping is CPU-intensive.
+	 * Defaults to {@code 2}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer threadsToBuildDocuments(int threadsToBuildDocuments);
+
+	/**
+	 * @param batchSizeToLoadObjects The number of entities to load in each batch,
+	 * i.e. in each session and each call to {@link org.hibernate.Session#byMultipleIds(Class)}.
+	 * Defaults to {@code 10}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer batchSizeToLoadObjects(int batchSizeToLoadObjects);
+
+	/**
+	 * @param idFetchSize The fetch size of the JDBC result set used to load identifiers.
+	 * Defaults to {@code 100}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer idFetchSize(int idFetchSize);
+
+	/**
+	 * @param purgeAllOnStart Whether all documents should be removed from the indexes before indexing starts.
+	 * Defaults to {@code true}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer purgeAllOnStart(boolean purgeAllOnStart);
+
+	/**
+	 * @param optimizeAfterPurge Whether the indexes should be optimized after they have been purged.
+	 * Ignored if indexes are not purged on start.
+	 * Defaults to {@code true}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer optimizeAfterPurge(boolean optimizeAfterPurge);
+
+	/**
+	 * @param optimizeOnFinish Whether the indexes should be optimized after all documents have been added.
+	 * Defaults to {@code true}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer optimizeOnFinish(boolean optimizeOnFinish);
+
+	/**
+	 * @param monitor The monitor to notify of the mass indexing progress.
+	 * Defaults to a monitor logging the progress periodically.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer monitor(MassIndexingMonitor monitor);
+
+	/**
+	 * Start mass indexing in background threads.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when mass indexing is complete,
+	 * or completed exceptionally if it failed.
+	 * {@link CompletableFuture#cancel(boolean) Cancelling} this future will cancel mass indexing:
+	 * batches that are already being processed will complete, but no new batch will be started.
+	 */
+	CompletableFuture<?> start();
+
+	/**
+	 * Start mass indexing and wait for it to complete.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 * Mass indexing is then cancelled.
+	 */
+	void startAndWait() throws InterruptedException;
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+/**
+ * A component notified of the progress of mass indexing.
+ * <p>
+ * Implementations must be thread-safe: methods will be called concurrently from multiple threads.
+ */
+public interface MassIndexingMonitor {
+
+	/**
+	 * Notify the monitor that entities will be indexed.
+	 * <p>
+	 * Called once for each indexed entity type, before its entities start being loaded.
+	 *
+	 * @param count The number of entities of the entity type about to be indexed.
+	 */
+	void addToTotalCount(long count);
+
+	/**
+	 * Notify the monitor that entities have been loaded from the database.
+	 *
+	 * @param count The number of entities loaded since the last call.
+	 */
+	void entitiesLoaded(int count);
+
+	/**
+	 * Notify the monitor that documents have been built and submitted to the backends.
+	 *
+	 * @param count The number of documents built since the last call.
+	 */
+	void documentsBuilt(int count);
+
+	/**
+	 * Notify the monitor that documents have been added to the indexes.
+	 *
+	 * @param count The number of documents added since the last call.
+	 */
+	void documentsAdded(long count);
+
+	/**
+	 * Notify the monitor that mass indexing is complete,
+	 * i.e. that all documents have been added and the indexes have been flushed.
+	 */
+	void indexingCompleted();
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A very simple implementation of {@link MassIndexingMonitor} which
+ * logs the progress and speed of mass indexing at INFO level, every {@code logAfterNumberOfDocuments} documents.
+ */
+class LoggingMassIndexingMonitor implements MassIndexingMonitor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final AtomicLong documentsDoneCounter = new AtomicLong();
+	private final AtomicLong totalCounter = new AtomicLong();
+	private final int logAfterNumberOfDocuments;
+	private final long startTime;
+
+	LoggingMassIndexingMonitor() {
+		this( 50 );
+	}
+
+	LoggingMassIndexingMonitor(int logAfterNumberOfDocuments) {
+		this.logAfterNumberOfDocuments = logAfterNumberOfDocuments;
+		this.startTime = System.nanoTime();
+	}
+
+	@Override
+	public void addToTotalCount(long count) {
+		totalCounter.addAndGet( count );
+		log.indexingEntities( count );
+	}
+
+	@Override
+	public void entitiesLoaded(int count) {
+		// Not used
+	}
+
+	@Override
+	public void documentsBuilt(int count) {
+		// Not used
+	}
+
+	@Override
+	public void documentsAdded(long count) {
+		long previous = documentsDoneCounter.getAndAdd( count );
+		long current = previous + count;
+		// Log whenever we cross a multiple of logAfterNumberOfDocuments
+		if ( current / logAfterNumberOfDocuments != previous / logAfterNumberOfDocuments ) {
+			printStatusMessage( current );
+		}
+	}
+
+	@Override
+	public void indexingCompleted() {
+		log.indexingCompleted( documentsDoneCounter.get() );
+	}
+
+	private void printStatusMessage(long doneCount) {
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+		long totalCount = totalCounter.get();
+		float speed = elapsedMs == 0L ? 0f : doneCount * 1000f / elapsedMs;
+		float percentDone = totalCount == 0L ? 100f : doneCount * 100f / totalCount;
+		log.indexingProgress( doneCount, elapsedMs, speed, percentDone );
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.Executors;
+
+public class MassIndexerImpl implements MassIndexer {
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final PojoMappingDelegate mappingDelegate;
+	private final String tenantId;
+	private final PojoScopeWorkExecutor scopeWorkExecutor;
+
+	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
+	private int threadsToBuildDocuments = 2;
+	private int batchSizeToLoadObjects = 10;
+	private int idFetchSize = 100;
+	private boolean purgeAllOnStart = true;
+	private boolean optimizeAfterPurge = true;
+	private boolean optimizeOnFinish = true;
+	private MassIndexingMonitor monitor;
+
+	public MassIndexerImpl(SessionFactoryImplementor sessionFactory, PojoMappingDelegate mappingDelegate,
+			String tenantId, PojoScopeWorkExecutor scopeWorkExecutor) {
+		this.sessionFactory = sessionFactory;
+		this.mappingDelegate = mappingDelegate;
+		this.tenantId = tenantId;
+		this.scopeWorkExecutor = scopeWorkExecutor;
+	}
+
+	@Override
+	public MassIndexer typesToIndexInParallel(int typesToIndexInParallel) {
+		Contracts.assertStrictlyPositive( typesToIndexInParallel, "typesToIndexInParallel" );
+		this.typesToIndexInParallel = typesToIndexInParallel;
+		return this;
+	}
+
+	@Override
+	public MassIndexer threadsToLoadObjects(int threadsToLoadObjects) {
+		Contracts.assertStrictlyPositive( threadsToLoadObjects, "threadsToLoadObjects" );
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		return this;
+	}
+
+	@Override
+	public MassIndexer threadsToBuildDocuments(int threadsToBuildDocuments) {
+		Contracts.assertStrictlyPositive( threadsToBuildDocuments, "threadsToBuildDocuments" );
+		this.threadsToBuildDocuments = threadsToBuildDocuments;
+		return this;
+	}
+
+	@Override
+	public MassIndexer batchSizeToLoadObjects(int batchSizeToLoadObjects) {
+		Contracts.assertStrictlyPositive( batchSizeToLoadObjects, "batchSizeToLoadObjects" );
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		return this;
+	}
+
+	@Override
+	public MassIndexer idFetchSize(int idFetchSize) {
+		Contracts.assertStrictlyPositive( idFetchSize, "idFetchSize" );
+		this.idFetchSize = idFetchSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer purgeAllOnStart(boolean purgeAllOnStart) {
+		this.purgeAllOnStart = purgeAllOnStart;
+		return this;
+	}
+
+	@Override
+	public MassIndexer optimizeAfterPurge(boolean optimizeAfterPurge) {
+		this.optimizeAfterPurge = optimizeAfterPurge;
+		return this;
+	}
+
+	@Override
+	public MassIndexer optimizeOnFinish(boolean optimizeOnFinish) {
+		this.optimizeOnFinish = optimizeOnFinish;
+		return this;
+	}
+
+	@Override
+	public MassIndexer monitor(MassIndexingMonitor monitor) {
+		this.monitor = monitor;
+		return this;
+	}
+
+	@Override
+	public CompletableFuture<?> start() {
+		return start( createCoordinator() );
+	}
+
+	@Override
+	public void startAndWait() throws InterruptedException {
+		MassIndexingBatchCoordinator coordinator = createCoordinator();
+		CompletableFuture<?> future = start( coordinator );
+		try {
+			future.get();
+		}
+		catch (InterruptedException e) {
+			coordinator.cancel();
+			throw e;
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new SearchException( cause.getMessage(), cause );
+		}
+	}
+
+	private CompletableFuture<?> start(MassIndexingBatchCoordinator coordinator) {
+		ExecutorService executor = Executors.newFixedThreadPool( 1, "Mass indexing - coordinator" );
+		try {
+			CompletableFuture<?> future = CompletableFuture.runAsync( coordinator::run, executor );
+			// Cancelling the future does not affect the task it was created from: notify the coordinator explicitly
+			future.whenComplete( (result, throwable) -> {
+				if ( throwable instanceof CancellationException ) {
+					coordinator.cancel();
+				}
+			} );
+			return future;
+		}
+		finally {
+			// The coordinator will still run: this only prevents the executor from accepting other tasks
+			executor.shutdown();
+		}
+	}
+
+	private MassIndexingBatchCoordinator createCoordinator() {
+		MassIndexingMonitor actualMonitor = monitor == null ? new LoggingMassIndexingMonitor() : monitor;
+		MassIndexingBatchCoordinator coordinator = new MassIndexingBatchCoordinator(
+				scopeWorkExecutor, tenantId, actualMonitor, typesToIndexInParallel, purgeAllOnStart, optimizeAfterPurge, optimizeOnFinish
+		);
+		MetamodelImplementor metamodel = sessionFactory.getMetamodel();
+		Set<Class<?>> targetedTypes = scopeWorkExecutor.getTargetedIndexedTypes();
+		for ( Class<?> type : targetedTypes ) {
+			if ( hasTargetedSuperType( type, targetedTypes ) ) {
+				// This type will be indexed along with its targeted supertype
+				continue;
+			}
+			EntityPersister persister = metamodel.entityPersister( type );
+			coordinator.addWorkspace( new MassIndexingTypeWorkspace(
+					coordinator, sessionFactory, mappingDelegate, tenantId, actualMonitor,
+					type, persister.getEntityName(), getIncludedTypes( metamodel, persister, targetedTypes ),
+					threadsToLoadObjects, threadsToBuildDocuments, batchSizeToLoadObjects, idFetchSize
+			) );
+		}
+		return coordinator;
+	}
+
+	private static boolean hasTargetedSuperType(Class<?> type, Set<Class<?>> targetedTypes) {
+		for ( Class<?> otherType : targetedTypes ) {
+			if ( !otherType.equals( type ) && otherType.isAssignableFrom( type ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The types to restrict loading to,
+	 * or {@code null} if all entity subtypes of the given persister's type are targeted.
+	 */
+	private static Set<Class<?>> getIncludedTypes(MetamodelImplementor metamodel, EntityPersister persister,
+			Set<Class<?>> targetedTypes) {
+		Set<Class<?>> includedTypes = new HashSet<>();
+		boolean restricted = false;
+		for ( Object subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+			Class<?> subclass = metamodel.entityPersister( (String) subclassEntityName ).getMappedClass();
+			if ( targetedTypes.contains( subclass ) ) {
+				includedTypes.add( subclass );
+			}
+			else {
+				restricted = true;
+			}
+		}
+		return restricted ? includedTypes : null;
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Coordinates mass indexing as a whole:
+ * purges the indexes, runs the workspace of each type, then flushes and optimizes the indexes.
+ */
+class MassIndexingBatchCoordinator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoScopeWorkExecutor scopeWorkExecutor;
+	private final String tenantId;
+	private final MassIndexingMonitor monitor;
+	private final int typesToIndexInParallel;
+	private final boolean purgeAllOnStart;
+	private final boolean optimizeAfterPurge;
+	private final boolean optimizeOnFinish;
+
+	private final List<MassIndexingTypeWorkspace> workspaces = new ArrayList<>();
+
+	private volatile boolean cancelled = false;
+
+	MassIndexingBatchCoordinator(PojoScopeWorkExecutor scopeWorkExecutor, String tenantId,
+			MassIndexingMonitor monitor, int typesToIndexInParallel,
+			boolean purgeAllOnStart, boolean optimizeAfterPurge, boolean optimizeOnFinish) {
+		this.scopeWorkExecutor = scopeWorkExecutor;
+		this.tenantId = tenantId;
+		this.monitor = monitor;
+		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.purgeAllOnStart = purgeAllOnStart;
+		this.optimizeAfterPurge = optimizeAfterPurge;
+		this.optimizeOnFinish = optimizeOnFinish;
+	}
+
+	void addWorkspace(MassIndexingTypeWorkspace workspace) {
+		workspaces.add( workspace );
+	}
+
+	boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Request the cancellation of mass indexing.
+	 * <p>
+	 * Batches that are already being loaded or indexed will still be processed,
+	 * but no new batch will be started.
+	 */
+	void cancel() {
+		cancelled = true;
+	}
+
+	void run() {
+		scopeWorkExecutor.beginMassIndexing();
+		try {
+			if ( purgeAllOnStart ) {
+				scopeWorkExecutor.purge( tenantId ).join();
+				if ( optimizeAfterPurge ) {
+					scopeWorkExecutor.optimize().join();
+				}
+			}
+
+			indexAllTypes();
+
+			if ( cancelled ) {
+				throw log.massIndexingCancelled();
+			}
+
+			scopeWorkExecutor.flush().join();
+			if ( optimizeOnFinish ) {
+				scopeWorkExecutor.optimize().join();
+			}
+		}
+		finally {
+			// Indexes must switch back to their regular settings even if mass indexing was cancelled or failed
+			scopeWorkExecutor.endMassIndexing();
+		}
+		monitor.indexingCompleted();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "workspaces=" ).append( workspaces )
+				.append( ", typesToIndexInParallel=" ).append( typesToIndexInParallel )
+				.append( "]" )
+				.toString();
+	}
+
+	private void indexAllTypes() {
+		ThreadPoolExecutor executor = Executors.newFixedThreadPool(
+				typesToIndexInParallel, "Mass indexing - identifier loading"
+		);
+		try {
+			List<Future<?>> futures = new ArrayList<>( workspaces.size() );
+			for ( MassIndexingTypeWorkspace workspace : workspaces ) {
+				futures.add( executor.submit( workspace::index ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			cancel();
+			Thread.currentThread().interrupt();
+			throw log.massIndexingCancelled();
+		}
+		catch (ExecutionException e) {
+			// Let the other types stop as soon as possible
+			cancel();
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw log.massIndexingFailedUnexpectedly( cause.getMessage(), cause );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+
+/**
+ * The session context for documents built from a session opened by the mass indexer.
+ */
+class MassIndexingSessionContext implements PojoSessionContext {
+
+	private final SessionImplementor sessionImplementor;
+	private final PojoRuntimeIntrospector runtimeIntrospector;
+
+	MassIndexingSessionContext(SessionImplementor sessionImplementor) {
+		this.sessionImplementor = sessionImplementor;
+		this.runtimeIntrospector = new HibernateOrmRuntimeIntrospector( sessionImplementor );
+	}
+
+	@Override
+	public String getTenantIdentifier() {
+		return sessionImplementor.getTenantIdentifier();
+	}
+
+	@Override
+	public PojoRuntimeIntrospector getRuntimeIntrospector() {
+		return runtimeIntrospector;
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * The mass indexing pipeline for a single entity type and its indexed subtypes.
+ * <p>
+ * The calling thread loads identifiers and groups them in batches,
+ * each batch is loaded in its own session by an entity loading thread,
+ * then handed over, along with its session, to a document building thread.
+ * Queues between these steps are bounded, so that faster steps wait for slower ones
+ * instead of holding more and more batches in memory.
+ */
+class MassIndexingTypeWorkspace {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final MassIndexingBatchCoordinator coordinator;
+	private final SessionFactoryImplementor sessionFactory;
+	private final PojoMappingDelegate mappingDelegate;
+	private final String tenantId;
+	private final MassIndexingMonitor monitor;
+
+	private final Class<?> entityType;
+	private final String entityName;
+	private final Set<Class<?>> includedTypes;
+
+	private final int threadsToLoadObjects;
+	private final int threadsToBuildDocuments;
+	private final int batchSizeToLoadObjects;
+	private final int idFetchSize;
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	// Protected by synchronization on this
+	private int batchesInProgress = 0;
+
+	/**
+	 * @param entityType The entity type to index. Indexed subtypes are indexed, too.
+	 * @param entityName The entity name of {@code entityType}.
+	 * @param includedTypes The types to restrict loading to,
+	 * or {@code null} if all the entity subtypes of {@code entityType} should be indexed.
+	 */
+	MassIndexingTypeWorkspace(MassIndexingBatchCoordinator coordinator,
+			SessionFactoryImplementor sessionFactory, PojoMappingDelegate mappingDelegate,
+			String tenantId, MassIndexingMonitor monitor,
+			Class<?> entityType, String entityName, Set<Class<?>> includedTypes,
+			int threadsToLoadObjects, int threadsToBuildDocuments, int batchSizeToLoadObjects, int idFetchSize) {
+		this.coordinator = coordinator;
+		this.sessionFactory = sessionFactory;
+		this.mappingDelegate = mappingDelegate;
+		this.tenantId = tenantId;
+		this.monitor = monitor;
+		this.entityType = entityType;
+		this.entityName = entityName;
+		this.includedTypes = includedTypes;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.threadsToBuildDocuments = threadsToBuildDocuments;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.idFetchSize = idFetchSize;
+	}
+
+	void index() {
+		ThreadPoolExecutor loadingExecutor = Executors.newFixedThreadPool(
+				threadsToLoadObjects, "Mass indexing - entity loading - " + entityName,
+				threadsToLoadObjects
+		);
+		/*
+		 * When all document building threads are busy,
+		 * have the entity loading thread build documents itself rather than loading more entities.
+		 */
+		ThreadPoolExecutor buildingExecutor = Executors.newFixedThreadPool(
+				threadsToBuildDocuments, "Mass indexing - document building - " + entityName,
+				threadsToBuildDocuments, new ThreadPoolExecutor.CallerRunsPolicy()
+		);
+		try {
+			monitor.addToTotalCount( countEntities() );
+
+			loadIdentifiers( batch -> loadingExecutor.execute( () -> loadEntities( batch, buildingExecutor ) ) );
+
+			// Entity loading threads submit work to document building threads: shut them down first
+			loadingExecutor.shutdown();
+			loadingExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+			buildingExecutor.shutdown();
+			buildingExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+			awaitBatchCompletion();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail( log.massIndexingCancelled() );
+		}
+		catch (RuntimeException e) {
+			fail( e );
+		}
+		finally {
+			loadingExecutor.shutdownNow();
+			buildingExecutor.shutdownNow();
+		}
+
+		Throwable throwable = failure.get();
+		if ( throwable != null ) {
+			throw log.massIndexingFailed( entityName, throwable );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "entityName=" ).append( entityName )
+				.append( ", includedTypes=" ).append( includedTypes )
+				.append( "]" )
+				.toString();
+	}
+
+	private long countEntities() {
+		try ( StatelessSession session = openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				Query<Long> query = createQuery( session, "select count(e)", Long.class );
+				long count = query.uniqueResult();
+				transaction.commit();
+				return count;
+			}
+			catch (RuntimeException e) {
+				rollbackQuietly( transaction, e );
+				throw e;
+			}
+		}
+	}
+
+	private void loadIdentifiers(BatchConsumer batchConsumer) {
+		try ( StatelessSession session = openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				/*
+				 * "id" is a special property in HQL,
+				 * always referring to the identifier regardless of the name of the identifier property.
+				 */
+				Query<Serializable> query = createQuery( session, "select e.id", Serializable.class );
+				query.setFetchSize( idFetchSize );
+				try ( ScrollableResults results = query.scroll( ScrollMode.FORWARD_ONLY ) ) {
+					List<Serializable> batch = new ArrayList<>( batchSizeToLoadObjects );
+					while ( !isStopped() && results.next() ) {
+						batch.add( (Serializable) results.get( 0 ) );
+						if ( batch.size() >= batchSizeToLoadObjects ) {
+							batchConsumer.accept( batch );
+							batch = new ArrayList<>( batchSizeToLoadObjects );
+						}
+					}
+					if ( !batch.isEmpty() && !isStopped() ) {
+						batchConsumer.accept( batch );
+					}
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				rollbackQuietly( transaction, e );
+				throw e;
+			}
+		}
+	}
+
+	private void loadEntities(List<Serializable> identifiers, ThreadPoolExecutor buildingExecutor) {
+		if ( isStopped() ) {
+			return;
+		}
+		Session session = null;
+		boolean handedOver = false;
+		try {
+			session = sessionFactory.withOptions().tenantIdentifier( tenantId ).openSession();
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( CacheMode.IGNORE );
+			session.setDefaultReadOnly( true );
+			Transaction transaction = session.beginTransaction();
+
+			List<?> loaded = session.byMultipleIds( entityType )
+					.with( CacheMode.IGNORE )
+					.withBatchSize( identifiers.size() )
+					.multiLoad( identifiers );
+			List<Object> entities = new ArrayList<>( loaded.size() );
+			for ( Object entity : loaded ) {
+				// Entities deleted since their identifier was loaded are returned as null
+				if ( entity != null ) {
+					entities.add( entity );
+				}
+			}
+			monitor.entitiesLoaded( entities.size() );
+
+			Session loadingSession = session;
+			startBatch();
+			buildingExecutor.execute( () -> buildDocuments( loadingSession, transaction, entities ) );
+			handedOver = true;
+		}
+		catch (RuntimeException e) {
+			fail( e );
+		}
+		finally {
+			if ( session != null && !handedOver ) {
+				closeQuietly( session, null );
+			}
+		}
+	}
+
+	private void buildDocuments(Session session, Transaction transaction, List<Object> entities) {
+		CompletableFuture<?> batchFuture;
+		try {
+			if ( isStopped() ) {
+				batchFuture = CompletableFuture.completedFuture( null );
+			}
+			else {
+				PojoDocumentWorkExecutor documentWorkExecutor = mappingDelegate.createDocumentWorkExecutor(
+						new MassIndexingSessionContext( session.unwrap( SessionImplementor.class ) )
+				);
+				CompletableFuture<?>[] futures = new CompletableFuture<?>[entities.size()];
+				for ( int i = 0; i < futures.length; i++ ) {
+					// Documents are built in this thread, while the session is still open
+					futures[i] = documentWorkExecutor.add( entities.get( i ) );
+				}
+				monitor.documentsBuilt( futures.length );
+				batchFuture = CompletableFuture.allOf( futures );
+			}
+			transaction.commit();
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<?> failedFuture = new CompletableFuture<>();
+			failedFuture.completeExceptionally( e );
+			batchFuture = failedFuture;
+		}
+		finally {
+			closeQuietly( session, transaction );
+		}
+
+		batchFuture.whenComplete( (result, throwable) -> {
+			if ( throwable != null ) {
+				fail( throwable );
+			}
+			else {
+				monitor.documentsAdded( entities.size() );
+			}
+			endBatch();
+		} );
+	}
+
+	private StatelessSession openStatelessSession() {
+		return sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+	}
+
+	private <T> Query<T> createQuery(StatelessSession session, String selectClause, Class<T> resultType) {
+		StringBuilder hql = new StringBuilder( selectClause )
+				.append( " from " ).append( entityName ).append( " e" );
+		if ( includedTypes != null ) {
+			hql.append( " where type(e) in (:types)" );
+		}
+		Query<T> query = session.createQuery( hql.toString(), resultType );
+		if ( includedTypes != null ) {
+			query.setParameterList( "types", includedTypes );
+		}
+		return query;
+	}
+
+	private boolean isStopped() {
+		return failure.get() != null || coordinator.isCancelled();
+	}
+
+	private void fail(Throwable throwable) {
+		if ( !failure.compareAndSet( null, throwable ) ) {
+			Throwable firstFailure = failure.get();
+			if ( firstFailure != throwable ) {
+				firstFailure.addSuppressed( throwable );
+			}
+		}
+	}
+
+	private synchronized void startBatch() {
+		++batchesInProgress;
+	}
+
+	private synchronized void endBatch() {
+		--batchesInProgress;
+		notifyAll();
+	}
+
+	private synchronized void awaitBatchCompletion() throws InterruptedException {
+		while ( batchesInProgress > 0 ) {
+			wait();
+		}
+	}
+
+	private void rollbackQuietly(Transaction transaction, RuntimeException e) {
+		try {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+		}
+		catch (RuntimeException e2) {
+			e.addSuppressed( e2 );
+		}
+	}
+
+	private void closeQuietly(Session session, Transaction transaction) {
+		try {
+			if ( transaction != null && transaction.isActive() ) {
+				transaction.rollback();
+			}
+			session.close();
+		}
+		catch (RuntimeException e) {
+			fail( e );
+		}
+	}
+
+	@FunctionalInterface
+	private interface BatchConsumer {
+		void accept(List<Serializable> batch);
+	}
+
+}
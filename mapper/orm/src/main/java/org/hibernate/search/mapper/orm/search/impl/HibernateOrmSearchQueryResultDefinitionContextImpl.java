@@ -6,52 +6,69 @@
  */
 package org.hibernate.search.mapper.orm.search.impl;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchQueryResultDefinitionContext;
 import org.hibernate.search.mapper.orm.impl.FullTextQueryImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
+import org.hibernate.search.engine.search.ProjectionConstants;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
 
 public class HibernateOrmSearchQueryResultDefinitionContextImpl<O>
 		implements HibernateOrmSearchQueryResultDefinitionContext<O> {
 	private final PojoSearchTargetDelegate<O> searchTargetDelegate;
 	private final SessionImplementor sessionImplementor;
+	private final CacheLookupStrategyConfiguration cacheLookupStrategy;
 	private final ObjectLoaderBuilder<O> objectLoaderBuilder;
 
 	public HibernateOrmSearchQueryResultDefinitionContextImpl(
 			PojoSearchTargetDelegate<O> searchTargetDelegate,
-			SessionImplementor sessionImplementor) {
+			SessionImplementor sessionImplementor,
+			CacheLookupStrategyConfiguration cacheLookupStrategy) {
 		this.searchTargetDelegate = searchTargetDelegate;
 		this.sessionImplementor = sessionImplementor;
+		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.objectLoaderBuilder = new ObjectLoaderBuilder<>( sessionImplementor, searchTargetDelegate.getTargetedIndexedTypes() );
 	}
 
 	@Override
 	public SearchQueryResultContext<? extends FullTextQuery<O>> asEntities() {
-		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions( cacheLookupStrategy );
 		return searchTargetDelegate.query( objectLoaderBuilder.build( loadingOptions ) )
 				.asObjects()
-				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions ) );
+				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions, true ) );
 	}
 
 	@Override
 	public <T> SearchQueryResultContext<? extends FullTextQuery<T>> asEntities(Function<O, T> hitTransformer) {
-		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions( cacheLookupStrategy );
 		return searchTargetDelegate.query( objectLoaderBuilder.build( loadingOptions, hitTransformer ) )
 				.asObjects()
-				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions ) );
+				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions, true ) );
 	}
 
 	@Override
 	public <T> SearchQueryResultContext<? extends FullTextQuery<T>> asProjections(
 			Function<List<?>, T> hitTransformer, String... projections) {
-		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions( cacheLookupStrategy );
+		boolean loadingEntities = Arrays.asList( projections ).contains( ProjectionConstants.OBJECT );
 		return searchTargetDelegate.query( objectLoaderBuilder.build( loadingOptions ) )
 				.asProjections( hitTransformer, projections )
-				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions ) );
+				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions, loadingEntities ) );
+	}
+
+	@Override
+	public <T> SearchQueryResultContext<? extends FullTextQuery<T>> asProjections(
+			Class<T> projectionType, String... projections) {
+		MutableObjectLoadingOptions loadingOptions = new MutableObjectLoadingOptions( cacheLookupStrategy );
+		boolean loadingEntities = Arrays.asList( projections ).contains( ProjectionConstants.OBJECT );
+		return searchTargetDelegate.query( objectLoaderBuilder.build( loadingOptions ) )
+				.asProjections( projectionType, projections )
+				.asWrappedQuery( q -> new FullTextQueryImpl<>( q, sessionImplementor, loadingOptions, loadingEntities ) );
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.search.impl;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchQueryResultDefinitionContext;
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
@@ -21,16 +22,20 @@
 
 	private final PojoSearchTargetDelegate<T> searchTargetDelegate;
 	private final SessionImplementor sessionImplementor;
+	private final CacheLookupStrategyConfiguration cacheLookupStrategy;
 
 	public HibernateOrmSearchTargetImpl(PojoSearchTargetDelegate<T> searchTargetDelegate,
-			SessionImplementor sessionImplementor) {
+			SessionImplementor sessionImplementor, CacheLookupStrategyConfiguration cacheLookupStrategy) {
 		this.searchTargetDelegate = searchTargetDelegate;
 		this.sessionImplementor = sessionImplementor;
+		this.cacheLookupStrategy = cacheLookupStrategy;
 	}
 
 	@Override
 	public HibernateOrmSearchQueryResultDefinitionContext<T> jpaQuery() {
-		return new HibernateOrmSearchQueryResultDefinitionContextImpl<>( searchTargetDelegate, sessionImplementor );
+		return new HibernateOrmSearchQueryResultDefinitionContextImpl<>(
+				searchTargetDelegate, sessionImplementor, cacheLookupStrategy
+		);
 	}
 
 	@Override
@@ -39,7 +44,7 @@ public SearchQueryResultDefinitionContext<PojoReference, T> query() {
 				sessionImplementor,
 				searchTargetDelegate.getTargetedIndexedTypes()
 		);
-		MutableObjectLoadingOptions mutableObjectLoadingOptions = new MutableObjectLoadingOptions();
+		MutableObjectLoadingOptions mutableObjectLoadingOptions = new MutableObjectLoadingOptions( cacheLookupStrategy );
 		return searchTargetDelegate.query( objectLoaderBuilder.build( mutableObjectLoadingOptions ) );
 	}
 
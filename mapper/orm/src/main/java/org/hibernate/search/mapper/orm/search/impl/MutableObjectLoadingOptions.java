@@ -6,8 +6,15 @@
  */
 package org.hibernate.search.mapper.orm.search.impl;
 
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
+
 public class MutableObjectLoadingOptions {
 	private int fetchSize;
+	private CacheLookupStrategyConfiguration cacheLookupStrategy;
+
+	public MutableObjectLoadingOptions(CacheLookupStrategyConfiguration cacheLookupStrategy) {
+		this.cacheLookupStrategy = cacheLookupStrategy;
+	}
 
 	public int getFetchSize() {
 		return fetchSize;
@@ -19,4 +26,15 @@ public void setFetchSize(int fetchSize) {
 		}
 		this.fetchSize = fetchSize;
 	}
+
+	public CacheLookupStrategyConfiguration getCacheLookupStrategy() {
+		return cacheLookupStrategy;
+	}
+
+	public void setCacheLookupStrategy(CacheLookupStrategyConfiguration cacheLookupStrategy) {
+		if ( cacheLookupStrategy == null ) {
+			throw new IllegalArgumentException( "'cache lookup strategy' parameter is null" );
+		}
+		this.cacheLookupStrategy = cacheLookupStrategy;
+	}
 }
@@ -6,21 +6,25 @@
  */
 package org.hibernate.search.mapper.orm.search.impl;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
-import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 import org.hibernate.search.engine.search.ObjectLoader;
 
 public class ObjectLoaderBuilder<O> {
 
-	private final Session session;
+	private final SessionImplementor session;
 	private final Set<Class<? extends O>> concreteIndexedClasses;
 
-	ObjectLoaderBuilder(Session session, Set<Class<? extends O>> concreteIndexedClasses) {
+	ObjectLoaderBuilder(SessionImplementor session, Set<Class<? extends O>> concreteIndexedClasses) {
 		this.session = session;
 		this.concreteIndexedClasses = concreteIndexedClasses;
 	}
@@ -44,24 +48,51 @@ private <T> ComposableObjectLoader<PojoReference, T> buildForSingleType(
 			MutableObjectLoadingOptions mutableLoadingOptions, Class<? extends O> concreteIndexedType,
 			Function<? super O, T> hitTransformer) {
 		// TODO Add support for entities whose document ID is not the entity ID (natural ID, or other)
-		// TODO Add support for other types of database retrieval and object lookup? See HSearch 5: org.hibernate.search.engine.query.hibernate.impl.ObjectLoaderBuilder#getObjectInitializer
 		return new SingleTypeByIdObjectLoader<>( session, concreteIndexedType, mutableLoadingOptions, hitTransformer );
 	}
 
 	private <T> ObjectLoader<PojoReference, T> buildForMultipleTypes(
 			MutableObjectLoadingOptions mutableLoadingOptions, Function<? super O, T> hitTransformer) {
 		/*
-		 * TODO Group together entity types from a same hierarchy, so as to optimize loads
+		 * Group together entity types from a same hierarchy, so as to optimize loads
 		 * (one query per entity hierarchy, and not one query per index).
 		 */
+		MetamodelImplementor metamodel = session.getFactory().getMetamodel();
+		Map<String, List<Class<? extends O>>> concreteIndexedClassesByRootEntityName = new LinkedHashMap<>();
+		for ( Class<? extends O> concreteIndexedClass : concreteIndexedClasses ) {
+			String rootEntityName = metamodel.entityPersister( concreteIndexedClass ).getRootEntityName();
+			concreteIndexedClassesByRootEntityName.computeIfAbsent( rootEntityName, ignored -> new ArrayList<>() )
+					.add( concreteIndexedClass );
+		}
+
 		Map<Class<? extends O>, ComposableObjectLoader<PojoReference, ? extends T>> delegateByConcreteType =
 				new HashMap<>( concreteIndexedClasses.size() );
-		for ( Class<? extends O> concreteIndexedClass : concreteIndexedClasses ) {
-			ComposableObjectLoader<PojoReference, T> delegate =
-					buildForSingleType( mutableLoadingOptions, concreteIndexedClass, hitTransformer );
-			delegateByConcreteType.put( concreteIndexedClass, delegate );
+		for ( Map.Entry<String, List<Class<? extends O>>> entry : concreteIndexedClassesByRootEntityName.entrySet() ) {
+			List<Class<? extends O>> concreteIndexedClassesInHierarchy = entry.getValue();
+			ComposableObjectLoader<PojoReference, T> delegate;
+			if ( concreteIndexedClassesInHierarchy.size() == 1 ) {
+				delegate = buildForSingleType( mutableLoadingOptions, concreteIndexedClassesInHierarchy.get( 0 ), hitTransformer );
+			}
+			else {
+				Class<? extends O> rootEntityClass = getRootEntityClass( metamodel, entry.getKey() );
+				delegate = buildForSingleType( mutableLoadingOptions, rootEntityClass, hitTransformer );
+			}
+			// ByTypeObjectLoader groups references by delegate: one delegate means one load per hierarchy
+			for ( Class<? extends O> concreteIndexedClass : concreteIndexedClassesInHierarchy ) {
+				delegateByConcreteType.put( concreteIndexedClass, delegate );
+			}
 		}
 		return new ByTypeObjectLoader<>( delegateByConcreteType );
 	}
 
+	/*
+	 * The root entity class is not necessarily a subtype of O,
+	 * but the entities loaded for our references are instances of concrete indexed classes,
+	 * which are subtypes of O.
+	 */
+	@SuppressWarnings("unchecked")
+	private Class<? extends O> getRootEntityClass(MetamodelImplementor metamodel, String rootEntityName) {
+		return (Class<? extends O>) metamodel.entityPersister( rootEntityName ).getMappedClass();
+	}
+
 }
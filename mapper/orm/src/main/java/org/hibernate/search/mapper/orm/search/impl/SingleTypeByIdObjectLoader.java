@@ -16,20 +16,37 @@
 
 import org.hibernate.IdentifierLoadAccess;
 import org.hibernate.MultiIdentifierLoadAccess;
-import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.cfg.CacheLookupStrategyConfiguration;
 import org.hibernate.search.mapper.pojo.search.PojoReference;
 
+/**
+ * Loads entities of a given type by their identifier.
+ * <p>
+ * The type may be a superclass of the types of the referenced entities,
+ * for instance the root of an entity hierarchy, in which case entities are loaded polymorphically,
+ * with a single query.
+ * <p>
+ * Depending on the {@link CacheLookupStrategyConfiguration cache lookup strategy},
+ * entities are first looked up in the persistence context and second-level cache,
+ * so that only the entities that could not be found there are loaded from the database.
+ */
 class SingleTypeByIdObjectLoader<O, T> implements ComposableObjectLoader<PojoReference, T> {
-	private final Session session;
+	private final SessionImplementor session;
 	private final Class<O> entityType;
 	private final MutableObjectLoadingOptions loadingOptions;
 	private final Function<? super O, T> hitTransformer;
 
+	private EntityPersister persister;
 	private IdentifierLoadAccess<O> singleAccess;
 	private MultiIdentifierLoadAccess<O> multiAccess;
 
 	public SingleTypeByIdObjectLoader(
-			Session session,
+			SessionImplementor session,
 			Class<O> entityType,
 			MutableObjectLoadingOptions loadingOptions,
 			Function<? super O, T> hitTransformer) {
@@ -67,7 +84,65 @@ private List<O> loadEntities(List<PojoReference> references) {
 			ids.add( (Serializable) reference.getId() );
 		}
 
-		return getMultiAccess().multiLoad( ids );
+		CacheLookupStrategyConfiguration cacheLookupStrategy = loadingOptions.getCacheLookupStrategy();
+		if ( CacheLookupStrategyConfiguration.SKIP.equals( cacheLookupStrategy ) ) {
+			return getMultiAccess().multiLoad( ids );
+		}
+
+		List<O> result = new ArrayList<>( ids.size() );
+		List<Serializable> missingIds = new ArrayList<>( ids.size() );
+		List<Integer> missingIdIndices = new ArrayList<>( ids.size() );
+		for ( int i = 0; i < ids.size(); i++ ) {
+			Serializable id = ids.get( i );
+			O entity = lookupInCaches( cacheLookupStrategy, id );
+			result.add( entity );
+			if ( entity == null ) {
+				missingIds.add( id );
+				missingIdIndices.add( i );
+			}
+		}
+
+		if ( !missingIds.isEmpty() ) {
+			List<O> loadedEntities = getMultiAccess().multiLoad( missingIds );
+			for ( int i = 0; i < missingIdIndices.size(); i++ ) {
+				result.set( missingIdIndices.get( i ), loadedEntities.get( i ) );
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return The entity, if it could be retrieved without querying the database, {@code null} otherwise.
+	 */
+	private O lookupInCaches(CacheLookupStrategyConfiguration cacheLookupStrategy, Serializable id) {
+		PersistenceContext persistenceContext = session.getPersistenceContext();
+		Object entity = persistenceContext.getEntity( session.generateEntityKey( id, getPersister() ) );
+		if ( entity != null ) {
+			EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( entry != null && ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) ) {
+				// Let the database query decide what to return for deleted entities
+				return null;
+			}
+			// Same identifier, different entity type: cannot happen unless the referenced entity was deleted
+			return entityType.isInstance( entity ) ? entityType.cast( entity ) : null;
+		}
+
+		if ( CacheLookupStrategyConfiguration.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE.equals( cacheLookupStrategy )
+				&& getPersister().canReadFromCache()
+				&& session.getFactory().getCache().containsEntity( entityType, id ) ) {
+			// Will hit the second-level cache, unless the entry is evicted concurrently
+			return getSingleAccess().load( id );
+		}
+
+		return null;
+	}
+
+	private EntityPersister getPersister() {
+		if ( persister == null ) {
+			persister = session.getFactory().getMetamodel().entityPersister( entityType );
+		}
+		return persister;
 	}
 
 	private IdentifierLoadAccess<O> getSingleAccess() {
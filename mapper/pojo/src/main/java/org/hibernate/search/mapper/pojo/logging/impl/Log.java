@@ -280,4 +280,12 @@ SearchException invalidFieldEncodingForFullTextFieldMapping(IndexSchemaFieldType
 	)
 	SearchException invalidFieldEncodingForKeywordFieldMapping(IndexSchemaFieldTypedContext<?, ?> context,
 			@FormatWith(ClassFormatter.class) Class<?> expectedContextType);
+
+	@Message(id = ID_OFFSET_2 + 33,
+			value = "Type '%1$s' is not indexed and does not have any indexed subtype.")
+	SearchException notIndexedTypeNorSubType(@FormatWith(ClassFormatter.class) Class<?> type);
+
+	@Message(id = ID_OFFSET_2 + 34,
+			value = "Cannot add an entity of type '%1$s' to an index: this type is not indexed.")
+	SearchException cannotAddNotIndexedType(@FormatWith(ClassFormatter.class) Class<?> type);
 }
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.common.SearchManager;
 
 
@@ -36,4 +37,14 @@ default <T> PojoSearchTarget<?> search(Class<T> targetedType) {
 	 */
 	PojoWorkPlan createWorkPlan();
 
+	/**
+	 * @param refreshStrategy The refresh strategy to apply to the work plan,
+	 * overriding the one configured for each index.
+	 * @return A new work plan for this manager, maintaining its state (list of works) independently from the manager.
+	 * Calling {@link PojoWorkPlan#execute()} is required to actually execute works,
+	 * the manager will <strong>not</strong> do it automatically upon closing.
+	 * @see #createWorkPlan()
+	 */
+	PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy);
+
 }
@@ -110,6 +110,21 @@ public interface PojoWorkPlan {
 	 */
 	void delete(Object id, Object entity);
 
+	/**
+	 * Delete an entity from the index, when the entity itself is no longer available,
+	 * for instance because it was already deleted from the datastore.
+	 * <p>
+	 * No effect on the index if the entity is not in the index,
+	 * or if the given type is not indexed (it may only be contained in other indexed types).
+	 * <p>
+	 * Since the entity is not available, it cannot be used to compute routing keys
+	 * or to find which other entities should be reindexed because of this deletion.
+	 *
+	 * @param clazz The exact type of the entity to delete from the index.
+	 * @param id The ID of the entity to delete from the index.
+	 */
+	void purge(Class<?> clazz, Object id);
+
 	/**
 	 * Prepare the work plan execution, i.e. execute as much as possible without writing to the index.
 	 * <p>
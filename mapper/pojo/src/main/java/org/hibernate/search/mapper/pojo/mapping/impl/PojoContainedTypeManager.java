@@ -6,12 +6,13 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.impl.common.ToStringTreeAppendable;
@@ -24,14 +25,17 @@
 
 	private final Class<E> javaClass;
 	private final PojoCaster<E> caster;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
 
 	public PojoContainedTypeManager(Class<E> javaClass,
 			PojoCaster<E> caster,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver,
+			PojoPathOrdinals pathOrdinals) {
 		this.javaClass = javaClass;
 		this.caster = caster;
 		this.reindexingResolver = reindexingResolver;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
@@ -45,13 +49,17 @@ public void appendTo(ToStringTreeBuilder builder) {
 				.attribute( "reindexingResolver", reindexingResolver );
 	}
 
+	PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	Supplier<E> toEntitySupplier(PojoSessionContext sessionContext, Object entity) {
 		PojoRuntimeIntrospector proxyIntrospector = sessionContext.getRuntimeIntrospector();
 		return new CachingCastingEntitySupplier<>( caster, proxyIntrospector, entity );
 	}
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, runtimeIntrospector, entitySupplier.get(), dirtyPaths
 		);
@@ -6,14 +6,14 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 /**
  * @param <E> The contained entity type.
@@ -76,7 +76,7 @@ private class ContainedEntityWorkPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -98,9 +98,7 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
-				for ( String dirtyPath : dirtyPaths ) {
-					addDirtyPath( dirtyPath );
-				}
+				addDirtyPaths( dirtyPaths );
 			}
 		}
 
@@ -141,11 +139,21 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private void addDirtyPaths(String[] dirtyPathsToAdd) {
+			if ( dirtyPathsToAdd.length == 0 ) {
+				return;
+			}
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
+			}
+			PojoPathOrdinals pathOrdinals = typeManager.getPathOrdinals();
+			for ( String dirtyPath : dirtyPathsToAdd ) {
+				// Paths without an ordinal are not accepted by any filter: ignore them
+				Integer ordinal = pathOrdinals.toExistingOrdinal( dirtyPath );
+				if ( ordinal != null ) {
+					dirtyPaths.set( ordinal );
+				}
 			}
-			dirtyPaths.add( dirtyPath );
 		}
 	}
 
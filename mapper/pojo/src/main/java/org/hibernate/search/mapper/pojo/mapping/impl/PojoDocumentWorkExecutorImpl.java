@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+class PojoDocumentWorkExecutorImpl implements PojoDocumentWorkExecutor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
+	private final PojoSessionContext sessionContext;
+	private final PojoRuntimeIntrospector introspector;
+
+	private final Map<Class<?>, PojoIndexedTypeDocumentWorkExecutor<?, ?, ?>> delegates = new HashMap<>();
+
+	PojoDocumentWorkExecutorImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
+			PojoSessionContext sessionContext) {
+		this.indexedTypeManagers = indexedTypeManagers;
+		this.sessionContext = sessionContext;
+		this.introspector = sessionContext.getRuntimeIntrospector();
+	}
+
+	@Override
+	public CompletableFuture<?> add(Object id, Object entity) {
+		Class<?> clazz = introspector.getClass( entity );
+		return getDelegate( clazz ).add( id, entity );
+	}
+
+	private PojoIndexedTypeDocumentWorkExecutor<?, ?, ?> getDelegate(Class<?> clazz) {
+		PojoIndexedTypeDocumentWorkExecutor<?, ?, ?> delegate = delegates.get( clazz );
+		if ( delegate == null ) {
+			delegate = indexedTypeManagers.getByExactClass( clazz )
+					.orElseThrow( () -> log.cannotAddNotIndexedType( clazz ) )
+					.createDocumentWorkExecutor( sessionContext );
+			delegates.put( clazz, delegate );
+		}
+		return delegate;
+	}
+
+}
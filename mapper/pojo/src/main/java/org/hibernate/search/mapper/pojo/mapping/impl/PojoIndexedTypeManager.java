@@ -6,16 +6,19 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
@@ -36,14 +39,16 @@
 	private final RoutingKeyProvider<E> routingKeyProvider;
 	private final PojoIndexingProcessor<E> processor;
 	private final MappedIndexManager<D> indexManager;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
 
 	public PojoIndexedTypeManager(Class<E> indexedJavaClass,
 			PojoCaster<E> caster,
 			IdentifierMapping<I, E> identifierMapping,
 			RoutingKeyProvider<E> routingKeyProvider,
 			PojoIndexingProcessor<E> processor, MappedIndexManager<D> indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver,
+			PojoPathOrdinals pathOrdinals) {
 		this.indexedJavaClass = indexedJavaClass;
 		this.caster = caster;
 		this.identifierMapping = identifierMapping;
@@ -51,6 +56,7 @@ public PojoIndexedTypeManager(Class<E> indexedJavaClass,
 		this.processor = processor;
 		this.indexManager = indexManager;
 		this.reindexingResolver = reindexingResolver;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
@@ -85,6 +91,10 @@ Class<E> getIndexedJavaClass() {
 		return indexedJavaClass;
 	}
 
+	PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	Supplier<E> toEntitySupplier(PojoSessionContext sessionContext, Object entity) {
 		PojoRuntimeIntrospector proxyIntrospector = sessionContext.getRuntimeIntrospector();
 		return new CachingCastingEntitySupplier<>( caster, proxyIntrospector, entity );
@@ -101,23 +111,34 @@ PojoDocumentContributor<D, E> toDocumentContributor(Supplier<E> entitySupplier)
 		return new PojoDocumentContributor<>( processor, entitySupplier );
 	}
 
-	boolean requiresSelfReindexing(Set<String> dirtyPaths) {
+	boolean requiresSelfReindexing(BitSet dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
 	}
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, runtimeIntrospector, entitySupplier.get(), dirtyPaths
 		);
 	}
 
-	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(PojoSessionContext sessionContext) {
+	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(PojoSessionContext sessionContext,
+			DocumentRefreshStrategy refreshStrategy) {
 		return new PojoIndexedTypeWorkPlan<>(
-				this, sessionContext, indexManager.createWorkPlan( sessionContext )
+				this, sessionContext, indexManager.createWorkPlan( sessionContext, refreshStrategy )
 		);
 	}
 
+	PojoIndexedTypeDocumentWorkExecutor<I, E, D> createDocumentWorkExecutor(PojoSessionContext sessionContext) {
+		return new PojoIndexedTypeDocumentWorkExecutor<>(
+				this, sessionContext, indexManager.createDocumentWorkExecutor( sessionContext )
+		);
+	}
+
+	IndexWorkExecutor createWorkExecutor() {
+		return indexManager.createWorkExecutor();
+	}
+
 	IndexSearchTargetBuilder createSearchTarget() {
 		return indexManager.createSearchTarget();
 	}
@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -18,6 +17,7 @@
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 /**
  * @param <I> The identifier type for the mapped entity type.
@@ -67,6 +67,12 @@ void delete(Object providedId, Object entity) {
 		getWork( identifier ).delete( entitySupplier );
 	}
 
+	void purge(Object providedId) {
+		Supplier<E> entitySupplier = () -> null;
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getWork( identifier ).delete( entitySupplier );
+	}
+
 	void updateBecauseOfContained(Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
 		I identifier = typeManager.getIdentifierMapping().getIdentifier( null, entitySupplier );
@@ -127,7 +133,7 @@ private class IndexedEntityWorkPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityWorkPlan(I identifier) {
 			this.identifier = identifier;
@@ -150,9 +156,7 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
-				for ( String dirtyPropertyName : dirtyPaths ) {
-					addDirtyPath( dirtyPropertyName );
-				}
+				addDirtyPaths( dirtyPaths );
 			}
 		}
 
@@ -224,11 +228,21 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private void addDirtyPaths(String[] dirtyPathsToAdd) {
+			if ( dirtyPathsToAdd.length == 0 ) {
+				return;
+			}
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
+			}
+			PojoPathOrdinals pathOrdinals = typeManager.getPathOrdinals();
+			for ( String dirtyPath : dirtyPathsToAdd ) {
+				// Paths without an ordinal are not accepted by any filter: ignore them
+				Integer ordinal = pathOrdinals.toExistingOrdinal( dirtyPath );
+				if ( ordinal != null ) {
+					dirtyPaths.set( ordinal );
+				}
 			}
-			dirtyPaths.add( dirtyPath );
 		}
 	}
 
@@ -11,10 +11,13 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
 import org.hibernate.search.util.SearchException;
@@ -47,8 +50,25 @@ public void close() {
 	}
 
 	@Override
-	public PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext) {
-		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext );
+	public PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext, DocumentRefreshStrategy refreshStrategy) {
+		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext, refreshStrategy );
+	}
+
+	@Override
+	public PojoDocumentWorkExecutor createDocumentWorkExecutor(PojoSessionContext sessionContext) {
+		return new PojoDocumentWorkExecutorImpl( indexedTypeManagers, sessionContext );
+	}
+
+	@Override
+	public PojoScopeWorkExecutor createScopeWorkExecutor(Collection<? extends Class<?>> targetedTypes) {
+		Set<PojoIndexedTypeManager<?, ?, ?>> targetedTypeManagers = new LinkedHashSet<>();
+		for ( Class<?> targetedType : targetedTypes ) {
+			targetedTypeManagers.addAll(
+					indexedTypeManagers.getAllBySuperClass( targetedType )
+							.orElseThrow( () -> log.notIndexedTypeNorSubType( targetedType ) )
+			);
+		}
+		return new PojoScopeWorkExecutorImpl( targetedTypeManagers );
 	}
 
 	@Override
@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
+import org.hibernate.search.util.impl.common.Closer;
+
+class PojoScopeWorkExecutorImpl implements PojoScopeWorkExecutor {
+
+	private final Set<Class<?>> targetedIndexedTypes;
+	private final List<IndexWorkExecutor> delegates;
+
+	PojoScopeWorkExecutorImpl(Set<PojoIndexedTypeManager<?, ?, ?>> targetedTypeManagers) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		this.delegates = new ArrayList<>( targetedTypeManagers.size() );
+		for ( PojoIndexedTypeManager<?, ?, ?> typeManager : targetedTypeManagers ) {
+			types.add( typeManager.getIndexedJavaClass() );
+			delegates.add( typeManager.createWorkExecutor() );
+		}
+		this.targetedIndexedTypes = Collections.unmodifiableSet( types );
+	}
+
+	@Override
+	public Set<Class<?>> getTargetedIndexedTypes() {
+		return targetedIndexedTypes;
+	}
+
+	@Override
+	public CompletableFuture<?> purge(String tenantId) {
+		return executeOnAll( delegate -> delegate.purge( tenantId ) );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize() {
+		return executeOnAll( IndexWorkExecutor::optimize );
+	}
+
+	@Override
+	public CompletableFuture<?> flush() {
+		return executeOnAll( IndexWorkExecutor::flush );
+	}
+
+	@Override
+	public void beginMassIndexing() {
+		for ( IndexWorkExecutor delegate : delegates ) {
+			delegate.beginMassIndexing();
+		}
+	}
+
+	@Override
+	public void endMassIndexing() {
+		// Make sure every index gets notified, even if some of them fail
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( IndexWorkExecutor::endMassIndexing, delegates );
+		}
+	}
+
+	private CompletableFuture<?> executeOnAll(Function<IndexWorkExecutor, CompletableFuture<?>> work) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = work.apply( delegates.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+}
@@ -14,6 +14,7 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -25,6 +26,7 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
 	private final PojoSessionContext sessionContext;
+	private final DocumentRefreshStrategy refreshStrategy;
 	private final PojoRuntimeIntrospector introspector;
 
 	// Use a LinkedHashMap for deterministic iteration
@@ -33,10 +35,11 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 
 	PojoWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
 			PojoContainedTypeManagerContainer containedTypeManagers,
-			PojoSessionContext sessionContext) {
+			PojoSessionContext sessionContext, DocumentRefreshStrategy refreshStrategy) {
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
 		this.sessionContext = sessionContext;
+		this.refreshStrategy = refreshStrategy;
 		this.introspector = sessionContext.getRuntimeIntrospector();
 	}
 
@@ -88,6 +91,22 @@ public void delete(Object id, Object entity) {
 		delegate.delete( id, entity );
 	}
 
+	@Override
+	public void purge(Class<?> clazz, Object id) {
+		PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeDelegates.get( clazz );
+		if ( delegate == null ) {
+			Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
+					indexedTypeManagers.getByExactClass( clazz );
+			if ( !indexedTypeManagerOptional.isPresent() ) {
+				// Not indexed directly: there is nothing to delete
+				return;
+			}
+			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext, refreshStrategy );
+			indexedTypeDelegates.put( clazz, delegate );
+		}
+		delegate.purge( id );
+	}
+
 	@Override
 	public void prepare() {
 		for ( PojoContainedTypeWorkPlan<?> delegate : containedTypeDelegates.values() ) {
@@ -136,7 +155,7 @@ private PojoTypeWorkPlan createDelegate(Class<?> clazz) {
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
 			PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeManagerOptional.get()
-					.createWorkPlan( sessionContext );
+					.createWorkPlan( sessionContext, refreshStrategy );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -165,7 +184,7 @@ private PojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
-			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext );
+			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext, refreshStrategy );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
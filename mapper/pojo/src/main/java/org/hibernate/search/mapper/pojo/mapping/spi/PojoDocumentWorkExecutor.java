@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works on POJO-mapped indexes, streaming works to the indexes as soon as they are submitted.
+ * <p>
+ * Contrary to {@link org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan},
+ * works are not accumulated, and do not trigger the reindexing of containing entities.
+ * This is most useful when submitting a large number of works, for instance when mass indexing.
+ * <p>
+ * Implementations may not be thread-safe.
+ */
+public interface PojoDocumentWorkExecutor {
+
+	/**
+	 * Add an entity to the index, assuming that the entity is absent from the index.
+	 * <p>
+	 * Shorthand for {@code add(null, entity)}; see {@link #add(Object, Object)}.
+	 *
+	 * @param entity The entity to add to the index.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	default CompletableFuture<?> add(Object entity) {
+		return add( null, entity );
+	}
+
+	/**
+	 * Add an entity to the index, assuming that the entity is absent from the index.
+	 * <p>
+	 * The document is built in the calling thread, before this method returns.
+	 *
+	 * @param id The provided ID for the entity.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to add to the index.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> add(Object id, Object entity);
+
+}
@@ -8,6 +8,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.PojoMapping;
@@ -17,7 +18,15 @@ public interface PojoMappingDelegate extends PojoMapping, AutoCloseable {
 	@Override
 	void close();
 
-	PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext);
+	PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext, DocumentRefreshStrategy refreshStrategy);
+
+	PojoDocumentWorkExecutor createDocumentWorkExecutor(PojoSessionContext sessionContext);
+
+	/**
+	 * @param targetedTypes The targeted types. Indexed subtypes of these types will be targeted, too.
+	 * @return An executor for works affecting all the indexes of the targeted types.
+	 */
+	PojoScopeWorkExecutor createScopeWorkExecutor(Collection<? extends Class<?>> targetedTypes);
 
 	<T> PojoSearchTargetDelegate<T> createPojoSearchTarget(Collection<? extends Class<? extends T>> targetedTypes,
 			SessionContext sessionContext);
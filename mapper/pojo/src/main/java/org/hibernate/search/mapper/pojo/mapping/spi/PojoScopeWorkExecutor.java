@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works affecting all the indexes of a set of POJO types.
+ */
+public interface PojoScopeWorkExecutor {
+
+	/**
+	 * @return The indexed types targeted by this executor.
+	 */
+	Set<Class<?>> getTargetedIndexedTypes();
+
+	/**
+	 * Delete all documents from the targeted indexes.
+	 *
+	 * @param tenantId The identifier of the tenant whose documents should be deleted,
+	 * or {@code null} if multi-tenancy is not enabled.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete for all indexes.
+	 */
+	CompletableFuture<?> purge(String tenantId);
+
+	/**
+	 * Merge the segments of the targeted indexes, so as to make searches faster.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete for all indexes.
+	 */
+	CompletableFuture<?> optimize();
+
+	/**
+	 * Commit all the changes previously applied to the targeted indexes, and make them visible to searches.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete for all indexes.
+	 */
+	CompletableFuture<?> flush();
+
+	/**
+	 * Notify the targeted indexes that documents are about to be mass indexed.
+	 * <p>
+	 * Callers must call {@link #endMassIndexing()} once mass indexing is over,
+	 * whether it succeeded or not.
+	 */
+	void beginMassIndexing();
+
+	/**
+	 * Notify the targeted indexes that mass indexing is over, be it successfully or not.
+	 */
+	void endMassIndexing();
+
+}
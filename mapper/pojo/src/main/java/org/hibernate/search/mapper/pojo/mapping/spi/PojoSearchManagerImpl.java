@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
 import org.hibernate.search.mapper.pojo.mapping.PojoSearchManagerBuilder;
@@ -41,7 +42,12 @@ public PojoWorkPlan getMainWorkPlan() {
 
 	@Override
 	public PojoWorkPlan createWorkPlan() {
-		return mappingDelegate.createWorkPlan( sessionContext );
+		return createWorkPlan( DocumentRefreshStrategy.DEFAULT );
+	}
+
+	@Override
+	public PojoWorkPlan createWorkPlan(DocumentRefreshStrategy refreshStrategy) {
+		return mappingDelegate.createWorkPlan( sessionContext, refreshStrategy );
 	}
 
 	@Override
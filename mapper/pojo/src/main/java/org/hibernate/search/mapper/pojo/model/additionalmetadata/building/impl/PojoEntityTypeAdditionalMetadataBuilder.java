@@ -6,22 +6,26 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.impl;
 
+import java.util.BitSet;
 import java.util.Optional;
 
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorEntityTypeNode;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoEntityTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.engine.logging.spi.ContextualFailureCollector;
 
 class PojoEntityTypeAdditionalMetadataBuilder implements PojoAdditionalMetadataCollectorEntityTypeNode {
 	private final PojoTypeAdditionalMetadataBuilder rootBuilder;
-	private final PojoPathFilterFactory pathFilterFactory;
+	private final PojoPathFilterFactory<BitSet> pathFilterFactory;
+	private final PojoPathOrdinals pathOrdinals;
 	private String entityIdPropertyName;
 
 	PojoEntityTypeAdditionalMetadataBuilder(PojoTypeAdditionalMetadataBuilder rootBuilder,
-			PojoPathFilterFactory pathFilterFactory) {
+			PojoPathFilterFactory<BitSet> pathFilterFactory, PojoPathOrdinals pathOrdinals) {
 		this.rootBuilder = rootBuilder;
 		this.pathFilterFactory = pathFilterFactory;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
@@ -36,6 +40,7 @@ public void entityIdPropertyName(String propertyName) {
 	}
 
 	public PojoEntityTypeAdditionalMetadata build() {
-		return new PojoEntityTypeAdditionalMetadata( pathFilterFactory, Optional.ofNullable( entityIdPropertyName ) );
+		return new PojoEntityTypeAdditionalMetadata( pathFilterFactory, pathOrdinals,
+				Optional.ofNullable( entityIdPropertyName ) );
 	}
 }
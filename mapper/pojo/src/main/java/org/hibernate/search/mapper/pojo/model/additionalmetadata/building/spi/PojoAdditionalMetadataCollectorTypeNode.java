@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi;
 
-import java.util.Set;
+import java.util.BitSet;
 
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalMetadataCollector {
 
@@ -30,10 +31,14 @@ public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalM
 	 * @param pathFilterFactory The path filter factory for this entity type,
 	 * i.e. the object allowing to create path filters that will be used in particular
 	 * when performing dirty checking during automatic reindexing.
+	 * @param pathOrdinals The path ordinals for this entity type,
+	 * i.e. the object used by {@code pathFilterFactory} to represent paths as bits,
+	 * which will be used to convert dirty paths at runtime.
 	 * @return A {@link PojoAdditionalMetadataCollectorEntityTypeNode}, allowing to provide optional metadata
 	 * about the entity.
 	 */
-	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(PojoPathFilterFactory<Set<String>> pathFilterFactory);
+	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(PojoPathFilterFactory<BitSet> pathFilterFactory,
+			PojoPathOrdinals pathOrdinals);
 
 	PojoAdditionalMetadataCollectorPropertyNode property(String propertyName);
 
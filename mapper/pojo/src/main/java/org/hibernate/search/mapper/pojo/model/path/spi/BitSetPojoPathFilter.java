@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet},
+ * each bit corresponding to the ordinal of a path as assigned by a {@link PojoPathOrdinals}.
+ * <p>
+ * Testing a set of paths is a bitwise AND, regardless of the number of paths.
+ * <p>
+ * Completely ignores container value extractors.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	/**
+	 * @param ordinals The ordinals of paths for the entity type the filter will be applied to.
+	 * Ordinals will be assigned to {@code acceptedPaths} as necessary.
+	 * @param acceptedPaths The string representation of the paths accepted by this filter.
+	 */
+	public BitSetPojoPathFilter(PojoPathOrdinals ordinals, Set<String> acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = new BitSet();
+		for ( String path : acceptedPaths ) {
+			this.acceptedPaths.set( ordinals.toOrdinal( path ) );
+		}
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner( ", ", "[", "]" );
+		for ( int i = acceptedPaths.nextSetBit( 0 ); i >= 0; i = acceptedPaths.nextSetBit( i + 1 ) ) {
+			joiner.add( ordinals.toPath( i ) );
+		}
+		return getClass().getSimpleName() + joiner;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns an ordinal to each string representation of a path of a given entity type,
+ * so that sets of dirty paths can be represented as a {@link java.util.BitSet}.
+ * <p>
+ * Ordinals are assigned at bootstrap, when creating path filters.
+ * Paths that do not have an ordinal are not accepted by any filter,
+ * and can safely be ignored when converting dirty paths at runtime.
+ *
+ * @see BitSetPojoPathFilter
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of this path, assigned by this method if necessary.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			ordinalByPath.put( path, ordinal );
+			pathByOrdinal.add( path );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of this path, or {@code null} if no ordinal was assigned to this path.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal assigned by {@link #toOrdinal(String)}.
+	 * @return The string representation of the corresponding path.
+	 */
+	public String toPath(int ordinal) {
+		return pathByOrdinal.get( ordinal );
+	}
+
+}
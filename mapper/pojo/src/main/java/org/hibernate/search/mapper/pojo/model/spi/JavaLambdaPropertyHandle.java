@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.reflect.Member;
+import java.util.function.Function;
+
+import org.hibernate.search.util.SearchException;
+
+/**
+ * A {@link PropertyHandle} delegating to a {@link Function}
+ * generated by {@link java.lang.invoke.LambdaMetafactory}.
+ *
+ * @see JavaLambdaPropertyHandleFactory
+ */
+final class JavaLambdaPropertyHandle implements PropertyHandle {
+
+	private final String name;
+	private final Member member;
+	private final Function<Object, Object> getter;
+
+	JavaLambdaPropertyHandle(String name, Member member, Function<Object, Object> getter) {
+		this.name = name;
+		this.member = member;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object get(Object thiz) {
+		try {
+			return getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Getters may throw checked exceptions, which the generated function does not declare
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw new SearchException( "Exception while invoking '" + member + "' on '" + thiz + "'" , e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		JavaLambdaPropertyHandle other = (JavaLambdaPropertyHandle) obj;
+		return name.equals( other.name ) && member.equals( other.member );
+	}
+
+}
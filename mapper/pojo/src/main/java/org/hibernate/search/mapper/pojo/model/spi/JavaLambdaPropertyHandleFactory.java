@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.util.AssertionFailure;
+
+/**
+ * A {@link PropertyHandleFactory} that spins a {@link Function} for each getter
+ * using {@link LambdaMetafactory}, so that retrieving a property value
+ * is a plain interface call that the JIT compiler can inline,
+ * instead of an invocation of a non-constant {@link MethodHandle}.
+ * <p>
+ * Lambdas can only be generated for public methods declared in public types
+ * that are visible from the class loader of the lookup class.
+ * Fields and any other method are handled as in {@link MethodHandlePropertyHandleFactory}.
+ */
+public final class JavaLambdaPropertyHandleFactory implements PropertyHandleFactory {
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+	private final MethodHandles.Lookup hostLookup;
+	private final MethodHandlePropertyHandleFactory fallback;
+
+	/**
+	 * @param lookup The lookup used to access members.
+	 * If it has private access to its lookup class, generated lambdas will be defined in that class;
+	 * otherwise they will be defined in a Hibernate Search class.
+	 */
+	public JavaLambdaPropertyHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+		this.hostLookup = ( lookup.lookupModes() & MethodHandles.Lookup.PRIVATE ) != 0
+				? lookup : MethodHandles.lookup();
+		this.fallback = new MethodHandlePropertyHandleFactory( lookup );
+	}
+
+	@Override
+	public PropertyHandle createForField(String name, Field field) throws IllegalAccessException {
+		// LambdaMetafactory only accepts method handles referring to methods or constructors
+		return fallback.createForField( name, field );
+	}
+
+	@Override
+	public PropertyHandle createForMethod(String name, Method method) throws IllegalAccessException {
+		MethodHandle getter = lookup.unreflect( method );
+		if ( !isLambdaCompatible( method ) ) {
+			return new MemberPropertyHandle( name, method, getter );
+		}
+		Function<Object, Object> function;
+		try {
+			function = createFunction( getter );
+		}
+		catch (LambdaConversionException | IllegalArgumentException e) {
+			return new MemberPropertyHandle( name, method, getter );
+		}
+		return new JavaLambdaPropertyHandle( name, method, function );
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object> createFunction(MethodHandle getter) throws LambdaConversionException {
+		CallSite callSite = LambdaMetafactory.metafactory(
+				hostLookup, "apply", FUNCTION_FACTORY_TYPE, FUNCTION_APPLY_TYPE,
+				getter, getter.type().wrap()
+		);
+		try {
+			return (Function<Object, Object>) callSite.getTarget().invokeExact();
+		}
+		catch (Error | RuntimeException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new AssertionFailure( "Unexpected exception while creating a lambda for " + getter, e );
+		}
+	}
+
+	private boolean isLambdaCompatible(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		/*
+		 * The generated class invokes the method directly,
+		 * and must be able to resolve the types in its signature from the host class loader.
+		 */
+		return Modifier.isPublic( method.getModifiers() )
+				&& !Modifier.isStatic( method.getModifiers() )
+				&& Modifier.isPublic( declaringClass.getModifiers() )
+				&& isVisibleFromHost( declaringClass )
+				&& isVisibleFromHost( method.getReturnType() );
+	}
+
+	private boolean isVisibleFromHost(Class<?> type) {
+		while ( type.isArray() ) {
+			type = type.getComponentType();
+		}
+		if ( type.isPrimitive() ) {
+			return true;
+		}
+		try {
+			return Class.forName( type.getName(), false, hostLookup.lookupClass().getClassLoader() ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+}
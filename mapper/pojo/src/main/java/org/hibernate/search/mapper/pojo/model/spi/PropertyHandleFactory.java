@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A factory for {@link PropertyHandle}s, allowing introspectors to choose
+ * how property values are retrieved at runtime.
+ *
+ * @see MethodHandlePropertyHandleFactory
+ * @see JavaLambdaPropertyHandleFactory
+ */
+public interface PropertyHandleFactory {
+
+	PropertyHandle createForField(String name, Field field) throws IllegalAccessException;
+
+	PropertyHandle createForMethod(String name, Method method) throws IllegalAccessException;
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+
+public class BitSetPojoPathFilterTest {
+
+	private final PojoPathOrdinals ordinals = new PojoPathOrdinals();
+
+	@Test
+	public void test() {
+		BitSetPojoPathFilter filter1 = filter( "a", "b.c" );
+		BitSetPojoPathFilter filter2 = filter( "b.c", "d" );
+
+		assertThat( filter1.test( dirty( "a" ) ) ).isTrue();
+		assertThat( filter1.test( dirty( "b.c" ) ) ).isTrue();
+		assertThat( filter1.test( dirty( "d" ) ) ).isFalse();
+		assertThat( filter1.test( dirty() ) ).isFalse();
+
+		assertThat( filter2.test( dirty( "a", "d" ) ) ).isTrue();
+		assertThat( filter2.test( dirty( "a" ) ) ).isFalse();
+	}
+
+	@Test
+	public void ordinals() {
+		filter( "a", "b.c" );
+		filter( "b.c", "d" );
+
+		assertThat( ordinals.toExistingOrdinal( "a" ) ).isEqualTo( 0 );
+		assertThat( ordinals.toExistingOrdinal( "b.c" ) ).isEqualTo( 1 );
+		assertThat( ordinals.toExistingOrdinal( "d" ) ).isEqualTo( 2 );
+		assertThat( ordinals.toExistingOrdinal( "unknown" ) ).isNull();
+		assertThat( ordinals.toPath( 1 ) ).isEqualTo( "b.c" );
+	}
+
+	@Test
+	public void toStringUsesPaths() {
+		assertThat( filter( "a", "b.c" ) ).hasToString( "BitSetPojoPathFilter[a, b.c]" );
+	}
+
+	private BitSetPojoPathFilter filter(String... acceptedPaths) {
+		return new BitSetPojoPathFilter( ordinals, new LinkedHashSet<>( Arrays.asList( acceptedPaths ) ) );
+	}
+
+	private BitSet dirty(String... paths) {
+		BitSet result = new BitSet();
+		for ( String path : paths ) {
+			Integer ordinal = ordinals.toExistingOrdinal( path );
+			if ( ordinal != null ) {
+				result.set( ordinal );
+			}
+		}
+		return result;
+	}
+}
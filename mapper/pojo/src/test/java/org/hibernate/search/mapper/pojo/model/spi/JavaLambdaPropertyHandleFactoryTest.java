@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+public class JavaLambdaPropertyHandleFactoryTest {
+
+	private final JavaLambdaPropertyHandleFactory factory = new JavaLambdaPropertyHandleFactory( MethodHandles.lookup() );
+
+	private final PublicEntity entity = new PublicEntity();
+
+	@Test
+	public void publicGetter() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"publicGetter", PublicEntity.class.getMethod( "getPublicGetter" ) );
+
+		assertThat( handle ).isInstanceOf( JavaLambdaPropertyHandle.class );
+		assertThat( handle.getName() ).isEqualTo( "publicGetter" );
+		assertThat( handle.get( entity ) ).isEqualTo( "publicGetterValue" );
+	}
+
+	@Test
+	public void primitiveGetter() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"primitiveGetter", PublicEntity.class.getMethod( "getPrimitiveGetter" ) );
+
+		assertThat( handle ).isInstanceOf( JavaLambdaPropertyHandle.class );
+		assertThat( handle.get( entity ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void protectedGetter() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"protectedGetter", PublicEntity.class.getDeclaredMethod( "getProtectedGetter" ) );
+
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( entity ) ).isEqualTo( "protectedGetterValue" );
+	}
+
+	@Test
+	public void publicGetter_nonPublicType() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"publicGetter", NonPublicEntity.class.getMethod( "getPublicGetter" ) );
+
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new NonPublicEntity() ) ).isEqualTo( "nonPublicTypeValue" );
+	}
+
+	@Test
+	public void field() throws Exception {
+		PropertyHandle handle = factory.createForField(
+				"field", PublicEntity.class.getDeclaredField( "field" ) );
+
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( entity ) ).isEqualTo( "fieldValue" );
+	}
+
+	@Test
+	public void getterThrowingRuntimeException() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"runtimeException", PublicEntity.class.getMethod( "getRuntimeException" ) );
+		assertThat( handle ).isInstanceOf( JavaLambdaPropertyHandle.class );
+
+		SubTest.expectException( "Getter throwing a runtime exception", () -> handle.get( entity ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Exception while invoking" )
+				.hasCauseInstanceOf( IllegalStateException.class );
+	}
+
+	@Test
+	public void getterThrowingCheckedException() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"checkedException", PublicEntity.class.getMethod( "getCheckedException" ) );
+		assertThat( handle ).isInstanceOf( JavaLambdaPropertyHandle.class );
+
+		SubTest.expectException( "Getter throwing a checked exception", () -> handle.get( entity ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Exception while invoking" )
+				.hasCauseInstanceOf( IOException.class );
+	}
+
+	@Test
+	public void getterThrowingInterruptedException() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"interruptedException", PublicEntity.class.getMethod( "getInterruptedException" ) );
+		assertThat( handle ).isInstanceOf( JavaLambdaPropertyHandle.class );
+
+		try {
+			SubTest.expectException( "Getter throwing an interrupted exception", () -> handle.get( entity ) )
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasCauseInstanceOf( InterruptedException.class );
+			assertThat( Thread.currentThread().isInterrupted() ).isTrue();
+		}
+		finally {
+			// Clear the interrupt flag
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	public void getterThrowingError() throws Exception {
+		PropertyHandle handle = factory.createForMethod(
+				"error", PublicEntity.class.getMethod( "getError" ) );
+		assertThat( handle ).isInstanceOf( JavaLambdaPropertyHandle.class );
+
+		// Errors are propagated as is
+		assertThatThrownBy( () -> handle.get( entity ) )
+				.isInstanceOf( StackOverflowError.class )
+				.hasMessage( "Failure in getter" );
+	}
+
+	public static class PublicEntity {
+
+		protected String field = "fieldValue";
+
+		public String getPublicGetter() {
+			return "publicGetterValue";
+		}
+
+		public int getPrimitiveGetter() {
+			return 42;
+		}
+
+		protected String getProtectedGetter() {
+			return "protectedGetterValue";
+		}
+
+		public String getRuntimeException() {
+			throw new IllegalStateException( "Failure in getter" );
+		}
+
+		public String getCheckedException() throws IOException {
+			throw new IOException( "Failure in getter" );
+		}
+
+		public String getInterruptedException() throws InterruptedException {
+			throw new InterruptedException( "Failure in getter" );
+		}
+
+		public String getError() {
+			throw new StackOverflowError( "Failure in getter" );
+		}
+	}
+
+	static class NonPublicEntity {
+
+		public String getPublicGetter() {
+			return "nonPublicTypeValue";
+		}
+	}
+
+}
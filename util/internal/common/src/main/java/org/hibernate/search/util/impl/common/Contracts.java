@@ -35,4 +35,22 @@ public static void assertPositiveOrZero(int number, String objectDescription) {
 			throw log.mustBePositiveOrZero( objectDescription );
 		}
 	}
+
+	public static void assertPositiveOrZero(long number, String objectDescription) {
+		if ( number < 0L ) {
+			throw log.mustBePositiveOrZero( objectDescription );
+		}
+	}
+
+	public static void assertStrictlyPositive(int number, String objectDescription) {
+		if ( number <= 0 ) {
+			throw log.mustBeStrictlyPositive( objectDescription );
+		}
+	}
+
+	public static void assertStrictlyPositive(long number, String objectDescription) {
+		if ( number <= 0L ) {
+			throw log.mustBeStrictlyPositive( objectDescription );
+		}
+	}
 }
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -56,6 +57,20 @@ public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupnam
 	 * @return the new ExecutorService
 	 */
 	public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupname, int queueSize) {
+		return newFixedThreadPool( threads, groupname, queueSize, new BlockPolicy() );
+	}
+
+	/**
+	 * Creates a new fixed size ThreadPoolExecutor
+	 *
+	 * @param threads the number of threads
+	 * @param groupname a label to identify the threadpool; useful for profiling.
+	 * @param queueSize the size of the queue to store Runnables when all threads are busy
+	 * @param rejectedExecutionHandler the handler to use when the queue is full
+	 * @return the new ExecutorService
+	 */
+	public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupname, int queueSize,
+			RejectedExecutionHandler rejectedExecutionHandler) {
 		return new ThreadPoolExecutor(
 				threads,
 				threads,
@@ -63,7 +78,7 @@ public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupnam
 				TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<Runnable>( queueSize ),
 				new SearchThreadFactory( groupname ),
-				new BlockPolicy()
+				rejectedExecutionHandler
 		);
 	}
 
@@ -100,6 +115,10 @@ public static ThreadPoolExecutor newScalableThreadPool(int threadsMin, int threa
 
 	/**
 	 * A handler for rejected tasks that will have the caller block until space is available.
+	 * <p>
+	 * Tasks are still rejected, with a {@link RejectedExecutionException},
+	 * if the executor is shut down or if the caller is interrupted while waiting,
+	 * so that callers never lose track of a task that will not be executed.
 	 */
 	public static class BlockPolicy implements RejectedExecutionHandler {
 
@@ -108,15 +127,24 @@ public static class BlockPolicy implements RejectedExecutionHandler {
 		 *
 		 * @param r the runnable task requested to be executed
 		 * @param e the executor attempting to execute this task
+		 * @throws RejectedExecutionException if the executor is shut down,
+		 * or if the thread is interrupted while waiting for space to be available.
 		 */
 		@Override
 		public void rejectedExecution(Runnable r, ThreadPoolExecutor e) {
+			if ( e.isShutdown() ) {
+				throw log.executorShutDown( r );
+			}
 			try {
 				e.getQueue().put( r );
 			}
 			catch (InterruptedException e1) {
-				log.interruptedWorkError( r );
 				Thread.currentThread().interrupt();
+				throw log.interruptedWhileWaitingForSpace( r, e1 );
+			}
+			// The executor may have been shut down while we were waiting: it may never execute tasks from the queue
+			if ( e.isShutdown() && e.getQueue().remove( r ) ) {
+				throw log.executorShutDown( r );
 			}
 		}
 	}
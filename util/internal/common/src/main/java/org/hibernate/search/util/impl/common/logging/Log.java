@@ -7,12 +7,12 @@
 
 package org.hibernate.search.util.impl.common.logging;
 
-import static org.jboss.logging.Logger.Level.ERROR;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.hibernate.search.util.impl.common.MessageConstants;
 
 import org.jboss.logging.BasicLogger;
-import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.logging.annotations.ValidIdRange;
@@ -23,7 +23,6 @@
 		@ValidIdRange(min = MessageConstants.UTIL_ID_RANGE_MIN, max = MessageConstants.UTIL_ID_RANGE_MAX),
 		// Exceptions for legacy messages from Search 5
 		// TODO HSEARCH-3308 add exceptions here for legacy messages from Search 5.
-		@ValidIdRange(min = 17, max = 17),
 		@ValidIdRange(min = 18, max = 18)
 })
 public interface Log extends BasicLogger {
@@ -34,10 +33,6 @@ public interface Log extends BasicLogger {
 	// -----------------------------------
 	int ID_OFFSET_1 = MessageConstants.ENGINE_ID_RANGE_MIN;
 
-	@LogMessage(level = ERROR)
-	@Message(id = 17, value = "Work discarded, thread was interrupted while waiting for space to schedule: %1$s")
-	void interruptedWorkError(Runnable r);
-
 	// TODO HSEARCH-3308 migrate relevant messages from Search 5 here
 
 	// -----------------------------------
@@ -56,4 +51,16 @@ public interface Log extends BasicLogger {
 	@Message(id = ID_OFFSET_2 + 2,
 			value = "'%1$s' must be positive or zero.")
 	IllegalArgumentException mustBePositiveOrZero(String objectDescription);
+
+	@Message(id = ID_OFFSET_2 + 3,
+			value = "'%1$s' must be strictly positive.")
+	IllegalArgumentException mustBeStrictlyPositive(String objectDescription);
+
+	@Message(id = ID_OFFSET_2 + 4,
+			value = "Work rejected, thread was interrupted while waiting for space to schedule: %1$s")
+	RejectedExecutionException interruptedWhileWaitingForSpace(Runnable r, @Cause InterruptedException e);
+
+	@Message(id = ID_OFFSET_2 + 5,
+			value = "Work rejected, the executor is shut down: %1$s")
+	RejectedExecutionException executorShutDown(Runnable r);
 }
@@ -47,6 +47,18 @@ public StubSearchWorkAssert matches(StubSearchWork expected) {
 		hasAnyMismatch = hasAnyMismatch || mismatch;
 		mismatch = checkForMismatch( builder, "maxResultsCount", expected.getMaxResultsCount(), actual.getMaxResultsCount() );
 		hasAnyMismatch = hasAnyMismatch || mismatch;
+		mismatch = checkForMismatch( builder, "timeout", expected.getTimeout(), actual.getTimeout() );
+		hasAnyMismatch = hasAnyMismatch || mismatch;
+		mismatch = checkForMismatch( builder, "timeUnit", expected.getTimeUnit(), actual.getTimeUnit() );
+		hasAnyMismatch = hasAnyMismatch || mismatch;
+		mismatch = checkForMismatch( builder, "truncateAfterTimeout",
+				expected.isTruncateAfterTimeout(), actual.isTruncateAfterTimeout()
+		);
+		hasAnyMismatch = hasAnyMismatch || mismatch;
+		mismatch = checkForMismatch( builder, "scrollChunkSize",
+				expected.getScrollChunkSize(), actual.getScrollChunkSize()
+		);
+		hasAnyMismatch = hasAnyMismatch || mismatch;
 
 		if ( hasAnyMismatch ) {
 			Assert.fail( builder.toString() );
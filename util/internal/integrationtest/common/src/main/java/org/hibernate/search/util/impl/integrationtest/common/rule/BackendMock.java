@@ -128,6 +128,17 @@ private BackendMock expectSearch(List<String> indexNames, Consumer<StubSearchWor
 		return this;
 	}
 
+	/**
+	 * Expect a scroll to be closed.
+	 * <p>
+	 * Chunks retrieved from a scroll are expected like any other search work,
+	 * with {@link StubSearchWork.Builder#scrollChunkSize(Integer)} set.
+	 */
+	public BackendMock expectScrollClosed(List<String> indexNames) {
+		behaviorMock.getCloseScrollCalls().expect( new CloseScrollCall( indexNames ) );
+		return this;
+	}
+
 	public class WorkCallListContext {
 		private final String indexName;
 		private final CallQueue<IndexWorkCall> callQueue;
@@ -194,6 +205,20 @@ public BackendMock preparedThenExecuted() {
 			return BackendMock.this;
 		}
 
+		/**
+		 * Expect all works to be prepared, then executed,
+		 * the execution only completing when the given future completes.
+		 */
+		public BackendMock preparedThenExecuted(CompletableFuture<?> executionFuture) {
+			works.stream()
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.PREPARE, work ) )
+					.forEach( callQueue::expect );
+			works.stream()
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.EXECUTE, work, executionFuture ) )
+					.forEach( callQueue::expect );
+			return BackendMock.this;
+		}
+
 		public BackendMock executed() {
 			works.stream()
 					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.EXECUTE, work ) )
@@ -219,6 +244,8 @@ private class VerifyingStubBackendBehavior extends StubBackendBehavior {
 
 		private final CallQueue<SearchWorkCall<?>> searchCalls = new CallQueue<>();
 
+		private final CallQueue<CloseScrollCall> closeScrollCalls = new CallQueue<>();
+
 		void setIndexFieldAddBehavior(String indexName, String absoluteFieldPath, IndexFieldAddBehavior behavior) {
 			indexFieldAddBehaviors.put( new IndexFieldKey( indexName, absoluteFieldPath ), behavior );
 		}
@@ -235,17 +262,23 @@ CallQueue<SearchWorkCall<?>> getSearchWorkCalls() {
 			return searchCalls;
 		}
 
+		CallQueue<CloseScrollCall> getCloseScrollCalls() {
+			return closeScrollCalls;
+		}
+
 		void resetExpectations() {
 			indexFieldAddBehaviors.clear();
 			pushSchemaCalls.clear();
 			indexWorkCalls.clear();
 			searchCalls.reset();
+			closeScrollCalls.reset();
 		}
 
 		void verifyExpectationsMet() {
 			pushSchemaCalls.values().forEach( CallQueue::verifyEmpty );
 			indexWorkCalls.values().forEach( CallQueue::verifyEmpty );
 			searchCalls.verifyEmpty();
+			closeScrollCalls.verifyEmpty();
 		}
 
 		@Override
@@ -285,6 +318,11 @@ public <T> SearchResult<T> executeSearchWork(List<String> indexNames, StubSearch
 				HitAggregator<?, List<T>> hitAggregator) {
 			return searchCalls.verify( new SearchWorkCall<>( indexNames, work, hitAggregator ), SearchWorkCall::<T>verify );
 		}
+
+		@Override
+		public void closeScroll(List<String> indexNames) {
+			closeScrollCalls.verify( new CloseScrollCall( indexNames ), CloseScrollCall::verify );
+		}
 	}
 
 	private static class IndexFieldKey {
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.rule;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CloseScrollCall {
+
+	private final List<String> indexNames;
+
+	CloseScrollCall(List<String> indexNames) {
+		this.indexNames = indexNames;
+	}
+
+	public Void verify(CloseScrollCall actualCall) {
+		assertThat( actualCall.indexNames )
+				.as( "Closed scroll did not target the expected indexes: " )
+				.isEqualTo( indexNames );
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "scroll closing on indexes '" + indexNames + "'";
+	}
+
+}
@@ -24,11 +24,17 @@ enum Operation {
 	private final String indexName;
 	private final Operation operation;
 	private final StubIndexWork work;
+	private final CompletableFuture<?> executionFuture;
 
 	IndexWorkCall(String indexName, Operation operation, StubIndexWork work) {
+		this( indexName, operation, work, CompletableFuture.completedFuture( null ) );
+	}
+
+	IndexWorkCall(String indexName, Operation operation, StubIndexWork work, CompletableFuture<?> executionFuture) {
 		this.indexName = indexName;
 		this.operation = operation;
 		this.work = work;
+		this.executionFuture = executionFuture;
 	}
 
 	public CompletableFuture<?> verify(IndexWorkCall actualCall) {
@@ -42,7 +48,7 @@ public CompletableFuture<?> verify(IndexWorkCall actualCall) {
 		StubIndexWorkAssert.assertThat( actualCall.work )
 				.as( "Incorrect work " + whenThisWorkWasExpected + ":\n" )
 				.matches( work );
-		return CompletableFuture.completedFuture( null );
+		return executionFuture;
 	}
 	@Override
 	public String toString() {
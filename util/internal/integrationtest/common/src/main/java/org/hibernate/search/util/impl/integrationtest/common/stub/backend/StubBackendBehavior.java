@@ -50,6 +50,12 @@ public <T> SearchResult<T> executeSearchWork(List<String> indexNames, StubSearch
 			throw new IllegalStateException( "The stub backend behavior was not set when a search work was executed for indexes "
 					+ indexNames + "': " + work );
 		}
+
+		@Override
+		public void closeScroll(List<String> indexNames) {
+			throw new IllegalStateException( "The stub backend behavior was not set when a scroll was closed for indexes "
+					+ indexNames );
+		}
 	};
 
 	private static Map<String, StubBackendBehavior> BEHAVIORS = new HashMap<>();
@@ -83,4 +89,6 @@ protected StubBackendBehavior() {
 
 	public abstract <T> SearchResult<T> executeSearchWork(List<String> indexNames, StubSearchWork work,
 			HitAggregator<?, List<T>> hitAggregator);
+
+	public abstract void closeScroll(List<String> indexNames);
 }
@@ -13,7 +13,9 @@ public final class StubIndexWork {
 	public enum Type {
 		ADD,
 		UPDATE,
-		FLUSH, OPTIMIZE, DELETE;
+		FLUSH, OPTIMIZE, DELETE,
+		PURGE,
+		BEGIN_MASS_INDEXING, END_MASS_INDEXING;
 	}
 
 	public static Builder builder(Type type) {
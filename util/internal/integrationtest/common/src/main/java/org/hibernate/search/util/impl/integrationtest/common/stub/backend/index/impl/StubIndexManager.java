@@ -6,15 +6,19 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.impl.StubDocumentElement;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.model.StubIndexSchemaNode;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubIndexWork;
@@ -61,6 +65,52 @@ public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContext context)
 		return new StubIndexWorkPlan( this, context );
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<StubDocumentElement> createDocumentWorkExecutor(SessionContext context) {
+		return (documentReferenceProvider, documentContributor) -> {
+			StubIndexWork.Builder builder = StubIndexWork.builder( StubIndexWork.Type.ADD );
+			builder.tenantIdentifier( context.getTenantIdentifier() );
+			builder.identifier( documentReferenceProvider.getIdentifier() );
+			builder.routingKey( documentReferenceProvider.getRoutingKey() );
+			StubDocumentNode.Builder documentBuilder = StubDocumentNode.document();
+			documentContributor.contribute( new StubDocumentElement( documentBuilder ) );
+			builder.document( documentBuilder.build() );
+			return executeStreamWork( builder.build() );
+		};
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor() {
+		return new IndexWorkExecutor() {
+			@Override
+			public CompletableFuture<?> purge(String tenantId) {
+				return executeStreamWork(
+						StubIndexWork.builder( StubIndexWork.Type.PURGE ).tenantIdentifier( tenantId ).build()
+				);
+			}
+
+			@Override
+			public CompletableFuture<?> optimize() {
+				return executeStreamWork( StubIndexWork.builder( StubIndexWork.Type.OPTIMIZE ).build() );
+			}
+
+			@Override
+			public CompletableFuture<?> flush() {
+				return executeStreamWork( StubIndexWork.builder( StubIndexWork.Type.FLUSH ).build() );
+			}
+
+			@Override
+			public void beginMassIndexing() {
+				executeStreamWork( StubIndexWork.builder( StubIndexWork.Type.BEGIN_MASS_INDEXING ).build() ).join();
+			}
+
+			@Override
+			public void endMassIndexing() {
+				executeStreamWork( StubIndexWork.builder( StubIndexWork.Type.END_MASS_INDEXING ).build() ).join();
+			}
+		};
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return new StubIndexSearchTarget.Builder( backend, name );
@@ -91,4 +141,10 @@ void prepare(List<StubIndexWork> works) {
 	CompletableFuture<?> execute(List<StubIndexWork> works) {
 		return backend.getBehavior().executeWorks( name, works );
 	}
+
+	private CompletableFuture<?> executeStreamWork(StubIndexWork work) {
+		List<StubIndexWork> works = Collections.singletonList( work );
+		prepare( works );
+		return execute( works );
+	}
 }
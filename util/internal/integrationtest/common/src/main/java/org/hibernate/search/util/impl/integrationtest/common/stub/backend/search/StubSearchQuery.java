@@ -7,10 +7,13 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
 
 final class StubSearchQuery<T> implements SearchQuery<T> {
@@ -38,6 +41,16 @@ public void setMaxResults(Long maxResultsCount) {
 		workBuilder.maxResultsCount( maxResultsCount );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.failAfter( timeout, timeUnit );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.truncateAfter( timeout, timeUnit );
+	}
+
 	@Override
 	public String getQueryString() {
 		return getClass().getName() + "@" + Integer.toHexString( hashCode() );
@@ -48,4 +61,17 @@ public SearchResult<T> execute() {
 		return backend.getBehavior().executeSearchWork( indexNames, workBuilder.build(), hitAggregator );
 	}
 
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync() {
+		return CompletableFuture.completedFuture( execute() );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		// Do not affect subsequent executions of this query
+		StubSearchWork work = workBuilder.scrollChunkSize( chunkSize ).build();
+		workBuilder.scrollChunkSize( null );
+		return new StubSearchScroll<>( backend, indexNames, work, hitAggregator );
+	}
+
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
+
+/**
+ * A scroll executing one stub search work per chunk,
+ * so that each chunk can be checked separately.
+ */
+final class StubSearchScroll<T> implements SearchScroll<T> {
+
+	private final StubBackend backend;
+	private final List<String> indexNames;
+	private final StubSearchWork work;
+	private final HitAggregator<?, List<T>> hitAggregator;
+
+	StubSearchScroll(StubBackend backend, List<String> indexNames, StubSearchWork work,
+			HitAggregator<?, List<T>> hitAggregator) {
+		this.backend = backend;
+		this.indexNames = indexNames;
+		this.work = work;
+		this.hitAggregator = hitAggregator;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		return backend.getBehavior().executeSearchWork( indexNames, work, hitAggregator );
+	}
+
+	@Override
+	public void close() {
+		backend.getBehavior().closeScroll( indexNames );
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class StubSearchWork {
 
@@ -26,12 +27,20 @@ public static Builder builder(ResultType resultType) {
 	private final List<String> routingKeys;
 	private final Long firstResultIndex;
 	private final Long maxResultsCount;
+	private final Long timeout;
+	private final TimeUnit timeUnit;
+	private final boolean truncateAfterTimeout;
+	private final Integer scrollChunkSize;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
 		this.routingKeys = Collections.unmodifiableList( new ArrayList<>( builder.routingKeys ) );
 		this.firstResultIndex = builder.firstResultIndex;
 		this.maxResultsCount = builder.maxResultsCount;
+		this.timeout = builder.timeout;
+		this.timeUnit = builder.timeUnit;
+		this.truncateAfterTimeout = builder.truncateAfterTimeout;
+		this.scrollChunkSize = builder.scrollChunkSize;
 	}
 
 	public ResultType getResultType() {
@@ -50,12 +59,35 @@ public Long getMaxResultsCount() {
 		return maxResultsCount;
 	}
 
+	public Long getTimeout() {
+		return timeout;
+	}
+
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	public boolean isTruncateAfterTimeout() {
+		return truncateAfterTimeout;
+	}
+
+	/**
+	 * @return The size of scroll chunks, or {@code null} if this work does not retrieve a scroll chunk.
+	 */
+	public Integer getScrollChunkSize() {
+		return scrollChunkSize;
+	}
+
 	@Override
 	public String toString() {
 		return "StubSearchWork[" +
 				", routingKeys=" + routingKeys +
 				", firstResultIndex=" + firstResultIndex +
 				", maxResultsCount=" + maxResultsCount +
+				", timeout=" + timeout +
+				", timeUnit=" + timeUnit +
+				", truncateAfterTimeout=" + truncateAfterTimeout +
+				", scrollChunkSize=" + scrollChunkSize +
 				']';
 	}
 
@@ -65,6 +97,10 @@ public static class Builder {
 		private final List<String> routingKeys = new ArrayList<>();
 		private Long firstResultIndex;
 		private Long maxResultsCount;
+		private Long timeout;
+		private TimeUnit timeUnit;
+		private boolean truncateAfterTimeout;
+		private Integer scrollChunkSize;
 
 		private Builder(ResultType resultType) {
 			this.resultType = resultType;
@@ -85,6 +121,25 @@ public Builder maxResultsCount(Long maxResultsCount) {
 			return this;
 		}
 
+		public Builder failAfter(long timeout, TimeUnit timeUnit) {
+			this.timeout = timeout;
+			this.timeUnit = timeUnit;
+			this.truncateAfterTimeout = false;
+			return this;
+		}
+
+		public Builder truncateAfter(long timeout, TimeUnit timeUnit) {
+			this.timeout = timeout;
+			this.timeUnit = timeUnit;
+			this.truncateAfterTimeout = true;
+			return this;
+		}
+
+		public Builder scrollChunkSize(Integer scrollChunkSize) {
+			this.scrollChunkSize = scrollChunkSize;
+			return this;
+		}
+
 		public StubSearchWork build() {
 			return new StubSearchWork( this );
 		}